@@ -1,6 +1,14 @@
 import benchmarksprintf;
 import benchmarktypes;
 import benchmarkio;
+import benchmarkconcurrency;
+import benchmarktable;
+import benchmarkquery;
+import benchmarkmetrics;
+import benchmarkfunctions;
+import benchmarkarray;
+import benchmarkgrpc;
+import benchmarkhttp;
 import ballerina/io;
 
 map<function()> functions;
@@ -17,6 +25,14 @@ function addFunctions() {
     addSprintfFunctions();
     addIoFunctions();
     addStringFunctions();
+    addConcurrencyFunctions();
+    addTableFunctions();
+    addQueryFunctions();
+    addMetricsFunctions();
+    addFunctionCallFunctions();
+    addArraySortFunctions();
+    addGrpcFunctions();
+    addHttpFunctions();
 }
 
 function addJSONFunctions() {
@@ -140,3 +156,74 @@ function addStringFunctions() {
     functions["benchmarkStringSplit"] = benchmarktypes:benchmarkStringSplit;
     functions["benchmarkStringUnescape"] = benchmarktypes:benchmarkStringUnescape;
 }
+
+function addConcurrencyFunctions() {
+    functions["benchmarkAsyncFanOut"] = benchmarkconcurrency:benchmarkAsyncFanOut;
+    functions["benchmarkNestedAsyncFanOut"] = benchmarkconcurrency:benchmarkNestedAsyncFanOut;
+    functions["benchmarkWorkerFanOut"] = benchmarkconcurrency:benchmarkWorkerFanOut;
+    functions["benchmarkUncontendedLock"] = benchmarkconcurrency:benchmarkUncontendedLock;
+    functions["benchmarkContendedLock"] = benchmarkconcurrency:benchmarkContendedLock;
+    functions["benchmarkReadMostlyLock"] = benchmarkconcurrency:benchmarkReadMostlyLock;
+}
+
+function addTableFunctions() {
+    functions["benchmarkIntKeyedTableInsert"] = benchmarktable:benchmarkIntKeyedTableInsert;
+    functions["benchmarkIntKeyedTableLookup"] = benchmarktable:benchmarkIntKeyedTableLookup;
+    functions["benchmarkStringKeyedTableLookup"] = benchmarktable:benchmarkStringKeyedTableLookup;
+    functions["benchmarkCompositeKeyedTableLookup"] = benchmarktable:benchmarkCompositeKeyedTableLookup;
+    functions["benchmarkKeyedTableIteration"] = benchmarktable:benchmarkKeyedTableIteration;
+}
+
+function addQueryFunctions() {
+    functions["benchmarkHashJoin1K"] = benchmarkquery:benchmarkHashJoin1K;
+    functions["benchmarkHashJoin10K"] = benchmarkquery:benchmarkHashJoin10K;
+    functions["benchmarkHashJoin100K"] = benchmarkquery:benchmarkHashJoin100K;
+    functions["benchmarkIndexJoin100K"] = benchmarkquery:benchmarkIndexJoin100K;
+    functions["benchmarkNestedLoopJoin1K"] = benchmarkquery:benchmarkNestedLoopJoin1K;
+    functions["benchmarkFusedArrayQuery100K"] = benchmarkquery:benchmarkFusedArrayQuery100K;
+    functions["benchmarkFusedArrayQueryLimit100K"] = benchmarkquery:benchmarkFusedArrayQueryLimit100K;
+    functions["benchmarkFusedMapQuery100K"] = benchmarkquery:benchmarkFusedMapQuery100K;
+    functions["benchmarkFusedTableQuery100K"] = benchmarkquery:benchmarkFusedTableQuery100K;
+    functions["benchmarkParallelQuery1M"] = benchmarkquery:benchmarkParallelQuery1M;
+    functions["benchmarkParallelQuery10M"] = benchmarkquery:benchmarkParallelQuery10M;
+    functions["benchmarkParallelRecordQuery100K"] = benchmarkquery:benchmarkParallelRecordQuery100K;
+}
+
+function addMetricsFunctions() {
+    functions["benchmarkPrometheusScrape50K"] = benchmarkmetrics:benchmarkPrometheusScrape50K;
+    functions["benchmarkGaugeContention64"] = benchmarkmetrics:benchmarkGaugeContention64;
+    functions["benchmarkObservedRemoteCalls"] = benchmarkmetrics:benchmarkObservedRemoteCalls;
+    functions["benchmarkUnobservedCalls"] = benchmarkmetrics:benchmarkUnobservedCalls;
+}
+
+function addFunctionCallFunctions() {
+    functions["benchmarkSmallFunctionCalls"] = benchmarkfunctions:benchmarkSmallFunctionCalls;
+    functions["benchmarkNestedSmallFunctionCalls"] = benchmarkfunctions:benchmarkNestedSmallFunctionCalls;
+    functions["benchmarkRecordAccessorCalls"] = benchmarkfunctions:benchmarkRecordAccessorCalls;
+    functions["benchmarkYieldFreeArithmeticLoop"] = benchmarkfunctions:benchmarkYieldFreeArithmeticLoop;
+    functions["benchmarkYieldFreeStringLoop"] = benchmarkfunctions:benchmarkYieldFreeStringLoop;
+}
+
+function addArraySortFunctions() {
+    functions["benchmarkIntArraySort10K"] = benchmarkarray:benchmarkIntArraySort10K;
+    functions["benchmarkIntArraySort1M"] = benchmarkarray:benchmarkIntArraySort1M;
+    functions["benchmarkIntArrayParallelSort1M"] = benchmarkarray:benchmarkIntArrayParallelSort1M;
+    functions["benchmarkFloatArraySort1M"] = benchmarkarray:benchmarkFloatArraySort1M;
+    functions["benchmarkStringArraySort100K"] = benchmarkarray:benchmarkStringArraySort100K;
+    functions["benchmarkDecimalArraySort100K"] = benchmarkarray:benchmarkDecimalArraySort100K;
+    functions["benchmarkRecordArraySort100K"] = benchmarkarray:benchmarkRecordArraySort100K;
+}
+
+function addGrpcFunctions() {
+    functions["benchmarkGrpcUnaryCall"] = benchmarkgrpc:benchmarkGrpcUnaryCall;
+    functions["benchmarkGrpcServerStreaming1K"] = benchmarkgrpc:benchmarkGrpcServerStreaming1K;
+}
+
+function addHttpFunctions() {
+    functions["benchmarkBasePathTrieSiblingPath"] = benchmarkhttp:benchmarkBasePathTrieSiblingPath;
+    functions["benchmarkBasePathScanSiblingPath"] = benchmarkhttp:benchmarkBasePathScanSiblingPath;
+    functions["benchmarkBasePathTrieDeepPath"] = benchmarkhttp:benchmarkBasePathTrieDeepPath;
+    functions["benchmarkBasePathScanDeepPath"] = benchmarkhttp:benchmarkBasePathScanDeepPath;
+    functions["benchmarkBasePathTrieUnmatchedPath"] = benchmarkhttp:benchmarkBasePathTrieUnmatchedPath;
+    functions["benchmarkBasePathScanUnmatchedPath"] = benchmarkhttp:benchmarkBasePathScanUnmatchedPath;
+}
@@ -0,0 +1,106 @@
+// Sorts of shuffled arrays of each basic type. Each benchmark sorts a copy of its array, so that every iteration
+// sorts the same shuffled members. Arrays with a million members are sorted in parallel.
+
+type Employee record {
+    string name;
+    int age;
+    float salary;
+};
+
+int[] ints10K = createInts(10000);
+int[] ints1M = createInts(1000000);
+float[] floats1M = createFloats(1000000);
+string[] strings100K = createStrings(100000);
+decimal[] decimals100K = createDecimals(100000);
+Employee[] employees100K = createEmployees(100000);
+
+public function benchmarkIntArraySort10K() {
+    int[] sorted = ints10K.clone().sort(function (int x, int y) returns int {
+        return x - y;
+    });
+}
+
+public function benchmarkIntArraySort1M() {
+    int[] sorted = ints1M.clone().sort(function (int x, int y) returns int {
+        return x - y;
+    });
+}
+
+public function benchmarkIntArrayParallelSort1M() {
+    int[] sorted = ints1M.clone().sort(compareInts);
+}
+
+public function benchmarkFloatArraySort1M() {
+    float[] sorted = floats1M.clone().sort(function (float x, float y) returns int {
+        return x < y ? -1 : x > y ? 1 : 0;
+    });
+}
+
+public function benchmarkStringArraySort100K() {
+    string[] sorted = strings100K.clone().sort(function (string x, string y) returns int {
+        return x.codePointCompare(y);
+    });
+}
+
+public function benchmarkDecimalArraySort100K() {
+    decimal[] sorted = decimals100K.clone().sort(function (decimal x, decimal y) returns int {
+        return x < y ? -1 : x > y ? 1 : 0;
+    });
+}
+
+public function benchmarkRecordArraySort100K() {
+    Employee[] sorted = employees100K.clone().sort(function (Employee x, Employee y) returns int {
+        return x.age - y.age;
+    });
+}
+
+// The comparator runs on any thread, so large arrays are sorted on parallel strands.
+@strand {thread: "any"}
+function compareInts(int x, int y) returns int {
+    return x - y;
+}
+
+// A multiplicative hash of the index, which shuffles the members without depending on a random number generator.
+function shuffled(int i, int count) returns int {
+    return (i * 7919) % count;
+}
+
+function createInts(int count) returns int[] {
+    int[] values = [];
+    foreach int i in 0 ..< count {
+        values[i] = shuffled(i, count);
+    }
+    return values;
+}
+
+function createFloats(int count) returns float[] {
+    float[] values = [];
+    foreach int i in 0 ..< count {
+        values[i] = <float>shuffled(i, count) / 3.0;
+    }
+    return values;
+}
+
+function createStrings(int count) returns string[] {
+    string[] values = [];
+    foreach int i in 0 ..< count {
+        values[i] = "member-" + shuffled(i, count).toString();
+    }
+    return values;
+}
+
+function createDecimals(int count) returns decimal[] {
+    decimal[] values = [];
+    foreach int i in 0 ..< count {
+        values[i] = <decimal>shuffled(i, count) / <decimal>7;
+    }
+    return values;
+}
+
+function createEmployees(int count) returns Employee[] {
+    Employee[] values = [];
+    foreach int i in 0 ..< count {
+        values[i] = {name: "employee", age: shuffled(i, count) % 50, salary: 1000.0};
+    }
+    return values;
+}
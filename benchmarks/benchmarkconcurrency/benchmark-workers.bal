@@ -0,0 +1,123 @@
+// Fan-out workloads used to compare strand scheduling policies. Run the suite once with the default policy and once
+// with BALLERINA_SCHEDULER_POLICY=work-stealing.
+
+const int FAN_OUT = 64;
+const int WORK_SIZE = 1000;
+
+public function benchmarkAsyncFanOut() {
+    future<int>[] futures = [];
+    foreach int i in 0 ..< FAN_OUT {
+        futures[i] = start sum(WORK_SIZE);
+    }
+    foreach future<int> f in futures {
+        int result = wait f;
+    }
+}
+
+public function benchmarkNestedAsyncFanOut() {
+    future<int>[] futures = [];
+    foreach int i in 0 ..< FAN_OUT / 8 {
+        futures[i] = start fanOut(8);
+    }
+    foreach future<int> f in futures {
+        int result = wait f;
+    }
+}
+
+public function benchmarkWorkerFanOut() {
+    worker w1 returns int {
+        return sum(WORK_SIZE);
+    }
+    worker w2 returns int {
+        return sum(WORK_SIZE);
+    }
+    worker w3 returns int {
+        return sum(WORK_SIZE);
+    }
+    worker w4 returns int {
+        return sum(WORK_SIZE);
+    }
+    map<int> results = wait {w1, w2, w3, w4};
+}
+
+function fanOut(int count) returns int {
+    future<int>[] futures = [];
+    foreach int i in 0 ..< count {
+        futures[i] = start sum(WORK_SIZE);
+    }
+    int total = 0;
+    foreach future<int> f in futures {
+        total += wait f;
+    }
+    return total;
+}
+
+function sum(int n) returns int {
+    int total = 0;
+    foreach int i in 0 ..< n {
+        total += i;
+    }
+    return total;
+}
+
+int lockedCounter = 0;
+
+public function benchmarkUncontendedLock() {
+    foreach int i in 0 ..< WORK_SIZE {
+        lock {
+            lockedCounter += 1;
+        }
+    }
+}
+
+public function benchmarkContendedLock() {
+    worker w1 returns int {
+        return incrementLocked();
+    }
+    worker w2 returns int {
+        return incrementLocked();
+    }
+    worker w3 returns int {
+        return incrementLocked();
+    }
+    worker w4 returns int {
+        return incrementLocked();
+    }
+    map<int> results = wait {w1, w2, w3, w4};
+}
+
+function incrementLocked() returns int {
+    foreach int i in 0 ..< WORK_SIZE {
+        lock {
+            lockedCounter += 1;
+        }
+    }
+    return WORK_SIZE;
+}
+
+public function benchmarkReadMostlyLock() {
+    worker w1 returns int {
+        return readLocked();
+    }
+    worker w2 returns int {
+        return readLocked();
+    }
+    worker w3 returns int {
+        return readLocked();
+    }
+    worker w4 returns int {
+        return incrementLocked();
+    }
+    map<int> results = wait {w1, w2, w3, w4};
+}
+
+function readLocked() returns int {
+    int total = 0;
+    foreach int i in 0 ..< WORK_SIZE {
+        // Only reads the locked variable, so the lock is acquired in shared mode.
+        lock {
+            total += lockedCounter;
+        }
+    }
+    return total;
+}
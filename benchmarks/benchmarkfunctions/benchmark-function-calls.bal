@@ -0,0 +1,67 @@
+// Calls to small functions of the module, which the compiler inlines into their callers. Build the benchmarks once
+// as usual and once with the hidden `--skip-inlining` build option to compare inlined calls with real calls.
+
+const int CALL_COUNT = 1000;
+
+type Item record {|
+    string name;
+    float price;
+    int quantity;
+|};
+
+Item[] items = createItems(CALL_COUNT);
+
+public function benchmarkSmallFunctionCalls() {
+    int total = 0;
+    foreach int i in 0 ..< CALL_COUNT {
+        total = clamp(total + square(i % 100), 0, 1000000);
+    }
+}
+
+public function benchmarkNestedSmallFunctionCalls() {
+    int total = 0;
+    foreach int i in 0 ..< CALL_COUNT {
+        total = clamp(total + sumOfSquares(i % 100, i % 10), 0, 1000000);
+    }
+}
+
+public function benchmarkRecordAccessorCalls() {
+    float total = 0.0;
+    foreach Item item in items {
+        total += getPrice(item) * <float>getQuantity(item);
+    }
+}
+
+function square(int value) returns int {
+    return value * value;
+}
+
+function sumOfSquares(int a, int b) returns int {
+    return square(a) + square(b);
+}
+
+function clamp(int value, int min, int max) returns int {
+    if (value < min) {
+        return min;
+    }
+    if (value > max) {
+        return max;
+    }
+    return value;
+}
+
+function getPrice(Item item) returns float {
+    return item.price;
+}
+
+function getQuantity(Item item) returns int {
+    return item.quantity;
+}
+
+function createItems(int count) returns Item[] {
+    Item[] result = [];
+    foreach int i in 0 ..< count {
+        result.push({name: "item" + i.toString(), price: <float>(i % 50), quantity: i % 7});
+    }
+    return result;
+}
@@ -0,0 +1,65 @@
+// Tight loops calling functions of the module which never yield the strand. The compiler generates them as plain
+// JVM methods, without saving and restoring their frames, and their callers do not check whether the strand yielded.
+// The called functions only use operators, so that calls to the lang library do not make them yielding.
+
+const int LOOP_COUNT = 1000;
+
+public function benchmarkYieldFreeArithmeticLoop() {
+    int total = 0;
+    int i = 0;
+    while (i < LOOP_COUNT) {
+        total = total + gcd(i * 7 + 1, i * 3 + 2) + fibonacci(i % 15);
+        i = i + 1;
+    }
+}
+
+public function benchmarkYieldFreeStringLoop() {
+    int matches = 0;
+    int i = 0;
+    while (i < LOOP_COUNT) {
+        string padded = padLeft(i, "0", 6);
+        if (padded == "000500") {
+            matches = matches + 1;
+        }
+        i = i + 1;
+    }
+}
+
+function gcd(int a, int b) returns int {
+    if (b == 0) {
+        return a;
+    }
+    return gcd(b, a % b);
+}
+
+function fibonacci(int n) returns int {
+    if (n < 2) {
+        return n;
+    }
+    return fibonacci(n - 1) + fibonacci(n - 2);
+}
+
+function digitsOf(int value) returns string {
+    string[] digits = ["0", "1", "2", "3", "4", "5", "6", "7", "8", "9"];
+    if (value < 10) {
+        return digits[value];
+    }
+    return digitsOf(value / 10) + digits[value % 10];
+}
+
+function padLeft(int value, string padding, int width) returns string {
+    string result = digitsOf(value);
+    int length = countDigits(value);
+    while (length < width) {
+        result = padding + result;
+        length = length + 1;
+    }
+    return result;
+}
+
+function countDigits(int value) returns int {
+    if (value < 10) {
+        return 1;
+    }
+    return 1 + countDigits(value / 10);
+}
@@ -0,0 +1,137 @@
+// Unary and server streaming gRPC calls to a local service, which echoes an order with nested repeated items. Each
+// call encodes and decodes the order on both the client and the server.
+
+import ballerina/grpc;
+import ballerina/runtime;
+
+const int STREAMED_ORDERS = 1000;
+
+type BenchmarkOrderTypedesc typedesc<BenchmarkOrder>;
+
+public type BenchmarkItem record {|
+    string name = "";
+    int quantity = 0;
+    float price = 0.0;
+|};
+
+public type BenchmarkOrder record {|
+    string id = "";
+    BenchmarkItem[] items = [];
+    boolean express = false;
+|};
+
+listener grpc:Listener benchmarkOrderEp = new (9310);
+
+@grpc:ServiceDescriptor {
+    descriptor: ROOT_DESCRIPTOR_BENCHMARK,
+    descMap: getDescriptorMapBenchmark()
+}
+service BenchmarkOrderService on benchmarkOrderEp {
+
+    resource function placeOrder(grpc:Caller caller, BenchmarkOrder value) {
+        checkpanic caller->send(value);
+        checkpanic caller->complete();
+    }
+
+    resource function streamOrders(grpc:Caller caller, BenchmarkOrder value) {
+        foreach int i in 0 ..< STREAMED_ORDERS {
+            checkpanic caller->send(value);
+        }
+        checkpanic caller->complete();
+    }
+}
+
+BenchmarkOrderBlockingClient blockingClient = new ("http://localhost:9310");
+BenchmarkOrderClient streamingClient = new ("http://localhost:9310");
+BenchmarkOrder order = createOrder(10);
+
+int receivedOrders = 0;
+boolean streamCompleted = false;
+
+public function benchmarkGrpcUnaryCall() {
+    [BenchmarkOrder, grpc:Headers] response = checkpanic blockingClient->placeOrder(order);
+}
+
+public function benchmarkGrpcServerStreaming1K() {
+    receivedOrders = 0;
+    streamCompleted = false;
+    checkpanic streamingClient->streamOrders(order, BenchmarkOrderListener);
+    while (!streamCompleted) {
+        runtime:sleep(1);
+    }
+}
+
+service BenchmarkOrderListener = service {
+
+    function onMessage(BenchmarkOrder message) {
+        receivedOrders += 1;
+    }
+
+    function onError(error err) {
+        panic err;
+    }
+
+    function onComplete() {
+        streamCompleted = true;
+    }
+};
+
+function createOrder(int itemCount) returns BenchmarkOrder {
+    BenchmarkItem[] items = [];
+    foreach int i in 0 ..< itemCount {
+        items[i] = {name: "item-" + i.toString(), quantity: i + 1, price: 10.5 * <float>(i + 1)};
+    }
+    return {id: "order-1", items: items, express: true};
+}
+
+public type BenchmarkOrderBlockingClient client object {
+
+    *grpc:AbstractClientEndpoint;
+
+    private grpc:Client grpcClient;
+
+    public function init(string url, grpc:ClientConfiguration? config = ()) {
+        self.grpcClient = new(url, config);
+        checkpanic self.grpcClient.initStub(self, "blocking", ROOT_DESCRIPTOR_BENCHMARK, getDescriptorMapBenchmark());
+    }
+
+    public remote function placeOrder(BenchmarkOrder req, grpc:Headers? headers = ())
+            returns ([BenchmarkOrder, grpc:Headers]|grpc:Error) {
+        var unionResp = check self.grpcClient->blockingExecute("BenchmarkOrderService/placeOrder", req, headers);
+        anydata result = ();
+        grpc:Headers resHeaders = new;
+        [result, resHeaders] = unionResp;
+        var value = result.cloneWithType(BenchmarkOrderTypedesc);
+        if (value is BenchmarkOrder) {
+            return [value, resHeaders];
+        } else {
+            return grpc:InternalError("Error while constructing the message", value);
+        }
+    }
+};
+
+public type BenchmarkOrderClient client object {
+
+    *grpc:AbstractClientEndpoint;
+
+    private grpc:Client grpcClient;
+
+    public function init(string url, grpc:ClientConfiguration? config = ()) {
+        self.grpcClient = new(url, config);
+        checkpanic self.grpcClient.initStub(self, "non-blocking", ROOT_DESCRIPTOR_BENCHMARK,
+                                            getDescriptorMapBenchmark());
+    }
+
+    public remote function streamOrders(BenchmarkOrder req, service msgListener, grpc:Headers? headers = ())
+            returns (grpc:Error?) {
+        return self.grpcClient->nonBlockingExecute("BenchmarkOrderService/streamOrders", req, msgListener, headers);
+    }
+};
+
+const string ROOT_DESCRIPTOR_BENCHMARK = "0A1562656E63686D61726B5F6F726465722E70726F746F22550A0D42656E63686D61726B4974656D12120A046E616D6518012001280952046E616D65121A0A087175616E7469747918022001280352087175616E7469747912140A0570726963651803200128015205707269636522600A0E42656E63686D61726B4F72646572120E0A0269641801200128095202696412240A056974656D7318022003280B320E2E42656E63686D61726B4974656D52056974656D7312180A0765787072657373180320012808520765787072657373327B0A1542656E63686D61726B4F7264657253657276696365122E0A0A706C6163654F72646572120F2E42656E63686D61726B4F726465721A0F2E42656E63686D61726B4F7264657212320A0C73747265616D4F7264657273120F2E42656E63686D61726B4F726465721A0F2E42656E63686D61726B4F726465723001620670726F746F33";
+
+function getDescriptorMapBenchmark() returns map<string> {
+    return {
+        "benchmark_order.proto": "0A1562656E63686D61726B5F6F726465722E70726F746F22550A0D42656E63686D61726B4974656D12120A046E616D6518012001280952046E616D65121A0A087175616E7469747918022001280352087175616E7469747912140A0570726963651803200128015205707269636522600A0E42656E63686D61726B4F72646572120E0A0269641801200128095202696412240A056974656D7318022003280B320E2E42656E63686D61726B4974656D52056974656D7312180A0765787072657373180320012808520765787072657373327B0A1542656E63686D61726B4F7264657253657276696365122E0A0A706C6163654F72646572120F2E42656E63686D61726B4F726465721A0F2E42656E63686D61726B4F7264657212320A0C73747265616D4F7264657273120F2E42656E63686D61726B4F726465721A0F2E42656E63686D61726B4F726465723001620670726F746F33"
+    };
+}
@@ -0,0 +1,143 @@
+// Lookups of the base paths of request paths among 704 base paths, with the radix tree which the HTTP listener
+// dispatches requests with, and with the linear scan over the base paths sorted by length which it made before. Each
+// benchmark looks up a path a thousand times, without sending requests through the HTTP transport.
+
+import ballerina/java;
+
+const int LOOKUPS = 1000;
+
+string[] basePaths = createBasePaths();
+handle basePathTrie = newBasePathTrie(toArrayList(basePaths));
+handle[] sortedBasePaths = sortByLength(basePaths);
+
+handle siblingPath = java:fromString("/catalog417/items/42");
+handle deepPath = java:fromString("/api/v2/tenants/tenant19/stores/store3/orders/7");
+handle unmatchedPath = java:fromString("/unknown/ping");
+handle slash = java:fromString("/");
+
+public function benchmarkBasePathTrieSiblingPath() {
+    foreach int i in 1 ... LOOKUPS {
+        handle basePath = find(basePathTrie, siblingPath);
+    }
+}
+
+public function benchmarkBasePathScanSiblingPath() {
+    foreach int i in 1 ... LOOKUPS {
+        handle basePath = scan(siblingPath);
+    }
+}
+
+public function benchmarkBasePathTrieDeepPath() {
+    foreach int i in 1 ... LOOKUPS {
+        handle basePath = find(basePathTrie, deepPath);
+    }
+}
+
+public function benchmarkBasePathScanDeepPath() {
+    foreach int i in 1 ... LOOKUPS {
+        handle basePath = scan(deepPath);
+    }
+}
+
+public function benchmarkBasePathTrieUnmatchedPath() {
+    foreach int i in 1 ... LOOKUPS {
+        handle basePath = find(basePathTrie, unmatchedPath);
+    }
+}
+
+public function benchmarkBasePathScanUnmatchedPath() {
+    foreach int i in 1 ... LOOKUPS {
+        handle basePath = scan(unmatchedPath);
+    }
+}
+
+// 500 sibling base paths, and 203 base paths under /api, besides the default base path.
+function createBasePaths() returns string[] {
+    string[] paths = ["/", "/api", "/api/v1", "/api/v2"];
+    foreach int i in 0 ..< 500 {
+        paths.push("/catalog" + i.toString());
+    }
+    foreach int v in 1 ... 2 {
+        foreach int t in 0 ..< 20 {
+            string tenant = "/api/v" + v.toString() + "/tenants/tenant" + t.toString();
+            paths.push(tenant);
+            foreach int s in 0 ..< 4 {
+                paths.push(tenant + "/stores/store" + s.toString());
+            }
+        }
+    }
+    return paths;
+}
+
+function toArrayList(string[] values) returns handle {
+    handle list = newArrayList();
+    foreach string value in values {
+        _ = add(list, java:fromString(value));
+    }
+    return list;
+}
+
+function sortByLength(string[] values) returns handle[] {
+    string[] sorted = values.clone().sort(function (string x, string y) returns int {
+        return y.length() - x.length();
+    });
+    return sorted.map(function (string value) returns handle {
+        return java:fromString(value);
+    });
+}
+
+// The linear scan which the HTTP listener made before, with the same calls on the Java strings. The default base path
+// is registered, so it is returned when no other base path matches.
+function scan(handle path) returns handle {
+    foreach handle basePath in sortedBasePaths {
+        if (!contains(toLowerCase(path), toLowerCase(basePath))) {
+            continue;
+        }
+        if (length(path) <= length(basePath)) {
+            return basePath;
+        }
+        if (startsWith(path, concat(basePath, slash))) {
+            return basePath;
+        }
+    }
+    return slash;
+}
+
+function newArrayList() returns handle = @java:Constructor {
+    class: "java.util.ArrayList"
+} external;
+
+function add(handle list, handle element) returns boolean = @java:Method {
+    class: "java.util.ArrayList",
+    paramTypes: ["java.lang.Object"]
+} external;
+
+function newBasePathTrie(handle basePaths) returns handle = @java:Constructor {
+    class: "org.ballerinalang.net.http.BasePathTrie",
+    paramTypes: ["java.util.Collection"]
+} external;
+
+function find(handle trie, handle path) returns handle = @java:Method {
+    class: "org.ballerinalang.net.http.BasePathTrie"
+} external;
+
+function toLowerCase(handle value) returns handle = @java:Method {
+    class: "java.lang.String"
+} external;
+
+function contains(handle value, handle part) returns boolean = @java:Method {
+    class: "java.lang.String"
+} external;
+
+function length(handle value) returns int = @java:Method {
+    class: "java.lang.String"
+} external;
+
+function startsWith(handle value, handle prefix) returns boolean = @java:Method {
+    class: "java.lang.String",
+    paramTypes: ["java.lang.String"]
+} external;
+
+function concat(handle value, handle suffix) returns handle = @java:Method {
+    class: "java.lang.String"
+} external;
@@ -0,0 +1,27 @@
+// Updates of one gauge from many strands at once, to measure the contention on the gauge and its summary statistics.
+// The gauge has the default statistic configs, so that each update is also recorded to the summaries. Metrics have
+// to be enabled with `--b7a.observability.metrics.enabled=true`, as the gauge is a no-op otherwise.
+
+import ballerina/observe;
+
+const int CONTENDING_STRANDS = 64;
+const int UPDATES_PER_STRAND = 1000;
+
+observe:Gauge contendedGauge = new ("benchmark_contended_gauge", "Gauge updated by the contention benchmark");
+
+public function benchmarkGaugeContention64() {
+    future<()>[] futures = [];
+    foreach int i in 0 ..< CONTENDING_STRANDS {
+        futures[i] = start updateGauge(UPDATES_PER_STRAND);
+    }
+    foreach future<()> f in futures {
+        () result = wait f;
+    }
+}
+
+function updateGauge(int updates) {
+    foreach int i in 0 ..< updates {
+        contendedGauge.increment(1.0);
+        contendedGauge.decrement(1.0);
+    }
+}
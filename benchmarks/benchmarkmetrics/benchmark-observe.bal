@@ -0,0 +1,33 @@
+// Calls which are observed, compared with the same calls which are not observed. Remote calls are observed when
+// observability is enabled, so run these functions once with `--b7a.observability.enabled=true` and once without it
+// to compare the cost of the observations.
+
+const int CALL_COUNT = 1000;
+
+type AccumulatorClient client object {
+    private int total = 0;
+
+    public remote function add(int value) returns int {
+        self.total += value;
+        return self.total;
+    }
+
+    public function addLocally(int value) returns int {
+        self.total += value;
+        return self.total;
+    }
+};
+
+AccumulatorClient accumulator = new;
+
+public function benchmarkObservedRemoteCalls() {
+    foreach int i in 0 ..< CALL_COUNT {
+        int total = accumulator->add(i);
+    }
+}
+
+public function benchmarkUnobservedCalls() {
+    foreach int i in 0 ..< CALL_COUNT {
+        int total = accumulator.addLocally(i);
+    }
+}
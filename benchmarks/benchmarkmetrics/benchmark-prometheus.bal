@@ -0,0 +1,30 @@
+// Scrapes of the Prometheus reporter over 50k tagged series. The reporter is only started when metrics are enabled,
+// so these functions have to be run with `--b7a.observability.metrics.enabled=true`.
+
+import ballerina/http;
+import ballerina/observe;
+
+const int SERIES_COUNT = 50000;
+
+http:Client prometheusClient = new ("http://localhost:9797");
+boolean seriesRegistered = registerSeries(SERIES_COUNT);
+
+public function benchmarkPrometheusScrape50K() {
+    var response = prometheusClient->get("/metrics");
+    if (response is http:Response) {
+        var payload = response.getBinaryPayload();
+    }
+}
+
+function registerSeries(int count) returns boolean {
+    foreach int i in 0 ..< count {
+        map<string> tags = {
+            "service": "service" + (i % 100).toString(),
+            "resource": "/resource/" + i.toString()
+        };
+        observe:Gauge gauge = new ("benchmark_series", "Series scraped by the benchmark", tags, []);
+        error? err = gauge.register();
+        gauge.setValue(<float>i);
+    }
+    return true;
+}
@@ -0,0 +1,54 @@
+// Queries over 100K orders, which only filter, bind and map the members of their input. The compiler evaluates them as
+// loops over the input instead of as stream pipelines.
+
+map<Order> orderMap100K = createOrderMap(orders100K);
+table<Order> orderTable100K = createOrderTable(orders100K);
+
+public function benchmarkFusedArrayQuery100K() {
+    float[] result =
+        from var o in orders100K
+        let float tax = o.amount * 0.1
+        where o.customerId % 2 == 0
+        select o.amount + tax;
+}
+
+public function benchmarkFusedArrayQueryLimit100K() {
+    int[] result =
+        from var o in orders100K
+        where o.amount > 1000.0
+        limit 50000
+        select o.id;
+}
+
+public function benchmarkFusedMapQuery100K() {
+    CustomerOrder[] result =
+        from var o in orderMap100K
+        where o.amount > 1000.0
+        select {
+            name: o.id.toString(),
+            amount: o.amount
+        };
+}
+
+public function benchmarkFusedTableQuery100K() {
+    float[] result =
+        from var o in orderTable100K
+        where o.customerId % 2 == 0
+        select o.amount;
+}
+
+function createOrderMap(Order[] orders) returns map<Order> {
+    map<Order> orderMap = {};
+    foreach Order o in orders {
+        orderMap[o.id.toString()] = o;
+    }
+    return orderMap;
+}
+
+function createOrderTable(Order[] orders) returns table<Order> {
+    table<Order> orderTable = table [];
+    foreach Order o in orders {
+        orderTable.add(o);
+    }
+    return orderTable;
+}
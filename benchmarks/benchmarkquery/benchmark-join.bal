@@ -0,0 +1,99 @@
+// Joins of orders with their customers over growing inputs, where the suffix is the number of orders. The key joins
+// look up the customer of each order, so their cost grows linearly with the input, while the nested loop join
+// compares each order with every customer.
+
+const int ORDERS_PER_CUSTOMER = 4;
+
+type Customer record {|
+    readonly int id;
+    string name;
+|};
+
+type Order record {|
+    int id;
+    int customerId;
+    float amount;
+|};
+
+type CustomerOrder record {|
+    string name;
+    float amount;
+|};
+
+Order[] orders1K = createOrders(1000);
+Order[] orders10K = createOrders(10000);
+Order[] orders100K = createOrders(100000);
+Customer[] customers1K = createCustomers(1000 / ORDERS_PER_CUSTOMER);
+Customer[] customers10K = createCustomers(10000 / ORDERS_PER_CUSTOMER);
+Customer[] customers100K = createCustomers(100000 / ORDERS_PER_CUSTOMER);
+table<Customer> key(id) customerTable100K = createCustomerTable(100000 / ORDERS_PER_CUSTOMER);
+
+public function benchmarkHashJoin1K() {
+    CustomerOrder[] result = joinOrders(orders1K, customers1K);
+}
+
+public function benchmarkHashJoin10K() {
+    CustomerOrder[] result = joinOrders(orders10K, customers10K);
+}
+
+public function benchmarkHashJoin100K() {
+    CustomerOrder[] result = joinOrders(orders100K, customers100K);
+}
+
+public function benchmarkIndexJoin100K() {
+    CustomerOrder[] result =
+        from var o in orders100K
+        join var c in customerTable100K
+        on o.customerId equals c.id
+        select {
+            name: c.name,
+            amount: o.amount
+        };
+}
+
+public function benchmarkNestedLoopJoin1K() {
+    CustomerOrder[] result =
+        from var o in orders1K
+        join var c in customers1K
+        on o.customerId == c.id || o.id == c.id
+        select {
+            name: c.name,
+            amount: o.amount
+        };
+}
+
+function joinOrders(Order[] orders, Customer[] customers) returns CustomerOrder[] {
+    return from var o in orders
+           join var c in customers
+           on o.customerId equals c.id
+           select {
+               name: c.name,
+               amount: o.amount
+           };
+}
+
+function createOrders(int count) returns Order[] {
+    Order[] orders = [];
+    int customers = count / ORDERS_PER_CUSTOMER;
+    foreach int i in 0 ..< count {
+        orders.push({id: i, customerId: i % customers, amount: <float> i});
+    }
+    return orders;
+}
+
+function createCustomers(int count) returns Customer[] {
+    Customer[] customers = [];
+    foreach int i in 0 ..< count {
+        customers.push({id: i, name: "customer"});
+    }
+    return customers;
+}
+
+function createCustomerTable(int count) returns table<Customer> key(id) {
+    table<Customer> key(id) customers = table [];
+    foreach int i in 0 ..< count {
+        customers.add({id: i, name: "customer"});
+    }
+    customers.addIndex("id");
+    return customers;
+}
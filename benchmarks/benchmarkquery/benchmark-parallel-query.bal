@@ -0,0 +1,38 @@
+// Queries with pure clauses over large arrays. When the benchmarks are built with the `--parallel-queries` option,
+// the arrays are split into chunks which are evaluated on parallel strands.
+
+int[] numbers1M = createNumbers(1000000);
+int[] numbers10M = createNumbers(10000000);
+
+public function benchmarkParallelQuery1M() {
+    int[] result = squareMultiplesOfThree(numbers1M);
+}
+
+public function benchmarkParallelQuery10M() {
+    int[] result = squareMultiplesOfThree(numbers10M);
+}
+
+public function benchmarkParallelRecordQuery100K() {
+    CustomerOrder[] result =
+        from var o in orders100K
+        let float total = o.amount * 1.1
+        where o.customerId % 2 == 0 && total > 100.0
+        select {
+            name: "customer",
+            amount: total
+        };
+}
+
+function squareMultiplesOfThree(int[] numbers) returns int[] {
+    return from var n in numbers
+           where n % 3 == 0
+           select n * n;
+}
+
+function createNumbers(int count) returns int[] {
+    int[] numbers = [];
+    foreach int i in 0 ..< count {
+        numbers[i] = i;
+    }
+    return numbers;
+}
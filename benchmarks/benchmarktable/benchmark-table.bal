@@ -0,0 +1,78 @@
+const int TABLE_SIZE = 1000000;
+const int LOOKUPS = 1000;
+
+type IntKeyedRow record {|
+    readonly int id;
+    string name;
+|};
+
+type StringKeyedRow record {|
+    readonly string name;
+    int id;
+|};
+
+type CompositeKeyedRow record {|
+    readonly int id;
+    readonly string name;
+|};
+
+table<IntKeyedRow> key(id) intKeyedTable = createIntKeyedTable();
+table<StringKeyedRow> key(name) stringKeyedTable = createStringKeyedTable();
+table<CompositeKeyedRow> key(id, name) compositeKeyedTable = createCompositeKeyedTable();
+
+public function benchmarkIntKeyedTableInsert() {
+    table<IntKeyedRow> key(id) tab = createIntKeyedTable();
+}
+
+public function benchmarkIntKeyedTableLookup() {
+    int step = TABLE_SIZE / LOOKUPS;
+    foreach int i in 0 ..< LOOKUPS {
+        IntKeyedRow row = intKeyedTable.get(i * step);
+    }
+}
+
+public function benchmarkStringKeyedTableLookup() {
+    int step = TABLE_SIZE / LOOKUPS;
+    foreach int i in 0 ..< LOOKUPS {
+        StringKeyedRow row = stringKeyedTable.get((i * step).toString());
+    }
+}
+
+public function benchmarkCompositeKeyedTableLookup() {
+    int step = TABLE_SIZE / LOOKUPS;
+    foreach int i in 0 ..< LOOKUPS {
+        int id = i * step;
+        boolean found = compositeKeyedTable.hasKey([id, id.toString()]);
+    }
+}
+
+public function benchmarkKeyedTableIteration() {
+    int total = 0;
+    foreach IntKeyedRow row in intKeyedTable {
+        total += row.id;
+    }
+}
+
+function createIntKeyedTable() returns table<IntKeyedRow> key(id) {
+    table<IntKeyedRow> key(id) tab = table [];
+    foreach int i in 0 ..< TABLE_SIZE {
+        tab.add({id: i, name: "row"});
+    }
+    return tab;
+}
+
+function createStringKeyedTable() returns table<StringKeyedRow> key(name) {
+    table<StringKeyedRow> key(name) tab = table [];
+    foreach int i in 0 ..< TABLE_SIZE {
+        tab.add({name: i.toString(), id: i});
+    }
+    return tab;
+}
+
+function createCompositeKeyedTable() returns table<CompositeKeyedRow> key(id, name) {
+    table<CompositeKeyedRow> key(id, name) tab = table [];
+    foreach int i in 0 ..< TABLE_SIZE {
+        tab.add({id: i, name: i.toString()});
+    }
+    return tab;
+}
@@ -20,52 +20,186 @@ package org.ballerinalang.jvm;
 import org.ballerinalang.jvm.scheduling.State;
 import org.ballerinalang.jvm.scheduling.Strand;
 
-import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
 
 /**
  * {@code VarLock} represents lock object for variables in jvm.
+ * <p>
+ * The lock can be held exclusively by one strand, or shared by strands executing lock blocks which only read the
+ * locked variables. Exclusive holds are reentrant, and a strand holding the lock exclusively may also acquire it in
+ * shared mode. An uncontended lock is acquired with a single CAS. Strands which cannot acquire the lock are queued and
+ * yield; on release the lock is handed over in FIFO order directly to the next exclusive waiter, or to all the
+ * consecutive shared waiters at the head of the queue. A handed over strand completes the acquisition when it resumes
+ * and retries the lock.
  *
  * @since 1.0.0
  */
 public class BLock {
 
-    private ArrayDeque<Strand> current;
+    private static final AtomicIntegerFieldUpdater<BLock> STATE_UPDATER =
+            AtomicIntegerFieldUpdater.newUpdater(BLock.class, "state");
 
-    private ArrayDeque<Strand> waitingForLock;
+    private static final int FREE = 0;
+    private static final int EXCLUSIVE = -1;
+    private static final int HAND_OVER = -2;
 
-    public BLock() {
-        this.current = new ArrayDeque<>();
-        this.waitingForLock = new ArrayDeque<>();
+    /**
+     * {@link #FREE}, {@link #EXCLUSIVE}, {@link #HAND_OVER} while the lock is being given to waiting strands, or the
+     * number of shared holds.
+     */
+    private volatile int state = FREE;
+
+    /**
+     * Strand holding the lock exclusively.
+     */
+    private volatile Strand owner;
+
+    /**
+     * Number of times the owner has acquired the lock. Only accessed by the owner strand, and it is safely published
+     * to the next owner through the volatile {@link #owner} field.
+     */
+    private int holdCount;
+
+    private final Queue<Waiter> waitingForLock = new ConcurrentLinkedQueue<>();
+
+    /**
+     * Strands which were given a shared hold while waiting, and are yet to resume.
+     */
+    private final Set<Strand> grantedSharedLocks = ConcurrentHashMap.newKeySet();
+
+    public boolean lock(Strand strand) {
+        if (this.owner == strand) {
+            // Reentrant acquisition, or the lock was handed over to this strand while it was waiting.
+            this.holdCount++;
+            return true;
+        }
+
+        if (this.waitingForLock.isEmpty() && STATE_UPDATER.compareAndSet(this, FREE, EXCLUSIVE)) {
+            this.owner = strand;
+            this.holdCount = 1;
+            return true;
+        }
+
+        waitForLock(strand, false);
+        return false;
     }
 
-    public synchronized boolean lock(Strand strand) {
-        if (isLockFree() || lockedBySameContext(strand)) {
-            this.current.offerLast(strand);
+    public boolean lockShared(Strand strand) {
+        if (this.owner == strand) {
+            // Read only lock block nested in a lock block of the same lock.
+            this.holdCount++;
             return true;
         }
 
-        this.waitingForLock.offerLast(strand);
+        if (!this.grantedSharedLocks.isEmpty() && this.grantedSharedLocks.remove(strand)) {
+            return true;
+        }
 
-        // Strand state change
-        strand.setState(State.BLOCK_AND_YIELD);
-        strand.blockedOnExtern = false;
+        if (this.waitingForLock.isEmpty()) {
+            int current;
+            while ((current = this.state) >= FREE) {
+                if (STATE_UPDATER.compareAndSet(this, current, current + 1)) {
+                    return true;
+                }
+            }
+        }
+
+        waitForLock(strand, true);
         return false;
     }
 
-    public synchronized void unlock() {
-        //current cannot be empty as unlock cannot be called without lock being called first.
-        this.current.removeLast();
-        if (!waitingForLock.isEmpty()) {
-            Strand strand = this.waitingForLock.removeFirst();
-            strand.scheduler.unblockStrand(strand);
+    public void unlock() {
+        //owner cannot be null as unlock cannot be called without lock being called first.
+        if (--this.holdCount > 0) {
+            return;
+        }
+
+        this.owner = null;
+        this.state = FREE;
+        handOverIfFree();
+    }
+
+    public void unlockShared(Strand strand) {
+        if (this.owner == strand) {
+            unlock();
+            return;
+        }
+
+        if (STATE_UPDATER.decrementAndGet(this) == FREE) {
+            handOverIfFree();
         }
     }
 
     public boolean isLockFree() {
-        return this.current.isEmpty();
+        return this.state == FREE;
     }
 
     public boolean lockedBySameContext(Strand ctx) {
-        return this.current.getLast() == ctx;
+        return this.owner == ctx;
+    }
+
+    private void waitForLock(Strand strand, boolean shared) {
+        // Strand state change. Done before queueing, so that a hand over happening right after queueing cannot be
+        // missed by the scheduler.
+        strand.setState(State.BLOCK_AND_YIELD);
+        strand.blockedOnExtern = false;
+        this.waitingForLock.offer(new Waiter(strand, shared));
+
+        // The lock may have been released before this strand was queued.
+        handOverIfFree();
+    }
+
+    private void handOverIfFree() {
+        // Only the strand which moved the lock to HAND_OVER removes waiters from the queue.
+        while (!this.waitingForLock.isEmpty() && STATE_UPDATER.compareAndSet(this, FREE, HAND_OVER)) {
+            Waiter next = this.waitingForLock.poll();
+            if (next == null) {
+                this.state = FREE;
+                continue;
+            }
+
+            if (!next.shared) {
+                // The new owner increments the count when it resumes and retries the lock.
+                this.holdCount = 0;
+                this.owner = next.strand;
+                this.state = EXCLUSIVE;
+                next.strand.scheduler.unblockStrand(next.strand);
+                return;
+            }
+
+            List<Strand> readers = new ArrayList<>();
+            readers.add(next.strand);
+            Waiter head;
+            while ((head = this.waitingForLock.peek()) != null && head.shared) {
+                this.waitingForLock.poll();
+                readers.add(head.strand);
+            }
+            this.grantedSharedLocks.addAll(readers);
+            this.state = readers.size();
+            for (Strand reader : readers) {
+                reader.scheduler.unblockStrand(reader);
+            }
+            return;
+        }
+    }
+
+    /**
+     * A strand waiting for the lock.
+     */
+    private static class Waiter {
+
+        final Strand strand;
+        final boolean shared;
+
+        Waiter(Strand strand, boolean shared) {
+            this.strand = strand;
+            this.shared = shared;
+        }
     }
 }
@@ -19,6 +19,7 @@ package org.ballerinalang.jvm;
 import org.ballerinalang.jvm.observability.ObservabilityConstants;
 import org.ballerinalang.jvm.observability.ObserveUtils;
 import org.ballerinalang.jvm.observability.ObserverContext;
+import org.ballerinalang.jvm.scheduling.BlockingCallExecutor;
 import org.ballerinalang.jvm.scheduling.Scheduler;
 import org.ballerinalang.jvm.scheduling.State;
 import org.ballerinalang.jvm.scheduling.Strand;
@@ -76,6 +77,19 @@ public class BRuntime {
         return future;
     }
 
+    /**
+     * Execute a blocking call made by an extern function. When blocking call execution is enabled through the
+     * BALLERINA_BLOCKING_EXECUTION environment variable, the call is run on a virtual thread or an elastic thread
+     * pool and the current strand is blocked until it completes, without holding a strand executor thread.
+     * Otherwise the call runs inline.
+     *
+     * @param call blocking call which produces the return value of the extern function.
+     * @return result of the call if it was executed inline, null if the strand was blocked.
+     */
+    public static Object executeBlocking(Supplier<Object> call) {
+        return BlockingCallExecutor.getInstance().execute(Scheduler.getStrand(), call);
+    }
+
     /**
      * Invoke Function Pointer asynchronously. This will schedule the function and block the strand.
      *
@@ -0,0 +1,196 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.jvm.observability;
+
+import org.apache.commons.lang3.StringUtils;
+import org.ballerinalang.jvm.observability.metrics.Tag;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.ballerinalang.jvm.observability.ObservabilityConstants.TAG_KEY_ACTION;
+import static org.ballerinalang.jvm.observability.ObservabilityConstants.TAG_KEY_CONNECTOR_NAME;
+import static org.ballerinalang.jvm.observability.ObservabilityConstants.TAG_KEY_FUNCTION;
+import static org.ballerinalang.jvm.observability.ObservabilityConstants.TAG_KEY_INVOCATION_POSITION;
+import static org.ballerinalang.jvm.observability.ObservabilityConstants.TAG_KEY_IS_MAIN_ENTRY_POINT;
+import static org.ballerinalang.jvm.observability.ObservabilityConstants.TAG_KEY_IS_REMOTE;
+import static org.ballerinalang.jvm.observability.ObservabilityConstants.TAG_KEY_IS_RESOURCE_ENTRY_POINT;
+import static org.ballerinalang.jvm.observability.ObservabilityConstants.TAG_KEY_IS_WORKER;
+import static org.ballerinalang.jvm.observability.ObservabilityConstants.TAG_KEY_MODULE;
+import static org.ballerinalang.jvm.observability.ObservabilityConstants.TAG_KEY_OBJECT_NAME;
+import static org.ballerinalang.jvm.observability.ObservabilityConstants.TAG_KEY_RESOURCE;
+import static org.ballerinalang.jvm.observability.ObservabilityConstants.TAG_KEY_SERVICE;
+import static org.ballerinalang.jvm.observability.ObservabilityConstants.TAG_TRUE_VALUE;
+import static org.ballerinalang.jvm.observability.ObservabilityConstants.UNKNOWN_SERVICE;
+
+/**
+ * The parts of an observation which are known when the observed call site is compiled. A descriptor is created once
+ * for each call site when the module is initialized, so that the names and main tags of the call site are not derived
+ * again for each observation.
+ *
+ * @since 2.0.0
+ */
+class ObservationDescriptor {
+
+    private static final ClassValue<String> OBJECT_NAMES = new ClassValue<String>() {
+        @Override
+        protected String computeValue(Class<?> type) {
+            String[] classNameSplit = type.getCanonicalName().split("\\.");
+            int lastIndexOfDollar = classNameSplit[3].lastIndexOf('$');
+            return classNameSplit[0] + "/" + classNameSplit[1] + "/"
+                    + classNameSplit[3].substring(lastIndexOfDollar + 1);
+        }
+    };
+
+    private final String serviceName;
+    private final String resourceName;
+    private final String functionName;
+    private final Tag[] mainTags;
+    private final String objectTagKey;
+    private volatile ObjectTag lastObjectTag;
+
+    private ObservationDescriptor(String serviceName, String resourceName, String functionName, List<Tag> mainTags,
+                                  String objectTagKey) {
+        this.serviceName = serviceName;
+        this.resourceName = resourceName;
+        this.functionName = functionName;
+        this.mainTags = mainTags.toArray(new Tag[0]);
+        this.objectTagKey = objectTagKey;
+    }
+
+    /**
+     * Create the descriptor of a resource function.
+     *
+     * @param serviceName name of the service, or null if it is not known
+     * @param resourceName name of the resource
+     * @param pkg the package the resource belongs to
+     * @param position the source code position the resource is defined in
+     * @return the descriptor of the resource
+     */
+    static ObservationDescriptor forResource(String serviceName, String resourceName, String pkg, String position) {
+        String service = serviceName == null ? UNKNOWN_SERVICE : serviceName;
+        List<Tag> mainTags = new ArrayList<>();
+        mainTags.add(tag(TAG_KEY_MODULE, pkg));
+        mainTags.add(tag(TAG_KEY_INVOCATION_POSITION, position));
+        mainTags.add(tag(TAG_KEY_IS_RESOURCE_ENTRY_POINT, TAG_TRUE_VALUE));
+        mainTags.add(tag(TAG_KEY_SERVICE, service));
+        mainTags.add(tag(TAG_KEY_RESOURCE, resourceName));
+        return new ObservationDescriptor(service, resourceName, null, mainTags, null);
+    }
+
+    /**
+     * Create the descriptor of a function or action invocation.
+     *
+     * @param isRemote True if this was a remote function invocation
+     * @param isMainEntryPoint True if this was a main entry point invocation
+     * @param isWorker True if this was a worker start
+     * @param functionName name of the function being invoked
+     * @param pkg the package the invocation belongs to
+     * @param position the source code position of the invocation
+     * @return the descriptor of the invocation
+     */
+    static ObservationDescriptor forCallable(boolean isRemote, boolean isMainEntryPoint, boolean isWorker,
+                                             String functionName, String pkg, String position) {
+        List<Tag> mainTags = new ArrayList<>();
+        mainTags.add(tag(TAG_KEY_MODULE, pkg));
+        mainTags.add(tag(TAG_KEY_INVOCATION_POSITION, position));
+        String objectTagKey = null;
+        if (isRemote) {
+            mainTags.add(tag(TAG_KEY_IS_REMOTE, TAG_TRUE_VALUE));
+            mainTags.add(tag(TAG_KEY_ACTION, functionName));
+            objectTagKey = TAG_KEY_CONNECTOR_NAME;
+        }
+        if (isMainEntryPoint) {
+            mainTags.add(tag(TAG_KEY_IS_MAIN_ENTRY_POINT, TAG_TRUE_VALUE));
+        }
+        if (isWorker) {
+            mainTags.add(tag(TAG_KEY_IS_WORKER, TAG_TRUE_VALUE));
+        }
+        if (!isRemote && !isWorker) {
+            mainTags.add(tag(TAG_KEY_FUNCTION, functionName));
+            objectTagKey = TAG_KEY_OBJECT_NAME;
+        }
+        return new ObservationDescriptor(null, null, functionName, mainTags, objectTagKey);
+    }
+
+    String getServiceName() {
+        return serviceName;
+    }
+
+    String getResourceName() {
+        return resourceName;
+    }
+
+    String getFunctionName() {
+        return functionName;
+    }
+
+    Tag[] getMainTags() {
+        return mainTags;
+    }
+
+    /**
+     * Get the name of the object a function is attached to.
+     *
+     * @param object the object, or null if the function is not attached to an object
+     * @return the name of the object, which is empty if the function is not attached to an object
+     */
+    static String getObjectName(Object object) {
+        return object == null ? StringUtils.EMPTY : OBJECT_NAMES.get(object.getClass());
+    }
+
+    /**
+     * Get the main tag which names the object the invoked function is attached to. The tag of the last object is kept,
+     * as a call site is mostly invoked on objects of the same type.
+     *
+     * @param objectName the name of the object
+     * @return the tag, or null if the invocation is not tagged with the object name
+     */
+    Tag getObjectTag(String objectName) {
+        if (objectTagKey == null) {
+            return null;
+        }
+        ObjectTag objectTag = lastObjectTag;
+        if (objectTag == null || !objectTag.objectName.equals(objectName)) {
+            if (objectName.isEmpty() && TAG_KEY_OBJECT_NAME.equals(objectTagKey)) {
+                // Functions which are not attached to objects are not tagged with an object name
+                return null;
+            }
+            objectTag = new ObjectTag(objectName, tag(objectTagKey, objectName));
+            lastObjectTag = objectTag;
+        }
+        return objectTag.tag;
+    }
+
+    private static Tag tag(String key, String value) {
+        return Tag.of(key, value != null ? value : "");
+    }
+
+    /**
+     * The name of an object and its tag.
+     */
+    private static class ObjectTag {
+        private final String objectName;
+        private final Tag tag;
+
+        ObjectTag(String objectName, Tag tag) {
+            this.objectName = objectName;
+            this.tag = tag;
+        }
+    }
+}
@@ -18,12 +18,13 @@
 
 package org.ballerinalang.jvm.observability;
 
-import org.apache.commons.lang3.StringUtils;
 import org.ballerinalang.config.ConfigRegistry;
+import org.ballerinalang.jvm.observability.metrics.Tag;
 import org.ballerinalang.jvm.observability.tracer.BSpan;
 import org.ballerinalang.jvm.scheduling.Scheduler;
 import org.ballerinalang.jvm.scheduling.Strand;
 import org.ballerinalang.jvm.values.ErrorValue;
+import org.ballerinalang.jvm.values.HandleValue;
 import org.ballerinalang.jvm.values.ObjectValue;
 import org.ballerinalang.jvm.values.api.BString;
 
@@ -39,17 +40,8 @@ import static org.ballerinalang.jvm.observability.ObservabilityConstants.CONFIG_
 import static org.ballerinalang.jvm.observability.ObservabilityConstants.CONFIG_TRACING_ENABLED;
 import static org.ballerinalang.jvm.observability.ObservabilityConstants.PROPERTY_KEY_HTTP_STATUS_CODE;
 import static org.ballerinalang.jvm.observability.ObservabilityConstants.STATUS_CODE_GROUP_SUFFIX;
-import static org.ballerinalang.jvm.observability.ObservabilityConstants.TAG_KEY_ACTION;
 import static org.ballerinalang.jvm.observability.ObservabilityConstants.TAG_KEY_CONNECTOR_NAME;
-import static org.ballerinalang.jvm.observability.ObservabilityConstants.TAG_KEY_FUNCTION;
 import static org.ballerinalang.jvm.observability.ObservabilityConstants.TAG_KEY_HTTP_STATUS_CODE_GROUP;
-import static org.ballerinalang.jvm.observability.ObservabilityConstants.TAG_KEY_INVOCATION_POSITION;
-import static org.ballerinalang.jvm.observability.ObservabilityConstants.TAG_KEY_IS_MAIN_ENTRY_POINT;
-import static org.ballerinalang.jvm.observability.ObservabilityConstants.TAG_KEY_IS_REMOTE;
-import static org.ballerinalang.jvm.observability.ObservabilityConstants.TAG_KEY_IS_RESOURCE_ENTRY_POINT;
-import static org.ballerinalang.jvm.observability.ObservabilityConstants.TAG_KEY_IS_WORKER;
-import static org.ballerinalang.jvm.observability.ObservabilityConstants.TAG_KEY_MODULE;
-import static org.ballerinalang.jvm.observability.ObservabilityConstants.TAG_KEY_OBJECT_NAME;
 import static org.ballerinalang.jvm.observability.ObservabilityConstants.TAG_KEY_RESOURCE;
 import static org.ballerinalang.jvm.observability.ObservabilityConstants.TAG_KEY_SERVICE;
 import static org.ballerinalang.jvm.observability.ObservabilityConstants.TAG_TRUE_VALUE;
@@ -85,6 +77,24 @@ public class ObserveUtils {
     }
 
 
+    /**
+     * Create the descriptor of a resource, which is passed to the start of the observations of the resource.
+     *
+     * @param serviceName name of the service to which the observer context belongs
+     * @param resourceName name of the resource being invoked
+     * @param pkg The package the resource belongs to
+     * @param position The source code position the resource in defined in
+     * @return the handle of the descriptor
+     */
+    public static HandleValue createResourceObservationDescriptor(BString serviceName, BString resourceName,
+                                                                  BString pkg, BString position) {
+        if (!enabled) {
+            return HandleValue.valueOfJ(null);
+        }
+        return HandleValue.valueOfJ(ObservationDescriptor.forResource(serviceName.getValue(), resourceName.getValue(),
+                pkg.getValue(), position.getValue()));
+    }
+
     /**
      * Start observation of a resource invocation.
      *
@@ -98,7 +108,23 @@ public class ObserveUtils {
         if (!enabled) {
             return;
         }
+        startResourceObservation(ObservationDescriptor.forResource(serviceName.getValue(), resourceName.getValue(),
+                pkg.getValue(), position.getValue()));
+    }
+
+    /**
+     * Start observation of a resource invocation.
+     *
+     * @param descriptor the handle of the descriptor of the resource
+     */
+    public static void startResourceObservation(HandleValue descriptor) {
+        if (!enabled) {
+            return;
+        }
+        startResourceObservation((ObservationDescriptor) descriptor.getValue());
+    }
 
+    private static void startResourceObservation(ObservationDescriptor descriptor) {
         ObserverContext observerContext;
         Strand strand = Scheduler.getStrand();
         if (strand.observerContext != null) {
@@ -107,16 +133,12 @@ public class ObserveUtils {
             observerContext = new ObserverContext();
             setObserverContextToCurrentFrame(strand, observerContext);
         }
-        String service = serviceName.getValue() == null ? UNKNOWN_SERVICE : serviceName.getValue();
+        String service = descriptor.getServiceName();
         observerContext.setServiceName(service);
-        observerContext.setResourceName(resourceName.getValue());
+        observerContext.setResourceName(descriptor.getResourceName());
         observerContext.setServer();
 
-        observerContext.addMainTag(TAG_KEY_MODULE, pkg.getValue());
-        observerContext.addMainTag(TAG_KEY_INVOCATION_POSITION, position.getValue());
-        observerContext.addMainTag(TAG_KEY_IS_RESOURCE_ENTRY_POINT, TAG_TRUE_VALUE);
-        observerContext.addMainTag(TAG_KEY_SERVICE, observerContext.getServiceName());
-        observerContext.addMainTag(TAG_KEY_RESOURCE, observerContext.getResourceName());
+        observerContext.addMainTags(descriptor.getMainTags());
         observerContext.addMainTag(TAG_KEY_CONNECTOR_NAME, observerContext.getObjectName());
 
         observerContext.setStarted();
@@ -171,6 +193,28 @@ public class ObserveUtils {
         });
     }
 
+    /**
+     * Create the descriptor of a function/action invocation, which is passed to the start of the observations of the
+     * invocation.
+     *
+     * @param isRemote True if this was a remove function invocation
+     * @param isMainEntryPoint True if this was a main entry point invocation
+     * @param isWorker True if this was a worker start
+     * @param functionName name of the function being invoked
+     * @param pkg The package the resource belongs to
+     * @param position The source code position the resource in defined in
+     * @return the handle of the descriptor
+     */
+    public static HandleValue createCallableObservationDescriptor(boolean isRemote, boolean isMainEntryPoint,
+                                                                  boolean isWorker, BString functionName, BString pkg,
+                                                                  BString position) {
+        if (!enabled) {
+            return HandleValue.valueOfJ(null);
+        }
+        return HandleValue.valueOfJ(ObservationDescriptor.forCallable(isRemote, isMainEntryPoint, isWorker,
+                functionName.getValue(), pkg.getValue(), position.getValue()));
+    }
+
     /**
      * Start observability for the synchronous function/action invocations.
      *
@@ -188,6 +232,24 @@ public class ObserveUtils {
         if (!enabled) {
             return;
         }
+        startCallableObservation(typeDef, ObservationDescriptor.forCallable(isRemote, isMainEntryPoint, isWorker,
+                functionName.getValue(), pkg.getValue(), position.getValue()));
+    }
+
+    /**
+     * Start observability for the synchronous function/action invocations.
+     *
+     * @param typeDef The type definition the function was attached to
+     * @param descriptor the handle of the descriptor of the invocation
+     */
+    public static void startCallableObservation(ObjectValue typeDef, HandleValue descriptor) {
+        if (!enabled) {
+            return;
+        }
+        startCallableObservation(typeDef, (ObservationDescriptor) descriptor.getValue());
+    }
+
+    private static void startCallableObservation(ObjectValue typeDef, ObservationDescriptor descriptor) {
         Strand strand = Scheduler.getStrand();
         ObserverContext observerCtx = strand.observerContext;
 
@@ -195,35 +257,14 @@ public class ObserveUtils {
         newObContext.setParent(observerCtx);
         newObContext.setServiceName(observerCtx == null ? UNKNOWN_SERVICE : observerCtx.getServiceName());
         newObContext.setResourceName(observerCtx == null ? UNKNOWN_RESOURCE : observerCtx.getResourceName());
-        if (typeDef == null) {
-            newObContext.setObjectName(StringUtils.EMPTY);
-        } else {
-            String className = typeDef.getClass().getCanonicalName();
-            String[] classNameSplit = className.split("\\.");
-            int lastIndexOfDollar = classNameSplit[3].lastIndexOf('$');
-            newObContext.setObjectName(classNameSplit[0] + "/" + classNameSplit[1] + "/"
-                    + classNameSplit[3].substring(lastIndexOfDollar + 1));
-        }
-        newObContext.setFunctionName(functionName.getValue());
-
-        newObContext.addMainTag(TAG_KEY_MODULE, pkg.getValue());
-        newObContext.addMainTag(TAG_KEY_INVOCATION_POSITION, position.getValue());
-        if (isRemote) {
-            newObContext.addMainTag(TAG_KEY_IS_REMOTE, TAG_TRUE_VALUE);
-            newObContext.addMainTag(TAG_KEY_ACTION, newObContext.getFunctionName());
-            newObContext.addMainTag(TAG_KEY_CONNECTOR_NAME, newObContext.getObjectName());
-        }
-        if (isMainEntryPoint) {
-            newObContext.addMainTag(TAG_KEY_IS_MAIN_ENTRY_POINT, TAG_TRUE_VALUE);
-        }
-        if (isWorker) {
-            newObContext.addMainTag(TAG_KEY_IS_WORKER, TAG_TRUE_VALUE);
-        }
-        if (!isRemote && !isWorker) {
-            newObContext.addMainTag(TAG_KEY_FUNCTION, newObContext.getFunctionName());
-            if (!StringUtils.isEmpty(newObContext.getObjectName())) {
-                newObContext.addMainTag(TAG_KEY_OBJECT_NAME, newObContext.getObjectName());
-            }
+        String objectName = ObservationDescriptor.getObjectName(typeDef);
+        newObContext.setObjectName(objectName);
+        newObContext.setFunctionName(descriptor.getFunctionName());
+
+        newObContext.addMainTags(descriptor.getMainTags());
+        Tag objectTag = descriptor.getObjectTag(objectName);
+        if (objectTag != null) {
+            newObContext.addMainTags(objectTag);
         }
         if (!UNKNOWN_SERVICE.equals(newObContext.getServiceName())) {
             // If service is present, resource should be too
@@ -100,6 +100,21 @@ public class ObserverContext {
         addTag(mainTags, key, value);
     }
 
+    /**
+     * Add main tags which are already created.
+     * This method should only be invoked before a service resource function is hit in the runtime.
+     *
+     * @param tags The tags
+     */
+    void addMainTags(Tag... tags) {
+        if (isStarted()) {
+            throw new IllegalStateException("main tags cannot be added after the observation had been started");
+        }
+        for (Tag tag : tags) {
+            mainTags.put(tag.getKey(), tag);
+        }
+    }
+
     /**
      * Add an additional tag.
      * This method should only be invoked after a service resource function is hit in the runtime.
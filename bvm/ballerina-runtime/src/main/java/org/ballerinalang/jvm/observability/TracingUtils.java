@@ -20,6 +20,9 @@ package org.ballerinalang.jvm.observability;
 import org.apache.commons.lang3.StringUtils;
 import org.ballerinalang.jvm.observability.metrics.Tag;
 import org.ballerinalang.jvm.observability.tracer.BSpan;
+import org.ballerinalang.jvm.observability.tracer.SampledTrace;
+import org.ballerinalang.jvm.observability.tracer.TraceManager;
+import org.ballerinalang.jvm.observability.tracer.TraceSampling;
 import org.ballerinalang.jvm.values.ErrorValue;
 
 import java.util.Collections;
@@ -34,6 +37,7 @@ import static org.ballerinalang.jvm.observability.ObservabilityConstants.PROPERT
 import static org.ballerinalang.jvm.observability.ObservabilityConstants.TAG_KEY_ERROR;
 import static org.ballerinalang.jvm.observability.ObservabilityConstants.TAG_TRUE_VALUE;
 import static org.ballerinalang.jvm.observability.tracer.TraceConstants.KEY_SPAN;
+import static org.ballerinalang.jvm.observability.tracer.TraceConstants.KEY_TRACE;
 import static org.ballerinalang.jvm.observability.tracer.TraceConstants.LOG_ERROR_KIND_EXCEPTION;
 import static org.ballerinalang.jvm.observability.tracer.TraceConstants.LOG_EVENT_TYPE_ERROR;
 import static org.ballerinalang.jvm.observability.tracer.TraceConstants.LOG_KEY_ERROR_KIND;
@@ -58,28 +62,47 @@ public class TracingUtils {
      * @param isClient        true if the starting span is a client
      */
     public static void startObservation(ObserverContext observerContext, boolean isClient) {
-        BSpan span = new BSpan(observerContext, isClient);
-        span.setServiceName(observerContext.getServiceName() != null ?
-                observerContext.getServiceName() : ObservabilityConstants.UNKNOWN_SERVICE);
-
+        String serviceName = observerContext.getServiceName() != null ?
+                observerContext.getServiceName() : ObservabilityConstants.UNKNOWN_SERVICE;
+        String operationName;
+        Map<String, String> httpHeaders = null;
         if (isClient) {
-            span.setOperationName(StringUtils.isNotEmpty(observerContext.getObjectName())
+            operationName = StringUtils.isNotEmpty(observerContext.getObjectName())
                     ? observerContext.getObjectName() + SEPARATOR + observerContext.getFunctionName()
-                    : observerContext.getFunctionName());
-            observerContext.addProperty(PROPERTY_TRACE_PROPERTIES, span.getProperties());
+                    : observerContext.getFunctionName();
         } else {
-            span.setOperationName(observerContext.getResourceName());
-            Map<String, String> httpHeaders =
-                    (Map<String, String>) observerContext.getProperty(PROPERTY_TRACE_PROPERTIES);
+            operationName = observerContext.getResourceName();
+            httpHeaders = (Map<String, String>) observerContext.getProperty(PROPERTY_TRACE_PROPERTIES);
+        }
 
-            if (httpHeaders != null) {
-                httpHeaders.entrySet()
-                        .forEach(e -> span.addProperty(e.getKey(), e.getValue()));
-            }
+        // The sampling decision is taken once for each trace, before any of its spans are created
+        ObserverContext parentContext = observerContext.getParent();
+        SampledTrace trace = parentContext != null ? (SampledTrace) parentContext.getProperty(KEY_TRACE) : null;
+        if (trace == null) {
+            boolean propagated = httpHeaders != null
+                    && TraceManager.getInstance().hasTraceContext(httpHeaders, serviceName);
+            trace = TraceSampling.getInstance().startTrace(observerContext, serviceName, operationName, propagated);
+        }
+        observerContext.addProperty(KEY_TRACE, trace);
+        if (!trace.shouldRecordSpan()) {
+            return;
+        }
+
+        BSpan span = new BSpan(observerContext, isClient);
+        span.setServiceName(serviceName);
+        span.setOperationName(operationName);
+        if (isClient) {
+            observerContext.addProperty(PROPERTY_TRACE_PROPERTIES, span.getProperties());
+        } else if (httpHeaders != null) {
+            httpHeaders.forEach(span::addProperty);
         }
 
         observerContext.addProperty(KEY_SPAN, span);
-        span.startSpan();
+        if (trace.isDeferred()) {
+            span.startSpan(trace.currentTimeMicros());
+        } else {
+            span.startSpan();
+        }
     }
 
     /**
@@ -89,9 +112,11 @@ public class TracingUtils {
      */
     public static void stopObservation(ObserverContext observerContext) {
         BSpan span = (BSpan) observerContext.getProperty(KEY_SPAN);
+        SampledTrace trace = (SampledTrace) observerContext.getProperty(KEY_TRACE);
         if (span != null) {
             Tag errorTag = observerContext.getTag(TAG_KEY_ERROR);
             if (errorTag != null && TAG_TRUE_VALUE.equals(errorTag.getValue())) {
+                trace.markError();
                 StringBuilder errorMessageBuilder = new StringBuilder();
                 String errorMessage = (String) observerContext.getProperty(PROPERTY_ERROR_MESSAGE);
                 if (errorMessage != null) {
@@ -118,7 +143,10 @@ public class TracingUtils {
             span.addTags(observerContext.getAllTags()
                     .stream()
                     .collect(Collectors.toMap(Tag::getKey, Tag::getValue)));
-            span.finishSpan();
+            trace.finishSpan(span);
+        }
+        if (trace != null) {
+            trace.complete(observerContext);
         }
     }
 }
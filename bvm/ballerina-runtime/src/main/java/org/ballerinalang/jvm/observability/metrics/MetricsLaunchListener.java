@@ -25,6 +25,7 @@ import org.ballerinalang.jvm.observability.metrics.noop.NoOpMetricReporter;
 import org.ballerinalang.jvm.observability.metrics.spi.MetricProvider;
 import org.ballerinalang.jvm.observability.metrics.spi.MetricReporter;
 import org.ballerinalang.jvm.observability.tracer.InvalidConfigurationException;
+import org.ballerinalang.jvm.scheduling.BlockingCallExecutor;
 
 import java.io.PrintStream;
 import java.lang.management.ManagementFactory;
@@ -115,6 +116,19 @@ public class MetricsLaunchListener implements LaunchListener {
     }
 
     private void registerBallerinaMetrics() {
+        BlockingCallExecutor blockingCallExecutor = BlockingCallExecutor.getInstance();
+        if (blockingCallExecutor.isEnabled()) {
+            final String blockingPrefix = "ballerina_scheduler_blocking_";
+            PolledGauge.builder(blockingPrefix + "active_calls", blockingCallExecutor,
+                    BlockingCallExecutor::getActiveCallCount)
+                    .description("Number of blocking extern calls in progress").register();
+            PolledGauge.builder(blockingPrefix + "pinned_threads", blockingCallExecutor,
+                    BlockingCallExecutor::getPinnedThreadCount)
+                    .description("Number of platform threads held by blocking extern calls").register();
+            PolledGauge.builder(blockingPrefix + "completed_calls", blockingCallExecutor,
+                    BlockingCallExecutor::getCompletedCallCount)
+                    .description("Number of completed blocking extern calls").register();
+        }
 //        final BLangScheduler.SchedulerStats schedulerStats = BLangScheduler.getStats();
 //        final String prefix = "ballerina_scheduler_";
 //        PolledGauge.builder(prefix + "ready_worker_count", schedulerStats,
@@ -79,10 +79,18 @@ public class BSpan {
         manager.startSpan(getParentBSpan(), this);
     }
 
+    public void startSpan(long startMicros) {
+        manager.startSpan(getParentBSpan(), this, startMicros);
+    }
+
     public void finishSpan() {
         manager.finishSpan(this);
     }
 
+    public void finishSpan(long finishMicros) {
+        manager.finishSpan(this, finishMicros);
+    }
+
     public void log(Map<String, Object> fields) {
         manager.log(this, fields);
     }
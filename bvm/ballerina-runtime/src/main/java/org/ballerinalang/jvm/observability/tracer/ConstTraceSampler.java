@@ -0,0 +1,50 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.jvm.observability.tracer;
+
+/**
+ * {@link TraceSampler} which makes the same decision for all traces. All traces are sampled unless the sampler
+ * parameter is zero.
+ *
+ * @since 2.0.0
+ */
+public class ConstTraceSampler implements TraceSampler {
+
+    static final String NAME = "const";
+
+    private final boolean sampled;
+
+    public ConstTraceSampler(boolean sampled) {
+        this.sampled = sampled;
+    }
+
+    @Override
+    public void init() {
+    }
+
+    @Override
+    public boolean isSampled(String serviceName, String operationName) {
+        return sampled;
+    }
+
+    @Override
+    public String getName() {
+        return NAME;
+    }
+}
@@ -0,0 +1,54 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.jvm.observability.tracer;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * {@link TraceSampler} which samples traces randomly, with the probability given by the sampler parameter.
+ *
+ * @since 2.0.0
+ */
+public class ProbabilisticTraceSampler implements TraceSampler {
+
+    static final String NAME = "probabilistic";
+
+    private final double samplingRate;
+
+    public ProbabilisticTraceSampler(double samplingRate) {
+        if (samplingRate < 0 || samplingRate > 1) {
+            throw new IllegalArgumentException("sampling rate must be between 0.0 and 1.0, found " + samplingRate);
+        }
+        this.samplingRate = samplingRate;
+    }
+
+    @Override
+    public void init() {
+    }
+
+    @Override
+    public boolean isSampled(String serviceName, String operationName) {
+        return ThreadLocalRandom.current().nextDouble() < samplingRate;
+    }
+
+    @Override
+    public String getName() {
+        return NAME;
+    }
+}
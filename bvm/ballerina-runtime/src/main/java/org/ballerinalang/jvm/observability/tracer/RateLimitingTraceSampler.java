@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.jvm.observability.tracer;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * {@link TraceSampler} which samples up to the number of traces per second given by the sampler parameter. The
+ * traces are sampled with credits which are accumulated at that rate, up to the credits of one second.
+ *
+ * @since 2.0.0
+ */
+public class RateLimitingTraceSampler implements TraceSampler {
+
+    static final String NAME = "ratelimiting";
+
+    private static final double NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    private final double creditsPerNanosecond;
+    private final double maxBalance;
+    private final LongSupplier nanoClock;
+    private double balance;
+    private long lastTick;
+
+    public RateLimitingTraceSampler(double tracesPerSecond) {
+        this(tracesPerSecond, System::nanoTime);
+    }
+
+    /**
+     * Create a sampler which measures time with the given clock.
+     *
+     * @param tracesPerSecond the number of traces sampled per second
+     * @param nanoClock       the clock which returns the current time in nanoseconds
+     */
+    public RateLimitingTraceSampler(double tracesPerSecond, LongSupplier nanoClock) {
+        if (tracesPerSecond < 0) {
+            throw new IllegalArgumentException("traces per second must not be negative, found " + tracesPerSecond);
+        }
+        this.creditsPerNanosecond = tracesPerSecond / NANOS_PER_SECOND;
+        this.maxBalance = Math.max(tracesPerSecond, 1);
+        this.nanoClock = nanoClock;
+        this.balance = tracesPerSecond > 0 ? maxBalance : 0;
+        this.lastTick = nanoClock.getAsLong();
+    }
+
+    @Override
+    public void init() {
+    }
+
+    @Override
+    public synchronized boolean isSampled(String serviceName, String operationName) {
+        long currentTick = nanoClock.getAsLong();
+        balance = Math.min(maxBalance, balance + (currentTick - lastTick) * creditsPerNanosecond);
+        lastTick = currentTick;
+        if (balance >= 1) {
+            balance -= 1;
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public String getName() {
+        return NAME;
+    }
+}
@@ -0,0 +1,195 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.jvm.observability.tracer;
+
+import org.ballerinalang.jvm.observability.ObserverContext;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The sampling decision of a trace, which is shared by the observer contexts of the spans of the trace.
+ * <p>
+ * A trace is either sampled, whose spans are reported when they are finished, or dropped, whose spans are never
+ * created. When tail sampling is enabled, a trace which is not sampled is deferred instead. The spans of a deferred
+ * trace are created, but they are only reported if the trace turns out to be slow or to have an error when its first
+ * span is finished. As a deferred trace is reported after its spans are finished, its spans are timed with the clock
+ * of the trace.
+ *
+ * @since 2.0.0
+ */
+public class SampledTrace {
+
+    static final SampledTrace SAMPLED = new SampledTrace(State.SAMPLED);
+    static final SampledTrace DROPPED = new SampledTrace(State.DROPPED);
+
+    private final ObserverContext rootContext;
+    private final boolean deferred;
+    private final long startNanos;
+    private final long startMicros;
+    private final long latencyThresholdNanos;
+    private final int maxSpans;
+    private volatile State state;
+    private volatile boolean error;
+    private List<DeferredSpan> deferredSpans;
+
+    private SampledTrace(State state) {
+        this.rootContext = null;
+        this.deferred = false;
+        this.startNanos = 0;
+        this.startMicros = 0;
+        this.latencyThresholdNanos = 0;
+        this.maxSpans = 0;
+        this.state = state;
+    }
+
+    SampledTrace(ObserverContext rootContext, long latencyThresholdNanos, int maxSpans) {
+        this.rootContext = rootContext;
+        this.deferred = true;
+        this.startNanos = System.nanoTime();
+        this.startMicros = TimeUnit.MILLISECONDS.toMicros(System.currentTimeMillis());
+        this.latencyThresholdNanos = latencyThresholdNanos;
+        this.maxSpans = maxSpans;
+        this.state = State.DEFERRED;
+        this.deferredSpans = new ArrayList<>();
+    }
+
+    /**
+     * Checks whether a span of this trace should be created, and counts the span as dropped if it should not.
+     *
+     * @return true if the span should be created
+     */
+    public boolean shouldRecordSpan() {
+        if (state == State.DROPPED) {
+            TraceSampling.getInstance().reportDroppedSpans(1);
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Checks whether the spans of this trace are timed with the clock of the trace.
+     *
+     * @return true if the trace was deferred
+     */
+    public boolean isDeferred() {
+        return deferred;
+    }
+
+    /**
+     * Returns the current time of the clock of the trace.
+     *
+     * @return the current time in microseconds since the epoch
+     */
+    public long currentTimeMicros() {
+        return startMicros + TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - startNanos);
+    }
+
+    /**
+     * Marks that a span of this trace has an error, so that the trace is reported if it was deferred.
+     */
+    public void markError() {
+        error = true;
+    }
+
+    /**
+     * Finishes a span of this trace. The span of a deferred trace is kept until the trace is completed.
+     *
+     * @param span the span to be finished
+     */
+    public void finishSpan(BSpan span) {
+        if (!deferred) {
+            span.finishSpan();
+            TraceSampling.getInstance().reportSampledSpans(1);
+            return;
+        }
+        long finishMicros = currentTimeMicros();
+        synchronized (this) {
+            if (state == State.DEFERRED) {
+                if (deferredSpans.size() < maxSpans) {
+                    deferredSpans.add(new DeferredSpan(span, finishMicros));
+                } else {
+                    TraceSampling.getInstance().reportDroppedSpans(1);
+                }
+                return;
+            }
+        }
+        // Spans which are finished after the trace is completed follow the decision of the trace
+        if (state == State.SAMPLED) {
+            span.finishSpan(finishMicros);
+            TraceSampling.getInstance().reportSampledSpans(1);
+        } else {
+            TraceSampling.getInstance().reportDroppedSpans(1);
+        }
+    }
+
+    /**
+     * Completes a deferred trace when its first span is finished, which reports the spans of the trace if the trace
+     * is slow or has an error, or drops them otherwise.
+     *
+     * @param observerContext the observer context of the span which is finished
+     */
+    public void complete(ObserverContext observerContext) {
+        if (!deferred || observerContext != rootContext) {
+            return;
+        }
+        List<DeferredSpan> spans;
+        boolean reported;
+        synchronized (this) {
+            if (state != State.DEFERRED) {
+                return;
+            }
+            reported = error || System.nanoTime() - startNanos >= latencyThresholdNanos;
+            state = reported ? State.SAMPLED : State.DROPPED;
+            spans = deferredSpans;
+            deferredSpans = null;
+        }
+        if (reported) {
+            for (DeferredSpan deferredSpan : spans) {
+                deferredSpan.span.finishSpan(deferredSpan.finishMicros);
+            }
+            TraceSampling.getInstance().reportSampledSpans(spans.size());
+        } else {
+            TraceSampling.getInstance().reportDroppedSpans(spans.size());
+        }
+    }
+
+    /**
+     * The state of the sampling decision of a trace.
+     */
+    private enum State {
+        SAMPLED,
+        DEFERRED,
+        DROPPED
+    }
+
+    /**
+     * A finished span of a deferred trace, which is not reported yet.
+     */
+    private static class DeferredSpan {
+        private final BSpan span;
+        private final long finishMicros;
+
+        DeferredSpan(BSpan span, long finishMicros) {
+            this.span = span;
+            this.finishMicros = finishMicros;
+        }
+    }
+}
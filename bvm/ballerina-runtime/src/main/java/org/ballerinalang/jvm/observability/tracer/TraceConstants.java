@@ -33,6 +33,7 @@ public class TraceConstants {
     static final String DEFAULT_SERVICE_NAME = "BallerinaService";
     static final String DEFAULT_OPERATION_NAME = "BallerinaOperation";
     public static final String KEY_SPAN = "_span_";
+    public static final String KEY_TRACE = "_trace_";
 
     public static final String TAG_KEY_SPAN_KIND = "span.kind";
 
@@ -52,4 +53,14 @@ public class TraceConstants {
     public static final String JAEGER = "jaeger";
     public static final String TRACER_NAME_CONFIG = CONFIG_TABLE_TRACING + ".name";
 
+    public static final String SAMPLER_TYPE_CONFIG = CONFIG_TABLE_TRACING + ".sampler.type";
+    public static final String SAMPLER_PARAM_CONFIG = CONFIG_TABLE_TRACING + ".sampler.param";
+    public static final String TAIL_SAMPLING_ENABLED_CONFIG = CONFIG_TABLE_TRACING + ".sampler.tail.enabled";
+    public static final String TAIL_SAMPLING_LATENCY_CONFIG = CONFIG_TABLE_TRACING + ".sampler.tail.latency";
+    public static final String TAIL_SAMPLING_MAX_SPANS_CONFIG = CONFIG_TABLE_TRACING + ".sampler.tail.maxSpans";
+    static final String DEFAULT_SAMPLER_TYPE = ConstTraceSampler.NAME;
+    static final double DEFAULT_SAMPLER_PARAM = 1;
+    static final long DEFAULT_TAIL_SAMPLING_LATENCY_MILLIS = 1000;
+    static final int DEFAULT_TAIL_SAMPLING_MAX_SPANS = 1000;
+
 }
@@ -47,16 +47,28 @@ public class TraceManager {
     }
 
     public void startSpan(BSpan parentBSpan, BSpan activeBSpan) {
+        startSpan(parentBSpan, activeBSpan, 0);
+    }
+
+    /**
+     * Starts the span of an active {@link BSpan} at the given time.
+     *
+     * @param parentBSpan the parent span, or null if the span is the first span of the service
+     * @param activeBSpan the span to be started
+     * @param startMicros the start time in microseconds since the epoch, or 0 to start the span now
+     */
+    public void startSpan(BSpan parentBSpan, BSpan activeBSpan, long startMicros) {
         if (activeBSpan != null) {
             String service = activeBSpan.getServiceName();
             String operationName = activeBSpan.getOperationName();
 
             Span span;
             if (parentBSpan != null) {
-                span = startSpan(operationName, parentBSpan.getSpan(), activeBSpan.getTags(), service, false);
+                span = startSpan(operationName, parentBSpan.getSpan(), activeBSpan.getTags(), service, false,
+                        startMicros);
             } else {
                 span = startSpan(operationName, extractSpanContext(activeBSpan.getProperties(), service),
-                        activeBSpan.getTags(), service, true);
+                        activeBSpan.getTags(), service, true, startMicros);
             }
 
             activeBSpan.setSpan(span);
@@ -67,6 +79,10 @@ public class TraceManager {
         bSpan.getSpan().finish();
     }
 
+    public void finishSpan(BSpan bSpan, long finishMicros) {
+        bSpan.getSpan().finish(finishMicros);
+    }
+
     public void log(BSpan bSpan, Map<String, Object> fields) {
         bSpan.getSpan().log(fields);
     }
@@ -85,8 +101,19 @@ public class TraceManager {
         return carrierMap;
     }
 
+    /**
+     * Checks whether a trace context is propagated from the caller of a service.
+     *
+     * @param traceContext the properties received from the caller
+     * @param serviceName  name of the service
+     * @return true if the properties hold the context of a span of the caller
+     */
+    public boolean hasTraceContext(Map<String, String> traceContext, String serviceName) {
+        return extractSpanContext(traceContext, serviceName) != null;
+    }
+
     private Span startSpan(String spanName, Object spanContextMap,
-                           Map<String, String> tags, String serviceName, boolean isParent) {
+                           Map<String, String> tags, String serviceName, boolean isParent, long startMicros) {
         Tracer tracer = tracerStore.getTracer(serviceName);
         Tracer.SpanBuilder spanBuilder = tracer.buildSpan(spanName);
 
@@ -101,6 +128,9 @@ public class TraceManager {
                 spanBuilder = spanBuilder.asChildOf((Span) spanContextMap);
             }
         }
+        if (startMicros > 0) {
+            spanBuilder = spanBuilder.withStartTimestamp(startMicros);
+        }
         return spanBuilder.start();
     }
 
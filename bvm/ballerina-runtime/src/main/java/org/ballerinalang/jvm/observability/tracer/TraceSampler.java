@@ -0,0 +1,52 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.jvm.observability.tracer;
+
+/**
+ * This represents the Java SPI interface of the samplers which decide whether a trace is recorded. The decision is
+ * made when the first span of the trace is started, before the span is created, and the other spans of the trace
+ * follow it.
+ *
+ * @since 2.0.0
+ */
+public interface TraceSampler {
+
+    /**
+     * Initializes the sampler with configurations.
+     *
+     * @throws InvalidConfigurationException if the configurations are invalid.
+     */
+    void init() throws InvalidConfigurationException;
+
+    /**
+     * Decides whether a trace is recorded.
+     *
+     * @param serviceName name of the service of the first span of the trace
+     * @param operationName name of the operation of the first span of the trace
+     * @return true if the trace is recorded
+     */
+    boolean isSampled(String serviceName, String operationName);
+
+    /**
+     * Returns the name of the sampler. This will be used when loading the sampler by name.
+     *
+     * @return sampler name.
+     */
+    String getName();
+}
@@ -0,0 +1,163 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.jvm.observability.tracer;
+
+import org.ballerinalang.config.ConfigRegistry;
+import org.ballerinalang.jvm.observability.ObserverContext;
+import org.ballerinalang.jvm.observability.metrics.Counter;
+
+import java.io.PrintStream;
+import java.util.ServiceLoader;
+import java.util.concurrent.TimeUnit;
+
+import static org.ballerinalang.jvm.observability.tracer.TraceConstants.DEFAULT_SAMPLER_PARAM;
+import static org.ballerinalang.jvm.observability.tracer.TraceConstants.DEFAULT_SAMPLER_TYPE;
+import static org.ballerinalang.jvm.observability.tracer.TraceConstants.DEFAULT_TAIL_SAMPLING_LATENCY_MILLIS;
+import static org.ballerinalang.jvm.observability.tracer.TraceConstants.DEFAULT_TAIL_SAMPLING_MAX_SPANS;
+import static org.ballerinalang.jvm.observability.tracer.TraceConstants.SAMPLER_PARAM_CONFIG;
+import static org.ballerinalang.jvm.observability.tracer.TraceConstants.SAMPLER_TYPE_CONFIG;
+import static org.ballerinalang.jvm.observability.tracer.TraceConstants.TAIL_SAMPLING_ENABLED_CONFIG;
+import static org.ballerinalang.jvm.observability.tracer.TraceConstants.TAIL_SAMPLING_LATENCY_CONFIG;
+import static org.ballerinalang.jvm.observability.tracer.TraceConstants.TAIL_SAMPLING_MAX_SPANS_CONFIG;
+
+/**
+ * {@link TraceSampling} holds the configured {@link TraceSampler}, which decides whether the traces started in the
+ * runtime are recorded, and counts the spans which are sampled and dropped when metrics are enabled.
+ * <p>
+ * The sampler is chosen by the {@code sampler.type} configuration of tracing, which is one of the built-in
+ * {@code const}, {@code probabilistic} and {@code ratelimiting} samplers, or the name of a {@link TraceSampler}
+ * loaded with the Java SPI. All traces are sampled by default.
+ *
+ * @since 2.0.0
+ */
+public class TraceSampling {
+
+    private static final PrintStream consoleError = System.err;
+    private static final TraceSampling instance = new TraceSampling();
+
+    private volatile Counter sampledSpans;
+    private volatile Counter droppedSpans;
+    private volatile TraceSampler sampler = new ConstTraceSampler(true);
+    private volatile boolean tailSamplingEnabled;
+    private volatile long tailSamplingLatencyNanos;
+    private volatile int tailSamplingMaxSpans;
+
+    private TraceSampling() {
+    }
+
+    public static TraceSampling getInstance() {
+        return instance;
+    }
+
+    /**
+     * Loads the sampler and the tail sampling configurations.
+     */
+    public void loadSampler() {
+        ConfigRegistry configRegistry = ConfigRegistry.getInstance();
+        String samplerType = configRegistry.getConfigOrDefault(SAMPLER_TYPE_CONFIG, DEFAULT_SAMPLER_TYPE);
+        try {
+            double samplerParam = Double.parseDouble(configRegistry.getConfigOrDefault(SAMPLER_PARAM_CONFIG,
+                    String.valueOf(DEFAULT_SAMPLER_PARAM)));
+            TraceSampler traceSampler = createSampler(samplerType, samplerParam);
+            traceSampler.init();
+            long latencyMillis = Long.parseLong(configRegistry.getConfigOrDefault(TAIL_SAMPLING_LATENCY_CONFIG,
+                    String.valueOf(DEFAULT_TAIL_SAMPLING_LATENCY_MILLIS)));
+            int maxSpans = Integer.parseInt(configRegistry.getConfigOrDefault(TAIL_SAMPLING_MAX_SPANS_CONFIG,
+                    String.valueOf(DEFAULT_TAIL_SAMPLING_MAX_SPANS)));
+            tailSamplingLatencyNanos = TimeUnit.MILLISECONDS.toNanos(latencyMillis);
+            tailSamplingMaxSpans = maxSpans;
+            tailSamplingEnabled = configRegistry.getAsBoolean(TAIL_SAMPLING_ENABLED_CONFIG);
+            sampler = traceSampler;
+        } catch (IllegalArgumentException | InvalidConfigurationException e) {
+            consoleError.println("error: error in observability tracing sampler configurations: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Sets the sampler which decides whether traces are recorded.
+     *
+     * @param sampler the sampler
+     */
+    public void setSampler(TraceSampler sampler) {
+        this.sampler = sampler;
+    }
+
+    /**
+     * Decides whether a trace, which starts with the span of the given observer context, is recorded.
+     *
+     * @param rootContext the observer context of the first span of the trace
+     * @param serviceName name of the service of the first span
+     * @param operationName name of the operation of the first span
+     * @param propagated true if the trace is continued from a caller which already sampled it
+     * @return the sampling decision of the trace
+     */
+    public SampledTrace startTrace(ObserverContext rootContext, String serviceName, String operationName,
+                                   boolean propagated) {
+        if (propagated || sampler.isSampled(serviceName, operationName)) {
+            return SampledTrace.SAMPLED;
+        }
+        if (tailSamplingEnabled) {
+            return new SampledTrace(rootContext, tailSamplingLatencyNanos, tailSamplingMaxSpans);
+        }
+        return SampledTrace.DROPPED;
+    }
+
+    /**
+     * Registers the counters of the spans which are reported, and the spans which are not created or not reported.
+     */
+    public void registerMetrics() {
+        final String prefix = "ballerina_tracing_";
+        sampledSpans = Counter.builder(prefix + "sampled_spans")
+                .description("Number of spans which are reported").register();
+        droppedSpans = Counter.builder(prefix + "dropped_spans")
+                .description("Number of spans which are dropped by the tracing sampler").register();
+    }
+
+    void reportSampledSpans(int count) {
+        Counter counter = sampledSpans;
+        if (counter != null) {
+            counter.increment(count);
+        }
+    }
+
+    void reportDroppedSpans(int count) {
+        Counter counter = droppedSpans;
+        if (counter != null) {
+            counter.increment(count);
+        }
+    }
+
+    private static TraceSampler createSampler(String samplerType, double samplerParam) {
+        switch (samplerType.toLowerCase()) {
+            case ConstTraceSampler.NAME:
+                return new ConstTraceSampler(samplerParam != 0);
+            case ProbabilisticTraceSampler.NAME:
+                return new ProbabilisticTraceSampler(samplerParam);
+            case RateLimitingTraceSampler.NAME:
+                return new RateLimitingTraceSampler(samplerParam);
+            default:
+                for (TraceSampler traceSampler : ServiceLoader.load(TraceSampler.class)) {
+                    if (samplerType.equalsIgnoreCase(traceSampler.getName())) {
+                        return traceSampler;
+                    }
+                }
+                throw new IllegalArgumentException("no tracing sampler found for name " + samplerType);
+        }
+    }
+}
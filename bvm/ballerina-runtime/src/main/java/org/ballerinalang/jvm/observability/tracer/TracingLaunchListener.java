@@ -35,6 +35,10 @@ public class TracingLaunchListener implements LaunchListener {
             if (configRegistry.getAsBoolean(CONFIG_TRACING_ENABLED)) {
                 ObserveUtils.addObserver(new BallerinaTracingObserver());
                 TracersStore.getInstance().loadTracers();
+                TraceSampling.getInstance().loadSampler();
+                if (ObserveUtils.isMetricsEnabled()) {
+                    TraceSampling.getInstance().registerMetrics();
+                }
             }
         }
     }
@@ -0,0 +1,195 @@
+/*
+ * Copyright (c) 2019, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.jvm.scheduling;
+
+import org.ballerinalang.jvm.BallerinaErrors;
+import org.ballerinalang.jvm.util.BLangConstants;
+import org.ballerinalang.jvm.util.RuntimeUtils;
+import org.ballerinalang.jvm.values.ErrorValue;
+
+import java.io.PrintStream;
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Runs blocking extern calls away from the strand executor threads, so a slow call does not hold one of the fixed
+ * number of {@link Scheduler} threads. The calling strand is marked as blocked on extern and yields; it is unblocked
+ * with the call result once the call completes.
+ * <p>
+ * Disabled by default, in which case calls run inline on the strand thread. It is enabled by setting the
+ * BALLERINA_BLOCKING_EXECUTION environment variable to
+ * <ul>
+ * <li>virtual - run each call on a JDK virtual thread, falling back to the elastic pool if the JDK does not support
+ * virtual threads</li>
+ * <li>elastic - run calls on an unbounded pool of platform threads which are released after being idle</li>
+ * </ul>
+ *
+ * @since 2.0.0
+ */
+public class BlockingCallExecutor {
+
+    private static final PrintStream errStream = System.err;
+    private static final String THREAD_NAME_PREFIX = "jbal-blocking-exec-";
+    private static final long ELASTIC_KEEP_ALIVE_SECONDS = 60;
+
+    private static final BlockingCallExecutor INSTANCE =
+            new BlockingCallExecutor(System.getenv(BLangConstants.BALLERINA_BLOCKING_EXECUTION_ENV_VAR));
+
+    private final boolean enabled;
+    private final ThreadFactory virtualThreadFactory;
+    private final ExecutorService elasticPool;
+
+    private final AtomicInteger activeCalls = new AtomicInteger();
+    private final AtomicInteger pinnedThreads = new AtomicInteger();
+    private final AtomicLong completedCalls = new AtomicLong();
+
+    BlockingCallExecutor(String mode) {
+        if (BLangConstants.BLOCKING_EXECUTION_VIRTUAL.equalsIgnoreCase(mode)) {
+            this.enabled = true;
+            this.virtualThreadFactory = createVirtualThreadFactory();
+        } else if (BLangConstants.BLOCKING_EXECUTION_ELASTIC.equalsIgnoreCase(mode)) {
+            this.enabled = true;
+            this.virtualThreadFactory = null;
+        } else {
+            if (mode != null) {
+                errStream.println("ballerina: unknown blocking execution mode '" + mode + "' in " +
+                        BLangConstants.BALLERINA_BLOCKING_EXECUTION_ENV_VAR + ", blocking calls will run inline");
+            }
+            this.enabled = false;
+            this.virtualThreadFactory = null;
+        }
+        this.elasticPool = enabled && virtualThreadFactory == null ? createElasticPool() : null;
+    }
+
+    public static BlockingCallExecutor getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Executes the given blocking call on behalf of the strand. If blocking call execution is disabled, the call
+     * runs inline and its result is returned. Otherwise the strand is blocked, the call is dispatched and null is
+     * returned; the call result becomes the return value of the extern function when the strand resumes.
+     *
+     * @param strand strand which makes the extern call
+     * @param call   blocking call to be executed
+     * @return result of the call if executed inline, null otherwise
+     */
+    public Object execute(Strand strand, Supplier<Object> call) {
+        if (!enabled) {
+            return call.get();
+        }
+
+        strand.blockedOnExtern = true;
+        strand.setState(State.BLOCK_AND_YIELD);
+        strand.returnValue = null;
+        activeCalls.incrementAndGet();
+        if (virtualThreadFactory != null) {
+            virtualThreadFactory.newThread(() -> complete(strand, call)).start();
+        } else {
+            elasticPool.execute(() -> {
+                pinnedThreads.incrementAndGet();
+                try {
+                    complete(strand, call);
+                } finally {
+                    pinnedThreads.decrementAndGet();
+                }
+            });
+        }
+        return null;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public boolean isUsingVirtualThreads() {
+        return virtualThreadFactory != null;
+    }
+
+    /**
+     * @return number of blocking calls which are currently executing
+     */
+    public int getActiveCallCount() {
+        return activeCalls.get();
+    }
+
+    /**
+     * @return number of platform threads currently held by a blocking call. Always zero when calls run on virtual
+     * threads, since a blocked virtual thread releases its carrier.
+     */
+    public int getPinnedThreadCount() {
+        return pinnedThreads.get();
+    }
+
+    /**
+     * @return number of blocking calls completed so far
+     */
+    public long getCompletedCallCount() {
+        return completedCalls.get();
+    }
+
+    private void complete(Strand strand, Supplier<Object> call) {
+        try {
+            strand.returnValue = call.get();
+        } catch (Throwable t) {
+            strand.panic = createPanic(t);
+        } finally {
+            activeCalls.decrementAndGet();
+            completedCalls.incrementAndGet();
+        }
+        strand.scheduler.unblockStrand(strand);
+    }
+
+    private static ErrorValue createPanic(Throwable t) {
+        if (t instanceof ErrorValue) {
+            return (ErrorValue) t;
+        }
+        RuntimeUtils.printCrashLog(t);
+        String message = t.getMessage();
+        return BallerinaErrors.createError(message != null ? message : t.getClass().getName());
+    }
+
+    private static ThreadFactory createVirtualThreadFactory() {
+        try {
+            Method ofVirtual = Thread.class.getMethod("ofVirtual");
+            Object builder = ofVirtual.invoke(null);
+            Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+            builder = builderClass.getMethod("name", String.class, long.class).invoke(builder, THREAD_NAME_PREFIX, 0L);
+            return (ThreadFactory) builderClass.getMethod("factory").invoke(builder);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            // Virtual threads are not available in this JDK, fall back to the elastic pool.
+            return null;
+        }
+    }
+
+    private static ExecutorService createElasticPool() {
+        AtomicInteger threadCount = new AtomicInteger();
+        return new ThreadPoolExecutor(0, Integer.MAX_VALUE, ELASTIC_KEEP_ALIVE_SECONDS, TimeUnit.SECONDS,
+                new SynchronousQueue<>(), runnable -> {
+                    Thread thread = new Thread(runnable, THREAD_NAME_PREFIX + threadCount.getAndIncrement());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+}
@@ -32,8 +32,6 @@ import java.io.PrintStream;
 import java.util.Map;
 import java.util.Set;
 import java.util.Stack;
-import java.util.concurrent.BlockingQueue;
-import java.util.concurrent.LinkedBlockingDeque;
 import java.util.concurrent.Semaphore;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -58,7 +56,7 @@ public class Scheduler {
     /**
      * Strands that are ready for execution.
      */
-    private BlockingQueue<ItemGroup> runnableList = new LinkedBlockingDeque<>();
+    private final RunnableQueue runnableList;
 
     private static final ThreadLocal<StrandHolder> strandHolder = ThreadLocal.withInitial(StrandHolder::new);
 
@@ -66,6 +64,8 @@ public class Scheduler {
 
     private static String poolSizeConf = System.getenv(BLangConstants.BALLERINA_MAX_POOL_SIZE_ENV_VAR);
 
+    private static String policyConf = System.getenv(BLangConstants.BALLERINA_SCHEDULER_POLICY_ENV_VAR);
+
     /**
      * This can be changed by setting the BALLERINA_MAX_POOL_SIZE system variable.
      * Default is 100.
@@ -88,11 +88,36 @@ public class Scheduler {
         }
         this.numThreads = poolSize;
         this.immortal = immortal;
+        this.runnableList = createRunnableQueue(poolSize, isWorkStealingConfigured());
     }
 
     public Scheduler(int numThreads, boolean immortal) {
+        this(numThreads, immortal, isWorkStealingConfigured());
+    }
+
+    /**
+     * Creates a scheduler with an explicit scheduling policy.
+     *
+     * @param numThreads   number of strand executor threads
+     * @param immortal     whether the scheduler should keep running after all strands are done
+     * @param workStealing if true each executor thread keeps its own run queue and steals from others when idle,
+     *                     otherwise all the threads share a single run queue
+     */
+    public Scheduler(int numThreads, boolean immortal, boolean workStealing) {
         this.numThreads = numThreads;
         this.immortal = immortal;
+        this.runnableList = createRunnableQueue(numThreads, workStealing);
+    }
+
+    private static boolean isWorkStealingConfigured() {
+        return BLangConstants.SCHEDULER_POLICY_WORK_STEALING.equalsIgnoreCase(policyConf);
+    }
+
+    private static RunnableQueue createRunnableQueue(int numThreads, boolean workStealing) {
+        if (workStealing) {
+            return new WorkStealingRunnableQueue(numThreads);
+        }
+        return new SharedRunnableQueue();
     }
 
     public static Strand getStrand() {
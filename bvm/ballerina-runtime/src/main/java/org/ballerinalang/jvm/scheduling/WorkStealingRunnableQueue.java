@@ -0,0 +1,153 @@
+/*
+ * Copyright (c) 2019, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.jvm.scheduling;
+
+import java.util.Deque;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Work-stealing runnable queue. Each strand executor thread owns a deque. Groups scheduled from an executor thread
+ * are pushed to the head of its own deque and popped in LIFO order by the owner, so strands spawned by the current
+ * strand run on the same thread while their data is still hot. Idle threads steal from the tail of other deques
+ * (FIFO). Groups scheduled from non executor threads go to a shared injection queue.
+ *
+ * @since 2.0.0
+ */
+class WorkStealingRunnableQueue implements RunnableQueue {
+
+    private static final int NOT_A_WORKER = -1;
+
+    private final Deque<ItemGroup>[] workerQueues;
+    private final Deque<ItemGroup> injectionQueue = new ConcurrentLinkedDeque<>();
+    private final AtomicInteger registeredWorkers = new AtomicInteger();
+    private final ThreadLocal<Integer> workerIndex = ThreadLocal.withInitial(() -> NOT_A_WORKER);
+
+    /**
+     * Number of groups available in all the queues. Updated after a group is made visible in a queue and after a
+     * group is removed from a queue, hence may become negative momentarily.
+     */
+    private final AtomicInteger available = new AtomicInteger();
+
+    private final ReentrantLock idleLock = new ReentrantLock();
+    private final Condition workAvailable = idleLock.newCondition();
+    private volatile int idleWorkers = 0;
+
+    @SuppressWarnings("unchecked")
+    WorkStealingRunnableQueue(int numThreads) {
+        this.workerQueues = new Deque[numThreads];
+        for (int i = 0; i < numThreads; i++) {
+            this.workerQueues[i] = new ConcurrentLinkedDeque<>();
+        }
+    }
+
+    @Override
+    public void add(ItemGroup group) {
+        int index = workerIndex.get();
+        if (index == NOT_A_WORKER) {
+            injectionQueue.offerLast(group);
+        } else {
+            workerQueues[index].offerFirst(group);
+        }
+        available.incrementAndGet();
+        if (idleWorkers > 0) {
+            idleLock.lock();
+            try {
+                workAvailable.signal();
+            } finally {
+                idleLock.unlock();
+            }
+        }
+    }
+
+    @Override
+    public ItemGroup take() throws InterruptedException {
+        int index = getOrRegisterWorker();
+        while (true) {
+            ItemGroup group = poll(index);
+            if (group != null) {
+                available.decrementAndGet();
+                return group;
+            }
+            awaitWork();
+        }
+    }
+
+    @Override
+    public int size() {
+        return Math.max(available.get(), 0);
+    }
+
+    private int getOrRegisterWorker() {
+        int index = workerIndex.get();
+        if (index == NOT_A_WORKER) {
+            index = registeredWorkers.getAndIncrement();
+            if (index >= workerQueues.length) {
+                // More threads than expected are taking from this queue, let them work through stealing only.
+                index = ThreadLocalRandom.current().nextInt(workerQueues.length);
+            }
+            workerIndex.set(index);
+        }
+        return index;
+    }
+
+    private ItemGroup poll(int index) {
+        ItemGroup group = workerQueues[index].pollFirst();
+        if (group != null) {
+            return group;
+        }
+
+        group = injectionQueue.pollFirst();
+        if (group != null) {
+            return group;
+        }
+
+        int queueCount = workerQueues.length;
+        int victim = ThreadLocalRandom.current().nextInt(queueCount);
+        for (int i = 0; i < queueCount; i++, victim = (victim + 1) % queueCount) {
+            if (victim == index) {
+                continue;
+            }
+            group = workerQueues[victim].pollLast();
+            if (group != null) {
+                return group;
+            }
+        }
+        return null;
+    }
+
+    private void awaitWork() throws InterruptedException {
+        idleLock.lock();
+        try {
+            idleWorkers++;
+            try {
+                // A producer increments 'available' before reading 'idleWorkers', and we increment 'idleWorkers'
+                // before reading 'available', so at least one side observes the other and no wake up is lost.
+                while (available.get() <= 0) {
+                    workAvailable.await();
+                }
+            } finally {
+                idleWorkers--;
+            }
+        } finally {
+            idleLock.unlock();
+        }
+    }
+}
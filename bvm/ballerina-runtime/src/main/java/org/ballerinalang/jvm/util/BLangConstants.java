@@ -93,6 +93,11 @@ public class BLangConstants {
     public static final String BALLERINA_RUNTIME_PKG = BALLERINA_PACKAGE_PREFIX + "runtime";
     public static final String BALLERINA_LANG_ERROR_PKG = BALLERINA_PACKAGE_PREFIX + "lang_error";
     public static final String BALLERINA_MAX_POOL_SIZE_ENV_VAR = "BALLERINA_MAX_POOL_SIZE";
+    public static final String BALLERINA_SCHEDULER_POLICY_ENV_VAR = "BALLERINA_SCHEDULER_POLICY";
+    public static final String SCHEDULER_POLICY_WORK_STEALING = "work-stealing";
+    public static final String BALLERINA_BLOCKING_EXECUTION_ENV_VAR = "BALLERINA_BLOCKING_EXECUTION";
+    public static final String BLOCKING_EXECUTION_VIRTUAL = "virtual";
+    public static final String BLOCKING_EXECUTION_ELASTIC = "elastic";
 
     public static final BPackage BALLERINA_BUILTIN_PKG_ID = new BPackage(BALLERINA_BUILTIN_PKG_PREFIX, "builtin");
     public static final BPackage BALLERINA_RUNTIME_PKG_ID = new BPackage(BALLERINA_BUILTIN_PKG_PREFIX,
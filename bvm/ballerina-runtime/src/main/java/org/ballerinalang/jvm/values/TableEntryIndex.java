@@ -0,0 +1,480 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.jvm.values;
+
+import org.ballerinalang.jvm.TableUtils;
+import org.ballerinalang.jvm.TypeChecker;
+import org.ballerinalang.jvm.values.api.BString;
+
+import java.util.AbstractCollection;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * Insertion ordered storage of the rows of a table, with an open addressing hash index on the table key.
+ * <p>
+ * Rows are appended to parallel key and value arrays, so iteration follows insertion order and a row which is
+ * replaced keeps its position. The index maps a key to the position of its row using linear probing, and compares
+ * keys for equality after a hash match, so keys with colliding hashes are stored separately. {@code int} and
+ * {@code string} keys are hashed and compared without going through the generic shape based hash and equality.
+ * <p>
+ * Secondary indexes on fields of the rows, if any, are kept in sync with the rows as they are added, replaced and
+ * removed.
+ * <p>
+ * The positions of removed rows are reclaimed by moving the rows which follow them, so iterators keep a
+ * {@link Cursor}, which follows the rows as they move, instead of a position.
+ *
+ * @param <K> the type of the table keys
+ * @param <V> the type of the table rows
+ *
+ * @since 2.0.0
+ */
+class TableEntryIndex<K, V> {
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    // Slot values. Occupied slots hold the position of the row plus one.
+    private static final int EMPTY = 0;
+    private static final int DELETED = -1;
+
+    private Object[] keys = new Object[INITIAL_CAPACITY];
+    private Object[] values = new Object[INITIAL_CAPACITY];
+    private int[] hashes = new int[INITIAL_CAPACITY];
+
+    /**
+     * Number of used positions, including the positions of removed rows.
+     */
+    private int count;
+    private int size;
+
+    private int[] slots = new int[INITIAL_CAPACITY * 2];
+
+    /**
+     * Number of slots which are not {@link #EMPTY}.
+     */
+    private int usedSlots;
+
+    private final boolean keyed;
+
+    private List<TableSecondaryIndex> secondaryIndexes;
+
+    /**
+     * The next compaction of the positions, which cursors created from now on follow.
+     */
+    private Compaction nextCompaction = new Compaction();
+
+    TableEntryIndex(boolean keyed) {
+        this.keyed = keyed;
+    }
+
+    V get(Object key) {
+        int slot = findSlot(key, hash(key));
+        return slot < 0 ? null : (V) this.values[this.slots[slot] - 1];
+    }
+
+    boolean containsKey(Object key) {
+        return findSlot(key, hash(key)) >= 0;
+    }
+
+    /**
+     * Associates the row with the key, replacing the current row for the key if there is one.
+     *
+     * @param key   key of the row
+     * @param value the row
+     * @return the replaced row, or null if there was no row for the key
+     */
+    V put(K key, V value) {
+        int hash = hash(key);
+        int slot = findSlot(key, hash);
+        if (slot >= 0) {
+            int position = this.slots[slot] - 1;
+            V previous = (V) this.values[position];
+            this.values[position] = value;
+            if (this.secondaryIndexes != null) {
+                for (TableSecondaryIndex index : this.secondaryIndexes) {
+                    index.remove(previous, position);
+                    index.add(value, position);
+                }
+            }
+            return previous;
+        }
+
+        int position = append(key, value, hash);
+        insertSlot(hash, position);
+        return null;
+    }
+
+    /**
+     * Appends a row of a table without a key sequence. The row is not indexed.
+     *
+     * @param value the row
+     */
+    void add(V value) {
+        append(null, value, 0);
+    }
+
+    V remove(Object key) {
+        int slot = findSlot(key, hash(key));
+        if (slot < 0) {
+            return null;
+        }
+
+        int position = this.slots[slot] - 1;
+        V previous = (V) this.values[position];
+        if (this.secondaryIndexes != null) {
+            for (TableSecondaryIndex index : this.secondaryIndexes) {
+                index.remove(previous, position);
+            }
+        }
+        this.slots[slot] = DELETED;
+        this.keys[position] = null;
+        this.values[position] = null;
+        this.size--;
+        return previous;
+    }
+
+    void clear() {
+        // All the positions of the cursors move to the start.
+        completeCompaction(new int[this.count + 1]);
+        Arrays.fill(this.keys, 0, this.count, null);
+        Arrays.fill(this.values, 0, this.count, null);
+        Arrays.fill(this.slots, EMPTY);
+        this.count = 0;
+        this.size = 0;
+        this.usedSlots = 0;
+        if (this.secondaryIndexes != null) {
+            for (TableSecondaryIndex index : this.secondaryIndexes) {
+                index.clear();
+            }
+        }
+    }
+
+    int size() {
+        return this.size;
+    }
+
+    boolean isKeyed() {
+        return this.keyed;
+    }
+
+    /**
+     * Returns the first position at or after the given position which holds a row.
+     *
+     * @param position position to start from
+     * @return the position of the row, or -1 if there are no more rows
+     */
+    int nextPosition(int position) {
+        for (int i = position; i < this.count; i++) {
+            if (this.values[i] != null) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    K keyAt(int position) {
+        return (K) this.keys[position];
+    }
+
+    V valueAt(int position) {
+        return (V) this.values[position];
+    }
+
+    /**
+     * Adds a secondary index on a field of the rows, and populates it with the current rows.
+     *
+     * @param index the index
+     */
+    void addSecondaryIndex(TableSecondaryIndex index) {
+        index.rebuild(this);
+        if (this.secondaryIndexes == null) {
+            this.secondaryIndexes = new ArrayList<>(1);
+        }
+        this.secondaryIndexes.add(index);
+    }
+
+    /**
+     * Returns a secondary index on the field, preferring a sorted index if one is requested.
+     *
+     * @param fieldName name of the field
+     * @param sorted    whether a sorted index is preferred
+     * @return the index, or null if the field is not indexed
+     */
+    TableSecondaryIndex getSecondaryIndex(BString fieldName, boolean sorted) {
+        if (this.secondaryIndexes == null) {
+            return null;
+        }
+
+        TableSecondaryIndex match = null;
+        for (TableSecondaryIndex index : this.secondaryIndexes) {
+            if (!index.getFieldName().equals(fieldName)) {
+                continue;
+            }
+            if (index.isSorted() == sorted) {
+                return index;
+            }
+            match = index;
+        }
+        return match;
+    }
+
+    Object[] getKeys() {
+        Object[] liveKeys = new Object[this.size];
+        int index = 0;
+        for (int i = nextPosition(0); i >= 0; i = nextPosition(i + 1)) {
+            liveKeys[index++] = this.keys[i];
+        }
+        return liveKeys;
+    }
+
+    /**
+     * Returns a cursor at the first position, which stays before the same row when the positions are compacted.
+     *
+     * @return the cursor
+     */
+    Cursor cursor() {
+        return new Cursor();
+    }
+
+    /**
+     * Returns a view of the rows in insertion order.
+     *
+     * @return the rows
+     */
+    Collection<V> values() {
+        return new AbstractCollection<V>() {
+            @Override
+            public Iterator<V> iterator() {
+                return new Iterator<V>() {
+                    private final Cursor cursor = cursor();
+
+                    @Override
+                    public boolean hasNext() {
+                        return cursor.nextPosition() >= 0;
+                    }
+
+                    @Override
+                    public V next() {
+                        int position = cursor.nextPosition();
+                        if (position < 0) {
+                            throw new NoSuchElementException();
+                        }
+                        cursor.moveAfter(position);
+                        return valueAt(position);
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return size;
+            }
+        };
+    }
+
+    private int append(K key, V value, int hash) {
+        if (this.count == this.values.length) {
+            ensurePositionCapacity();
+        }
+
+        int position = this.count++;
+        this.keys[position] = key;
+        this.values[position] = value;
+        this.hashes[position] = hash;
+        this.size++;
+        if (this.secondaryIndexes != null) {
+            for (TableSecondaryIndex index : this.secondaryIndexes) {
+                index.add(value, position);
+            }
+        }
+        return position;
+    }
+
+    private void ensurePositionCapacity() {
+        if (this.size <= this.count / 2) {
+            // Reclaim the positions of removed rows instead of growing.
+            int[] newPositions = new int[this.count + 1];
+            int target = 0;
+            for (int i = 0; i < this.count; i++) {
+                newPositions[i] = target;
+                if (this.values[i] != null) {
+                    this.keys[target] = this.keys[i];
+                    this.values[target] = this.values[i];
+                    this.hashes[target] = this.hashes[i];
+                    target++;
+                }
+            }
+            newPositions[this.count] = target;
+            completeCompaction(newPositions);
+            Arrays.fill(this.keys, target, this.count, null);
+            Arrays.fill(this.values, target, this.count, null);
+            this.count = target;
+            rebuildSlots(this.slots.length);
+            if (this.secondaryIndexes != null) {
+                for (TableSecondaryIndex index : this.secondaryIndexes) {
+                    index.rebuild(this);
+                }
+            }
+            return;
+        }
+
+        int capacity = this.values.length * 2;
+        this.keys = Arrays.copyOf(this.keys, capacity);
+        this.values = Arrays.copyOf(this.values, capacity);
+        this.hashes = Arrays.copyOf(this.hashes, capacity);
+    }
+
+    private void completeCompaction(int[] newPositions) {
+        Compaction compaction = this.nextCompaction;
+        compaction.newPositions = newPositions;
+        compaction.next = new Compaction();
+        this.nextCompaction = compaction.next;
+    }
+
+    private int findSlot(Object key, int hash) {
+        int mask = this.slots.length - 1;
+        for (int i = hash & mask; ; i = (i + 1) & mask) {
+            int slotValue = this.slots[i];
+            if (slotValue == EMPTY) {
+                return -1;
+            }
+            if (slotValue != DELETED) {
+                int position = slotValue - 1;
+                if (this.hashes[position] == hash && keyEquals(this.keys[position], key)) {
+                    return i;
+                }
+            }
+        }
+    }
+
+    private void insertSlot(int hash, int position) {
+        // Keep at most half of the slots in use, so that probe sequences stay short and always end at an empty slot.
+        if ((this.usedSlots + 1) * 2 > this.slots.length) {
+            int capacity = this.slots.length;
+            while ((this.size + 1) * 2 > capacity / 2) {
+                capacity *= 2;
+            }
+            rebuildSlots(capacity);
+        }
+
+        int mask = this.slots.length - 1;
+        int i = hash & mask;
+        while (this.slots[i] > 0) {
+            i = (i + 1) & mask;
+        }
+        if (this.slots[i] == EMPTY) {
+            this.usedSlots++;
+        }
+        this.slots[i] = position + 1;
+    }
+
+    private void rebuildSlots(int capacity) {
+        if (!this.keyed) {
+            return;
+        }
+
+        this.slots = new int[capacity];
+        this.usedSlots = 0;
+        int mask = capacity - 1;
+        for (int position = 0; position < this.count; position++) {
+            if (this.values[position] == null) {
+                continue;
+            }
+            int i = this.hashes[position] & mask;
+            while (this.slots[i] != EMPTY) {
+                i = (i + 1) & mask;
+            }
+            this.slots[i] = position + 1;
+            this.usedSlots++;
+        }
+    }
+
+    private static int hash(Object key) {
+        int hash;
+        if (key instanceof Long) {
+            hash = Long.hashCode((Long) key);
+        } else if (key instanceof BString) {
+            hash = key.hashCode();
+        } else {
+            hash = Long.hashCode(TableUtils.hash(key, null));
+        }
+        // Spread the bits, since the slot is selected using the low order bits.
+        hash *= 0x9E3779B9;
+        return hash ^ (hash >>> 16);
+    }
+
+    private static boolean keyEquals(Object key, Object other) {
+        if (key == other) {
+            return true;
+        }
+        if (key instanceof Long || key instanceof BString) {
+            return key.equals(other);
+        }
+        return TypeChecker.isEqual(key, other);
+    }
+
+    /**
+     * A compaction of the positions, which maps each position before it to the position of the first row at or after
+     * it. The index only refers to the next compaction, so the completed compactions which no cursor has followed
+     * yet are collected along with the cursors.
+     */
+    private static class Compaction {
+
+        private int[] newPositions;
+        private Compaction next;
+    }
+
+    /**
+     * A position in the rows, which stays before the same row when the rows are moved to reclaim the positions of
+     * removed rows. Rows which are added after the cursor are reached by it.
+     */
+    class Cursor {
+
+        private int position;
+        private Compaction nextCompaction = TableEntryIndex.this.nextCompaction;
+
+        private Cursor() {
+        }
+
+        /**
+         * Returns the position of the first row at or after the cursor.
+         *
+         * @return the position of the row, or -1 if there are no more rows
+         */
+        int nextPosition() {
+            while (this.nextCompaction.next != null) {
+                this.position = this.nextCompaction.newPositions[this.position];
+                this.nextCompaction = this.nextCompaction.next;
+            }
+            return TableEntryIndex.this.nextPosition(this.position);
+        }
+
+        /**
+         * Moves the cursor after a row.
+         *
+         * @param position the position of the row, as returned by {@link #nextPosition()}
+         */
+        void moveAfter(int position) {
+            this.position = position + 1;
+        }
+    }
+}
@@ -0,0 +1,291 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.jvm.values;
+
+import org.ballerinalang.jvm.values.api.BString;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+/**
+ * An index on a field of the rows of a table, which maps a field value to the positions of the rows having that value.
+ * <p>
+ * A hash index answers equality lookups. A sorted index additionally answers range lookups, for field values which
+ * are {@code int}, {@code float}, {@code decimal} or {@code string}; rows with other field values are not added to a
+ * sorted index. Positions are kept in ascending order, so rows are returned in the order of the table. The index is
+ * maintained by {@link TableEntryIndex} as rows are added, replaced and removed, and is only created for fields whose
+ * value cannot change while the row is in the table.
+ *
+ * @since 2.0.0
+ */
+class TableSecondaryIndex {
+
+    private static final Comparator<Object> VALUE_ORDER = TableSecondaryIndex::compareValues;
+
+    private final BString fieldName;
+    private final boolean sorted;
+    private final TableEntryIndex<Object, Positions> hashIndex;
+    private final NavigableMap<Object, Positions> sortedIndex;
+
+    TableSecondaryIndex(BString fieldName, boolean sorted) {
+        this.fieldName = fieldName;
+        this.sorted = sorted;
+        if (sorted) {
+            this.hashIndex = null;
+            this.sortedIndex = new TreeMap<>(VALUE_ORDER);
+        } else {
+            this.hashIndex = new TableEntryIndex<>(true);
+            this.sortedIndex = null;
+        }
+    }
+
+    BString getFieldName() {
+        return this.fieldName;
+    }
+
+    boolean isSorted() {
+        return this.sorted;
+    }
+
+    void add(Object row, int position) {
+        Object value = fieldValue(row);
+        if (this.sorted) {
+            if (isOrdered(value)) {
+                this.sortedIndex.computeIfAbsent(normalize(value), k -> new Positions()).add(position);
+            }
+            return;
+        }
+
+        Positions positions = this.hashIndex.get(value);
+        if (positions == null) {
+            positions = new Positions();
+            this.hashIndex.put(value, positions);
+        }
+        positions.add(position);
+    }
+
+    void remove(Object row, int position) {
+        Object value = fieldValue(row);
+        if (this.sorted) {
+            if (!isOrdered(value)) {
+                return;
+            }
+            Object key = normalize(value);
+            Positions positions = this.sortedIndex.get(key);
+            if (positions != null && positions.remove(position) && positions.size == 0) {
+                this.sortedIndex.remove(key);
+            }
+            return;
+        }
+
+        Positions positions = this.hashIndex.get(value);
+        if (positions != null && positions.remove(position) && positions.size == 0) {
+            this.hashIndex.remove(value);
+        }
+    }
+
+    void clear() {
+        if (this.sorted) {
+            this.sortedIndex.clear();
+        } else {
+            this.hashIndex.clear();
+        }
+    }
+
+    /**
+     * Returns the positions of the rows whose field is equal to the value.
+     *
+     * @param value field value to look up
+     * @return positions of the matching rows in ascending order, or null if this index cannot answer the lookup
+     */
+    int[] find(Object value) {
+        // Float equality differs between typed and untyped comparisons for zero and NaN, so it is left to a scan.
+        if (value instanceof Double) {
+            return null;
+        }
+        if (!this.sorted) {
+            // Decimals which are equal can have different hashes when their scales differ.
+            if (value instanceof DecimalValue) {
+                return null;
+            }
+            return toArray(this.hashIndex.get(value));
+        }
+        if (!isOrdered(value)) {
+            return null;
+        }
+        return toArray(this.sortedIndex.get(value));
+    }
+
+    /**
+     * Returns the positions of the rows whose field is within the given bounds.
+     *
+     * @param lower          the lower bound, or null if there is no lower bound
+     * @param lowerInclusive whether a field equal to the lower bound matches
+     * @param upper          the upper bound, or null if there is no upper bound
+     * @param upperInclusive whether a field equal to the upper bound matches
+     * @return positions of the matching rows in ascending order, or null if this index cannot answer the lookup
+     */
+    int[] findRange(Object lower, boolean lowerInclusive, Object upper, boolean upperInclusive) {
+        if (!this.sorted || (lower != null && !isOrdered(lower)) || (upper != null && !isOrdered(upper)) ||
+                isNaN(lower) || isNaN(upper)) {
+            return null;
+        }
+
+        NavigableMap<Object, Positions> range = this.sortedIndex;
+        if (lower != null) {
+            range = range.tailMap(normalize(lower), lowerInclusive);
+        }
+        if (upper != null) {
+            range = range.headMap(normalize(upper), upperInclusive);
+        }
+        return merge(range.values());
+    }
+
+    void rebuild(TableEntryIndex<?, ?> entries) {
+        clear();
+        for (int i = entries.nextPosition(0); i >= 0; i = entries.nextPosition(i + 1)) {
+            add(entries.valueAt(i), i);
+        }
+    }
+
+    private Object fieldValue(Object row) {
+        return ((MapValue<BString, Object>) row).get(this.fieldName);
+    }
+
+    private static boolean isOrdered(Object value) {
+        return value instanceof Long || value instanceof Double || value instanceof DecimalValue ||
+                value instanceof BString;
+    }
+
+    private static boolean isNaN(Object value) {
+        return value instanceof Double && ((Double) value).isNaN();
+    }
+
+    // Negative zero is stored as zero, so that range lookups treat both the same way as comparisons do.
+    private static Object normalize(Object value) {
+        if (value instanceof Double && (Double) value == 0.0) {
+            return 0.0;
+        }
+        return value;
+    }
+
+    // Values of different types are ordered by type, so a bound only selects values of its own type.
+    private static int compareValues(Object value, Object other) {
+        int rank = typeRank(value);
+        int otherRank = typeRank(other);
+        if (rank != otherRank) {
+            return Integer.compare(rank, otherRank);
+        }
+
+        switch (rank) {
+            case 0:
+                return Long.compare((Long) value, (Long) other);
+            case 1:
+                return Double.compare((Double) value, (Double) other);
+            case 2:
+                return ((DecimalValue) value).value().compareTo(((DecimalValue) other).value());
+            default:
+                return compareCodePoints(((BString) value).getValue(), ((BString) other).getValue());
+        }
+    }
+
+    private static int typeRank(Object value) {
+        if (value instanceof Long) {
+            return 0;
+        } else if (value instanceof Double) {
+            return 1;
+        } else if (value instanceof DecimalValue) {
+            return 2;
+        }
+        return 3;
+    }
+
+    private static int compareCodePoints(String value, String other) {
+        int i = 0;
+        int j = 0;
+        while (i < value.length() && j < other.length()) {
+            int codePoint = value.codePointAt(i);
+            int otherCodePoint = other.codePointAt(j);
+            if (codePoint != otherCodePoint) {
+                return Integer.compare(codePoint, otherCodePoint);
+            }
+            i += Character.charCount(codePoint);
+            j += Character.charCount(otherCodePoint);
+        }
+        return Integer.compare(value.length() - i, other.length() - j);
+    }
+
+    private static int[] toArray(Positions positions) {
+        return positions == null ? new int[0] : Arrays.copyOf(positions.values, positions.size);
+    }
+
+    private static int[] merge(Collection<Positions> ranges) {
+        int total = 0;
+        for (Positions positions : ranges) {
+            total += positions.size;
+        }
+        int[] merged = new int[total];
+        int index = 0;
+        for (Positions positions : ranges) {
+            System.arraycopy(positions.values, 0, merged, index, positions.size);
+            index += positions.size;
+        }
+        Arrays.sort(merged);
+        return merged;
+    }
+
+    /**
+     * Ascending list of row positions.
+     */
+    private static class Positions {
+
+        private int[] values = new int[2];
+        private int size;
+
+        void add(int position) {
+            if (this.size == this.values.length) {
+                this.values = Arrays.copyOf(this.values, this.size * 2);
+            }
+            // Rows are mostly appended, so the position usually goes at the end.
+            int index = this.size;
+            if (index > 0 && this.values[index - 1] > position) {
+                index = Arrays.binarySearch(this.values, 0, this.size, position);
+                if (index >= 0) {
+                    return;
+                }
+                index = -(index + 1);
+                System.arraycopy(this.values, index, this.values, index + 1, this.size - index);
+            }
+            this.values[index] = position;
+            this.size++;
+        }
+
+        boolean remove(int position) {
+            int index = Arrays.binarySearch(this.values, 0, this.size, position);
+            if (index < 0) {
+                return false;
+            }
+            System.arraycopy(this.values, index + 1, this.values, index, this.size - index - 1);
+            this.size--;
+            return true;
+        }
+    }
+}
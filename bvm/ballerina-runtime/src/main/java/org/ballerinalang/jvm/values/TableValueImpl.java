@@ -20,7 +20,6 @@ package org.ballerinalang.jvm.values;
 import org.ballerinalang.jvm.BallerinaErrors;
 import org.ballerinalang.jvm.IteratorUtils;
 import org.ballerinalang.jvm.StringUtils;
-import org.ballerinalang.jvm.TableUtils;
 import org.ballerinalang.jvm.TypeChecker;
 import org.ballerinalang.jvm.types.BField;
 import org.ballerinalang.jvm.types.BMapType;
@@ -29,23 +28,21 @@ import org.ballerinalang.jvm.types.BTableType;
 import org.ballerinalang.jvm.types.BTupleType;
 import org.ballerinalang.jvm.types.BType;
 import org.ballerinalang.jvm.types.TypeTags;
+import org.ballerinalang.jvm.util.Flags;
 import org.ballerinalang.jvm.util.exceptions.BLangFreezeException;
 import org.ballerinalang.jvm.values.api.BIterator;
+import org.ballerinalang.jvm.values.api.BString;
 import org.ballerinalang.jvm.values.api.BValueCreator;
 
 import java.util.AbstractMap;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
-import java.util.Iterator;
-import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.StringJoiner;
-import java.util.UUID;
-import java.util.concurrent.ConcurrentHashMap;
 
 import static org.ballerinalang.jvm.util.BLangConstants.TABLE_LANG_LIB;
 import static org.ballerinalang.jvm.util.exceptions.BallerinaErrorReasons.INHERENT_TYPE_VIOLATION_ERROR_IDENTIFIER;
@@ -66,32 +63,22 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
 
     private BTableType type;
     private BType iteratorNextReturnType;
-    private ConcurrentHashMap<Long, Map.Entry<K, V>> entries;
-    private LinkedHashMap<Long, V> values;
-    private LinkedHashMap<Long, K> keys;
+    private TableEntryIndex<K, V> entries;
     private String[] fieldNames;
     private ValueHolder valueHolder;
     private long maxIntKey = 0;
 
-    //These are required to achieve the iterator behavior
-    private LinkedHashMap<Long, Long> indexToKeyMap;
-    private LinkedHashMap<Long, Long> keyToIndexMap;
-    private long noOfAddedEntries = 0;
-
     private boolean nextKeySupported;
 
     public TableValueImpl(BTableType type) {
         this.type = type;
 
-        this.entries = new ConcurrentHashMap<>();
-        this.keys = new LinkedHashMap<>();
-        this.values = new LinkedHashMap<>();
-        this.keyToIndexMap = new LinkedHashMap<>();
-        this.indexToKeyMap = new LinkedHashMap<>();
         this.fieldNames = type.getFieldNames();
         if (type.getFieldNames() != null) {
+            this.entries = new TableEntryIndex<>(true);
             this.valueHolder = new KeyHashValueHolder();
         } else {
+            this.entries = new TableEntryIndex<>(false);
             this.valueHolder = new ValueHolder();
         }
     }
@@ -201,23 +188,22 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
 
     @Override
     public Set<Map.Entry<K, V>> entrySet() {
-        return new LinkedHashSet<>(entries.values());
+        Set<Map.Entry<K, V>> entrySet = new LinkedHashSet<>();
+        for (int i = entries.nextPosition(0); i >= 0; i = entries.nextPosition(i + 1)) {
+            entrySet.add(new AbstractMap.SimpleEntry<>(getEntryKey(i), entries.valueAt(i)));
+        }
+        return entrySet;
     }
 
     @Override
     public Collection<V> values() {
-        return values.values();
+        return entries.values();
     }
 
     @Override
     public void clear() {
         handleFrozenTableValue();
         entries.clear();
-        keys.clear();
-        values.clear();
-        keyToIndexMap.clear();
-        indexToKeyMap.clear();
-        noOfAddedEntries = 0;
     }
 
     @Override
@@ -242,7 +228,7 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
                     "Defined key sequence is not supported with nextKey(). "
                             + "The key sequence should only have an Integer field.");
         }
-        return keys.size() == 0 ? 0 : (this.maxIntKey + 1);
+        return entries.size() == 0 ? 0 : (this.maxIntKey + 1);
     }
 
     public BType getKeyType() {
@@ -269,7 +255,87 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
 
     @Override
     public K[] getKeys() {
-        return (K[]) keys.values().toArray(new Object[]{});
+        if (!entries.isKeyed()) {
+            return (K[]) new Object[]{};
+        }
+        return (K[]) entries.getKeys();
+    }
+
+    /**
+     * Adds an index on a field of the rows, which is used to find rows by the value of the field. Only fields whose
+     * value cannot change while the row is in the table can be indexed.
+     *
+     * @param fieldName name of the field
+     * @param sorted    whether the index should also support finding rows by a range of field values
+     */
+    public void addIndex(BString fieldName, boolean sorted) {
+        TableSecondaryIndex index = entries.getSecondaryIndex(fieldName, sorted);
+        if (index != null && index.isSorted() == sorted) {
+            return;
+        }
+
+        if (!isImmutableField(fieldName.getValue())) {
+            throw BallerinaErrors.createError(getModulePrefixedReason(TABLE_LANG_LIB,
+                    OPERATION_NOT_SUPPORTED_IDENTIFIER), "cannot add an index on field '" + fieldName +
+                    "': the value of the field can be updated");
+        }
+        entries.addSecondaryIndex(new TableSecondaryIndex(fieldName, sorted));
+    }
+
+    /**
+     * Returns the rows whose field is equal to the value, using an index on the field.
+     *
+     * @param fieldName name of the field
+     * @param value     value of the field
+     * @return the matching rows in the order of the table, or null if there is no index which can be used
+     */
+    public List<V> getRowsWithFieldValue(BString fieldName, Object value) {
+        TableSecondaryIndex index = entries.getSecondaryIndex(fieldName, false);
+        return index == null ? null : getRows(index.find(value));
+    }
+
+    /**
+     * Returns the rows whose field is within the given bounds, using a sorted index on the field.
+     *
+     * @param fieldName      name of the field
+     * @param lower          the lower bound, or null if there is no lower bound
+     * @param lowerInclusive whether a field equal to the lower bound matches
+     * @param upper          the upper bound, or null if there is no upper bound
+     * @param upperInclusive whether a field equal to the upper bound matches
+     * @return the matching rows in the order of the table, or null if there is no index which can be used
+     */
+    public List<V> getRowsInFieldRange(BString fieldName, Object lower, boolean lowerInclusive, Object upper,
+                                       boolean upperInclusive) {
+        TableSecondaryIndex index = entries.getSecondaryIndex(fieldName, true);
+        if (index == null || !index.isSorted()) {
+            return null;
+        }
+        return getRows(index.findRange(lower, lowerInclusive, upper, upperInclusive));
+    }
+
+    private List<V> getRows(int[] positions) {
+        if (positions == null) {
+            return null;
+        }
+
+        List<V> rows = new ArrayList<>(positions.length);
+        for (int position : positions) {
+            rows.add(entries.valueAt(position));
+        }
+        return rows;
+    }
+
+    private boolean isImmutableField(String fieldName) {
+        BType constraintType = this.type.getConstrainedType();
+        if (constraintType.isReadOnly()) {
+            return true;
+        }
+        if (constraintType.getTag() != TypeTags.RECORD_TYPE_TAG) {
+            return false;
+        }
+
+        BField field = ((BRecordType) constraintType).getFields().get(fieldName);
+        return field != null && Flags.isFlagOn(field.flags, Flags.READONLY);
     }
 
     @Override
@@ -279,7 +345,7 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
 
     @Override
     public boolean isEmpty() {
-        return entries.isEmpty();
+        return entries.size() == 0;
     }
 
     @Override
@@ -294,19 +360,18 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
     }
 
     public String stringValue() {
-        Iterator<Map.Entry<Long, V>> itr = values.entrySet().iterator();
-        return createStringValueDataEntry(itr);
-    }
-
-    private String createStringValueDataEntry(Iterator<Map.Entry<Long, V>> itr) {
         StringJoiner sj = new StringJoiner("\n");
-        while (itr.hasNext()) {
-            Map.Entry<Long, V> struct = itr.next();
-            sj.add(struct.getValue().toString());
+        for (V value : entries.values()) {
+            sj.add(value.toString());
         }
         return sj.toString();
     }
 
+    // Rows of tables without a key sequence are their own keys
+    private K getEntryKey(int position) {
+        return entries.isKeyed() ? entries.keyAt(position) : (K) entries.valueAt(position);
+    }
+
     private BType getTableConstraintField(BType constraintType, String fieldName) {
         if (constraintType.getTag() == TypeTags.RECORD_TYPE_TAG) {
             Map<String, BField> fieldList = ((BRecordType) constraintType).getFields();
@@ -331,39 +396,33 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
     }
 
     private class TableIterator<K, V> implements IteratorValue {
-        private long cursor;
+        private final TableEntryIndex.Cursor cursor;
 
         TableIterator() {
-            this.cursor = 0;
+            this.cursor = entries.cursor();
         }
 
         @Override
         public Object next() {
-            Long hash = indexToKeyMap.get(cursor);
-            if (hash != null) {
-                Map.Entry<K, V> next = (Map.Entry<K, V>) entries.get(hash);
-                V value = next.getValue();
-                K key = next.getKey();
-
-                List<BType> types = new ArrayList<>();
-                types.add(TypeChecker.getType(key));
-                types.add(TypeChecker.getType(value));
-                BTupleType tupleType = new BTupleType(types);
-
-                TupleValueImpl tuple = new TupleValueImpl(tupleType);
-                tuple.add(0, key);
-                tuple.add(1, value);
-                cursor++;
-                return tuple;
-            } else {
-                cursor++;
-                return next();
-            }
+            int position = cursor.nextPosition();
+            Object value = entries.valueAt(position);
+            Object key = getEntryKey(position);
+
+            List<BType> types = new ArrayList<>();
+            types.add(TypeChecker.getType(key));
+            types.add(TypeChecker.getType(value));
+            BTupleType tupleType = new BTupleType(types);
+
+            TupleValueImpl tuple = new TupleValueImpl(tupleType);
+            tuple.add(0, key);
+            tuple.add(1, value);
+            cursor.moveAfter(position);
+            return tuple;
         }
 
         @Override
         public boolean hasNext() {
-           return cursor < noOfAddedEntries;
+            return cursor.nextPosition() >= 0;
         }
     }
 
@@ -383,11 +442,8 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
 
         public V putData(V data) {
             checkInherentTypeViolation((MapValue) data, type);
-            Map.Entry<K, V> entry = new AbstractMap.SimpleEntry(data, data);
-            UUID uuid = UUID.randomUUID();
-            entries.put((long) uuid.hashCode(), entry);
-            updateIndexKeyMappings((long) uuid.hashCode());
-            return values.put((long) uuid.hashCode(), data);
+            entries.add(data);
+            return null;
         }
 
         public V remove(K key) {
@@ -406,9 +462,14 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
     private class KeyHashValueHolder extends ValueHolder {
         private DefaultKeyWrapper keyWrapper;
         private BType keyType;
+        private final BString[] keyFieldNames;
 
         public KeyHashValueHolder() {
             super();
+            keyFieldNames = new BString[fieldNames.length];
+            for (int i = 0; i < fieldNames.length; i++) {
+                keyFieldNames[i] = StringUtils.fromString(fieldNames[i]);
+            }
             if (fieldNames.length > 1) {
                 keyWrapper = new MultiKeyWrapper();
             } else {
@@ -426,63 +487,39 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
                         key + "'");
             }
 
-            if (nextKeySupported && (keys.size() == 0 || maxIntKey < TypeChecker.anyToInt(key))) {
+            if (nextKeySupported && (entries.size() == 0 || maxIntKey < TypeChecker.anyToInt(key))) {
                 maxIntKey = ((Long) TypeChecker.anyToInt(key)).intValue();
             }
 
-            Map.Entry<K, V> entry = new AbstractMap.SimpleEntry(key, data);
-            Long hash = TableUtils.hash(key, null);
-            putData(key, data, entry, hash);
+            entries.put(key, data);
         }
 
         public V getData(K key) {
-            return values.get(TableUtils.hash(key, null));
+            return entries.get(key);
         }
 
         public V putData(K key, V data) {
-            Map.Entry<K, V> entry = new AbstractMap.SimpleEntry<>(key, data);
-            Object actualKey = this.keyWrapper.wrapKey((MapValue) data);
-            Long actualHash = TableUtils.hash(actualKey, null);
-            Long hash = TableUtils.hash(key, null);
-
-            if (!hash.equals(actualHash)) {
+            if (!this.keyWrapper.matchesKey((MapValue) data, key)) {
                 throw BallerinaErrors.createError(TABLE_KEY_NOT_FOUND_ERROR, "The key '" +
                         key + "' not found in value " + data.toString());
             }
 
-            return putData(key, data, entry, hash);
-        }
-
-        private V putData(K key, V data, Map.Entry<K, V> entry, Long hash) {
-            entries.put(hash, entry);
-            keys.put(hash, key);
-            updateIndexKeyMappings(hash);
-            return values.put(hash, data);
+            return entries.put(key, data);
         }
 
         public V putData(V data) {
             MapValue dataMap = (MapValue) data;
             checkInherentTypeViolation(dataMap, type);
             K key = this.keyWrapper.wrapKey(dataMap);
-            Map.Entry<K, V> entry = new AbstractMap.SimpleEntry<>(key, data);
-            Long hash = TableUtils.hash(key, null);
-            return putData((K) key, data, entry, hash);
+            return entries.put(key, data);
         }
 
         public V remove(K key) {
-            Long hash = TableUtils.hash(key, null);
-            entries.remove(hash);
-            keys.remove(hash);
-            Long index = keyToIndexMap.remove(hash);
-            indexToKeyMap.remove(index);
-            if (index != null && index == noOfAddedEntries - 1) {
-                noOfAddedEntries--;
-            }
-            return values.remove(hash);
+            return entries.remove(key);
         }
 
         public boolean containsKey(K key) {
-            return keys.containsKey(TableUtils.hash(key, null));
+            return entries.containsKey(key);
         }
 
         public BType getKeyType() {
@@ -501,7 +538,12 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
             }
 
             public K wrapKey(MapValue data) {
-                return (K) data.get(StringUtils.fromString(fieldNames[0]));
+                return (K) data.get(keyFieldNames[0]);
+            }
+
+            // Checks the key fields of the row against the key, without creating the key of the row
+            public boolean matchesKey(MapValue data, Object key) {
+                return TypeChecker.isEqual(data.get(keyFieldNames[0]), key);
             }
         }
 
@@ -524,20 +566,24 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
             public K wrapKey(MapValue data) {
                 TupleValueImpl arr = (TupleValueImpl) BValueCreator
                         .createTupleValue((BTupleType) keyType);
-                for (int i = 0; i < fieldNames.length; i++) {
-                    arr.add(i, data.get(StringUtils.fromString(fieldNames[i])));
+                for (int i = 0; i < keyFieldNames.length; i++) {
+                    arr.add(i, data.get(keyFieldNames[i]));
                 }
                 return (K) arr;
             }
-        }
-    }
 
-    // This method updates the indexes and the order required by the iterators
-    private void updateIndexKeyMappings(Long hash) {
-        if (!keyToIndexMap.containsKey(hash)) {
-            keyToIndexMap.put(hash, noOfAddedEntries);
-            indexToKeyMap.put(noOfAddedEntries, hash);
-            noOfAddedEntries++;
+            public boolean matchesKey(MapValue data, Object key) {
+                if (!(key instanceof ArrayValue) || ((ArrayValue) key).size() != keyFieldNames.length) {
+                    return false;
+                }
+                ArrayValue keyValues = (ArrayValue) key;
+                for (int i = 0; i < keyFieldNames.length; i++) {
+                    if (!TypeChecker.isEqual(data.get(keyFieldNames[i]), keyValues.get(i))) {
+                        return false;
+                    }
+                }
+                return true;
+            }
         }
     }
 
@@ -0,0 +1,154 @@
+/*
+*  Copyright (c) 2019, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+*
+*  WSO2 Inc. licenses this file to you under the Apache License,
+*  Version 2.0 (the "License"); you may not use this file except
+*  in compliance with the License.
+*  You may obtain a copy of the License at
+*
+*    http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing,
+* software distributed under the License is distributed on an
+* "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+* KIND, either express or implied.  See the License for the
+* specific language governing permissions and limitations
+* under the License.
+*/
+
+package org.ballerinalang.runtime.test;
+
+import org.ballerinalang.jvm.BLock;
+import org.ballerinalang.jvm.scheduling.Scheduler;
+import org.ballerinalang.jvm.scheduling.Strand;
+import org.ballerinalang.jvm.types.BTypes;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * Test cases for {@link BLock}.
+ */
+public class BLockTests {
+
+    private static final int STRANDS = 2000;
+    private static final int INCREMENTS = 100;
+
+    private int counter;
+    private final AtomicInteger activeReaders = new AtomicInteger();
+    private final AtomicInteger violations = new AtomicInteger();
+
+    @Test
+    public void testReentrantLock() {
+        BLock lock = new BLock();
+        Strand strand = new Strand(null);
+        Assert.assertTrue(lock.isLockFree());
+        Assert.assertTrue(lock.lock(strand));
+        Assert.assertTrue(lock.lock(strand));
+        Assert.assertTrue(lock.lockedBySameContext(strand));
+        lock.unlock();
+        Assert.assertTrue(lock.lockedBySameContext(strand));
+        lock.unlock();
+        Assert.assertTrue(lock.isLockFree());
+    }
+
+    @Test
+    public void testContendedLock() {
+        BLock lock = new BLock();
+        Scheduler scheduler = new Scheduler(4, false);
+        counter = 0;
+
+        // Generated code re-executes the lock after a strand is resumed, which is mimicked here by running the
+        // whole function again.
+        Function<Object[], Object> increment = params -> {
+            Strand strand = (Strand) params[0];
+            if (!lock.lock(strand)) {
+                return null;
+            }
+            for (int i = 0; i < INCREMENTS; i++) {
+                counter++;
+            }
+            lock.unlock();
+            return null;
+        };
+
+        for (int i = 0; i < STRANDS; i++) {
+            scheduler.schedule(new Object[1], increment, null, null, null, BTypes.typeNull);
+        }
+        scheduler.start();
+
+        Assert.assertEquals(counter, STRANDS * INCREMENTS);
+        Assert.assertTrue(lock.isLockFree());
+    }
+
+    @Test
+    public void testSharedLock() {
+        BLock lock = new BLock();
+        Strand reader1 = new Strand(null);
+        Strand reader2 = new Strand(null);
+        Assert.assertTrue(lock.lockShared(reader1));
+        Assert.assertTrue(lock.lockShared(reader2));
+        Assert.assertFalse(lock.isLockFree());
+        lock.unlockShared(reader1);
+        lock.unlockShared(reader2);
+        Assert.assertTrue(lock.isLockFree());
+
+        // A read only lock block nested in a lock block of the same lock.
+        Strand writer = new Strand(null);
+        Assert.assertTrue(lock.lock(writer));
+        Assert.assertTrue(lock.lockShared(writer));
+        lock.unlockShared(writer);
+        Assert.assertTrue(lock.lockedBySameContext(writer));
+        lock.unlock();
+        Assert.assertTrue(lock.isLockFree());
+    }
+
+    @Test
+    public void testContendedSharedLock() {
+        BLock lock = new BLock();
+        Scheduler scheduler = new Scheduler(4, false);
+        counter = 0;
+        activeReaders.set(0);
+        violations.set(0);
+
+        Function<Object[], Object> write = params -> {
+            Strand strand = (Strand) params[0];
+            if (!lock.lock(strand)) {
+                return null;
+            }
+            if (activeReaders.get() != 0) {
+                violations.incrementAndGet();
+            }
+            for (int i = 0; i < INCREMENTS; i++) {
+                counter++;
+            }
+            lock.unlock();
+            return null;
+        };
+
+        Function<Object[], Object> read = params -> {
+            Strand strand = (Strand) params[0];
+            if (!lock.lockShared(strand)) {
+                return null;
+            }
+            activeReaders.incrementAndGet();
+            if (counter % INCREMENTS != 0) {
+                violations.incrementAndGet();
+            }
+            activeReaders.decrementAndGet();
+            lock.unlockShared(strand);
+            return null;
+        };
+
+        for (int i = 0; i < STRANDS; i++) {
+            scheduler.schedule(new Object[1], i % 4 == 0 ? write : read, null, null, null, BTypes.typeNull);
+        }
+        scheduler.start();
+
+        Assert.assertEquals(violations.get(), 0);
+        Assert.assertEquals(counter, STRANDS / 4 * INCREMENTS);
+        Assert.assertTrue(lock.isLockFree());
+    }
+}
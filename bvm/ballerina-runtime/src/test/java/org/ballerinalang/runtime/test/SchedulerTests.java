@@ -0,0 +1,65 @@
+/*
+*  Copyright (c) 2019, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+*
+*  WSO2 Inc. licenses this file to you under the Apache License,
+*  Version 2.0 (the "License"); you may not use this file except
+*  in compliance with the License.
+*  You may obtain a copy of the License at
+*
+*    http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing,
+* software distributed under the License is distributed on an
+* "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+* KIND, either express or implied.  See the License for the
+* specific language governing permissions and limitations
+* under the License.
+*/
+
+package org.ballerinalang.runtime.test;
+
+import org.ballerinalang.jvm.scheduling.Scheduler;
+import org.ballerinalang.jvm.scheduling.Strand;
+import org.ballerinalang.jvm.types.BTypes;
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * Test cases for {@link Scheduler} scheduling policies.
+ */
+public class SchedulerTests {
+
+    private static final int ROOT_STRANDS = 50;
+    private static final int CHILD_STRANDS = 100;
+
+    @DataProvider(name = "schedulingPolicies")
+    public Object[][] schedulingPolicies() {
+        return new Object[][]{{false}, {true}};
+    }
+
+    @Test(dataProvider = "schedulingPolicies")
+    public void testFanOutStrandsComplete(boolean workStealing) {
+        Scheduler scheduler = new Scheduler(4, false, workStealing);
+        AtomicInteger completed = new AtomicInteger();
+
+        Function<Object[], Object> child = params -> completed.incrementAndGet();
+        Function<Object[], Object> root = params -> {
+            Strand parent = (Strand) params[0];
+            for (int i = 0; i < CHILD_STRANDS; i++) {
+                parent.scheduler.schedule(new Object[1], child, parent, null, null, BTypes.typeNull);
+            }
+            return completed.incrementAndGet();
+        };
+
+        for (int i = 0; i < ROOT_STRANDS; i++) {
+            scheduler.schedule(new Object[1], root, null, null, null, BTypes.typeNull);
+        }
+        scheduler.start();
+
+        Assert.assertEquals(completed.get(), ROOT_STRANDS * (CHILD_STRANDS + 1));
+    }
+}
@@ -0,0 +1,256 @@
+/*
+*  Copyright (c) 2019, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+*
+*  WSO2 Inc. licenses this file to you under the Apache License,
+*  Version 2.0 (the "License"); you may not use this file except
+*  in compliance with the License.
+*  You may obtain a copy of the License at
+*
+*    http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing,
+* software distributed under the License is distributed on an
+* "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+* KIND, either express or implied.  See the License for the
+* specific language governing permissions and limitations
+* under the License.
+*/
+package org.ballerinalang.runtime.test;
+
+import org.ballerinalang.jvm.StringUtils;
+import org.ballerinalang.jvm.types.BMapType;
+import org.ballerinalang.jvm.types.BTableType;
+import org.ballerinalang.jvm.types.BTupleType;
+import org.ballerinalang.jvm.types.BType;
+import org.ballerinalang.jvm.types.BTypes;
+import org.ballerinalang.jvm.values.ErrorValue;
+import org.ballerinalang.jvm.values.IteratorValue;
+import org.ballerinalang.jvm.values.MapValue;
+import org.ballerinalang.jvm.values.MapValueImpl;
+import org.ballerinalang.jvm.values.ReadOnlyUtils;
+import org.ballerinalang.jvm.values.TableValueImpl;
+import org.ballerinalang.jvm.values.TupleValueImpl;
+import org.ballerinalang.jvm.values.api.BString;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Test cases for {@link TableValueImpl}.
+ */
+public class TableValueTests {
+
+    private static final BMapType ROW_TYPE = new BMapType(BTypes.typeAnydata);
+    private static final BType READONLY_ROW_TYPE = ReadOnlyUtils.setImmutableTypeAndGetEffectiveType(ROW_TYPE);
+
+    @Test
+    public void testIntKeys() {
+        TableValueImpl<Object, MapValue<Object, Object>> table =
+                new TableValueImpl<>(new BTableType(ROW_TYPE, new String[]{"id"}, false));
+        int rows = 10000;
+        for (long i = 0; i < rows; i++) {
+            table.add(row("id", i));
+        }
+        Assert.assertEquals(table.size(), rows);
+
+        // Remove every other row, which also exercises reclaiming removed positions on later inserts.
+        for (long i = 0; i < rows; i += 2) {
+            Assert.assertNotNull(table.remove(i));
+        }
+        Assert.assertEquals(table.size(), rows / 2);
+        for (long i = 0; i < rows; i++) {
+            Assert.assertEquals(table.containsKey(i), i % 2 == 1);
+        }
+        for (long i = rows; i < 2 * rows; i++) {
+            table.add(row("id", i));
+        }
+        Assert.assertEquals(table.size(), rows / 2 + rows);
+
+        // Iteration follows insertion order.
+        IteratorValue iterator = table.getIterator();
+        for (long i = 1; i < rows; i += 2) {
+            Assert.assertEquals(((TupleValueImpl) iterator.next()).get(0), i);
+        }
+        for (long i = rows; i < 2 * rows; i++) {
+            Assert.assertEquals(((TupleValueImpl) iterator.next()).get(0), i);
+        }
+        Assert.assertFalse(iterator.hasNext());
+    }
+
+    @Test
+    public void testReplaceKeepsPosition() {
+        TableValueImpl<Object, MapValue<Object, Object>> table =
+                new TableValueImpl<>(new BTableType(ROW_TYPE, new String[]{"id"}, false));
+        table.add(row("id", 1L));
+        table.add(row("id", 2L));
+        MapValue<Object, Object> replacement = row("id", 1L);
+        table.put(1L, replacement);
+
+        Assert.assertEquals(table.size(), 2);
+        Assert.assertSame(table.get(1L), replacement);
+        Assert.assertEquals(Arrays.asList(table.getKeys()), Arrays.asList(1L, 2L));
+        Assert.assertSame(table.values().iterator().next(), replacement);
+    }
+
+    @Test
+    public void testMutationDuringIteration() {
+        TableValueImpl<Object, MapValue<Object, Object>> table =
+                new TableValueImpl<>(new BTableType(ROW_TYPE, new String[]{"id"}, false));
+        int rows = 64;
+        for (long i = 0; i < rows; i++) {
+            table.add(row("id", i));
+        }
+        IteratorValue iterator = table.getIterator();
+        Iterator<MapValue<Object, Object>> valueIterator = table.values().iterator();
+        for (long i = 0; i < 8; i++) {
+            Assert.assertEquals(((TupleValueImpl) iterator.next()).get(0), i);
+            Assert.assertEquals(valueIterator.next().get(StringUtils.fromString("id")), i);
+        }
+
+        // Removing most of the rows and adding more moves the remaining rows to reclaim the removed positions.
+        for (long i = 0; i < rows; i++) {
+            if (i % 8 != 0) {
+                table.remove(i);
+            }
+        }
+        for (long i = rows; i < 2 * rows; i++) {
+            table.add(row("id", i));
+        }
+
+        // The iterators continue after the rows they have returned, and reach the rows added after them.
+        List<Object> ids = new ArrayList<>();
+        List<Object> valueIds = new ArrayList<>();
+        while (iterator.hasNext()) {
+            ids.add(((TupleValueImpl) iterator.next()).get(0));
+        }
+        while (valueIterator.hasNext()) {
+            valueIds.add(valueIterator.next().get(StringUtils.fromString("id")));
+        }
+        List<Object> expectedIds = new ArrayList<>();
+        for (long i = 8; i < rows; i += 8) {
+            expectedIds.add(i);
+        }
+        for (long i = rows; i < 2 * rows; i++) {
+            expectedIds.add(i);
+        }
+        Assert.assertEquals(ids, expectedIds);
+        Assert.assertEquals(valueIds, expectedIds);
+
+        // Clearing the table moves the iterators to the start of the rows added after it.
+        iterator = table.getIterator();
+        iterator.next();
+        table.clear();
+        table.add(row("id", 0L));
+        Assert.assertEquals(((TupleValueImpl) iterator.next()).get(0), 0L);
+        Assert.assertFalse(iterator.hasNext());
+    }
+
+    @Test
+    public void testCollidingKeys() {
+        TableValueImpl<Object, MapValue<Object, Object>> table =
+                new TableValueImpl<>(new BTableType(ROW_TYPE, new String[]{"name"}, false));
+        // "Aa" and "BB" have the same hash code.
+        table.add(row("name", StringUtils.fromString("Aa")));
+        table.add(row("name", StringUtils.fromString("BB")));
+        Assert.assertEquals(table.size(), 2);
+        Assert.assertTrue(table.containsKey(StringUtils.fromString("Aa")));
+        Assert.assertNotNull(table.remove(StringUtils.fromString("BB")));
+        Assert.assertTrue(table.containsKey(StringUtils.fromString("Aa")));
+        Assert.assertFalse(table.containsKey(StringUtils.fromString("BB")));
+    }
+
+    @Test
+    public void testCollidingMultiFieldKeys() {
+        TableValueImpl<Object, MapValue<Object, Object>> table =
+                new TableValueImpl<>(new BTableType(ROW_TYPE, new String[]{"a", "b"}, false));
+        // [0, 31] and [1, 0] have the same shape based hash.
+        table.add(row("a", 0L, "b", 31L));
+        table.add(row("a", 1L, "b", 0L));
+        Assert.assertEquals(table.size(), 2);
+
+        TupleValueImpl key = new TupleValueImpl(new BTupleType(Arrays.asList(BTypes.typeInt, BTypes.typeInt)));
+        key.add(0, 1L);
+        key.add(1, 0L);
+        Assert.assertEquals(table.get(key).get(StringUtils.fromString("b")), 0L);
+    }
+
+    @Test
+    public void testSecondaryIndex() {
+        TableValueImpl<Object, MapValue<Object, Object>> table =
+                new TableValueImpl<>(new BTableType(READONLY_ROW_TYPE, new String[]{"id"}, false));
+        BString group = StringUtils.fromString("group");
+        table.addIndex(group, false);
+        for (long i = 0; i < 100; i++) {
+            table.add(readOnlyRow("id", i, "group", i % 10));
+        }
+        Assert.assertEquals(ids(table.getRowsWithFieldValue(group, 3L)), Arrays.asList(3L, 13L, 23L, 33L, 43L, 53L,
+                63L, 73L, 83L, 93L));
+
+        // The index follows removals and replacements, and rows keep their position.
+        table.remove(13L);
+        table.put(23L, readOnlyRow("id", 23L, "group", 4L));
+        table.put(4L, readOnlyRow("id", 4L, "group", 3L));
+        Assert.assertEquals(ids(table.getRowsWithFieldValue(group, 3L)), Arrays.asList(3L, 4L, 33L, 43L, 53L, 63L,
+                73L, 83L, 93L));
+        Assert.assertTrue(table.getRowsWithFieldValue(group, 10L).isEmpty());
+        Assert.assertNull(table.getRowsWithFieldValue(StringUtils.fromString("id"), 3L));
+
+        table.clear();
+        table.add(readOnlyRow("id", 1L, "group", 3L));
+        Assert.assertEquals(ids(table.getRowsWithFieldValue(group, 3L)), Arrays.asList(1L));
+    }
+
+    @Test
+    public void testSortedSecondaryIndex() {
+        TableValueImpl<Object, MapValue<Object, Object>> table =
+                new TableValueImpl<>(new BTableType(READONLY_ROW_TYPE, new String[]{"id"}, false));
+        BString score = StringUtils.fromString("score");
+        for (long i = 0; i < 20; i++) {
+            table.add(readOnlyRow("id", i, "score", (double) (20 - i)));
+        }
+        table.add(readOnlyRow("id", 20L, "score", -0.0));
+        table.addIndex(score, true);
+
+        Assert.assertEquals(ids(table.getRowsInFieldRange(score, 5.0, true, 8.0, false)), Arrays.asList(13L, 14L,
+                15L));
+        Assert.assertEquals(ids(table.getRowsInFieldRange(score, null, false, 0.0, true)), Arrays.asList(20L));
+        Assert.assertEquals(table.getRowsInFieldRange(score, 18.0, false, null, false).size(), 2);
+        Assert.assertNull(table.getRowsInFieldRange(score, Double.NaN, false, null, false));
+        Assert.assertNull(table.getRowsWithFieldValue(score, 5.0));
+    }
+
+    @Test(expectedExceptions = ErrorValue.class)
+    public void testIndexOnMutableField() {
+        TableValueImpl<Object, MapValue<Object, Object>> table =
+                new TableValueImpl<>(new BTableType(ROW_TYPE, new String[]{"id"}, false));
+        table.addIndex(StringUtils.fromString("group"), false);
+    }
+
+    private List<Object> ids(List<MapValue<Object, Object>> rows) {
+        List<Object> ids = new ArrayList<>();
+        for (MapValue<Object, Object> row : rows) {
+            ids.add(row.get(StringUtils.fromString("id")));
+        }
+        return ids;
+    }
+
+    private MapValue<Object, Object> readOnlyRow(Object... fields) {
+        MapValue<Object, Object> row = new MapValueImpl<>(READONLY_ROW_TYPE);
+        for (int i = 0; i < fields.length; i += 2) {
+            row.populateInitialValue(StringUtils.fromString((String) fields[i]), fields[i + 1]);
+        }
+        return row;
+    }
+
+    private MapValue<Object, Object> row(Object... fields) {
+        MapValue<Object, Object> row = new MapValueImpl<>(ROW_TYPE);
+        for (int i = 0; i < fields.length; i += 2) {
+            row.put(StringUtils.fromString((String) fields[i]), fields[i + 1]);
+        }
+        return row;
+    }
+}
@@ -0,0 +1,77 @@
+/*
+*  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+*
+*  WSO2 Inc. licenses this file to you under the Apache License,
+*  Version 2.0 (the "License"); you may not use this file except
+*  in compliance with the License.
+*  You may obtain a copy of the License at
+*
+*    http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing,
+* software distributed under the License is distributed on an
+* "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+* KIND, either express or implied.  See the License for the
+* specific language governing permissions and limitations
+* under the License.
+*/
+
+package org.ballerinalang.runtime.test;
+
+import org.ballerinalang.jvm.observability.tracer.ConstTraceSampler;
+import org.ballerinalang.jvm.observability.tracer.ProbabilisticTraceSampler;
+import org.ballerinalang.jvm.observability.tracer.RateLimitingTraceSampler;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Test cases for the tracing samplers.
+ */
+public class TraceSamplerTests {
+
+    private static final String SERVICE = "testService";
+    private static final String OPERATION = "testResource";
+
+    @Test
+    public void testConstSampler() {
+        Assert.assertTrue(new ConstTraceSampler(true).isSampled(SERVICE, OPERATION));
+        Assert.assertFalse(new ConstTraceSampler(false).isSampled(SERVICE, OPERATION));
+    }
+
+    @Test
+    public void testProbabilisticSampler() {
+        ProbabilisticTraceSampler none = new ProbabilisticTraceSampler(0);
+        ProbabilisticTraceSampler all = new ProbabilisticTraceSampler(1);
+        for (int i = 0; i < 1000; i++) {
+            Assert.assertFalse(none.isSampled(SERVICE, OPERATION));
+            Assert.assertTrue(all.isSampled(SERVICE, OPERATION));
+        }
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void testInvalidSamplingRate() {
+        new ProbabilisticTraceSampler(1.5);
+    }
+
+    @Test
+    public void testRateLimitingSampler() {
+        AtomicLong nanoTime = new AtomicLong();
+        RateLimitingTraceSampler sampler = new RateLimitingTraceSampler(2, nanoTime::get);
+        Assert.assertTrue(sampler.isSampled(SERVICE, OPERATION));
+        Assert.assertTrue(sampler.isSampled(SERVICE, OPERATION));
+        Assert.assertFalse(sampler.isSampled(SERVICE, OPERATION));
+
+        nanoTime.addAndGet(TimeUnit.MILLISECONDS.toNanos(500));
+        Assert.assertTrue(sampler.isSampled(SERVICE, OPERATION));
+        Assert.assertFalse(sampler.isSampled(SERVICE, OPERATION));
+
+        // The balance does not grow beyond the rate while no traces are started
+        nanoTime.addAndGet(TimeUnit.SECONDS.toNanos(10));
+        Assert.assertTrue(sampler.isSampled(SERVICE, OPERATION));
+        Assert.assertTrue(sampler.isSampled(SERVICE, OPERATION));
+        Assert.assertFalse(sampler.isSampled(SERVICE, OPERATION));
+    }
+}
@@ -0,0 +1,208 @@
+/*
+*  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+*
+*  WSO2 Inc. licenses this file to you under the Apache License,
+*  Version 2.0 (the "License"); you may not use this file except
+*  in compliance with the License.
+*  You may obtain a copy of the License at
+*
+*    http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing,
+* software distributed under the License is distributed on an
+* "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+* KIND, either express or implied.  See the License for the
+* specific language governing permissions and limitations
+* under the License.
+*/
+
+package org.ballerinalang.runtime.test;
+
+import io.opentracing.mock.MockSpan;
+import io.opentracing.mock.MockTracer;
+import org.ballerinalang.config.ConfigRegistry;
+import org.ballerinalang.jvm.observability.ObserverContext;
+import org.ballerinalang.jvm.observability.tracer.BSpan;
+import org.ballerinalang.jvm.observability.tracer.SampledTrace;
+import org.ballerinalang.jvm.observability.tracer.TraceSampling;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.List;
+
+import static org.ballerinalang.jvm.observability.tracer.TraceConstants.SAMPLER_PARAM_CONFIG;
+import static org.ballerinalang.jvm.observability.tracer.TraceConstants.SAMPLER_TYPE_CONFIG;
+import static org.ballerinalang.jvm.observability.tracer.TraceConstants.TAIL_SAMPLING_ENABLED_CONFIG;
+import static org.ballerinalang.jvm.observability.tracer.TraceConstants.TAIL_SAMPLING_LATENCY_CONFIG;
+import static org.ballerinalang.jvm.observability.tracer.TraceConstants.TAIL_SAMPLING_MAX_SPANS_CONFIG;
+
+/**
+ * Test cases for the spans which are reported for sampled, dropped and deferred traces.
+ */
+public class TraceSamplingTests {
+
+    private static final String SERVICE = "testService";
+    private static final String OPERATION = "testResource";
+    private static final String ONE_HOUR_MILLIS = "3600000";
+
+    private MockTracer tracer;
+
+    @BeforeMethod
+    public void init() {
+        tracer = new MockTracer();
+    }
+
+    @AfterMethod
+    public void reset() {
+        ConfigRegistry configRegistry = ConfigRegistry.getInstance();
+        configRegistry.removeConfiguration(SAMPLER_TYPE_CONFIG);
+        configRegistry.removeConfiguration(SAMPLER_PARAM_CONFIG);
+        configRegistry.removeConfiguration(TAIL_SAMPLING_ENABLED_CONFIG);
+        configRegistry.removeConfiguration(TAIL_SAMPLING_LATENCY_CONFIG);
+        configRegistry.removeConfiguration(TAIL_SAMPLING_MAX_SPANS_CONFIG);
+        TraceSampling.getInstance().loadSampler();
+    }
+
+    @Test
+    public void testHeadSampledSpansAreReportedWhenFinished() {
+        loadSampler("1", false, ONE_HOUR_MILLIS, "10");
+        ObserverContext rootContext = new ObserverContext();
+        SampledTrace trace = TraceSampling.getInstance().startTrace(rootContext, SERVICE, OPERATION, false);
+        Assert.assertFalse(trace.isDeferred());
+        Assert.assertTrue(trace.shouldRecordSpan());
+
+        trace.finishSpan(startSpan(rootContext, "root", trace));
+        Assert.assertEquals(getReportedSpans(), new String[]{"root"});
+    }
+
+    @Test
+    public void testUnsampledSpansAreNotCreatedWithoutTailSampling() {
+        loadSampler("0", false, ONE_HOUR_MILLIS, "10");
+        SampledTrace trace = TraceSampling.getInstance().startTrace(new ObserverContext(), SERVICE, OPERATION, false);
+        Assert.assertFalse(trace.isDeferred());
+        Assert.assertFalse(trace.shouldRecordSpan());
+    }
+
+    @Test
+    public void testPropagatedTraceIsSampled() {
+        loadSampler("0", true, ONE_HOUR_MILLIS, "10");
+        SampledTrace trace = TraceSampling.getInstance().startTrace(new ObserverContext(), SERVICE, OPERATION, true);
+        Assert.assertFalse(trace.isDeferred());
+        Assert.assertTrue(trace.shouldRecordSpan());
+    }
+
+    @Test
+    public void testDeferredSpansAreReportedWhenTraceCompletes() {
+        loadSampler("0", true, ONE_HOUR_MILLIS, "10");
+        ObserverContext rootContext = new ObserverContext();
+        ObserverContext childContext = createChildContext(rootContext);
+        SampledTrace trace = TraceSampling.getInstance().startTrace(rootContext, SERVICE, OPERATION, false);
+        Assert.assertTrue(trace.isDeferred());
+        Assert.assertTrue(trace.shouldRecordSpan());
+
+        BSpan rootSpan = startSpan(rootContext, "root", trace);
+        BSpan childSpan = startSpan(childContext, "child", trace);
+        trace.markError();
+        trace.finishSpan(childSpan);
+        // Only the first span of the trace completes it
+        trace.complete(childContext);
+        Assert.assertEquals(getReportedSpans(), new String[0]);
+
+        trace.finishSpan(rootSpan);
+        Assert.assertEquals(getReportedSpans(), new String[0]);
+        trace.complete(rootContext);
+        Assert.assertEquals(getReportedSpans(), new String[]{"child", "root"});
+
+        // The spans keep the times at which they were finished
+        List<MockSpan> spans = tracer.finishedSpans();
+        Assert.assertTrue(spans.get(0).startMicros() <= spans.get(0).finishMicros());
+        Assert.assertTrue(spans.get(0).finishMicros() <= spans.get(1).finishMicros());
+        Assert.assertTrue(spans.get(1).startMicros() <= spans.get(0).startMicros());
+    }
+
+    @Test
+    public void testFastTraceIsDropped() {
+        loadSampler("0", true, ONE_HOUR_MILLIS, "10");
+        ObserverContext rootContext = new ObserverContext();
+        ObserverContext childContext = createChildContext(rootContext);
+        SampledTrace trace = TraceSampling.getInstance().startTrace(rootContext, SERVICE, OPERATION, false);
+
+        BSpan childSpan = startSpan(childContext, "child", trace);
+        trace.finishSpan(startSpan(rootContext, "root", trace));
+        trace.complete(rootContext);
+        Assert.assertEquals(getReportedSpans(), new String[0]);
+
+        // A span finished after the trace is completed is dropped with the trace
+        trace.finishSpan(childSpan);
+        Assert.assertEquals(getReportedSpans(), new String[0]);
+    }
+
+    @Test
+    public void testSlowTraceIsReported() {
+        loadSampler("0", true, "0", "10");
+        ObserverContext rootContext = new ObserverContext();
+        ObserverContext childContext = createChildContext(rootContext);
+        SampledTrace trace = TraceSampling.getInstance().startTrace(rootContext, SERVICE, OPERATION, false);
+
+        BSpan childSpan = startSpan(childContext, "child", trace);
+        trace.finishSpan(startSpan(rootContext, "root", trace));
+        trace.complete(rootContext);
+        Assert.assertEquals(getReportedSpans(), new String[]{"root"});
+
+        // A span finished after the trace is completed is reported with the trace
+        trace.finishSpan(childSpan);
+        Assert.assertEquals(getReportedSpans(), new String[]{"root", "child"});
+    }
+
+    @Test
+    public void testDeferredSpansAreLimitedToMaxSpans() {
+        loadSampler("0", true, ONE_HOUR_MILLIS, "2");
+        ObserverContext rootContext = new ObserverContext();
+        SampledTrace trace = TraceSampling.getInstance().startTrace(rootContext, SERVICE, OPERATION, false);
+
+        BSpan rootSpan = startSpan(rootContext, "root", trace);
+        for (int i = 1; i <= 3; i++) {
+            trace.finishSpan(startSpan(createChildContext(rootContext), "child" + i, trace));
+        }
+        trace.markError();
+        trace.finishSpan(rootSpan);
+        trace.complete(rootContext);
+        Assert.assertEquals(getReportedSpans(), new String[]{"child1", "child2"});
+    }
+
+    private static void loadSampler(String samplerParam, boolean tailSamplingEnabled, String latencyMillis,
+                                    String maxSpans) {
+        ConfigRegistry configRegistry = ConfigRegistry.getInstance();
+        configRegistry.addConfiguration(SAMPLER_TYPE_CONFIG, "const");
+        configRegistry.addConfiguration(SAMPLER_PARAM_CONFIG, samplerParam);
+        configRegistry.addConfiguration(TAIL_SAMPLING_ENABLED_CONFIG, String.valueOf(tailSamplingEnabled));
+        configRegistry.addConfiguration(TAIL_SAMPLING_LATENCY_CONFIG, latencyMillis);
+        configRegistry.addConfiguration(TAIL_SAMPLING_MAX_SPANS_CONFIG, maxSpans);
+        TraceSampling.getInstance().loadSampler();
+    }
+
+    private static ObserverContext createChildContext(ObserverContext parent) {
+        ObserverContext observerContext = new ObserverContext();
+        observerContext.setParent(parent);
+        return observerContext;
+    }
+
+    private BSpan startSpan(ObserverContext observerContext, String operationName, SampledTrace trace) {
+        BSpan span = new BSpan(observerContext, false);
+        span.setOperationName(operationName);
+        MockTracer.SpanBuilder spanBuilder = tracer.buildSpan(operationName);
+        if (trace.isDeferred()) {
+            spanBuilder = spanBuilder.withStartTimestamp(trace.currentTimeMicros());
+        }
+        span.setSpan(spanBuilder.start());
+        return span;
+    }
+
+    private String[] getReportedSpans() {
+        return tracer.finishedSpans().stream()
+                .map(MockSpan::operationName)
+                .toArray(String[]::new);
+    }
+}
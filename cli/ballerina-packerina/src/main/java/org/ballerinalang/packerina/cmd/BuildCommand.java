@@ -68,8 +68,11 @@ import static org.ballerinalang.compiler.CompilerOptionName.EXPERIMENTAL_FEATURE
 import static org.ballerinalang.compiler.CompilerOptionName.LOCK_ENABLED;
 import static org.ballerinalang.compiler.CompilerOptionName.NEW_PARSER_ENABLED;
 import static org.ballerinalang.compiler.CompilerOptionName.OFFLINE;
+import static org.ballerinalang.compiler.CompilerOptionName.PARALLEL_QUERIES;
 import static org.ballerinalang.compiler.CompilerOptionName.PRESERVE_WHITESPACE;
 import static org.ballerinalang.compiler.CompilerOptionName.PROJECT_DIR;
+import static org.ballerinalang.compiler.CompilerOptionName.SKIP_FUNCTION_INLINING;
+import static org.ballerinalang.compiler.CompilerOptionName.SKIP_QUERY_FUSION;
 import static org.ballerinalang.compiler.CompilerOptionName.SKIP_TESTS;
 import static org.ballerinalang.compiler.CompilerOptionName.TEST_ENABLED;
 import static org.ballerinalang.jvm.runtime.RuntimeConstants.SYSTEM_PROP_BAL_DEBUG;
@@ -154,6 +157,15 @@ public class BuildCommand implements BLauncherCmd {
     @CommandLine.Option(names = "--dump-bir", hidden = true)
     private boolean dumpBIR;
 
+    @CommandLine.Option(names = "--skip-inlining", hidden = true)
+    private boolean skipInlining;
+
+    @CommandLine.Option(names = "--skip-query-fusion", hidden = true)
+    private boolean skipQueryFusion;
+
+    @CommandLine.Option(names = "--parallel-queries", hidden = true)
+    private boolean parallelQueries;
+
     @CommandLine.Option(names = "--dump-llvm-ir", hidden = true)
     private boolean dumpLLVMIR;
 
@@ -392,6 +404,10 @@ public class BuildCommand implements BLauncherCmd {
         CompilerOptions options = CompilerOptions.getInstance(compilerContext);
         options.put(PROJECT_DIR, this.sourceRootPath.toString());
         options.put(DUMP_BIR, Boolean.toString(dumpBIR));
+        // Inlined calls cannot be stepped into by a debugger.
+        options.put(SKIP_FUNCTION_INLINING, Boolean.toString(skipInlining || this.debugPort != null));
+        options.put(SKIP_QUERY_FUSION, Boolean.toString(skipQueryFusion));
+        options.put(PARALLEL_QUERIES, Boolean.toString(parallelQueries));
         options.put(OFFLINE, Boolean.toString(this.offline));
         options.put(COMPILER_PHASE, CompilerPhase.CODE_GEN.toString());
         options.put(LOCK_ENABLED, Boolean.toString(!this.skipLock));
@@ -65,7 +65,10 @@ import static org.ballerinalang.compiler.CompilerOptionName.EXPERIMENTAL_FEATURE
 import static org.ballerinalang.compiler.CompilerOptionName.LOCK_ENABLED;
 import static org.ballerinalang.compiler.CompilerOptionName.NEW_PARSER_ENABLED;
 import static org.ballerinalang.compiler.CompilerOptionName.OFFLINE;
+import static org.ballerinalang.compiler.CompilerOptionName.PARALLEL_QUERIES;
 import static org.ballerinalang.compiler.CompilerOptionName.PROJECT_DIR;
+import static org.ballerinalang.compiler.CompilerOptionName.SKIP_FUNCTION_INLINING;
+import static org.ballerinalang.compiler.CompilerOptionName.SKIP_QUERY_FUSION;
 import static org.ballerinalang.compiler.CompilerOptionName.SKIP_TESTS;
 import static org.ballerinalang.compiler.CompilerOptionName.TEST_ENABLED;
 import static org.ballerinalang.jvm.runtime.RuntimeConstants.SYSTEM_PROP_BAL_DEBUG;
@@ -113,6 +116,15 @@ public class RunCommand implements BLauncherCmd {
     @CommandLine.Option(names = "--dump-bir", hidden = true)
     private boolean dumpBIR;
 
+    @CommandLine.Option(names = "--skip-inlining", hidden = true)
+    private boolean skipInlining;
+
+    @CommandLine.Option(names = "--skip-query-fusion", hidden = true)
+    private boolean skipQueryFusion;
+
+    @CommandLine.Option(names = "--parallel-queries", hidden = true)
+    private boolean parallelQueries;
+
     @CommandLine.Option(names = "--experimental", description = "Enable experimental language features.")
     private boolean experimentalFlag;
 
@@ -270,6 +282,10 @@ public class RunCommand implements BLauncherCmd {
         options.put(OFFLINE, Boolean.toString(this.offline));
         options.put(COMPILER_PHASE, CompilerPhase.CODE_GEN.toString());
         options.put(DUMP_BIR, Boolean.toString(dumpBIR));
+        // Inlined calls cannot be stepped into by a debugger.
+        options.put(SKIP_FUNCTION_INLINING, Boolean.toString(skipInlining || this.debugPort != null));
+        options.put(SKIP_QUERY_FUSION, Boolean.toString(skipQueryFusion));
+        options.put(PARALLEL_QUERIES, Boolean.toString(parallelQueries));
         options.put(LOCK_ENABLED, Boolean.toString(true));
         options.put(SKIP_TESTS, Boolean.toString(true));
         options.put(TEST_ENABLED, Boolean.toString(false));
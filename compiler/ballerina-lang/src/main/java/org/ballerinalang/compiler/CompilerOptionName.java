@@ -58,7 +58,13 @@ public enum CompilerOptionName {
 
     EXPERIMENTAL_FEATURES_ENABLED("experimentalFeaturesEnabled"),
 
-    TOOLING_COMPILATION("toolingCompilation");
+    TOOLING_COMPILATION("toolingCompilation"),
+
+    SKIP_FUNCTION_INLINING("skipFunctionInlining"),
+
+    SKIP_QUERY_FUSION("skipQueryFusion"),
+
+    PARALLEL_QUERIES("parallelQueries");
 
     public final String name;
 
@@ -261,7 +261,8 @@ public class BIRGen extends BLangNodeVisitor {
                     testPkg.imports.remove(mod);
                 }
                 testPkg.accept(this);
-                this.birOptimizer.optimizePackage(testBirPkg);
+                // Calls to mocked functions are replaced after optimization, so they are not inlined.
+                this.birOptimizer.optimizePackage(testBirPkg, false);
                 testPkg.symbol.bir = testBirPkg;
                 Map<String, String> mockFunctionMap = astPkg.getTestablePkg().getMockFunctionNamesMap();
                 if (!mockFunctionMap.isEmpty()) {
@@ -220,6 +220,8 @@ public class JvmConstants {
     public static final String OBSERVE_UTILS = "org/ballerinalang/jvm/observability/ObserveUtils";
     public static final String START_RESOURCE_OBSERVATION_METHOD = "startResourceObservation";
     public static final String START_CALLABLE_OBSERVATION_METHOD = "startCallableObservation";
+    public static final String CREATE_RESOURCE_OBSERVATION_DESCRIPTOR_METHOD = "createResourceObservationDescriptor";
+    public static final String CREATE_CALLABLE_OBSERVATION_DESCRIPTOR_METHOD = "createCallableObservationDescriptor";
     public static final String REPORT_ERROR_METHOD = "reportError";
     public static final String STOP_OBSERVATION_METHOD = "stopObservation";
     public static final String OBSERVABLE_ANNOTATION = "ballerina/observe/Observable";
@@ -243,4 +245,5 @@ public class JvmConstants {
     public static final String CLASS_TOO_LARGE = "ClassTooLarge";
 
     public static final String GLOBAL_LOCK_NAME = "lock";
+    public static final String GLOBAL_LOCK_FIELD_PREFIX = "$lock";
 }
@@ -233,6 +233,7 @@ public class JvmMethodGen {
     private JvmPackageGen jvmPackageGen;
     private SymbolTable symbolTable;
     private BUnionType errorOrNilType;
+    private JvmYieldAnalyzer yieldAnalyzer;
 
     JvmMethodGen(JvmPackageGen jvmPackageGen) {
 
@@ -241,6 +242,22 @@ public class JvmMethodGen {
         this.errorOrNilType = BUnionType.create(null, symbolTable.errorType, symbolTable.nilType);
     }
 
+    /**
+     * Find the functions of the module being generated which cannot yield, so that their methods are generated
+     * without saving and restoring their frames.
+     *
+     * @param module the module being generated
+     */
+    void analyzeYieldFreeFunctions(BIRPackage module) {
+
+        this.yieldAnalyzer = new JvmYieldAnalyzer(module);
+    }
+
+    private boolean isYieldFree(BIRFunction func) {
+
+        return yieldAnalyzer != null && yieldAnalyzer.isYieldFree(func);
+    }
+
     private static int[] toIntArray(List<Integer> states) {
 
         int[] ints = new int[states.size()];
@@ -1694,6 +1711,13 @@ public class JvmMethodGen {
         returnVarRefIndex = indexMap.getIndex(varDcl);
         genDefaultValue(mv, retType, returnVarRefIndex);
 
+        // functions which cannot yield are never resumed, so they do not keep their state in a frame
+        if (isYieldFree(func)) {
+            genYieldFreeFunctionBody(func, mv, labelGen, errorGen, instGen, module, attachedType, lambdaMetadata,
+                    indexMap, funcName, returnVarRefIndex, localVarOffset, methodStartLabel);
+            return;
+        }
+
         BIRVariableDcl stateVar = new BIRVariableDcl(symbolTable.stringType, //should  be javaInt
                 new Name("state"), null, VarKind.TEMP);
         int stateVarIndex = indexMap.getIndex(stateVar);
@@ -1806,8 +1830,40 @@ public class JvmMethodGen {
         mv.visitLabel(methodEndLabel);
         termGen.genReturnTerm(new Return(null), returnVarRefIndex, func);
 
+        genLocalVariableTable(func, mv, labelGen, indexMap, funcName, localVarOffset, methodStartLabel,
+                methodEndLabel);
+        mv.visitMaxs(0, 0);
+        mv.visitEnd();
+    }
+
+    private void genYieldFreeFunctionBody(BIRFunction func, MethodVisitor mv, LabelGenerator labelGen,
+                                          JvmErrorGen errorGen, JvmInstructionGen instGen, BIRPackage module,
+                                          BType attachedType, LambdaMetadata lambdaMetadata,
+                                          BIRVarToJVMIndexMap indexMap, String funcName, int returnVarRefIndex,
+                                          int localVarOffset, Label methodStartLabel) {
+
+        JvmTerminatorGen termGen = new JvmTerminatorGen(mv, indexMap, labelGen, errorGen, module, instGen,
+                jvmPackageGen);
+        generateBasicBlocks(mv, func.basicBlocks, labelGen, errorGen, instGen, termGen, func, returnVarRefIndex,
+                -1, localVarOffset, false, module, attachedType, lambdaMetadata);
+
+        Label methodEndLabel = new Label();
+        mv.visitLabel(methodEndLabel);
+        termGen.genReturnTerm(new Return(null), returnVarRefIndex, func);
+
+        genLocalVariableTable(func, mv, labelGen, indexMap, funcName, localVarOffset, methodStartLabel,
+                methodEndLabel);
+        mv.visitMaxs(0, 0);
+        mv.visitEnd();
+    }
+
+    private static void genLocalVariableTable(BIRFunction func, MethodVisitor mv, LabelGenerator labelGen,
+                                              BIRVarToJVMIndexMap indexMap, String funcName, int localVarOffset,
+                                              Label methodStartLabel, Label methodEndLabel) {
+
         // Create Local Variable Table
-        k = localVarOffset;
+        List<BIRVariableDcl> localVars = func.localVars;
+        int k = localVarOffset;
         // Add strand variable to LVT
         mv.visitLocalVariable("__strand", String.format("L%s;", STRAND), null, methodStartLabel, methodEndLabel,
                 localVarOffset);
@@ -1839,9 +1895,6 @@ public class JvmMethodGen {
             }
             k = k + 1;
         }
-
-        mv.visitMaxs(0, 0);
-        mv.visitEnd();
     }
 
     private static boolean isModuleStartFunction(BIRPackage module, String functionName) {
@@ -1858,6 +1911,8 @@ public class JvmMethodGen {
 
         int j = 0;
         String funcName = cleanupFunctionName(func.name.value);
+        // the methods of yield-free functions are never resumed, so they do not keep track of their state
+        boolean trackState = !isArg && !isYieldFree(func);
 
         int caseIndex = 0;
 
@@ -1868,7 +1923,7 @@ public class JvmMethodGen {
             // create jvm label
             Label bbLabel = labelGen.getLabel(funcName + bb.id.value);
             mv.visitLabel(bbLabel);
-            if (j == 0 && !isArg) {
+            if (j == 0 && trackState) {
                 // SIPUSH range is (-32768 to 32767) so if the state index goes beyond that, need to use visitLdcInsn
                 mv.visitIntInsn(SIPUSH, caseIndex);
                 mv.visitVarInsn(ISTORE, stateVarIndex);
@@ -2018,7 +2073,7 @@ public class JvmMethodGen {
             mv.visitLabel(bbEndLable);
 
             BIRTerminator terminator = bb.terminator;
-            if (!isArg) {
+            if (trackState) {
                 // SIPUSH range is (-32768 to 32767) so if the state index goes beyond that, need to use visitLdcInsn
                 mv.visitIntInsn(SIPUSH, caseIndex);
                 mv.visitVarInsn(ISTORE, stateVarIndex);
@@ -2047,7 +2102,11 @@ public class JvmMethodGen {
 
             BIRBasicBlock thenBB = terminator.thenBB;
             if (thenBB != null) {
-                genYieldCheck(mv, termGen.getLabelGenerator(), thenBB, funcName, localVarOffset);
+                if (yieldAnalyzer != null && yieldAnalyzer.isYieldFreeCall(terminator)) {
+                    mv.visitJumpInsn(GOTO, termGen.getLabelGenerator().getLabel(funcName + thenBB.id.value));
+                } else {
+                    genYieldCheck(mv, termGen.getLabelGenerator(), thenBB, funcName, localVarOffset);
+                }
             }
             j += 1;
         }
@@ -2803,6 +2862,10 @@ public class JvmMethodGen {
 
         String pkgName = getPackageName(pkg.org.value, pkg.name.value, pkg.version.value);
         BIRFunction currentFunc = getFunction(func);
+        if (isYieldFree(currentFunc)) {
+            // yield-free functions never save their frames
+            return;
+        }
         String frameClassName = getFrameClassName(pkgName, currentFunc.name.value, attachedType);
         ClassWriter cw = new BallerinaClassWriter(COMPUTE_FRAMES);
         if (currentFunc.pos != null && currentFunc.pos.src != null) {
@@ -80,7 +80,10 @@ import java.util.stream.Collectors;
 
 import static org.objectweb.asm.Opcodes.INVOKESTATIC;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.B_STRING_VALUE;
+import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.CREATE_CALLABLE_OBSERVATION_DESCRIPTOR_METHOD;
+import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.CREATE_RESOURCE_OBSERVATION_DESCRIPTOR_METHOD;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.ERROR_VALUE;
+import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.HANDLE_VALUE;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.OBJECT_VALUE;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.OBSERVABLE_ANNOTATION;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.OBSERVE_UTILS;
@@ -92,6 +95,10 @@ import static org.wso2.ballerinalang.compiler.bir.codegen.JvmPackageGen.getPacka
 
 /**
  * BIR desugar to inject observations class.
+ * <p>
+ * The names and main tags of each observed call site are known at compile time. They are passed once to create an
+ * observation descriptor of the call site when the module is initialized, and the descriptor is passed to the start
+ * of each observation of the call site.
  *
  * @since 2.0.0
  */
@@ -109,16 +116,20 @@ class JvmObservabilityGen {
     private int lambdaIndex;
     private int desugaredBBIndex;
     private int constantIndex;
+    private int descriptorIndex;
 
     private Map<Object, BIROperand> compileTimeConstants;
+    private List<JIMethodCall> descriptorCreateCalls;
 
     JvmObservabilityGen(JvmPackageGen pkgGen) {
         compileTimeConstants = new HashMap<>();
+        descriptorCreateCalls = new ArrayList<>();
         packageCache = pkgGen.packageCache;
         symbolTable = pkgGen.symbolTable;
         lambdaIndex = 0;
         desugaredBBIndex = 0;
         constantIndex = 0;
+        descriptorIndex = 0;
     }
 
     /**
@@ -163,6 +174,13 @@ class JvmObservabilityGen {
                     operand.variableDcl.type, operand);
             constInitBB.instructions.add(constLoadIns);
         }
+        // Adding the creation of the observation descriptors after the constants they are created from are loaded
+        for (JIMethodCall descriptorCreateCall : descriptorCreateCalls) {
+            BIRBasicBlock descriptorInitBB = insertBasicBlock(initFunc, 1);
+            swapBasicBlockTerminator(constInitBB, descriptorInitBB);
+            descriptorCreateCall.thenBB = descriptorInitBB;
+            constInitBB.terminator = descriptorCreateCall;
+        }
     }
 
     /**
@@ -571,14 +589,17 @@ class JvmObservabilityGen {
         BIROperand pkgOperand = generateGlobalConstantOperand(pkg, symbolTable.stringType, pkgId);
         BIROperand originalInsPosOperand = generateGlobalConstantOperand(pkg, symbolTable.stringType, position);
 
+        BIROperand descriptorOperand = generateObservationDescriptorOperand(pkg,
+                CREATE_RESOURCE_OBSERVATION_DESCRIPTOR_METHOD, String.format("(L%s;L%s;L%s;L%s;)L%s;",
+                        B_STRING_VALUE, B_STRING_VALUE, B_STRING_VALUE, B_STRING_VALUE, HANDLE_VALUE),
+                Arrays.asList(serviceNameOperand, resourceOperand, pkgOperand, originalInsPosOperand));
+
         JIMethodCall observeStartCallTerminator = new JIMethodCall(null);
         observeStartCallTerminator.invocationType = INVOKESTATIC;
         observeStartCallTerminator.jClassName = OBSERVE_UTILS;
-        observeStartCallTerminator.jMethodVMSig = String.format("(L%s;L%s;L%s;L%s;)V", B_STRING_VALUE, B_STRING_VALUE,
-                B_STRING_VALUE, B_STRING_VALUE);
+        observeStartCallTerminator.jMethodVMSig = String.format("(L%s;)V", HANDLE_VALUE);
         observeStartCallTerminator.name = START_RESOURCE_OBSERVATION_METHOD;
-        observeStartCallTerminator.args = Arrays.asList(serviceNameOperand, resourceOperand, pkgOperand,
-                originalInsPosOperand);
+        observeStartCallTerminator.args = Collections.singletonList(descriptorOperand);
         observeStartBB.terminator = observeStartCallTerminator;
     }
 
@@ -610,14 +631,18 @@ class JvmObservabilityGen {
         BIROperand originalInsPosOperand = generateGlobalConstantOperand(pkg, symbolTable.stringType, position);
         BIROperand actionOperand = generateGlobalConstantOperand(pkg, symbolTable.stringType, action);
 
+        BIROperand descriptorOperand = generateObservationDescriptorOperand(pkg,
+                CREATE_CALLABLE_OBSERVATION_DESCRIPTOR_METHOD, String.format("(ZZZL%s;L%s;L%s;)L%s;",
+                        B_STRING_VALUE, B_STRING_VALUE, B_STRING_VALUE, HANDLE_VALUE),
+                Arrays.asList(isRemoteOperand, isMainEntryPointOperand, isWorkerOperand, actionOperand, pkgOperand,
+                        originalInsPosOperand));
+
         JIMethodCall observeStartCallTerminator = new JIMethodCall(desugaredInsPos);
         observeStartCallTerminator.invocationType = INVOKESTATIC;
         observeStartCallTerminator.jClassName = OBSERVE_UTILS;
-        observeStartCallTerminator.jMethodVMSig = String.format("(ZZZL%s;L%s;L%s;L%s;)V", OBJECT_VALUE, B_STRING_VALUE,
-                B_STRING_VALUE, B_STRING_VALUE);
+        observeStartCallTerminator.jMethodVMSig = String.format("(L%s;L%s;)V", OBJECT_VALUE, HANDLE_VALUE);
         observeStartCallTerminator.name = START_CALLABLE_OBSERVATION_METHOD;
-        observeStartCallTerminator.args = Arrays.asList(isRemoteOperand, isMainEntryPointOperand, isWorkerOperand,
-                objectOperand, actionOperand, pkgOperand, originalInsPosOperand);
+        observeStartCallTerminator.args = Arrays.asList(objectOperand, descriptorOperand);
         observeStartBB.terminator = observeStartCallTerminator;
     }
 
@@ -709,6 +734,36 @@ class JvmObservabilityGen {
         });
     }
 
+    /**
+     * Generate an operand holding the observation descriptor of a call site. The descriptor is created once when the
+     * module is initialized, from the compile-time known names and tags of the call site.
+     *
+     * @param pkg The package which should contain the descriptor
+     * @param createMethod The name of the method which creates the descriptor
+     * @param createMethodVMSig The signature of the method which creates the descriptor
+     * @param args The compile time constant operands passed to the method which creates the descriptor
+     * @return The generated operand which will pass the descriptor
+     */
+    private BIROperand generateObservationDescriptorOperand(BIRPackage pkg, String createMethod,
+                                                            String createMethodVMSig, List<BIROperand> args) {
+        PackageID pkgId = new PackageID(pkg.org, pkg.name, pkg.version);
+        BIRGlobalVariableDcl descriptorVariableDcl = new BIRGlobalVariableDcl(COMPILE_TIME_CONST_POS, 0,
+                symbolTable.handleType, pkgId, new Name("$observabilityDescriptor" + descriptorIndex++),
+                VarScope.GLOBAL, VarKind.CONSTANT, "");
+        pkg.globalVars.add(descriptorVariableDcl);
+        BIROperand descriptorOperand = new BIROperand(descriptorVariableDcl);
+
+        JIMethodCall descriptorCreateCall = new JIMethodCall(null);
+        descriptorCreateCall.invocationType = INVOKESTATIC;
+        descriptorCreateCall.jClassName = OBSERVE_UTILS;
+        descriptorCreateCall.jMethodVMSig = createMethodVMSig;
+        descriptorCreateCall.name = createMethod;
+        descriptorCreateCall.args = args;
+        descriptorCreateCall.lhsOp = descriptorOperand;
+        descriptorCreateCalls.add(descriptorCreateCall);
+        return descriptorOperand;
+    }
+
     /**
      * Create and insert a new basic block into a function in the specified index.
      *
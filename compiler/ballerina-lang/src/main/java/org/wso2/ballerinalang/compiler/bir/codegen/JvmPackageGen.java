@@ -36,12 +36,14 @@ import org.wso2.ballerinalang.compiler.bir.codegen.interop.JInteropException;
 import org.wso2.ballerinalang.compiler.bir.codegen.interop.OldStyleExternalFunctionWrapper;
 import org.wso2.ballerinalang.compiler.bir.model.BIRInstruction;
 import org.wso2.ballerinalang.compiler.bir.model.BIRNode;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRBasicBlock;
 import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRFunction;
 import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRGlobalVariableDcl;
 import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRPackage;
 import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRTypeDefinition;
 import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRVariableDcl;
 import org.wso2.ballerinalang.compiler.bir.model.BIRNonTerminator.NewInstance;
+import org.wso2.ballerinalang.compiler.bir.model.BIRTerminator;
 import org.wso2.ballerinalang.compiler.bir.model.VarKind;
 import org.wso2.ballerinalang.compiler.bir.model.VarScope;
 import org.wso2.ballerinalang.compiler.semantics.model.SymbolTable;
@@ -69,6 +71,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.TreeSet;
 import java.util.concurrent.ConcurrentHashMap;
 
 import static org.objectweb.asm.ClassWriter.COMPUTE_FRAMES;
@@ -78,24 +81,30 @@ import static org.objectweb.asm.Opcodes.ACC_STATIC;
 import static org.objectweb.asm.Opcodes.ACC_SUPER;
 import static org.objectweb.asm.Opcodes.ALOAD;
 import static org.objectweb.asm.Opcodes.DUP;
+import static org.objectweb.asm.Opcodes.GETSTATIC;
 import static org.objectweb.asm.Opcodes.ICONST_0;
 import static org.objectweb.asm.Opcodes.ICONST_1;
 import static org.objectweb.asm.Opcodes.INVOKESPECIAL;
 import static org.objectweb.asm.Opcodes.INVOKESTATIC;
+import static org.objectweb.asm.Opcodes.INVOKEVIRTUAL;
 import static org.objectweb.asm.Opcodes.NEW;
 import static org.objectweb.asm.Opcodes.PUTSTATIC;
 import static org.objectweb.asm.Opcodes.RETURN;
 import static org.objectweb.asm.Opcodes.V1_8;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.CURRENT_MODULE_INIT;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.FILE_NAME_PERIOD_SEPERATOR;
+import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.GLOBAL_LOCK_FIELD_PREFIX;
+import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.GLOBAL_LOCK_NAME;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.JAVA_PACKAGE_SEPERATOR;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.JAVA_THREAD;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.LOCK_STORE;
+import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.LOCK_VALUE;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.MODULE_INIT_CLASS_NAME;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.MODULE_STARTED;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.MODULE_START_ATTEMPTED;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.MODULE_STOP;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.OBJECT;
+import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.STRING_VALUE;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.VALUE_CREATOR;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmDesugarPhase.addDefaultableBooleanVarsToSignature;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmDesugarPhase.rewriteRecordInits;
@@ -221,16 +230,24 @@ public class JvmPackageGen {
         generateField(cw, bType, varName, true);
     }
 
-    private static void generateLockForVariable(ClassWriter cw) {
+    private static void generateLockForVariable(ClassWriter cw, Set<Integer> lockIds) {
 
         String lockStoreClass = "L" + LOCK_STORE + ";";
         FieldVisitor fv;
         fv = cw.visitField(ACC_PUBLIC + ACC_FINAL + ACC_STATIC, "LOCK_STORE", lockStoreClass, null, null);
         fv.visitEnd();
+
+        // Locks are resolved once at class initialization, so that lock statements do not look them up by name.
+        String lockClass = "L" + LOCK_VALUE + ";";
+        for (Integer lockId : lockIds) {
+            fv = cw.visitField(ACC_PUBLIC + ACC_FINAL + ACC_STATIC, GLOBAL_LOCK_FIELD_PREFIX + lockId, lockClass, null,
+                    null);
+            fv.visitEnd();
+        }
     }
 
     private static void generateStaticInitializer(ClassWriter cw, String className,
-                                                  boolean serviceEPAvailable) {
+                                                  boolean serviceEPAvailable, Set<Integer> lockIds) {
 
         MethodVisitor mv = cw.visitMethod(ACC_STATIC, "<clinit>", "()V", null, null);
 
@@ -240,6 +257,14 @@ public class JvmPackageGen {
         mv.visitMethodInsn(INVOKESPECIAL, LOCK_STORE, "<init>", "()V", false);
         mv.visitFieldInsn(PUTSTATIC, className, "LOCK_STORE", lockStoreClass);
 
+        for (Integer lockId : lockIds) {
+            mv.visitFieldInsn(GETSTATIC, className, "LOCK_STORE", lockStoreClass);
+            mv.visitLdcInsn(GLOBAL_LOCK_NAME + lockId);
+            mv.visitMethodInsn(INVOKEVIRTUAL, LOCK_STORE, "getLockFromMap",
+                    String.format("(L%s;)L%s;", STRING_VALUE, LOCK_VALUE), false);
+            mv.visitFieldInsn(PUTSTATIC, className, GLOBAL_LOCK_FIELD_PREFIX + lockId, "L" + LOCK_VALUE + ";");
+        }
+
         setServiceEPAvailableField(cw, mv, serviceEPAvailable, className);
         setModuleStatusField(cw, mv, className);
 
@@ -473,6 +498,9 @@ public class JvmPackageGen {
         // desugar the record init function
         rewriteRecordInits(module.typeDefs);
 
+        // find the functions which cannot yield, before their methods and frame classes are generated
+        jvmMethodGen.analyzeYieldFreeFunctions(module);
+
         // generate object/record value classes
         JvmValueGen valueGen = new JvmValueGen(module, this, jvmMethodGen);
         valueGen.generateValueClasses(jarEntries);
@@ -489,9 +517,33 @@ public class JvmPackageGen {
         return new CompiledJarFile(moduleInitClass, jarEntries);
     }
 
+    private static Set<Integer> getLockIds(BIRPackage module) {
+
+        Set<Integer> lockIds = new TreeSet<>();
+        for (BIRFunction func : module.functions) {
+            addLockIds(func, lockIds);
+        }
+        for (BIRTypeDefinition typeDef : module.typeDefs) {
+            for (BIRFunction func : typeDef.attachedFuncs) {
+                addLockIds(func, lockIds);
+            }
+        }
+        return lockIds;
+    }
+
+    private static void addLockIds(BIRFunction func, Set<Integer> lockIds) {
+
+        for (BIRBasicBlock bb : func.basicBlocks) {
+            if (bb.terminator instanceof BIRTerminator.Lock) {
+                lockIds.add(((BIRTerminator.Lock) bb.terminator).lockId);
+            }
+        }
+    }
+
     private void generateModuleClasses(BIRPackage module, Map<String, byte[]> jarEntries, String moduleInitClass,
                                        Map<String, JavaClass> jvmClassMapping, List<PackageID> moduleImports) {
 
+        Set<Integer> lockIds = getLockIds(module);
         jvmClassMapping.entrySet().parallelStream().forEach(entry -> {
             String moduleClass = entry.getKey();
             JavaClass javaClass = entry.getValue();
@@ -525,8 +577,8 @@ public class JvmPackageGen {
                 }
                 jvmMethodGen.generateLambdaForPackageInits(cw, module, moduleClass, moduleImports);
 
-                generateLockForVariable(cw);
-                generateStaticInitializer(cw, moduleClass, serviceEPAvailable);
+                generateLockForVariable(cw, lockIds);
+                generateStaticInitializer(cw, moduleClass, serviceEPAvailable, lockIds);
                 generateCreateTypesMethod(cw, module.typeDefs, moduleInitClass, symbolTable);
                 jvmMethodGen.generateModuleInitializer(cw, module, moduleInitClass);
                 jvmMethodGen.generateExecutionStopMethod(cw, moduleInitClass, module, moduleImports);
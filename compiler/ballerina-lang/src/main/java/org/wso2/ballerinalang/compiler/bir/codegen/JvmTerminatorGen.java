@@ -100,6 +100,7 @@ import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.ERROR_VAL
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.FUNCTION;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.FUNCTION_POINTER;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.FUTURE_VALUE;
+import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.GLOBAL_LOCK_FIELD_PREFIX;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.GLOBAL_LOCK_NAME;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.HANDLE_VALUE;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.IS_BLOCKED_ON_EXTERN_FIELD;
@@ -238,7 +239,7 @@ public class JvmTerminatorGen {
                 this.genLockTerm((BIRTerminator.Lock) terminator, funcName, localVarOffset);
                 return;
             case UNLOCK:
-                this.genUnlockTerm((BIRTerminator.Unlock) terminator, funcName);
+                this.genUnlockTerm((BIRTerminator.Unlock) terminator, funcName, localVarOffset);
                 return;
             case GOTO:
                 this.genGoToTerm((BIRTerminator.GOTO) terminator, funcName);
@@ -303,33 +304,33 @@ public class JvmTerminatorGen {
     private void genLockTerm(BIRTerminator.Lock lockIns, String funcName, int localVarOffset) {
 
         Label gotoLabel = this.labelGen.getLabel(funcName + lockIns.lockedBB.id.value);
-        String lockStore = "L" + LOCK_STORE + ";";
         String initClassName = jvmPackageGen.lookupGlobalVarClassName(this.currentPackageName, "LOCK_STORE");
-        String lockName = GLOBAL_LOCK_NAME + lockIns.lockId;
-        this.mv.visitFieldInsn(GETSTATIC, initClassName, "LOCK_STORE", lockStore);
-        this.mv.visitLdcInsn(lockName);
-        this.mv.visitMethodInsn(INVOKEVIRTUAL, LOCK_STORE, "getLockFromMap",
-                String.format("(L%s;)L%s;", STRING_VALUE, LOCK_VALUE), false);
+        this.mv.visitFieldInsn(GETSTATIC, initClassName, GLOBAL_LOCK_FIELD_PREFIX + lockIns.lockId,
+                "L" + LOCK_VALUE + ";");
         this.mv.visitVarInsn(ALOAD, localVarOffset);
-        this.mv.visitMethodInsn(INVOKEVIRTUAL, LOCK_VALUE, "lock", String.format("(L%s;)Z", STRAND), false);
+        // lock blocks which only read the locked variables can run concurrently with each other
+        String lockMethod = lockIns.readOnly ? "lockShared" : "lock";
+        this.mv.visitMethodInsn(INVOKEVIRTUAL, LOCK_VALUE, lockMethod, String.format("(L%s;)Z", STRAND), false);
         this.mv.visitInsn(POP);
         genYieldCheckForLock(this.mv, this.labelGen, funcName, localVarOffset);
         this.mv.visitJumpInsn(GOTO, gotoLabel);
     }
 
-    private void genUnlockTerm(BIRTerminator.Unlock unlockIns, String funcName) {
+    private void genUnlockTerm(BIRTerminator.Unlock unlockIns, String funcName, int localVarOffset) {
 
         Label gotoLabel = this.labelGen.getLabel(funcName + unlockIns.unlockBB.id.value);
 
         // unlocked in the same order https://yarchive.net/comp/linux/lock_ordering.html
-        String lockStore = "L" + LOCK_STORE + ";";
-        String lockName = GLOBAL_LOCK_NAME + unlockIns.relatedLock.lockId;
         String initClassName = jvmPackageGen.lookupGlobalVarClassName(this.currentPackageName, "LOCK_STORE");
-        this.mv.visitFieldInsn(GETSTATIC, initClassName, "LOCK_STORE", lockStore);
-        this.mv.visitLdcInsn(lockName);
-        this.mv.visitMethodInsn(INVOKEVIRTUAL, LOCK_STORE, "getLockFromMap", String.format("(L%s;)L%s;",
-                STRING_VALUE, LOCK_VALUE), false);
-        this.mv.visitMethodInsn(INVOKEVIRTUAL, LOCK_VALUE, "unlock", "()V", false);
+        this.mv.visitFieldInsn(GETSTATIC, initClassName, GLOBAL_LOCK_FIELD_PREFIX + unlockIns.relatedLock.lockId,
+                "L" + LOCK_VALUE + ";");
+        if (unlockIns.relatedLock.readOnly) {
+            this.mv.visitVarInsn(ALOAD, localVarOffset);
+            this.mv.visitMethodInsn(INVOKEVIRTUAL, LOCK_VALUE, "unlockShared", String.format("(L%s;)V", STRAND),
+                    false);
+        } else {
+            this.mv.visitMethodInsn(INVOKEVIRTUAL, LOCK_VALUE, "unlock", "()V", false);
+        }
 
         this.mv.visitJumpInsn(GOTO, gotoLabel);
     }
@@ -459,7 +460,13 @@ public class JvmTerminatorGen {
                     "Ljava/lang/Object;");
             // store return
             BIROperand lhsOpVarDcl = callIns.lhsOp;
-            addJUnboxInsn(this.mv, ((JType) lhsOpVarDcl.variableDcl.type));
+            BType lhsType = lhsOpVarDcl.variableDcl.type;
+            if (lhsType instanceof JType) {
+                addJUnboxInsn(this.mv, (JType) lhsType);
+            } else {
+                // Java methods called by the desugared code may return Ballerina values
+                JvmInstructionGen.addUnboxInsn(this.mv, lhsType);
+            }
             this.storeToVar(lhsOpVarDcl.variableDcl);
         }
 
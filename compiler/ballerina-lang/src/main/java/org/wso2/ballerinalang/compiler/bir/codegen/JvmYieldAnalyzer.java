@@ -0,0 +1,168 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.wso2.ballerinalang.compiler.bir.codegen;
+
+import org.ballerinalang.model.elements.PackageID;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRBasicBlock;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRFunction;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRPackage;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRTypeDefinition;
+import org.wso2.ballerinalang.compiler.bir.model.BIRTerminator;
+import org.wso2.ballerinalang.compiler.bir.model.BIRTerminator.Call;
+import org.wso2.ballerinalang.compiler.bir.model.InstructionKind;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.wso2.ballerinalang.compiler.bir.codegen.JvmMethodGen.isExternFunc;
+
+/**
+ * Finds the functions of a module which can never yield the strand they run on.
+ * <p>
+ * A function yields when it interacts with workers, waits on futures, acquires locks, or calls a function which
+ * yields. The JVM methods of the functions which cannot yield do not need to save their frame to the strand or to
+ * restore it, so they are generated as plain JVM methods, and their callers do not check whether the strand was
+ * yielded once they return. The analysis is done over the call graph of the module, and it is conservative: extern
+ * functions, and virtual, function pointer and cross-module calls are assumed to yield.
+ *
+ * @since 2.0.0
+ */
+class JvmYieldAnalyzer {
+
+    private final BIRPackage module;
+    private final Map<String, BIRFunction> moduleFunctions = new HashMap<>();
+    private final Set<BIRFunction> yieldFreeFunctions = Collections.newSetFromMap(new IdentityHashMap<>());
+
+    JvmYieldAnalyzer(BIRPackage module) {
+
+        this.module = module;
+        List<BIRFunction> candidates = new ArrayList<>();
+        for (BIRFunction func : module.functions) {
+            moduleFunctions.put(func.name.value, func);
+            addCandidate(candidates, func);
+        }
+        for (BIRTypeDefinition typeDef : module.typeDefs) {
+            if (typeDef.attachedFuncs == null) {
+                continue;
+            }
+            for (BIRFunction func : typeDef.attachedFuncs) {
+                addCandidate(candidates, func);
+            }
+        }
+
+        // Start by assuming all candidates are yield-free, and drop the ones which call a yielding function until
+        // nothing changes. Recursive functions remain yield-free as long as the rest of their calls are.
+        yieldFreeFunctions.addAll(candidates);
+        boolean changed = true;
+        while (changed) {
+            changed = false;
+            for (BIRFunction func : candidates) {
+                if (yieldFreeFunctions.contains(func) && mayYield(func)) {
+                    yieldFreeFunctions.remove(func);
+                    changed = true;
+                }
+            }
+        }
+    }
+
+    /**
+     * Check whether a function of the module can never yield.
+     *
+     * @param func the function
+     * @return true if neither the function nor any function it calls can yield
+     */
+    boolean isYieldFree(BIRFunction func) {
+
+        return yieldFreeFunctions.contains(func);
+    }
+
+    /**
+     * Check whether a call can never yield, so that the caller does not have to check whether the strand was yielded
+     * once the call returns.
+     *
+     * @param terminator the terminator of the caller's basic block
+     * @return true if the terminator calls a yield-free function of the module
+     */
+    boolean isYieldFreeCall(BIRTerminator terminator) {
+
+        if (terminator.kind != InstructionKind.CALL) {
+            return false;
+        }
+        Call call = (Call) terminator;
+        if (call.isVirtual || !isSameModule(call.calleePkg)) {
+            return false;
+        }
+        BIRFunction callee = moduleFunctions.get(call.name.value);
+        return callee != null && yieldFreeFunctions.contains(callee);
+    }
+
+    private static void addCandidate(List<BIRFunction> candidates, BIRFunction func) {
+
+        if (isExternFunc(func) || func.basicBlocks.isEmpty() || func.workerChannels.length > 0) {
+            return;
+        }
+        candidates.add(func);
+    }
+
+    private boolean mayYield(BIRFunction func) {
+
+        if (mayYield(func.basicBlocks)) {
+            return true;
+        }
+        for (List<BIRBasicBlock> paramBBs : func.parameters.values()) {
+            if (mayYield(paramBBs)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean mayYield(List<BIRBasicBlock> basicBlocks) {
+
+        for (BIRBasicBlock bb : basicBlocks) {
+            BIRTerminator terminator = bb.terminator;
+            switch (terminator.kind) {
+                case GOTO:
+                case BRANCH:
+                case RETURN:
+                case PANIC:
+                    break;
+                case CALL:
+                    if (!isYieldFreeCall(terminator)) {
+                        return true;
+                    }
+                    break;
+                default:
+                    // async and function pointer calls, worker interactions, waits, locks and interop calls
+                    return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean isSameModule(PackageID pkgId) {
+
+        return pkgId.orgName.value.equals(module.org.value) && pkgId.name.value.equals(module.name.value) &&
+                pkgId.version.value.equals(module.version.value);
+    }
+}
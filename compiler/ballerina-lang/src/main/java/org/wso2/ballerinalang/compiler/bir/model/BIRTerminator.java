@@ -245,6 +245,11 @@ public abstract class BIRTerminator extends BIRAbstractInstruction implements BI
 
         public Integer lockId = -1;
 
+        /**
+         * Whether the locked block only reads the locked variables, in which case the lock is acquired in shared mode.
+         */
+        public boolean readOnly = false;
+
         public Lock(DiagnosticPos pos, BIRBasicBlock lockedBB) {
             super(pos, InstructionKind.LOCK);
             this.lockedBB = lockedBB;
@@ -0,0 +1,428 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.wso2.ballerinalang.compiler.bir.optimizer;
+
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNonTerminator;
+import org.wso2.ballerinalang.compiler.bir.model.BIROperand;
+import org.wso2.ballerinalang.compiler.bir.model.BIRTerminator;
+import org.wso2.ballerinalang.compiler.bir.model.InstructionKind;
+import org.wso2.ballerinalang.compiler.bir.model.VarKind;
+import org.wso2.ballerinalang.compiler.bir.model.VarScope;
+import org.wso2.ballerinalang.compiler.semantics.model.types.BType;
+import org.wso2.ballerinalang.compiler.util.Name;
+import org.wso2.ballerinalang.compiler.util.Names;
+import org.wso2.ballerinalang.compiler.util.TypeTags;
+import org.wso2.ballerinalang.compiler.util.diagnotic.DiagnosticPos;
+import org.wso2.ballerinalang.util.Flags;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Inlines calls to small functions of the module into their callers.
+ * <p>
+ * Only leaf functions are inlined, which are functions that do not call other functions, do not trap errors, lock,
+ * start or wait for strands, and do not have defaultable or rest parameters. Such functions never yield, so the
+ * inlined body does not need the strand bookkeeping the JVM code generator adds around a call. A function whose
+ * calls are all inlined becomes a leaf function itself, so inlining is repeated for a few rounds.
+ * <p>
+ * The inlined instructions are given the position of the call, so that errors raised by them are reported at the
+ * call site.
+ *
+ * @since 2.0.0
+ */
+public class BIRFunctionInliner {
+
+    /**
+     * The maximum number of instructions and basic blocks of a function which is inlined.
+     */
+    private static final int MAX_INLINED_FUNCTION_SIZE = 20;
+
+    /**
+     * Calls are not inlined into functions with more instructions than this, so that the generated methods stay well
+     * within the size limit of JVM methods.
+     */
+    private static final int MAX_CALLER_SIZE = 1000;
+
+    private static final int MAX_INLINING_ROUNDS = 3;
+
+    public void optimizeNode(BIRNode.BIRPackage pkg) {
+        for (int round = 0; round < MAX_INLINING_ROUNDS; round++) {
+            Map<String, BIRNode.BIRFunction> inlinableFunctions = new HashMap<>();
+            for (BIRNode.BIRFunction func : pkg.functions) {
+                if (isInlinable(func)) {
+                    inlinableFunctions.put(func.name.value, func);
+                }
+            }
+            if (inlinableFunctions.isEmpty()) {
+                return;
+            }
+
+            boolean inlined = false;
+            for (BIRNode.BIRTypeDefinition typeDef : pkg.typeDefs) {
+                for (BIRNode.BIRFunction func : typeDef.attachedFuncs) {
+                    inlined |= inlineCalls(func, pkg, inlinableFunctions);
+                }
+            }
+            for (BIRNode.BIRFunction func : pkg.functions) {
+                inlined |= inlineCalls(func, pkg, inlinableFunctions);
+            }
+            if (!inlined) {
+                return;
+            }
+        }
+    }
+
+    private boolean isInlinable(BIRNode.BIRFunction func) {
+        if ((func.flags & (Flags.NATIVE | Flags.INTERFACE | Flags.REMOTE | Flags.RESOURCE)) != 0 ||
+                func.basicBlocks.isEmpty() || !func.errorTable.isEmpty() || !func.parameters.isEmpty() ||
+                func.receiver != null || func.restParam != null || func.argsCount != func.requiredParams.size() ||
+                func.workerChannels.length > 0 || !func.annotAttachments.isEmpty()) {
+            return false;
+        }
+
+        int size = 0;
+        for (BIRNode.BIRBasicBlock bb : func.basicBlocks) {
+            for (BIRNonTerminator instruction : bb.instructions) {
+                if (!isCopyable(instruction)) {
+                    return false;
+                }
+            }
+            if (bb.terminator == null) {
+                return false;
+            }
+            switch (bb.terminator.kind) {
+                case GOTO:
+                case BRANCH:
+                case RETURN:
+                    break;
+                default:
+                    return false;
+            }
+            size += bb.instructions.size() + 1;
+        }
+        return size <= MAX_INLINED_FUNCTION_SIZE;
+    }
+
+    private boolean isCopyable(BIRNonTerminator instruction) {
+        if (instruction instanceof BIRNonTerminator.FieldAccess) {
+            switch (instruction.kind) {
+                case MAP_LOAD:
+                case MAP_STORE:
+                case ARRAY_LOAD:
+                case ARRAY_STORE:
+                case OBJECT_LOAD:
+                case OBJECT_STORE:
+                    return true;
+                default:
+                    return false;
+            }
+        }
+        return instruction instanceof BIRNonTerminator.Move || instruction instanceof BIRNonTerminator.ConstantLoad ||
+                instruction instanceof BIRNonTerminator.BinaryOp || instruction instanceof BIRNonTerminator.UnaryOP ||
+                instruction instanceof BIRNonTerminator.TypeCast || instruction instanceof BIRNonTerminator.IsLike ||
+                instruction instanceof BIRNonTerminator.TypeTest;
+    }
+
+    private boolean inlineCalls(BIRNode.BIRFunction caller, BIRNode.BIRPackage pkg,
+                                Map<String, BIRNode.BIRFunction> inlinableFunctions) {
+        // Traps are tracked by the order of basic blocks, which inlining changes.
+        if (!caller.errorTable.isEmpty()) {
+            return false;
+        }
+
+        int callerSize = 0;
+        for (BIRNode.BIRBasicBlock bb : caller.basicBlocks) {
+            callerSize += bb.instructions.size() + 1;
+        }
+
+        InliningContext context = null;
+        List<BIRNode.BIRBasicBlock> basicBlocks = new ArrayList<>(caller.basicBlocks.size());
+        for (BIRNode.BIRBasicBlock bb : caller.basicBlocks) {
+            basicBlocks.add(bb);
+            if (callerSize > MAX_CALLER_SIZE || bb.terminator == null || bb.terminator.kind != InstructionKind.CALL) {
+                continue;
+            }
+            BIRTerminator.Call call = (BIRTerminator.Call) bb.terminator;
+            BIRNode.BIRFunction callee = getCallee(call, pkg, inlinableFunctions);
+            if (callee == null || callee == caller || !hasCompatibleTypes(call, callee)) {
+                continue;
+            }
+            if (context == null) {
+                context = new InliningContext(caller);
+            }
+            List<BIRNode.BIRBasicBlock> inlinedBlocks = inline(bb, call, callee, context);
+            basicBlocks.addAll(inlinedBlocks);
+            for (BIRNode.BIRBasicBlock inlinedBB : inlinedBlocks) {
+                callerSize += inlinedBB.instructions.size() + 1;
+            }
+        }
+
+        if (context == null) {
+            return false;
+        }
+        caller.basicBlocks = basicBlocks;
+        return true;
+    }
+
+    private BIRNode.BIRFunction getCallee(BIRTerminator.Call call, BIRNode.BIRPackage pkg,
+                                          Map<String, BIRNode.BIRFunction> inlinableFunctions) {
+        if (call.isVirtual || call.calleePkg == null || !call.calleePkg.orgName.equals(pkg.org) ||
+                !call.calleePkg.name.equals(pkg.name) || !call.calleePkg.version.equals(pkg.version) ||
+                (call.calleeAnnotAttachments != null && !call.calleeAnnotAttachments.isEmpty())) {
+            return null;
+        }
+        BIRNode.BIRFunction callee = inlinableFunctions.get(call.name.value);
+        if (callee == null || call.args.size() != callee.argsCount) {
+            return null;
+        }
+        return callee;
+    }
+
+    /**
+     * Checks whether the arguments and the result of a call can be moved to and from the variables of the callee
+     * without a conversion.
+     */
+    private boolean hasCompatibleTypes(BIRTerminator.Call call, BIRNode.BIRFunction callee) {
+        List<BIRNode.BIRVariableDcl> params = getParameters(callee);
+        for (int i = 0; i < params.size(); i++) {
+            BIROperand arg = call.args.get(i);
+            if (arg == null || !isSameType(arg.variableDcl.type, params.get(i).type)) {
+                return false;
+            }
+        }
+        return call.lhsOp == null || isSameType(call.lhsOp.variableDcl.type, callee.returnVariable.type);
+    }
+
+    private boolean isSameType(BType type, BType otherType) {
+        if (type == otherType) {
+            return true;
+        }
+        if (type == null || otherType == null || type.tag != otherType.tag) {
+            return false;
+        }
+        switch (type.tag) {
+            case TypeTags.INT:
+            case TypeTags.BYTE:
+            case TypeTags.FLOAT:
+            case TypeTags.DECIMAL:
+            case TypeTags.STRING:
+            case TypeTags.BOOLEAN:
+            case TypeTags.NIL:
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    private List<BIRNode.BIRVariableDcl> getParameters(BIRNode.BIRFunction func) {
+        List<BIRNode.BIRVariableDcl> params = new ArrayList<>(func.argsCount);
+        for (BIRNode.BIRVariableDcl localVar : func.localVars) {
+            if (localVar.kind == VarKind.ARG) {
+                params.add(localVar);
+            }
+        }
+        return params;
+    }
+
+    /**
+     * Replaces a call with a copy of the body of the callee. The local variables of the caller which are passed as
+     * arguments are used in place of the parameters which are not assigned in the callee, and each return of the
+     * callee moves the result to the variable of the call and continues with the block following the call.
+     *
+     * @return the copied basic blocks
+     */
+    private List<BIRNode.BIRBasicBlock> inline(BIRNode.BIRBasicBlock callBB, BIRTerminator.Call call,
+                                               BIRNode.BIRFunction callee, InliningContext context) {
+        DiagnosticPos pos = call.pos;
+        Set<BIRNode.BIRVariableDcl> assignedVars = getAssignedVars(callee);
+        Map<BIRNode.BIRVariableDcl, BIROperand> operands = new HashMap<>();
+        List<BIRNode.BIRVariableDcl> params = getParameters(callee);
+        for (int i = 0; i < params.size(); i++) {
+            BIRNode.BIRVariableDcl param = params.get(i);
+            BIROperand arg = call.args.get(i);
+            // Module level variables may be assigned by the callee, so they are copied like assigned parameters.
+            if (assignedVars.contains(param) || arg.variableDcl.kind == VarKind.GLOBAL) {
+                BIROperand paramCopy = context.newTempOperand(param.type);
+                callBB.instructions.add(new BIRNonTerminator.Move(pos, arg, paramCopy));
+                operands.put(param, paramCopy);
+            } else {
+                operands.put(param, arg);
+            }
+        }
+        for (BIRNode.BIRVariableDcl localVar : callee.localVars) {
+            if (localVar.kind != VarKind.ARG) {
+                operands.put(localVar, context.newTempOperand(localVar.type));
+            }
+        }
+
+        Map<BIRNode.BIRBasicBlock, BIRNode.BIRBasicBlock> blocks = new IdentityHashMap<>();
+        List<BIRNode.BIRBasicBlock> inlinedBlocks = new ArrayList<>(callee.basicBlocks.size());
+        for (BIRNode.BIRBasicBlock bb : callee.basicBlocks) {
+            BIRNode.BIRBasicBlock inlinedBB = context.newBasicBlock();
+            blocks.put(bb, inlinedBB);
+            inlinedBlocks.add(inlinedBB);
+        }
+
+        for (BIRNode.BIRBasicBlock bb : callee.basicBlocks) {
+            BIRNode.BIRBasicBlock inlinedBB = blocks.get(bb);
+            for (BIRNonTerminator instruction : bb.instructions) {
+                inlinedBB.instructions.add(copy(instruction, pos, operands));
+            }
+            switch (bb.terminator.kind) {
+                case GOTO:
+                    inlinedBB.terminator = new BIRTerminator.GOTO(pos,
+                            blocks.get(((BIRTerminator.GOTO) bb.terminator).targetBB));
+                    break;
+                case BRANCH:
+                    BIRTerminator.Branch branch = (BIRTerminator.Branch) bb.terminator;
+                    inlinedBB.terminator = new BIRTerminator.Branch(pos, getOperand(branch.op, operands),
+                            blocks.get(branch.trueBB), blocks.get(branch.falseBB));
+                    break;
+                default:
+                    if (call.lhsOp != null) {
+                        inlinedBB.instructions.add(new BIRNonTerminator.Move(pos,
+                                operands.get(callee.returnVariable), call.lhsOp));
+                    }
+                    inlinedBB.terminator = new BIRTerminator.GOTO(pos, call.thenBB);
+            }
+        }
+
+        callBB.terminator = new BIRTerminator.GOTO(pos, inlinedBlocks.get(0));
+        return inlinedBlocks;
+    }
+
+    private Set<BIRNode.BIRVariableDcl> getAssignedVars(BIRNode.BIRFunction func) {
+        Set<BIRNode.BIRVariableDcl> assignedVars = new HashSet<>();
+        for (BIRNode.BIRBasicBlock bb : func.basicBlocks) {
+            for (BIRNonTerminator instruction : bb.instructions) {
+                switch (instruction.kind) {
+                    case MAP_STORE:
+                    case ARRAY_STORE:
+                    case OBJECT_STORE:
+                        // The lhs of a store is the updated value, not an assignment to the variable.
+                        break;
+                    default:
+                        if (instruction.lhsOp != null) {
+                            assignedVars.add(instruction.lhsOp.variableDcl);
+                        }
+                }
+            }
+        }
+        return assignedVars;
+    }
+
+    private BIRNonTerminator copy(BIRNonTerminator instruction, DiagnosticPos pos,
+                                  Map<BIRNode.BIRVariableDcl, BIROperand> operands) {
+        BIROperand lhsOp = getOperand(instruction.lhsOp, operands);
+        if (instruction instanceof BIRNonTerminator.Move) {
+            BIRNonTerminator.Move move = (BIRNonTerminator.Move) instruction;
+            return new BIRNonTerminator.Move(pos, getOperand(move.rhsOp, operands), lhsOp);
+        } else if (instruction instanceof BIRNonTerminator.ConstantLoad) {
+            BIRNonTerminator.ConstantLoad constantLoad = (BIRNonTerminator.ConstantLoad) instruction;
+            return new BIRNonTerminator.ConstantLoad(pos, constantLoad.value, constantLoad.type, lhsOp);
+        } else if (instruction instanceof BIRNonTerminator.BinaryOp) {
+            BIRNonTerminator.BinaryOp binaryOp = (BIRNonTerminator.BinaryOp) instruction;
+            return new BIRNonTerminator.BinaryOp(pos, binaryOp.kind, null, lhsOp,
+                    getOperand(binaryOp.rhsOp1, operands), getOperand(binaryOp.rhsOp2, operands));
+        } else if (instruction instanceof BIRNonTerminator.UnaryOP) {
+            BIRNonTerminator.UnaryOP unaryOp = (BIRNonTerminator.UnaryOP) instruction;
+            return new BIRNonTerminator.UnaryOP(pos, unaryOp.kind, lhsOp, getOperand(unaryOp.rhsOp, operands));
+        } else if (instruction instanceof BIRNonTerminator.TypeCast) {
+            BIRNonTerminator.TypeCast typeCast = (BIRNonTerminator.TypeCast) instruction;
+            return new BIRNonTerminator.TypeCast(pos, lhsOp, getOperand(typeCast.rhsOp, operands), typeCast.type,
+                    typeCast.checkTypes);
+        } else if (instruction instanceof BIRNonTerminator.IsLike) {
+            BIRNonTerminator.IsLike isLike = (BIRNonTerminator.IsLike) instruction;
+            return new BIRNonTerminator.IsLike(pos, isLike.type, lhsOp, getOperand(isLike.rhsOp, operands));
+        } else if (instruction instanceof BIRNonTerminator.TypeTest) {
+            BIRNonTerminator.TypeTest typeTest = (BIRNonTerminator.TypeTest) instruction;
+            return new BIRNonTerminator.TypeTest(pos, typeTest.type, lhsOp, getOperand(typeTest.rhsOp, operands));
+        }
+
+        BIRNonTerminator.FieldAccess fieldAccess = (BIRNonTerminator.FieldAccess) instruction;
+        BIRNonTerminator.FieldAccess fieldAccessCopy = new BIRNonTerminator.FieldAccess(pos, fieldAccess.kind, lhsOp,
+                getOperand(fieldAccess.keyOp, operands), getOperand(fieldAccess.rhsOp, operands),
+                fieldAccess.optionalFieldAccess, fieldAccess.fillingRead);
+        fieldAccessCopy.onInitialization = fieldAccess.onInitialization;
+        return fieldAccessCopy;
+    }
+
+    private BIROperand getOperand(BIROperand operand, Map<BIRNode.BIRVariableDcl, BIROperand> operands) {
+        if (operand == null) {
+            return null;
+        }
+        // Module level variables are not in the map, and are referred to as they are.
+        BIROperand mappedOperand = operands.get(operand.variableDcl);
+        return mappedOperand != null ? mappedOperand : new BIROperand(operand.variableDcl);
+    }
+
+    /**
+     * Generates the names of the variables and basic blocks added to a caller, following the names already used in
+     * the caller.
+     */
+    private static class InliningContext {
+        private final BIRNode.BIRFunction caller;
+        private int nextVarId;
+        private int nextBBId;
+
+        InliningContext(BIRNode.BIRFunction caller) {
+            this.caller = caller;
+            for (BIRNode.BIRVariableDcl localVar : caller.localVars) {
+                nextVarId = Math.max(nextVarId, getId(localVar.name, Names.BIR_LOCAL_VAR_PREFIX) + 1);
+            }
+            for (List<BIRNode.BIRBasicBlock> paramBBs : caller.parameters.values()) {
+                for (BIRNode.BIRBasicBlock bb : paramBBs) {
+                    nextBBId = Math.max(nextBBId, getId(bb.id, Names.BIR_BASIC_BLOCK_PREFIX) + 1);
+                }
+            }
+            for (BIRNode.BIRBasicBlock bb : caller.basicBlocks) {
+                nextBBId = Math.max(nextBBId, getId(bb.id, Names.BIR_BASIC_BLOCK_PREFIX) + 1);
+            }
+        }
+
+        BIROperand newTempOperand(BType type) {
+            BIRNode.BIRVariableDcl tempVar = new BIRNode.BIRVariableDcl(type,
+                    new Name(Names.BIR_LOCAL_VAR_PREFIX.value + nextVarId++), VarScope.FUNCTION, VarKind.TEMP);
+            caller.localVars.add(tempVar);
+            return new BIROperand(tempVar);
+        }
+
+        BIRNode.BIRBasicBlock newBasicBlock() {
+            return new BIRNode.BIRBasicBlock(new Name(Names.BIR_BASIC_BLOCK_PREFIX.value + nextBBId++));
+        }
+
+        private static int getId(Name name, Name prefix) {
+            String value = name.value;
+            if (!value.startsWith(prefix.value)) {
+                return -1;
+            }
+            try {
+                return Integer.parseInt(value.substring(prefix.value.length()));
+            } catch (NumberFormatException e) {
+                return -1;
+            }
+        }
+    }
+}
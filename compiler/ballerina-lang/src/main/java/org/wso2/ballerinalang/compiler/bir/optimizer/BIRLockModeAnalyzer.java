@@ -0,0 +1,330 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.wso2.ballerinalang.compiler.bir.optimizer;
+
+import org.ballerinalang.model.elements.PackageID;
+import org.wso2.ballerinalang.compiler.bir.model.BIRAbstractInstruction;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNonTerminator;
+import org.wso2.ballerinalang.compiler.bir.model.BIROperand;
+import org.wso2.ballerinalang.compiler.bir.model.BIRTerminator;
+import org.wso2.ballerinalang.compiler.bir.model.InstructionKind;
+import org.wso2.ballerinalang.compiler.bir.model.VarKind;
+import org.wso2.ballerinalang.compiler.semantics.model.types.BType;
+import org.wso2.ballerinalang.compiler.semantics.model.types.BUnionType;
+import org.wso2.ballerinalang.compiler.util.TypeTags;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Identifies lock statements which only read shared state, so that they can acquire the lock in shared mode and
+ * run concurrently with each other.
+ * <p>
+ * A locked block is read only when it does not assign to module level variables, does not store into any value it
+ * did not create itself, does not call functions other than the lang library functions which are known not to
+ * mutate any value, and does not start, wait for or communicate with other strands.
+ *
+ * @since 2.0.0
+ */
+public class BIRLockModeAnalyzer {
+
+    // The lang library functions which do not mutate their arguments or any other value, by module.
+    private static final Map<PackageID, Set<String>> NON_MUTATING_LANG_LIB_FUNCTIONS = new HashMap<>();
+
+    static {
+        addNonMutatingLangLibFunctions(PackageID.ARRAY, "length", "iterator", "enumerate", "slice", "indexOf",
+                                       "lastIndexOf", "toBase64", "fromBase64", "toBase16", "fromBase16");
+        addNonMutatingLangLibFunctions(PackageID.BOOLEAN, "fromString");
+        addNonMutatingLangLibFunctions(PackageID.DECIMAL, "sum", "max", "min", "abs", "round", "floor", "ceiling",
+                                       "fromString");
+        addNonMutatingLangLibFunctions(PackageID.ERROR, "message", "cause", "detail", "stackTrace");
+        addNonMutatingLangLibFunctions(PackageID.FLOAT, "isFinite", "isInfinite", "isNaN", "sum", "max", "min",
+                                       "abs", "round", "floor", "ceiling", "sqrt", "cbrt", "pow", "log", "log10",
+                                       "exp", "sin", "cos", "tan", "acos", "atan", "asin", "atan2", "sinh", "cosh",
+                                       "tanh", "fromString", "toHexString", "fromHexString", "toBitsInt",
+                                       "fromBitsInt");
+        addNonMutatingLangLibFunctions(PackageID.INT, "abs", "sum", "max", "min", "fromString", "toHexString",
+                                       "fromHexString");
+        addNonMutatingLangLibFunctions(PackageID.MAP, "length", "iterator", "get", "entries", "hasKey", "keys",
+                                       "toArray");
+        addNonMutatingLangLibFunctions(PackageID.STRING, "length", "iterator", "concat", "getCodePoint", "substring",
+                                       "codePointCompare", "join", "indexOf", "lastIndexOf", "startsWith",
+                                       "endsWith", "toLowerAscii", "toUpperAscii", "equalsIgnoreCaseAscii", "trim",
+                                       "toBytes", "fromBytes", "toCodePointInts", "toCodePointInt",
+                                       "fromCodePointInts", "fromCodePointInt");
+        addNonMutatingLangLibFunctions(PackageID.TABLE, "length", "iterator", "get", "hasKey", "keys", "toArray",
+                                       "nextKey");
+        addNonMutatingLangLibFunctions(PackageID.VALUE, "clone", "cloneReadOnly", "cloneWithType", "isReadOnly",
+                                       "toString", "toJsonString", "fromJsonString");
+        addNonMutatingLangLibFunctions(PackageID.XML, "length", "iterator", "get", "concat", "getName",
+                                       "getChildren", "getAttributes", "getTarget", "getContent", "createElement",
+                                       "createProcessingInstruction", "createComment", "slice", "strip",
+                                       "elements", "children", "elementChildren", "fromString");
+    }
+
+    private static void addNonMutatingLangLibFunctions(PackageID pkgId, String... functionNames) {
+        NON_MUTATING_LANG_LIB_FUNCTIONS.put(pkgId, new HashSet<>(Arrays.asList(functionNames)));
+    }
+
+    public void analyze(BIRNode.BIRPackage pkg) {
+        pkg.typeDefs.forEach(typeDef -> typeDef.attachedFuncs.forEach(this::analyze));
+        pkg.functions.forEach(this::analyze);
+    }
+
+    private void analyze(BIRNode.BIRFunction func) {
+        Map<BIRNode.BIRVariableDcl, List<BIRAbstractInstruction>> definitions = null;
+        for (BIRNode.BIRBasicBlock bb : func.basicBlocks) {
+            if (bb.terminator == null || bb.terminator.kind != InstructionKind.LOCK) {
+                continue;
+            }
+            if (definitions == null) {
+                definitions = collectDefinitions(func);
+            }
+            BIRTerminator.Lock lock = (BIRTerminator.Lock) bb.terminator;
+            lock.readOnly = isReadOnly(lock, func, definitions);
+        }
+    }
+
+    private boolean isReadOnly(BIRTerminator.Lock lock, BIRNode.BIRFunction func,
+                               Map<BIRNode.BIRVariableDcl, List<BIRAbstractInstruction>> definitions) {
+        Set<BIRNode.BIRBasicBlock> lockedBlocks = collectLockedBlocks(lock, func);
+        for (BIRNode.BIRBasicBlock bb : lockedBlocks) {
+            for (BIRNonTerminator instruction : bb.instructions) {
+                if (assignsToGlobal(instruction) || !isReadOnly(instruction, lockedBlocks, definitions)) {
+                    return false;
+                }
+            }
+            if (assignsToGlobal(bb.terminator) || !isReadOnly(bb.terminator, lock)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean isReadOnly(BIRNonTerminator instruction, Set<BIRNode.BIRBasicBlock> lockedBlocks,
+                               Map<BIRNode.BIRVariableDcl, List<BIRAbstractInstruction>> definitions) {
+        switch (instruction.kind) {
+            case MAP_STORE:
+            case ARRAY_STORE:
+            case OBJECT_STORE:
+            case TABLE_STORE:
+            case XML_SEQ_STORE:
+            case XML_ATTRIBUTE_STORE:
+                // Only values constructed in the locked block itself can be updated.
+                return isCreatedInBlock(instruction.lhsOp, lockedBlocks, definitions);
+            case FP_LOAD:
+            case PLATFORM:
+                return false;
+            default:
+                return true;
+        }
+    }
+
+    private boolean isReadOnly(BIRTerminator terminator, BIRTerminator.Lock lock) {
+        switch (terminator.kind) {
+            case GOTO:
+            case BRANCH:
+            case RETURN:
+            case PANIC:
+                return true;
+            case UNLOCK:
+                return ((BIRTerminator.Unlock) terminator).relatedLock == lock;
+            case CALL:
+                return isNonMutatingLangLibCall((BIRTerminator.Call) terminator);
+            default:
+                // Nested locks, async and function pointer calls, waits and worker interactions.
+                return false;
+        }
+    }
+
+    private boolean isNonMutatingLangLibCall(BIRTerminator.Call call) {
+        Set<String> nonMutatingFunctions = NON_MUTATING_LANG_LIB_FUNCTIONS.get(call.calleePkg);
+        if (nonMutatingFunctions == null || !nonMutatingFunctions.contains(call.name.value)) {
+            return false;
+        }
+
+        // Functions such as `forEach` and `filter` call back into user code.
+        for (BIROperand arg : call.args) {
+            if (arg != null && isFunctionType(arg.variableDcl.type)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean isFunctionType(BType type) {
+        if (type == null) {
+            return true;
+        }
+        switch (type.tag) {
+            case TypeTags.INVOKABLE:
+            case TypeTags.ANY:
+                return true;
+            case TypeTags.UNION:
+                for (BType memberType : ((BUnionType) type).getMemberTypes()) {
+                    if (isFunctionType(memberType)) {
+                        return true;
+                    }
+                }
+                return false;
+            default:
+                return false;
+        }
+    }
+
+    private boolean assignsToGlobal(BIRAbstractInstruction instruction) {
+        return instruction.lhsOp != null && instruction.lhsOp.variableDcl.kind == VarKind.GLOBAL;
+    }
+
+    private boolean isCreatedInBlock(BIROperand operand, Set<BIRNode.BIRBasicBlock> lockedBlocks,
+                                     Map<BIRNode.BIRVariableDcl, List<BIRAbstractInstruction>> definitions) {
+        BIRNode.BIRVariableDcl variableDcl = operand.variableDcl;
+        if (variableDcl.kind != VarKind.TEMP && variableDcl.kind != VarKind.LOCAL) {
+            return false;
+        }
+
+        List<BIRAbstractInstruction> varDefinitions = definitions.get(variableDcl);
+        if (varDefinitions == null) {
+            return false;
+        }
+
+        for (BIRAbstractInstruction definition : varDefinitions) {
+            if (!isConstructor(definition) || !isInBlocks(definition, lockedBlocks)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean isConstructor(BIRAbstractInstruction instruction) {
+        switch (instruction.kind) {
+            case NEW_STRUCTURE:
+            case NEW_ARRAY:
+            case NEW_TABLE:
+            case NEW_XML_ELEMENT:
+            case NEW_XML_SEQ:
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    private boolean isInBlocks(BIRAbstractInstruction instruction, Set<BIRNode.BIRBasicBlock> blocks) {
+        for (BIRNode.BIRBasicBlock bb : blocks) {
+            if (bb.instructions.contains(instruction)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private Map<BIRNode.BIRVariableDcl, List<BIRAbstractInstruction>> collectDefinitions(BIRNode.BIRFunction func) {
+        Map<BIRNode.BIRVariableDcl, List<BIRAbstractInstruction>> definitions = new HashMap<>();
+        for (BIRNode.BIRBasicBlock bb : func.basicBlocks) {
+            for (BIRNonTerminator instruction : bb.instructions) {
+                addDefinition(definitions, instruction);
+            }
+            if (bb.terminator != null) {
+                addDefinition(definitions, bb.terminator);
+            }
+        }
+        return definitions;
+    }
+
+    private void addDefinition(Map<BIRNode.BIRVariableDcl, List<BIRAbstractInstruction>> definitions,
+                               BIRAbstractInstruction instruction) {
+        if (instruction.lhsOp == null) {
+            return;
+        }
+        switch (instruction.kind) {
+            case MAP_STORE:
+            case ARRAY_STORE:
+            case OBJECT_STORE:
+            case TABLE_STORE:
+            case XML_SEQ_STORE:
+            case XML_ATTRIBUTE_STORE:
+                // The lhs of a store is the updated value, not a definition of the variable.
+                return;
+            default:
+                definitions.computeIfAbsent(instruction.lhsOp.variableDcl, k -> new ArrayList<>()).add(instruction);
+        }
+    }
+
+    /**
+     * Collects the basic blocks executed while the lock is held, including the error handlers of traps in them.
+     */
+    private Set<BIRNode.BIRBasicBlock> collectLockedBlocks(BIRTerminator.Lock lock, BIRNode.BIRFunction func) {
+        Set<BIRNode.BIRBasicBlock> lockedBlocks = new LinkedHashSet<>();
+        List<BIRNode.BIRBasicBlock> worklist = new ArrayList<>();
+        worklist.add(lock.lockedBB);
+        while (!worklist.isEmpty()) {
+            while (!worklist.isEmpty()) {
+                BIRNode.BIRBasicBlock bb = worklist.remove(worklist.size() - 1);
+                if (bb == null || !lockedBlocks.add(bb)) {
+                    continue;
+                }
+                addSuccessors(bb.terminator, lock, worklist);
+            }
+
+            for (BIRNode.BIRErrorEntry errorEntry : func.errorTable) {
+                if ((lockedBlocks.contains(errorEntry.trapBB) || lockedBlocks.contains(errorEntry.endBB)) &&
+                        !lockedBlocks.contains(errorEntry.targetBB)) {
+                    worklist.add(errorEntry.targetBB);
+                }
+            }
+        }
+        return lockedBlocks;
+    }
+
+    private void addSuccessors(BIRTerminator terminator, BIRTerminator.Lock lock,
+                               List<BIRNode.BIRBasicBlock> worklist) {
+        if (terminator == null) {
+            return;
+        }
+        switch (terminator.kind) {
+            case GOTO:
+                worklist.add(((BIRTerminator.GOTO) terminator).targetBB);
+                return;
+            case BRANCH:
+                worklist.add(((BIRTerminator.Branch) terminator).trueBB);
+                worklist.add(((BIRTerminator.Branch) terminator).falseBB);
+                return;
+            case LOCK:
+                worklist.add(((BIRTerminator.Lock) terminator).lockedBB);
+                return;
+            case FIELD_LOCK:
+                worklist.add(((BIRTerminator.FieldLock) terminator).lockedBB);
+                return;
+            case UNLOCK:
+                BIRTerminator.Unlock unlock = (BIRTerminator.Unlock) terminator;
+                if (unlock.relatedLock != lock) {
+                    worklist.add(unlock.unlockBB);
+                }
+                return;
+            default:
+                worklist.add(terminator.thenBB);
+        }
+    }
+}
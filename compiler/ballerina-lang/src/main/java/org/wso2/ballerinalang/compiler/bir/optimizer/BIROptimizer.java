@@ -33,6 +33,7 @@ import org.wso2.ballerinalang.compiler.bir.model.BIRVisitor;
 import org.wso2.ballerinalang.compiler.bir.model.InstructionKind;
 import org.wso2.ballerinalang.compiler.bir.model.VarKind;
 import org.wso2.ballerinalang.compiler.util.CompilerContext;
+import org.wso2.ballerinalang.compiler.util.CompilerOptions;
 import org.wso2.ballerinalang.util.Lists;
 
 import java.util.ArrayList;
@@ -41,6 +42,8 @@ import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
 
+import static org.ballerinalang.compiler.CompilerOptionName.SKIP_FUNCTION_INLINING;
+
 /**
  * Optimize BIR.
  *
@@ -52,6 +55,9 @@ public class BIROptimizer {
     private RHSTempVarOptimizer rhsTempVarOptimizer;
     private LHSTempVarOptimizer lhsTempVarOptimizer;
     private BIRLockOptimizer lockOptimizer;
+    private BIRLockModeAnalyzer lockModeAnalyzer;
+    private BIRFunctionInliner functionInliner;
+    private CompilerOptions compilerOptions;
 
     public static BIROptimizer getInstance(CompilerContext context) {
         BIROptimizer birGen = context.get(BIR_OPTIMIZER);
@@ -67,17 +73,38 @@ public class BIROptimizer {
         this.rhsTempVarOptimizer = new RHSTempVarOptimizer();
         this.lhsTempVarOptimizer = new LHSTempVarOptimizer();
         this.lockOptimizer = new BIRLockOptimizer();
+        this.lockModeAnalyzer = new BIRLockModeAnalyzer();
+        this.functionInliner = new BIRFunctionInliner();
+        this.compilerOptions = CompilerOptions.getInstance(context);
     }
 
     public void optimizePackage(BIRPackage pkg) {
+        optimizePackage(pkg, true);
+    }
+
+    /**
+     * Optimize a package.
+     *
+     * @param pkg the package to be optimized
+     * @param inlineFunctions false if calls should not be inlined, as in packages whose calls are replaced later
+     */
+    public void optimizePackage(BIRPackage pkg, boolean inlineFunctions) {
         // RHS temp var optimization
         pkg.accept(this.rhsTempVarOptimizer);
 
         // LHS temp var optimization
         this.lhsTempVarOptimizer.optimizeNode(pkg, null);
 
+        // Inline calls to small functions of the package
+        if (inlineFunctions && !Boolean.parseBoolean(this.compilerOptions.get(SKIP_FUNCTION_INLINING))) {
+            this.functionInliner.optimizeNode(pkg);
+        }
+
         // Optimize lock statements
         this.lockOptimizer.optimizeNode(pkg);
+
+        // Identify lock statements which can be acquired in shared mode
+        this.lockModeAnalyzer.analyze(pkg);
     }
 
     /**
@@ -19,6 +19,7 @@ package org.wso2.ballerinalang.compiler.desugar;
 import org.ballerinalang.model.TreeBuilder;
 import org.ballerinalang.model.tree.IdentifierNode;
 import org.ballerinalang.model.tree.NodeKind;
+import org.ballerinalang.model.tree.OperatorKind;
 import org.ballerinalang.model.tree.expressions.RecordLiteralNode;
 import org.ballerinalang.model.tree.statements.VariableDefinitionNode;
 import org.ballerinalang.model.tree.types.TypeNode;
@@ -28,9 +29,11 @@ import org.wso2.ballerinalang.compiler.semantics.analyzer.Types;
 import org.wso2.ballerinalang.compiler.semantics.model.SymbolEnv;
 import org.wso2.ballerinalang.compiler.semantics.model.SymbolTable;
 import org.wso2.ballerinalang.compiler.semantics.model.symbols.BInvokableSymbol;
+import org.wso2.ballerinalang.compiler.semantics.model.symbols.BOperatorSymbol;
 import org.wso2.ballerinalang.compiler.semantics.model.symbols.BRecordTypeSymbol;
 import org.wso2.ballerinalang.compiler.semantics.model.symbols.BSymbol;
 import org.wso2.ballerinalang.compiler.semantics.model.symbols.BVarSymbol;
+import org.wso2.ballerinalang.compiler.semantics.model.symbols.SchedulerPolicy;
 import org.wso2.ballerinalang.compiler.semantics.model.symbols.SymTag;
 import org.wso2.ballerinalang.compiler.semantics.model.types.BArrayType;
 import org.wso2.ballerinalang.compiler.semantics.model.types.BRecordType;
@@ -160,7 +163,9 @@ import org.wso2.ballerinalang.compiler.tree.types.BLangLetVariable;
 import org.wso2.ballerinalang.compiler.tree.types.BLangRecordTypeNode;
 import org.wso2.ballerinalang.compiler.tree.types.BLangUnionTypeNode;
 import org.wso2.ballerinalang.compiler.tree.types.BLangValueType;
+import org.wso2.ballerinalang.compiler.util.BArrayState;
 import org.wso2.ballerinalang.compiler.util.CompilerContext;
+import org.wso2.ballerinalang.compiler.util.CompilerOptions;
 import org.wso2.ballerinalang.compiler.util.Name;
 import org.wso2.ballerinalang.compiler.util.Names;
 import org.wso2.ballerinalang.compiler.util.TypeTags;
@@ -168,10 +173,16 @@ import org.wso2.ballerinalang.compiler.util.diagnotic.DiagnosticPos;
 import org.wso2.ballerinalang.util.Lists;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+
+import static org.ballerinalang.compiler.CompilerOptionName.PARALLEL_QUERIES;
+import static org.ballerinalang.compiler.CompilerOptionName.SKIP_QUERY_FUSION;
 
 /**
  * Class responsible for desugar query pipeline into actual Ballerina code.
@@ -185,6 +196,8 @@ public class QueryDesugar extends BLangNodeVisitor {
     private static final Name QUERY_CREATE_LET_FUNCTION = new Name("createLetFunction");
     private static final Name QUERY_CREATE_INNER_JOIN_FUNCTION = new Name("createInnerJoinFunction");
     private static final Name QUERY_CREATE_OUTER_JOIN_FUNCTION = new Name("createOuterJoinFunction");
+    private static final Name QUERY_CREATE_INDEX_JOIN_FUNCTION = new Name("createIndexJoinFunction");
+    private static final Name QUERY_CREATE_HASH_JOIN_FUNCTION = new Name("createHashJoinFunction");
     private static final Name QUERY_CREATE_FILTER_FUNCTION = new Name("createFilterFunction");
     private static final Name QUERY_CREATE_SELECT_FUNCTION = new Name("createSelectFunction");
     private static final Name QUERY_CREATE_DO_FUNCTION = new Name("createDoFunction");
@@ -196,7 +209,13 @@ public class QueryDesugar extends BLangNodeVisitor {
     private static final Name QUERY_TO_XML_FUNCTION = new Name("toXML");
     private static final Name QUERY_ADD_TO_TABLE_FUNCTION = new Name("addToTable");
     private static final Name QUERY_GET_STREAM_FROM_PIPELINE_FUNCTION = new Name("getStreamFromPipeline");
+    private static final Name QUERY_GET_INDEXED_ROWS_FUNCTION = new Name("getIndexedRows");
+    private static final Name QUERY_CHECK_LIMIT_FUNCTION = new Name("checkLimit");
+    private static final Name QUERY_EVALUATE_IN_PARALLEL_FUNCTION = new Name("evaluateInParallel");
+    private static final Name LENGTH_FUNCTION = new Name("length");
     private static final String FRAME_PARAMETER_NAME = "$frame$";
+    private static final Set<String> PURE_LANG_LIB_MODULES = new HashSet<>(
+            Arrays.asList("lang.boolean", "lang.decimal", "lang.float", "lang.int", "lang.string"));
     private static final CompilerContext.Key<QueryDesugar> QUERY_DESUGAR_KEY = new CompilerContext.Key<>();
     private BLangExpression onConflictExpr;
     private BVarSymbol currentFrameSymbol;
@@ -208,6 +227,7 @@ public class QueryDesugar extends BLangNodeVisitor {
     private final SymbolResolver symResolver;
     private final Names names;
     private final Types types;
+    private final CompilerOptions compilerOptions;
     private SymbolEnv env;
 
     private QueryDesugar(CompilerContext context) {
@@ -217,6 +237,7 @@ public class QueryDesugar extends BLangNodeVisitor {
         this.names = Names.getInstance(context);
         this.types = Types.getInstance(context);
         this.desugar = Desugar.getInstance(context);
+        this.compilerOptions = CompilerOptions.getInstance(context);
     }
 
     public static QueryDesugar getInstance(CompilerContext context) {
@@ -238,6 +259,15 @@ public class QueryDesugar extends BLangNodeVisitor {
         List<BLangNode> clauses = queryExpr.getQueryClauses();
         DiagnosticPos pos = clauses.get(0).pos;
         BLangBlockStmt queryBlock = ASTBuilderUtil.createBlockStmt(pos);
+        if (isFusible(queryExpr, env)) {
+            List<BLangSimpleVarRef> varRefs = new ArrayList<>();
+            BLangVariableReference resultRef = isParallel(queryExpr, env, varRefs)
+                    ? buildParallelLoop(clauses, (BArrayType) queryExpr.type, env, queryBlock, varRefs)
+                    : buildLoop(clauses, (BArrayType) queryExpr.type, env, queryBlock);
+            BLangStatementExpression loopStmtExpr = ASTBuilderUtil.createStatementExpression(queryBlock, resultRef);
+            loopStmtExpr.type = resultRef.type;
+            return loopStmtExpr;
+        }
         BLangVariableReference streamRef = buildStream(clauses, queryExpr.type, env, queryBlock);
         BLangStatementExpression streamStmtExpr;
         if (queryExpr.isStream) {
@@ -300,7 +330,7 @@ public class QueryDesugar extends BLangNodeVisitor {
         this.env = env;
         BLangFromClause initFromClause = (BLangFromClause) clauses.get(0);
         final BLangVariableReference initPipeline = addPipeline(block, initFromClause.pos,
-                initFromClause.collection, resultType);
+                getInitCollection(initFromClause, clauses, resultType), resultType);
         BLangVariableReference initFrom = addInputFunction(block, initFromClause);
         addStreamFunction(block, initPipeline, initFrom);
         for (BLangNode clause : clauses.subList(1, clauses.size())) {
@@ -314,11 +344,23 @@ public class QueryDesugar extends BLangNodeVisitor {
                     break;
                 case JOIN:
                     BLangJoinClause joinClause = (BLangJoinClause) clause;
+                    JoinKeys joinKeys = getJoinKeys(joinClause);
+                    String indexedField = joinKeys == null ? null : getIndexedJoinField(joinClause, joinKeys);
+                    BLangVariableReference joinCollection = indexedField == null ? null
+                            : addCollectionVariable(block, joinClause.pos, joinClause.collection);
                     BLangVariableReference joinPipeline = addPipeline(block, joinClause.pos,
-                            joinClause.collection, resultType);
+                            joinCollection == null ? joinClause.collection : joinCollection, resultType);
                     BLangVariableReference joinInputFunc = addInputFunction(block, joinClause);
                     addStreamFunction(block, joinPipeline, joinInputFunc);
-                    BLangVariableReference joinFunc = addJoinFunction(block, joinClause, joinPipeline);
+                    BLangVariableReference joinFunc;
+                    if (indexedField != null) {
+                        joinFunc = addIndexJoinFunction(block, joinClause, joinPipeline, joinCollection,
+                                indexedField, joinKeys);
+                    } else if (joinKeys != null) {
+                        joinFunc = addHashJoinFunction(block, joinClause, joinPipeline, joinKeys);
+                    } else {
+                        joinFunc = addJoinFunction(block, joinClause, joinPipeline);
+                    }
                     addStreamFunction(block, initPipeline, joinFunc);
                     break;
                 case LET_CLAUSE:
@@ -350,6 +392,601 @@ public class QueryDesugar extends BLangNodeVisitor {
         return addGetStreamFromPipeline(block, initPipeline);
     }
 
+    /**
+     * Write the query as a single loop to the given `block` and return the reference to the resulting array. Each
+     * fromClause becomes a loop over its collection, whereClauses become if statements around the rest of the
+     * clauses, and the variables of the clauses are locals of the loop body, instead of fields of a frame.
+     * <p>
+     * from var x in xs
+     * let int y = x * 2
+     * where y > 10
+     * limit 5
+     * select y;
+     * <p>
+     * is written as
+     * <p>
+     * int[] result = [];
+     * int count = 0;
+     * int[] collection = xs;
+     * int lmt = checkLimit(5);
+     * int limitCount = 0;
+     * int index = 0;
+     * while (index < collection.length()) {
+     * if (limitCount >= lmt) {
+     * break;
+     * }
+     * var x = collection[index];
+     * index = index + 1;
+     * int y = x * 2;
+     * if (y > 10) {
+     * limitCount = limitCount + 1;
+     * result[count] = y;
+     * count = count + 1;
+     * }
+     * }
+     *
+     * @param clauses    list of query clauses.
+     * @param resultType array type of the query output.
+     * @param env        symbol env.
+     * @param block      parent block to write to.
+     * @return variableReference to the resulting array.
+     */
+    BLangVariableReference buildLoop(List<BLangNode> clauses, BArrayType resultType, SymbolEnv env,
+                                     BLangBlockStmt block) {
+        this.env = env;
+        BLangFromClause initFromClause = (BLangFromClause) clauses.get(0);
+        DiagnosticPos pos = initFromClause.pos;
+        BVarSymbol resultSymbol = addVariable(block, pos, resultType,
+                ASTBuilderUtil.createEmptyArrayLiteral(pos, resultType));
+        BVarSymbol countSymbol = addVariable(block, pos, symTable.intType,
+                ASTBuilderUtil.createLiteral(pos, symTable.intType, 0L));
+        BVarSymbol collectionSymbol = addVariable(block, pos, initFromClause.collection.type,
+                initFromClause.collection);
+
+        // Limits are evaluated before the query runs, as they are when the stream pipeline is created.
+        Map<BLangLimitClause, BVarSymbol> limitCounts = new HashMap<>();
+        List<BLangStatement> limitChecks = new ArrayList<>();
+        for (BLangNode clause : clauses) {
+            if (clause.getKind() != NodeKind.LIMIT) {
+                continue;
+            }
+            BLangLimitClause limitClause = (BLangLimitClause) clause;
+            BVarSymbol limitSymbol = addVariable(block, limitClause.pos, symTable.intType,
+                    createQueryLibInvocation(QUERY_CHECK_LIMIT_FUNCTION, Lists.of(limitClause.expression),
+                            limitClause.pos));
+            BVarSymbol limitCountSymbol = addVariable(block, limitClause.pos, symTable.intType,
+                    ASTBuilderUtil.createLiteral(limitClause.pos, symTable.intType, 0L));
+            limitCounts.put(limitClause, limitCountSymbol);
+            limitChecks.add(createLimitCheck(limitClause.pos, limitCountSymbol, limitSymbol));
+        }
+
+        BLangBlockStmt body = addLoop(block, initFromClause, collectionSymbol);
+        // Stop before the next member is processed once a limit is reached, as the pipeline stops pulling members.
+        body.stmts.addAll(0, limitChecks);
+        addClauses(body, clauses, resultType, resultSymbol, countSymbol, limitCounts);
+        return ASTBuilderUtil.createVariableRef(pos, resultSymbol);
+    }
+
+    /**
+     * Write the query as a loop over chunks of its array, which are evaluated on parallel strands, and return the
+     * reference to the resulting array. The loop is written to a lambda, which evaluates the query over the members
+     * of a chunk, and the results of the chunks are added to the resulting array in order by the query lib.
+     * <p>
+     * from var x in xs
+     * where x > 10
+     * select x * 2;
+     * <p>
+     * is written as
+     * <p>
+     * int[] result = [];
+     * evaluateInParallel(xs, function (int[] collection, int startIndex, int endIndex) returns int[] {
+     * int[] chunkResult = [];
+     * int count = 0;
+     * int index = startIndex;
+     * while (index < endIndex) {
+     * var x = collection[index];
+     * index = index + 1;
+     * if (x > 10) {
+     * chunkResult[count] = x * 2;
+     * count = count + 1;
+     * }
+     * }
+     * return chunkResult;
+     * }, result);
+     *
+     * @param clauses    list of query clauses.
+     * @param resultType array type of the query output.
+     * @param env        symbol env.
+     * @param block      parent block to write to.
+     * @param varRefs    references to variables, which are captured by the lambda if they are defined outside the
+     *                   query.
+     * @return variableReference to the resulting array.
+     */
+    BLangVariableReference buildParallelLoop(List<BLangNode> clauses, BArrayType resultType, SymbolEnv env,
+                                             BLangBlockStmt block, List<BLangSimpleVarRef> varRefs) {
+        this.env = env;
+        BLangFromClause initFromClause = (BLangFromClause) clauses.get(0);
+        DiagnosticPos pos = initFromClause.pos;
+        BVarSymbol resultSymbol = addVariable(block, pos, resultType,
+                ASTBuilderUtil.createEmptyArrayLiteral(pos, resultType));
+        for (BLangSimpleVarRef varRef : varRefs) {
+            BSymbol resolvedSymbol = symResolver.lookupClosureVarSymbol(env, names.fromIdNode(varRef.variableName),
+                    SymTag.VARIABLE);
+            if (resolvedSymbol == symTable.notFoundSymbol) {
+                continue;
+            }
+            resolvedSymbol.closure = true;
+            if (resolvedSymbol instanceof BVarSymbol && ((BVarSymbol) resolvedSymbol).originalSymbol != null) {
+                ((BVarSymbol) resolvedSymbol).originalSymbol.closure = true;
+            }
+        }
+
+        // function (T[] collection, int startIndex, int endIndex) returns E[]
+        BType collectionType = initFromClause.collection.type;
+        BVarSymbol collectionSymbol = createParameterSymbol(getNewVarName(), collectionType);
+        BVarSymbol startIndexSymbol = createParameterSymbol(getNewVarName(), symTable.intType);
+        BVarSymbol endIndexSymbol = createParameterSymbol(getNewVarName(), symTable.intType);
+        List<BLangSimpleVariable> params = new ArrayList<>();
+        for (BVarSymbol paramSymbol : Lists.of(collectionSymbol, startIndexSymbol, endIndexSymbol)) {
+            params.add(ASTBuilderUtil.createVariable(pos, null, paramSymbol.type, null, paramSymbol));
+        }
+        BLangValueType returnTypeNode = (BLangValueType) TreeBuilder.createValueTypeNode();
+        returnTypeNode.type = resultType;
+
+        BLangBlockStmt chunkBlock = ASTBuilderUtil.createBlockStmt(pos);
+        BVarSymbol chunkResultSymbol = addVariable(chunkBlock, pos, resultType,
+                ASTBuilderUtil.createEmptyArrayLiteral(pos, resultType));
+        BVarSymbol countSymbol = addVariable(chunkBlock, pos, symTable.intType,
+                ASTBuilderUtil.createLiteral(pos, symTable.intType, 0L));
+        BLangBlockStmt body = addIndexLoop(chunkBlock, initFromClause, collectionSymbol,
+                ASTBuilderUtil.createVariableRef(pos, startIndexSymbol),
+                ASTBuilderUtil.createVariableRef(pos, endIndexSymbol));
+        addClauses(body, clauses, resultType, chunkResultSymbol, countSymbol, new HashMap<>());
+        BLangBlockFunctionBody lambdaBody = (BLangBlockFunctionBody) TreeBuilder.createBlockFunctionBodyNode();
+        lambdaBody.addStatement(chunkBlock);
+        lambdaBody.addStatement(ASTBuilderUtil.createReturnStmt(pos,
+                ASTBuilderUtil.createVariableRef(pos, chunkResultSymbol)));
+        BLangLambdaFunction lambda = createLambdaFunction(pos, params, returnTypeNode, lambdaBody);
+        // Chunks are started as strands which can run on any thread, rather than in the strand group of the query.
+        lambda.function.symbol.schedulerPolicy = SchedulerPolicy.ANY;
+
+        // evaluateInParallel(collection, lambda, result);
+        BLangExpressionStmt stmt = ASTBuilderUtil.createExpressionStmt(pos, block);
+        stmt.expr = createQueryLibInvocation(QUERY_EVALUATE_IN_PARALLEL_FUNCTION,
+                Lists.of(initFromClause.collection, lambda, ASTBuilderUtil.createVariableRef(pos, resultSymbol)),
+                pos);
+        return ASTBuilderUtil.createVariableRef(pos, resultSymbol);
+    }
+
+    /**
+     * Write the clauses which follow the first fromClause to the body of its loop.
+     */
+    private void addClauses(BLangBlockStmt body, List<BLangNode> clauses, BArrayType resultType,
+                            BVarSymbol resultSymbol, BVarSymbol countSymbol,
+                            Map<BLangLimitClause, BVarSymbol> limitCounts) {
+        for (BLangNode clause : clauses.subList(1, clauses.size())) {
+            switch (clause.getKind()) {
+                case FROM:
+                    BLangFromClause fromClause = (BLangFromClause) clause;
+                    BVarSymbol nestedCollectionSymbol = addVariable(body, fromClause.pos,
+                            fromClause.collection.type, fromClause.collection);
+                    body = addLoop(body, fromClause, nestedCollectionSymbol);
+                    break;
+                case LET_CLAUSE:
+                    for (BLangLetVariable letVariable : ((BLangLetClause) clause).letVarDeclarations) {
+                        body.addStatement((BLangStatement) letVariable.definitionNode);
+                    }
+                    break;
+                case WHERE:
+                    BLangWhereClause whereClause = (BLangWhereClause) clause;
+                    BLangIf ifNode = ASTBuilderUtil.createIfStmt(whereClause.pos, body);
+                    ifNode.expr = whereClause.expression;
+                    ifNode.body = ASTBuilderUtil.createBlockStmt(whereClause.pos);
+                    body = ifNode.body;
+                    break;
+                case LIMIT:
+                    BLangLimitClause limitClause = (BLangLimitClause) clause;
+                    body.addStatement(createIncrement(limitClause.pos, limitCounts.get(limitClause)));
+                    break;
+                case SELECT:
+                    BLangSelectClause selectClause = (BLangSelectClause) clause;
+                    BLangIndexBasedAccess memberAccess = ASTBuilderUtil.createIndexBasesAccessExpr(
+                            selectClause.pos, resultType.eType, resultSymbol,
+                            ASTBuilderUtil.createVariableRef(selectClause.pos, countSymbol));
+                    memberAccess.lhsVar = true;
+                    body.addStatement(ASTBuilderUtil.createAssignmentStmt(selectClause.pos, memberAccess,
+                            desugar.addConversionExprIfRequired(selectClause.expression, resultType.eType)));
+                    body.addStatement(createIncrement(selectClause.pos, countSymbol));
+                    break;
+            }
+        }
+    }
+
+    // ---- Util methods to write the query as a loop. ---- //
+
+    /**
+     * Returns whether the query expression can be written as a loop, which is when it creates an array from arrays,
+     * maps and tables, using only from, let, where, limit and select clauses. Queries with nested fromClauses cannot
+     * have limitClauses. The expressions which are evaluated for each member cannot have check expressions, since
+     * those return from the function the loop is written to, rather than from the query.
+     */
+    private boolean isFusible(BLangQueryExpr queryExpr, SymbolEnv env) {
+        if (Boolean.parseBoolean(compilerOptions.get(SKIP_QUERY_FUSION)) || queryExpr.isStream || queryExpr.isTable
+                || queryExpr.type.tag != TypeTags.ARRAY
+                || ((BArrayType) queryExpr.type).state != BArrayState.UNSEALED) {
+            return false;
+        }
+        // The variables of the loop are locals of the function or let expression the query is in.
+        BSymbol owner = env.scope.owner;
+        if ((owner.tag & SymTag.INVOKABLE) != SymTag.INVOKABLE && (owner.tag & SymTag.LET) != SymTag.LET) {
+            return false;
+        }
+        List<BLangNode> clauses = queryExpr.getQueryClauses();
+        int fromClauseCount = 0;
+        boolean hasLimitClause = false;
+        for (BLangNode clause : clauses) {
+            switch (clause.getKind()) {
+                case FROM:
+                    BLangFromClause fromClause = (BLangFromClause) clause;
+                    if (!isIterableCollection(fromClause.collection.type)
+                            || (fromClauseCount > 0 && !isFusible(fromClause.collection))) {
+                        return false;
+                    }
+                    fromClauseCount++;
+                    break;
+                case LET_CLAUSE:
+                    for (BLangLetVariable letVariable : ((BLangLetClause) clause).letVarDeclarations) {
+                        BLangVariable variable = (BLangVariable) letVariable.definitionNode.getVariable();
+                        if (variable.expr == null || !isFusible(variable.expr)) {
+                            return false;
+                        }
+                    }
+                    break;
+                case WHERE:
+                    if (!isFusible(((BLangWhereClause) clause).expression)) {
+                        return false;
+                    }
+                    break;
+                case SELECT:
+                    if (!isFusible(((BLangSelectClause) clause).expression)) {
+                        return false;
+                    }
+                    break;
+                case LIMIT:
+                    hasLimitClause = true;
+                    break;
+                default:
+                    return false;
+            }
+        }
+        if (fromClauseCount > 1 && hasLimitClause) {
+            return false;
+        }
+        // Tables which are narrowed using an index are iterated by the stream pipeline.
+        this.env = env;
+        BLangFromClause initFromClause = (BLangFromClause) clauses.get(0);
+        return initFromClause.collection.type.tag != TypeTags.TABLE
+                || getInitCollection(initFromClause, clauses, queryExpr.type) == initFromClause.collection;
+    }
+
+    private boolean isIterableCollection(BType type) {
+        return type.tag == TypeTags.ARRAY || type.tag == TypeTags.MAP || type.tag == TypeTags.TABLE;
+    }
+
+    /**
+     * Returns whether an expression evaluated for each member can be moved into the loop. Expressions are limited to
+     * operators, accesses, invocations and constructors of other such expressions.
+     */
+    private boolean isFusible(BLangExpression expr) {
+        switch (expr.getKind()) {
+            case LITERAL:
+            case NUMERIC_LITERAL:
+            case CONSTANT_REF:
+            case SIMPLE_VARIABLE_REF:
+                return true;
+            case FIELD_BASED_ACCESS_EXPR:
+                return isFusible(((BLangFieldBasedAccess) expr).expr);
+            case INDEX_BASED_ACCESS_EXPR:
+                BLangIndexBasedAccess indexAccessExpr = (BLangIndexBasedAccess) expr;
+                return isFusible(indexAccessExpr.expr) && isFusible(indexAccessExpr.indexExpr);
+            case GROUP_EXPR:
+                return isFusible(((BLangGroupExpr) expr).expression);
+            case TYPE_CONVERSION_EXPR:
+                return isFusible(((BLangTypeConversionExpr) expr).expr);
+            case TYPE_TEST_EXPR:
+                return isFusible(((BLangTypeTestExpr) expr).expr);
+            case CHECK_PANIC_EXPR:
+                return isFusible(((BLangCheckPanickedExpr) expr).expr);
+            case UNARY_EXPR:
+                return isFusible(((BLangUnaryExpr) expr).expr);
+            case BINARY_EXPR:
+                BLangBinaryExpr binaryExpr = (BLangBinaryExpr) expr;
+                return isFusible(binaryExpr.lhsExpr) && isFusible(binaryExpr.rhsExpr);
+            case ELVIS_EXPR:
+                BLangElvisExpr elvisExpr = (BLangElvisExpr) expr;
+                return isFusible(elvisExpr.lhsExpr) && isFusible(elvisExpr.rhsExpr);
+            case TERNARY_EXPR:
+                BLangTernaryExpr ternaryExpr = (BLangTernaryExpr) expr;
+                return isFusible(ternaryExpr.expr) && isFusible(ternaryExpr.thenExpr)
+                        && isFusible(ternaryExpr.elseExpr);
+            case REST_ARGS_EXPR:
+                return isFusible(((BLangRestArgsExpression) expr).expr);
+            case NAMED_ARGS_EXPR:
+                return isFusible(((BLangNamedArgsExpression) expr).expr);
+            case INVOCATION:
+                BLangInvocation invocation = (BLangInvocation) expr;
+                return !invocation.async && (invocation.expr == null || isFusible(invocation.expr))
+                        && isFusible(invocation.requiredArgs) && isFusible(invocation.argExprs)
+                        && isFusible(invocation.restArgs);
+            case LIST_CONSTRUCTOR_EXPR:
+            case ARRAY_LITERAL_EXPR:
+            case TUPLE_LITERAL_EXPR:
+                return isFusible(((BLangListConstructorExpr) expr).exprs);
+            case STRING_TEMPLATE_LITERAL:
+                return isFusible(((BLangStringTemplateLiteral) expr).exprs);
+            case RECORD_LITERAL_EXPR:
+                for (RecordLiteralNode.RecordField field : ((BLangRecordLiteral) expr).fields) {
+                    if (field.isKeyValueField()) {
+                        BLangRecordKeyValueField keyValue = (BLangRecordKeyValueField) field;
+                        if ((keyValue.key.computedKey && !isFusible(keyValue.key.expr))
+                                || !isFusible(keyValue.valueExpr)) {
+                            return false;
+                        }
+                    } else if (!(field instanceof BLangExpression) || !isFusible((BLangExpression) field)) {
+                        return false;
+                    }
+                }
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    private boolean isFusible(List<BLangExpression> exprs) {
+        for (BLangExpression expr : exprs) {
+            if (!isFusible(expr)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns whether a query expression which can be written as a loop can be evaluated over chunks of its array on
+     * parallel strands, which is when it is enabled, and the query has a single fromClause over an array, no
+     * limitClause, and its clauses are pure. Pure expressions do not update values, so the chunks can be evaluated in
+     * any order.
+     */
+    private boolean isParallel(BLangQueryExpr queryExpr, SymbolEnv env, List<BLangSimpleVarRef> varRefs) {
+        // Only the locals of functions can be captured by the lambda which evaluates a chunk.
+        if (!Boolean.parseBoolean(compilerOptions.get(PARALLEL_QUERIES))
+                || (env.scope.owner.tag & SymTag.INVOKABLE) != SymTag.INVOKABLE) {
+            return false;
+        }
+        List<BLangNode> clauses = queryExpr.getQueryClauses();
+        if (((BLangFromClause) clauses.get(0)).collection.type.tag != TypeTags.ARRAY) {
+            return false;
+        }
+        for (BLangNode clause : clauses.subList(1, clauses.size())) {
+            switch (clause.getKind()) {
+                case LET_CLAUSE:
+                    for (BLangLetVariable letVariable : ((BLangLetClause) clause).letVarDeclarations) {
+                        BLangVariable variable = (BLangVariable) letVariable.definitionNode.getVariable();
+                        if (!isPure(variable.expr, varRefs)) {
+                            return false;
+                        }
+                    }
+                    break;
+                case WHERE:
+                    if (!isPure(((BLangWhereClause) clause).expression, varRefs)) {
+                        return false;
+                    }
+                    break;
+                case SELECT:
+                    if (!isPure(((BLangSelectClause) clause).expression, varRefs)) {
+                        return false;
+                    }
+                    break;
+                default:
+                    return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns whether an expression is pure, and collects the variable references of the expression. Pure
+     * expressions are made of operators, accesses, constructors and functions of the lang lib modules of immutable
+     * basic types.
+     */
+    private boolean isPure(BLangExpression expr, List<BLangSimpleVarRef> varRefs) {
+        switch (expr.getKind()) {
+            case LITERAL:
+            case NUMERIC_LITERAL:
+            case CONSTANT_REF:
+                return true;
+            case SIMPLE_VARIABLE_REF:
+                varRefs.add((BLangSimpleVarRef) expr);
+                return true;
+            case FIELD_BASED_ACCESS_EXPR:
+                return isPure(((BLangFieldBasedAccess) expr).expr, varRefs);
+            case INDEX_BASED_ACCESS_EXPR:
+                BLangIndexBasedAccess indexAccessExpr = (BLangIndexBasedAccess) expr;
+                return isPure(indexAccessExpr.expr, varRefs) && isPure(indexAccessExpr.indexExpr, varRefs);
+            case GROUP_EXPR:
+                return isPure(((BLangGroupExpr) expr).expression, varRefs);
+            case TYPE_CONVERSION_EXPR:
+                return isPure(((BLangTypeConversionExpr) expr).expr, varRefs);
+            case TYPE_TEST_EXPR:
+                return isPure(((BLangTypeTestExpr) expr).expr, varRefs);
+            case UNARY_EXPR:
+                return isPure(((BLangUnaryExpr) expr).expr, varRefs);
+            case BINARY_EXPR:
+                BLangBinaryExpr binaryExpr = (BLangBinaryExpr) expr;
+                return isPure(binaryExpr.lhsExpr, varRefs) && isPure(binaryExpr.rhsExpr, varRefs);
+            case ELVIS_EXPR:
+                BLangElvisExpr elvisExpr = (BLangElvisExpr) expr;
+                return isPure(elvisExpr.lhsExpr, varRefs) && isPure(elvisExpr.rhsExpr, varRefs);
+            case TERNARY_EXPR:
+                BLangTernaryExpr ternaryExpr = (BLangTernaryExpr) expr;
+                return isPure(ternaryExpr.expr, varRefs) && isPure(ternaryExpr.thenExpr, varRefs)
+                        && isPure(ternaryExpr.elseExpr, varRefs);
+            case INVOCATION:
+                BLangInvocation invocation = (BLangInvocation) expr;
+                return invocation.langLibInvocation && !invocation.async
+                        && PURE_LANG_LIB_MODULES.contains(invocation.symbol.pkgID.name.value)
+                        && (invocation.expr == null || isPure(invocation.expr, varRefs))
+                        && isPure(invocation.requiredArgs, varRefs) && isPure(invocation.restArgs, varRefs);
+            case LIST_CONSTRUCTOR_EXPR:
+            case ARRAY_LITERAL_EXPR:
+            case TUPLE_LITERAL_EXPR:
+                return isPure(((BLangListConstructorExpr) expr).exprs, varRefs);
+            case STRING_TEMPLATE_LITERAL:
+                return isPure(((BLangStringTemplateLiteral) expr).exprs, varRefs);
+            case RECORD_LITERAL_EXPR:
+                for (RecordLiteralNode.RecordField field : ((BLangRecordLiteral) expr).fields) {
+                    if (field.isKeyValueField()) {
+                        BLangRecordKeyValueField keyValue = (BLangRecordKeyValueField) field;
+                        if ((keyValue.key.computedKey && !isPure(keyValue.key.expr, varRefs))
+                                || !isPure(keyValue.valueExpr, varRefs)) {
+                            return false;
+                        }
+                    } else if (!(field instanceof BLangExpression) || !isPure((BLangExpression) field, varRefs)) {
+                        return false;
+                    }
+                }
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    private boolean isPure(List<BLangExpression> exprs, List<BLangSimpleVarRef> varRefs) {
+        for (BLangExpression expr : exprs) {
+            if (!isPure(expr, varRefs)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Write a loop over the collection of an input clause, which defines the variables of the clause, and return
+     * the body of the loop. Arrays are iterated using an index, and other collections using a foreach statement.
+     */
+    private BLangBlockStmt addLoop(BLangBlockStmt blockStmt, BLangInputClause inputClause,
+                                   BVarSymbol collectionSymbol) {
+        DiagnosticPos pos = inputClause.pos;
+        if (collectionSymbol.type.tag != TypeTags.ARRAY) {
+            BLangForeach foreach = ASTBuilderUtil.createForeach(pos, blockStmt,
+                    ASTBuilderUtil.createVariableRef(pos, collectionSymbol));
+            foreach.variableDefinitionNode = inputClause.variableDefinitionNode;
+            foreach.varType = inputClause.varType;
+            foreach.resultType = inputClause.resultType;
+            foreach.nillableResultType = inputClause.nillableResultType;
+            foreach.isDeclaredWithVar = inputClause.isDeclaredWithVar;
+            return foreach.body;
+        }
+
+        return addIndexLoop(blockStmt, inputClause, collectionSymbol,
+                ASTBuilderUtil.createLiteral(pos, symTable.intType, 0L), createLengthInvocation(pos, collectionSymbol));
+    }
+
+    /**
+     * Write a loop over the members of an array from `startIndex` up to `endIndex`, which defines the variables of
+     * the input clause, and return the body of the loop.
+     */
+    private BLangBlockStmt addIndexLoop(BLangBlockStmt blockStmt, BLangInputClause inputClause,
+                                        BVarSymbol collectionSymbol, BLangExpression startIndex,
+                                        BLangExpression endIndex) {
+        DiagnosticPos pos = inputClause.pos;
+        // int index = startIndex;
+        BVarSymbol indexSymbol = addVariable(blockStmt, pos, symTable.intType, startIndex);
+        // while (index < endIndex)
+        BLangWhile whileNode = (BLangWhile) TreeBuilder.createWhileNode();
+        whileNode.pos = pos;
+        whileNode.expr = ASTBuilderUtil.createBinaryExpr(pos, ASTBuilderUtil.createVariableRef(pos, indexSymbol),
+                endIndex, symTable.booleanType, OperatorKind.LESS_THAN,
+                (BOperatorSymbol) symResolver.resolveBinaryOperator(OperatorKind.LESS_THAN, symTable.intType,
+                        symTable.intType));
+        whileNode.body = ASTBuilderUtil.createBlockStmt(pos);
+        blockStmt.addStatement(whileNode);
+
+        // var x = collection[index];
+        VariableDefinitionNode variableDefinitionNode = inputClause.variableDefinitionNode;
+        BLangIndexBasedAccess memberAccess = ASTBuilderUtil.createIndexBasesAccessExpr(pos,
+                ((BArrayType) collectionSymbol.type).eType, collectionSymbol,
+                ASTBuilderUtil.createVariableRef(pos, indexSymbol));
+        variableDefinitionNode.getVariable().setInitialExpression(
+                desugar.addConversionExprIfRequired(memberAccess, inputClause.varType));
+        whileNode.body.addStatement((BLangStatement) variableDefinitionNode);
+        // index = index + 1;
+        whileNode.body.addStatement(createIncrement(pos, indexSymbol));
+        return whileNode.body;
+    }
+
+    /**
+     * Desugar to `collection.length()`.
+     */
+    private BLangInvocation createLengthInvocation(DiagnosticPos pos, BVarSymbol collectionSymbol) {
+        BInvokableSymbol lengthSymbol = (BInvokableSymbol) symResolver.lookupLangLibMethod(collectionSymbol.type,
+                LENGTH_FUNCTION);
+        BLangInvocation lengthInvocation = ASTBuilderUtil.createInvocationExprForMethod(pos, lengthSymbol,
+                Lists.of(ASTBuilderUtil.createVariableRef(pos, collectionSymbol)), symResolver);
+        lengthInvocation.argExprs = lengthInvocation.requiredArgs;
+        lengthInvocation.type = lengthSymbol.type.getReturnType();
+        return lengthInvocation;
+    }
+
+    /**
+     * Desugar to `if (limitCount >= lmt) { break; }`.
+     */
+    private BLangIf createLimitCheck(DiagnosticPos pos, BVarSymbol limitCountSymbol, BVarSymbol limitSymbol) {
+        BLangBlockStmt breakBlock = ASTBuilderUtil.createBlockStmt(pos);
+        BLangBreak breakNode = (BLangBreak) TreeBuilder.createBreakNode();
+        breakNode.pos = pos;
+        breakBlock.addStatement(breakNode);
+        BLangBinaryExpr limitReached = ASTBuilderUtil.createBinaryExpr(pos,
+                ASTBuilderUtil.createVariableRef(pos, limitCountSymbol),
+                ASTBuilderUtil.createVariableRef(pos, limitSymbol), symTable.booleanType, OperatorKind.GREATER_EQUAL,
+                (BOperatorSymbol) symResolver.resolveBinaryOperator(OperatorKind.GREATER_EQUAL, symTable.intType,
+                        symTable.intType));
+        return ASTBuilderUtil.createIfElseStmt(pos, limitReached, breakBlock, null);
+    }
+
+    /**
+     * Desugar to `x = x + 1;`.
+     */
+    private BLangAssignment createIncrement(DiagnosticPos pos, BVarSymbol symbol) {
+        BLangSimpleVarRef varRef = ASTBuilderUtil.createVariableRef(pos, symbol);
+        varRef.lhsVar = true;
+        BLangBinaryExpr increment = ASTBuilderUtil.createBinaryExpr(pos,
+                ASTBuilderUtil.createVariableRef(pos, symbol), ASTBuilderUtil.createLiteral(pos, symTable.intType, 1L),
+                symTable.intType, OperatorKind.ADD,
+                (BOperatorSymbol) symResolver.resolveBinaryOperator(OperatorKind.ADD, symTable.intType,
+                        symTable.intType));
+        return ASTBuilderUtil.createAssignmentStmt(pos, varRef, increment);
+    }
+
+    /**
+     * Creates the symbol of a lambda parameter. The parameter is not named, so that the symbol is kept when the
+     * lambda is defined.
+     */
+    private BVarSymbol createParameterSymbol(String name, BType type) {
+        return new BVarSymbol(0, new Name(name), env.scope.owner.pkgID, type, env.scope.owner);
+    }
+
+    /**
+     * Defines a new variable with the given initial value and returns its symbol.
+     */
+    private BVarSymbol addVariable(BLangBlockStmt blockStmt, DiagnosticPos pos, BType type, BLangExpression expr) {
+        String name = getNewVarName();
+        BVarSymbol symbol = new BVarSymbol(0, new Name(name), env.scope.owner.pkgID, type, env.scope.owner);
+        BLangSimpleVariable variable = ASTBuilderUtil.createVariable(pos, name, type, expr, symbol);
+        blockStmt.addStatement(ASTBuilderUtil.createVariableDef(pos, variable));
+        return symbol;
+    }
+
     // ---- Util methods to create the stream pipeline. ---- //
     /**
      * Desugar fromClause/joinClause to below and return a reference to created join _StreamPipeline.
@@ -363,14 +1000,7 @@ public class QueryDesugar extends BLangNodeVisitor {
      */
     BLangVariableReference addPipeline(BLangBlockStmt blockStmt, DiagnosticPos pos,
                                        BLangExpression collection, BType resultType) {
-        String name = getNewVarName();
-        BVarSymbol dataSymbol = new BVarSymbol(0, names.fromString(name), env.scope.owner.pkgID,
-                collection.type, this.env.scope.owner);
-        BLangSimpleVariable dataVariable = ASTBuilderUtil.createVariable(pos, name,
-                collection.type, collection, dataSymbol);
-        BLangSimpleVariableDef dataVarDef = ASTBuilderUtil.createVariableDef(pos, dataVariable);
-        BLangVariableReference valueVarRef = ASTBuilderUtil.createVariableRef(pos, dataSymbol);
-        blockStmt.addStatement(dataVarDef);
+        BLangVariableReference valueVarRef = addCollectionVariable(blockStmt, pos, collection);
         if (resultType.tag == TypeTags.ARRAY) {
             resultType = ((BArrayType) resultType).eType;
         } else if (resultType.tag == TypeTags.STREAM) {
@@ -468,10 +1098,24 @@ public class QueryDesugar extends BLangNodeVisitor {
      */
     BLangVariableReference addJoinFunction(BLangBlockStmt blockStmt, BLangJoinClause joinClause,
                                            BLangVariableReference joinPipeline) {
-        // create on condition filterLambda
-        // function(_Frame frame) returns boolean {
-        //      return ...;
-        // });
+        BLangLambdaFunction filterLambda = createOnConditionLambda(joinClause);
+        Name joinFunctionName = joinClause.isOuterJoin
+                ? QUERY_CREATE_OUTER_JOIN_FUNCTION
+                : QUERY_CREATE_INNER_JOIN_FUNCTION;
+        return getStreamFunctionVariableRef(blockStmt, joinFunctionName,
+                Lists.of(joinPipeline, filterLambda), joinPipeline.pos);
+    }
+
+    /**
+     * Create and return the lambda for the on condition of a joinClause.
+     * function(_Frame frame) returns boolean {
+     *      return ...;
+     * }
+     *
+     * @param joinClause of the on condition.
+     * @return created lambda function.
+     */
+    private BLangLambdaFunction createOnConditionLambda(BLangJoinClause joinClause) {
         DiagnosticPos joinPos = joinClause.pos;
         boolean filtered = joinClause.onClause != null;
         DiagnosticPos filterPos = filtered ? (DiagnosticPos) joinClause.onClause.getPosition() : joinPos;
@@ -488,11 +1132,73 @@ public class QueryDesugar extends BLangNodeVisitor {
         }
         filterBody.addStatement(filterReturnNode);
         filterLambda.accept(this);
-        Name joinFunctionName = joinClause.isOuterJoin
-                ? QUERY_CREATE_OUTER_JOIN_FUNCTION
-                : QUERY_CREATE_INNER_JOIN_FUNCTION;
-        return getStreamFunctionVariableRef(blockStmt, joinFunctionName,
-                Lists.of(joinPipeline, filterLambda), joinPipeline.pos);
+        return filterLambda;
+    }
+
+    /**
+     * Desugar an inner joinClause whose on condition has a key condition to below and return a reference to created
+     * join _StreamFunction.
+     * _StreamFunction joinFunc = createHashJoinFunction(joinPipeline,
+     *      function(_Frame frame) returns any|error? { return ...; },
+     *      function(_Frame frame) returns any|error? { return ...; },
+     *      function(_Frame frame) returns boolean { return ...; });
+     * The key condition is removed from the on condition, as the join function only joins frames with matching keys.
+     *
+     * @param blockStmt    parent block to write to.
+     * @param joinClause   to be desugared.
+     * @param joinPipeline previously created _StreamPipeline reference to be joined.
+     * @param joinKeys     the key condition of the on clause.
+     * @return variableReference to created join _StreamFunction.
+     */
+    BLangVariableReference addHashJoinFunction(BLangBlockStmt blockStmt, BLangJoinClause joinClause,
+                                               BLangVariableReference joinPipeline, JoinKeys joinKeys) {
+        return getStreamFunctionVariableRef(blockStmt, QUERY_CREATE_HASH_JOIN_FUNCTION,
+                createHashJoinArgs(joinClause, joinPipeline, joinKeys), joinPipeline.pos);
+    }
+
+    /**
+     * Desugar an inner joinClause whose on condition matches a field of the members of the joined table with a key
+     * computed from the current frame, to below and return a reference to created join _StreamFunction.
+     * _StreamFunction joinFunc = createIndexJoinFunction(joinPipeline,
+     *      function(_Frame frame) returns any|error? { return ...; },
+     *      function(_Frame frame) returns any|error? { return <T>frame["y"].field; },
+     *      function(_Frame frame) returns boolean { return ...; }, joinTable, "field");
+     * The joined members are looked up using an index on the field if the table has one.
+     *
+     * @param blockStmt    parent block to write to.
+     * @param joinClause   to be desugared.
+     * @param joinPipeline previously created _StreamPipeline reference to be joined.
+     * @param joinTable    reference to the joined table.
+     * @param fieldName    field of the members of the joined table which is matched.
+     * @param joinKeys     the key condition of the on clause.
+     * @return variableReference to created join _StreamFunction.
+     */
+    BLangVariableReference addIndexJoinFunction(BLangBlockStmt blockStmt, BLangJoinClause joinClause,
+                                                BLangVariableReference joinPipeline,
+                                                BLangVariableReference joinTable, String fieldName,
+                                                JoinKeys joinKeys) {
+        List<BLangExpression> args = createHashJoinArgs(joinClause, joinPipeline, joinKeys);
+        args.add(joinTable);
+        args.add(ASTBuilderUtil.createLiteral(joinClause.pos, symTable.stringType, fieldName));
+        return getStreamFunctionVariableRef(blockStmt, QUERY_CREATE_INDEX_JOIN_FUNCTION, args, joinPipeline.pos);
+    }
+
+    private List<BLangExpression> createHashJoinArgs(BLangJoinClause joinClause, BLangVariableReference joinPipeline,
+                                                     JoinKeys joinKeys) {
+        DiagnosticPos pos = joinClause.pos;
+        BLangLambdaFunction lhsKeyLambda = createKeyLambda(pos, joinKeys.lhsKey);
+        BLangLambdaFunction rhsKeyLambda = createKeyLambda(pos, joinKeys.rhsKey);
+        BLangExpression onCondition = removeConjunct((BLangExpression) joinClause.onClause.getExpression(),
+                joinKeys.condition);
+        joinClause.onClause.setExpression(onCondition != null ? onCondition
+                : ASTBuilderUtil.createLiteral(pos, symTable.booleanType, true));
+        BLangLambdaFunction filterLambda = createOnConditionLambda(joinClause);
+        List<BLangExpression> args = new ArrayList<>();
+        args.add(joinPipeline);
+        args.add(lhsKeyLambda);
+        args.add(rhsKeyLambda);
+        args.add(filterLambda);
+        return args;
     }
 
     /**
@@ -680,6 +1386,429 @@ public class QueryDesugar extends BLangNodeVisitor {
         return ASTBuilderUtil.createVariableRef(pos, tableSymbol);
     }
 
+    /**
+     * Defines a variable holding the collection of a from/join clause and returns a reference to it.
+     *
+     * @param blockStmt  parent block to write to.
+     * @param pos        diagnostic pos of the collection.
+     * @param collection the collection.
+     * @return variableReference to the created variable.
+     */
+    private BLangVariableReference addCollectionVariable(BLangBlockStmt blockStmt, DiagnosticPos pos,
+                                                         BLangExpression collection) {
+        String name = getNewVarName();
+        BVarSymbol dataSymbol = new BVarSymbol(0, names.fromString(name), env.scope.owner.pkgID,
+                collection.type, this.env.scope.owner);
+        BLangSimpleVariable dataVariable = ASTBuilderUtil.createVariable(pos, name,
+                collection.type, collection, dataSymbol);
+        BLangSimpleVariableDef dataVarDef = ASTBuilderUtil.createVariableDef(pos, dataVariable);
+        blockStmt.addStatement(dataVarDef);
+        return ASTBuilderUtil.createVariableRef(pos, dataSymbol);
+    }
+
+    // ---- Util methods to use table indexes. ---- //
+
+    /**
+     * Returns the collection of the initial fromClause. When the clause iterates over a table and a whereClause,
+     * before any limitClause, compares a field of the members with a value which does not change while the query
+     * runs, i.e. `from var x in tbl where x.field == value`, the collection is narrowed to
+     * `getIndexedRows(tbl, "field", "==", value)`. That uses an index on the field if the table has one, and is the
+     * table itself otherwise. The whereClause is kept, so the result does not depend on whether an index is used.
+     * The members which are not in the narrowed collection skip the clauses and the conditions before the comparison,
+     * so the collection is only narrowed if those are free of side effects, as is done for join keys.
+     *
+     * @param fromClause initial fromClause.
+     * @param clauses    list of query clauses.
+     * @param resultType result type of the query output.
+     * @return the collection to create the pipeline with.
+     */
+    private BLangExpression getInitCollection(BLangFromClause fromClause, List<BLangNode> clauses,
+                                              BType resultType) {
+        BLangExpression collection = fromClause.collection;
+        BLangVariable variable = (BLangVariable) fromClause.variableDefinitionNode.getVariable();
+        // Streams are consumed after the query expression is evaluated, and do clauses can update the value.
+        if (collection.type.tag != TypeTags.TABLE || resultType.tag == TypeTags.STREAM
+                || variable.getKind() != NodeKind.VARIABLE) {
+            return collection;
+        }
+        Set<BSymbol> querySymbols = new HashSet<>();
+        for (BLangNode clause : clauses) {
+            switch (clause.getKind()) {
+                case FROM:
+                case JOIN:
+                    querySymbols.addAll(getIntroducedSymbols((BLangInputClause) clause));
+                    break;
+                case LET_CLAUSE:
+                    querySymbols.addAll(getIntroducedSymbols((BLangLetClause) clause));
+                    break;
+                case DO:
+                    return collection;
+            }
+        }
+
+        BVarSymbol varSymbol = ((BLangSimpleVariable) variable).symbol;
+        for (BLangNode clause : clauses.subList(1, clauses.size())) {
+            switch (clause.getKind()) {
+                case WHERE:
+                    for (BLangExpression conjunct : getConjuncts(((BLangWhereClause) clause).expression)) {
+                        BLangExpression indexedRows = createIndexedRowsInvocation(collection, varSymbol, conjunct,
+                                querySymbols);
+                        if (indexedRows != null) {
+                            return indexedRows;
+                        }
+                        if (!isSideEffectFree(conjunct)) {
+                            return collection;
+                        }
+                    }
+                    break;
+                case FROM:
+                    if (!isSideEffectFree(((BLangFromClause) clause).collection)) {
+                        return collection;
+                    }
+                    break;
+                case JOIN:
+                    BLangJoinClause joinClause = (BLangJoinClause) clause;
+                    if (!isSideEffectFree(joinClause.collection) || (joinClause.onClause != null
+                            && !isSideEffectFree((BLangExpression) joinClause.onClause.getExpression()))) {
+                        return collection;
+                    }
+                    break;
+                case LET_CLAUSE:
+                    for (BLangLetVariable letVariable : ((BLangLetClause) clause).letVarDeclarations) {
+                        BLangVariable letVar = (BLangVariable) letVariable.definitionNode.getVariable();
+                        if (letVar.expr == null || !isSideEffectFree(letVar.expr)) {
+                            return collection;
+                        }
+                    }
+                    break;
+                case LIMIT:
+                    return collection;
+                default:
+                    break;
+            }
+        }
+        return collection;
+    }
+
+    /**
+     * Returns `getIndexedRows(tbl, "field", "op", value)` if the condition is of the form `x.field op value` or
+     * `value op x.field`, or null otherwise.
+     */
+    private BLangExpression createIndexedRowsInvocation(BLangExpression collection, BVarSymbol varSymbol,
+                                                        BLangExpression condition, Set<BSymbol> querySymbols) {
+        if (condition.getKind() != NodeKind.BINARY_EXPR) {
+            return null;
+        }
+        BLangBinaryExpr binaryExpr = (BLangBinaryExpr) condition;
+        OperatorKind opKind = binaryExpr.opKind;
+        BLangExpression fieldExpr = unwrapGroupExpr(binaryExpr.lhsExpr);
+        BLangExpression valueExpr = unwrapGroupExpr(binaryExpr.rhsExpr);
+        String fieldName = getIndexedFieldName(fieldExpr, varSymbol);
+        if (fieldName == null) {
+            BLangExpression expr = fieldExpr;
+            fieldExpr = valueExpr;
+            valueExpr = expr;
+            fieldName = getIndexedFieldName(fieldExpr, varSymbol);
+            opKind = getSwappedOperator(opKind);
+        }
+        if (fieldName == null || opKind == null || !isIndexLookupType(opKind, fieldExpr.type, valueExpr.type)) {
+            return null;
+        }
+        BLangExpression value = createIndexLookupValue(valueExpr, querySymbols);
+        if (value == null) {
+            return null;
+        }
+
+        DiagnosticPos pos = condition.pos;
+        String operator = opKind == OperatorKind.EQUALS ? OperatorKind.EQUAL.value() : opKind.value();
+        List<BLangExpression> args = Lists.of(collection,
+                ASTBuilderUtil.createLiteral(pos, symTable.stringType, fieldName),
+                ASTBuilderUtil.createLiteral(pos, symTable.stringType, operator),
+                desugar.addConversionExprIfRequired(value, symTable.anyOrErrorType));
+        return createQueryLibInvocation(QUERY_GET_INDEXED_ROWS_FUNCTION, args, pos);
+    }
+
+    /**
+     * Returns a copy of the value a field is compared with in a whereClause, if it is a literal, a constant or a
+     * local variable which is not a query variable, or null otherwise.
+     */
+    private BLangExpression createIndexLookupValue(BLangExpression valueExpr, Set<BSymbol> querySymbols) {
+        switch (valueExpr.getKind()) {
+            case LITERAL:
+            case NUMERIC_LITERAL:
+                return ASTBuilderUtil.createLiteral(valueExpr.pos, valueExpr.type, ((BLangLiteral) valueExpr).value);
+            case CONSTANT_REF:
+                return ASTBuilderUtil.createLiteral(valueExpr.pos, valueExpr.type, ((BLangConstRef) valueExpr).value);
+            case SIMPLE_VARIABLE_REF:
+                BSymbol symbol = ((BLangSimpleVarRef) valueExpr).symbol;
+                // Module level variables can be updated by functions called within the query.
+                if (symbol instanceof BVarSymbol && symbol.owner == env.scope.owner
+                        && (symbol.owner.tag & SymTag.INVOKABLE) == SymTag.INVOKABLE
+                        && !querySymbols.contains(symbol)) {
+                    return ASTBuilderUtil.createVariableRef(valueExpr.pos, symbol);
+                }
+                return null;
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * Returns the field name if the expression is a field access `x.field` on a record typed query variable.
+     */
+    private String getIndexedFieldName(BLangExpression expr, BVarSymbol varSymbol) {
+        if (expr.getKind() != NodeKind.FIELD_BASED_ACCESS_EXPR) {
+            return null;
+        }
+        BLangFieldBasedAccess fieldAccess = (BLangFieldBasedAccess) expr;
+        if (fieldAccess.optionalFieldAccess || fieldAccess.expr.getKind() != NodeKind.SIMPLE_VARIABLE_REF
+                || ((BLangSimpleVarRef) fieldAccess.expr).symbol != varSymbol
+                || fieldAccess.expr.type.tag != TypeTags.RECORD) {
+            return null;
+        }
+        return fieldAccess.field.value;
+    }
+
+    /**
+     * Returns whether values of the given types are compared the same way by an index as by the operator. Equality
+     * is supported for `int`, `string` and `boolean` values and ranges for values of the same numeric type.
+     */
+    private boolean isIndexLookupType(OperatorKind opKind, BType fieldType, BType valueType) {
+        switch (opKind) {
+            case EQUAL:
+            case EQUALS:
+                return isIndexKeyType(fieldType) && isIndexKeyType(valueType);
+            case LESS_THAN:
+            case LESS_EQUAL:
+            case GREATER_THAN:
+            case GREATER_EQUAL:
+                switch (fieldType.tag) {
+                    case TypeTags.INT:
+                    case TypeTags.FLOAT:
+                    case TypeTags.DECIMAL:
+                        return fieldType.tag == valueType.tag;
+                    default:
+                        return false;
+                }
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * Returns whether values of the type are hashed and compared by tables the same way as by `==`.
+     */
+    private boolean isIndexKeyType(BType type) {
+        switch (type.tag) {
+            case TypeTags.INT:
+            case TypeTags.STRING:
+            case TypeTags.BOOLEAN:
+                return true;
+            case TypeTags.UNION:
+                for (BType memberType : ((BUnionType) type).getMemberTypes()) {
+                    if (memberType.tag != TypeTags.NIL && !isIndexKeyType(memberType)) {
+                        return false;
+                    }
+                }
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    private OperatorKind getSwappedOperator(OperatorKind opKind) {
+        switch (opKind) {
+            case EQUAL:
+            case EQUALS:
+                return opKind;
+            case LESS_THAN:
+                return OperatorKind.GREATER_THAN;
+            case LESS_EQUAL:
+                return OperatorKind.GREATER_EQUAL;
+            case GREATER_THAN:
+                return OperatorKind.LESS_THAN;
+            case GREATER_EQUAL:
+                return OperatorKind.LESS_EQUAL;
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * Returns the key condition of an inner joinClause, which is the first conjunct of the on condition of the form
+     * `lhs == rhs`, where one side only refers to the join variables and the other side does not refer to them.
+     * The key of the joined side is computed once for each joined frame. The conjuncts before it have to be free of
+     * side effects, as they are evaluated only for matching keys once the key condition is removed from the on
+     * condition.
+     *
+     * @param joinClause the joinClause.
+     * @return the key condition, or null if there is none.
+     */
+    private JoinKeys getJoinKeys(BLangJoinClause joinClause) {
+        if (joinClause.isOuterJoin || joinClause.onClause == null) {
+            return null;
+        }
+        Set<BSymbol> joinSymbols = new HashSet<>(getIntroducedSymbols(joinClause));
+        for (BLangExpression conjunct : getConjuncts((BLangExpression) joinClause.onClause.getExpression())) {
+            if (conjunct.getKind() == NodeKind.BINARY_EXPR) {
+                BLangBinaryExpr binaryExpr = (BLangBinaryExpr) conjunct;
+                BLangExpression lhsExpr = binaryExpr.lhsExpr;
+                BLangExpression rhsExpr = binaryExpr.rhsExpr;
+                Set<BSymbol> lhsSymbols = new HashSet<>();
+                Set<BSymbol> rhsSymbols = new HashSet<>();
+                if ((binaryExpr.opKind == OperatorKind.EQUAL || binaryExpr.opKind == OperatorKind.EQUALS)
+                        && isIndexKeyType(lhsExpr.type) && isIndexKeyType(rhsExpr.type)
+                        && collectKeySymbols(lhsExpr, lhsSymbols) && collectKeySymbols(rhsExpr, rhsSymbols)) {
+                    if (isJoinKey(rhsSymbols, joinSymbols)
+                            && Collections.disjoint(lhsSymbols, joinSymbols)) {
+                        return new JoinKeys(binaryExpr, lhsExpr, rhsExpr);
+                    }
+                    if (isJoinKey(lhsSymbols, joinSymbols)
+                            && Collections.disjoint(rhsSymbols, joinSymbols)) {
+                        return new JoinKeys(binaryExpr, rhsExpr, lhsExpr);
+                    }
+                }
+            }
+            if (!isSideEffectFree(conjunct)) {
+                return null;
+            }
+        }
+        return null;
+    }
+
+    private boolean isJoinKey(Set<BSymbol> keySymbols, Set<BSymbol> joinSymbols) {
+        return !keySymbols.isEmpty() && joinSymbols.containsAll(keySymbols);
+    }
+
+    /**
+     * Returns the field which is matched by the key condition, if the joinClause joins a table and the key of the
+     * joined members is a field of them, i.e. `join var y in tbl on key == y.field`, or null otherwise.
+     */
+    private String getIndexedJoinField(BLangJoinClause joinClause, JoinKeys joinKeys) {
+        BLangVariable variable = (BLangVariable) joinClause.variableDefinitionNode.getVariable();
+        if (joinClause.collection.type.tag != TypeTags.TABLE || variable.getKind() != NodeKind.VARIABLE) {
+            return null;
+        }
+        return getIndexedFieldName(unwrapGroupExpr(joinKeys.rhsKey), ((BLangSimpleVariable) variable).symbol);
+    }
+
+    /**
+     * Collects the symbols a join key refers to. Keys are limited to literals, variables and field accesses, which
+     * are evaluated without side effects.
+     *
+     * @return false if the expression is not supported as a join key.
+     */
+    private boolean collectKeySymbols(BLangExpression expr, Set<BSymbol> symbols) {
+        switch (expr.getKind()) {
+            case LITERAL:
+            case NUMERIC_LITERAL:
+            case CONSTANT_REF:
+                return true;
+            case SIMPLE_VARIABLE_REF:
+                symbols.add(((BLangSimpleVarRef) expr).symbol);
+                return true;
+            case FIELD_BASED_ACCESS_EXPR:
+                return collectKeySymbols(((BLangFieldBasedAccess) expr).expr, symbols);
+            case GROUP_EXPR:
+                return collectKeySymbols(((BLangGroupExpr) expr).expression, symbols);
+            default:
+                return false;
+        }
+    }
+
+    private boolean isSideEffectFree(BLangExpression expr) {
+        switch (expr.getKind()) {
+            case BINARY_EXPR:
+                BLangBinaryExpr binaryExpr = (BLangBinaryExpr) expr;
+                switch (binaryExpr.opKind) {
+                    case AND:
+                    case OR:
+                    case EQUAL:
+                    case EQUALS:
+                    case NOT_EQUAL:
+                    case REF_EQUAL:
+                    case REF_NOT_EQUAL:
+                    case LESS_THAN:
+                    case LESS_EQUAL:
+                    case GREATER_THAN:
+                    case GREATER_EQUAL:
+                        return isSideEffectFree(binaryExpr.lhsExpr) && isSideEffectFree(binaryExpr.rhsExpr);
+                    default:
+                        return false;
+                }
+            case UNARY_EXPR:
+                BLangUnaryExpr unaryExpr = (BLangUnaryExpr) expr;
+                return unaryExpr.operator == OperatorKind.NOT && isSideEffectFree(unaryExpr.expr);
+            default:
+                return collectKeySymbols(expr, new HashSet<>());
+        }
+    }
+
+    /**
+     * Returns the operands of a chain of `&&` operators, in evaluation order.
+     */
+    private List<BLangExpression> getConjuncts(BLangExpression expr) {
+        List<BLangExpression> conjuncts = new ArrayList<>();
+        expr = unwrapGroupExpr(expr);
+        if (expr.getKind() == NodeKind.BINARY_EXPR && ((BLangBinaryExpr) expr).opKind == OperatorKind.AND) {
+            conjuncts.addAll(getConjuncts(((BLangBinaryExpr) expr).lhsExpr));
+            conjuncts.addAll(getConjuncts(((BLangBinaryExpr) expr).rhsExpr));
+        } else {
+            conjuncts.add(expr);
+        }
+        return conjuncts;
+    }
+
+    /**
+     * Removes a conjunct from a chain of `&&` operators.
+     *
+     * @return the remaining condition, or null if nothing remains.
+     */
+    private BLangExpression removeConjunct(BLangExpression expr, BLangExpression conjunct) {
+        if (expr == conjunct) {
+            return null;
+        }
+        if (expr.getKind() == NodeKind.GROUP_EXPR) {
+            BLangGroupExpr groupExpr = (BLangGroupExpr) expr;
+            groupExpr.expression = removeConjunct(groupExpr.expression, conjunct);
+            return groupExpr.expression == null ? null : groupExpr;
+        }
+        if (expr.getKind() == NodeKind.BINARY_EXPR && ((BLangBinaryExpr) expr).opKind == OperatorKind.AND) {
+            BLangBinaryExpr binaryExpr = (BLangBinaryExpr) expr;
+            BLangExpression lhsExpr = removeConjunct(binaryExpr.lhsExpr, conjunct);
+            BLangExpression rhsExpr = removeConjunct(binaryExpr.rhsExpr, conjunct);
+            if (lhsExpr == null || rhsExpr == null) {
+                return lhsExpr == null ? rhsExpr : lhsExpr;
+            }
+            binaryExpr.lhsExpr = lhsExpr;
+            binaryExpr.rhsExpr = rhsExpr;
+        }
+        return expr;
+    }
+
+    private BLangExpression unwrapGroupExpr(BLangExpression expr) {
+        while (expr.getKind() == NodeKind.GROUP_EXPR) {
+            expr = ((BLangGroupExpr) expr).expression;
+        }
+        return expr;
+    }
+
+    /**
+     * Create and return a lambda `function(_Frame frame) returns any|error? { return key; }`.
+     *
+     * @param pos of the lambda.
+     * @param key the key expression.
+     * @return created lambda function.
+     */
+    private BLangLambdaFunction createKeyLambda(DiagnosticPos pos, BLangExpression key) {
+        BLangReturn returnNode = (BLangReturn) TreeBuilder.createReturnNode();
+        returnNode.expr = key;
+        returnNode.pos = pos;
+        BLangLambdaFunction lambda = createLambdaFunction(pos, getAnyErrorNilTypeNode(), returnNode, false);
+        lambda.accept(this);
+        return lambda;
+    }
+
     /**
      * Create and return a lambda `function(_Frame frame) returns _Frame|error? {...; return frame;}`
      *
@@ -876,6 +2005,10 @@ public class QueryDesugar extends BLangNodeVisitor {
         }
     }
 
+    private List<BVarSymbol> getIntroducedSymbols(BLangInputClause inputClause) {
+        return getIntroducedSymbols((BLangVariable) inputClause.variableDefinitionNode.getVariable());
+    }
+
     private List<BVarSymbol> getIntroducedSymbols(BLangLetClause letClause) {
         List<BVarSymbol> symbols = new ArrayList<>();
         for (BLangLetVariable letVariable : letClause.letVarDeclarations) {
@@ -1750,4 +2883,20 @@ public class QueryDesugar extends BLangNodeVisitor {
         }
     }
 
+
+    /**
+     * The key condition `lhsKey == rhsKey` of the on clause of a joinClause, where rhsKey is computed from the joined
+     * members and lhsKey from the frames they are joined with.
+     */
+    private static class JoinKeys {
+        final BLangBinaryExpr condition;
+        final BLangExpression lhsKey;
+        final BLangExpression rhsKey;
+
+        JoinKeys(BLangBinaryExpr condition, BLangExpression lhsKey, BLangExpression rhsKey) {
+            this.condition = condition;
+            this.lhsKey = lhsKey;
+            this.rhsKey = rhsKey;
+        }
+    }
 }
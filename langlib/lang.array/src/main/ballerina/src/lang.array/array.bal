@@ -155,11 +155,35 @@ public function reverse(Type[] arr) returns Type[] = external;
 # Sorts an array using a comparator function.
 # The comparator function must return a value less than, equal to or greater than zero
 # according as its first argument is to be ordered before, equal to or after its second argument.
+# The sort is stable. If the comparator function is annotated with `@strand {thread: "any"}`,
+# large arrays are sorted on parallel strands, which call the comparator function concurrently.
 #
 # + arr - the array to be sorted
 # + func - comparator function
 # + return - `arr` with its members sorted
-public function sort(Type[] arr, function(Type val1, Type val2) returns int func) returns Type[] = external;
+public function sort(Type[] arr, function(Type val1, Type val2) returns int func) returns Type[] {
+    int size = length(arr);
+    int chunkCount = getSortChunkCount(arr, func);
+    if (chunkCount <= 1) {
+        return sortRange(arr, 0, size, func);
+    }
+    int chunkSize = (size + chunkCount - 1) / chunkCount;
+    future<Type[]>[] chunks = [];
+    int chunkIndex = 0;
+    int startIndex = 0;
+    while (startIndex < size) {
+        int endIndex = size - startIndex > chunkSize ? startIndex + chunkSize : size;
+        chunks[chunkIndex] = @strand {thread: "any"} start sortRange(arr, startIndex, endIndex, func);
+        chunkIndex += 1;
+        startIndex = endIndex;
+    }
+    chunkIndex = 0;
+    while (chunkIndex < length(chunks)) {
+        _ = wait chunks[chunkIndex];
+        chunkIndex += 1;
+    }
+    return mergeSortedChunks(arr, chunkSize, func);
+}
 
 // Stack-like methods (JavaScript, Perl)
 // panic on fixed-length array
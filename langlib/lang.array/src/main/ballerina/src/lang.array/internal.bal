@@ -29,3 +29,14 @@ type ArrayIterator object {
         Type value;
     |}? = external;
 };
+
+# Decides the number of chunks `sort` splits an array into, to sort them on parallel strands.
+function getSortChunkCount(Type[] arr, function(Type val1, Type val2) returns int func) returns int = external;
+
+# Sorts the members of an array from `startIndex` up to `endIndex`.
+function sortRange(Type[] arr, int startIndex, int endIndex, function(Type val1, Type val2) returns int func)
+        returns Type[] = external;
+
+# Merges the sorted chunks of `chunkSize` members of an array.
+function mergeSortedChunks(Type[] arr, int chunkSize, function(Type val1, Type val2) returns int func)
+        returns Type[] = external;
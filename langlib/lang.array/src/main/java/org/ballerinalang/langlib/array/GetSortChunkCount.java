@@ -0,0 +1,59 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.langlib.array;
+
+import org.ballerinalang.jvm.scheduling.Strand;
+import org.ballerinalang.jvm.values.ArrayValue;
+import org.ballerinalang.jvm.values.FPValue;
+import org.ballerinalang.model.types.TypeKind;
+import org.ballerinalang.natives.annotations.Argument;
+import org.ballerinalang.natives.annotations.BallerinaFunction;
+import org.ballerinalang.natives.annotations.ReturnType;
+
+import static org.ballerinalang.jvm.values.utils.ArrayUtils.checkIsArrayOnlyOperation;
+import static org.ballerinalang.util.BLangCompilerConstants.ARRAY_VERSION;
+
+/**
+ * Decides the number of chunks lang.array:sort splits an array into, to sort them on parallel strands. Only the
+ * comparator functions which are annotated to run on any thread are called concurrently, and only for arrays of at
+ * least {@link #PARALLEL_SORT_THRESHOLD} members. Otherwise the array is sorted as a single chunk.
+ *
+ * @since 2.0.0
+ */
+@BallerinaFunction(
+        orgName = "ballerina", packageName = "lang.array", version = ARRAY_VERSION,
+        functionName = "getSortChunkCount",
+        args = {@Argument(name = "arr", type = TypeKind.ARRAY), @Argument(name = "func", type = TypeKind.FUNCTION)},
+        returnType = {@ReturnType(type = TypeKind.INT)}
+)
+public class GetSortChunkCount {
+
+    private static final int PARALLEL_SORT_THRESHOLD = 1 << 16;
+    private static final int MIN_CHUNK_SIZE = 1 << 13;
+
+    public static long getSortChunkCount(Strand strand, ArrayValue arr, FPValue<Object, Long> func) {
+        checkIsArrayOnlyOperation(arr.getType(), "sort()");
+        int size = arr.size();
+        if (size < PARALLEL_SORT_THRESHOLD || !func.isConcurrent) {
+            return 1;
+        }
+        long chunkCount = (size + MIN_CHUNK_SIZE - 1) / MIN_CHUNK_SIZE;
+        return Math.max(1, Math.min(chunkCount, Runtime.getRuntime().availableProcessors()));
+    }
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.langlib.array;
+
+import org.ballerinalang.jvm.scheduling.Strand;
+import org.ballerinalang.jvm.values.ArrayValue;
+import org.ballerinalang.jvm.values.FPValue;
+import org.ballerinalang.model.types.TypeKind;
+import org.ballerinalang.natives.annotations.Argument;
+import org.ballerinalang.natives.annotations.BallerinaFunction;
+import org.ballerinalang.natives.annotations.ReturnType;
+
+import static org.ballerinalang.langlib.array.SortRange.getValues;
+import static org.ballerinalang.langlib.array.SortRange.merge;
+import static org.ballerinalang.langlib.array.SortRange.setValues;
+import static org.ballerinalang.util.BLangCompilerConstants.ARRAY_VERSION;
+
+/**
+ * Native implementation of lang.array:mergeSortedChunks((any|error)[], int, function), which merges the chunks of
+ * `chunkSize` members that lang.array:sort has sorted on parallel strands. The chunks are merged pairwise on the
+ * strand of the sort, so that the comparator is called on that strand.
+ *
+ * @since 2.0.0
+ */
+@BallerinaFunction(
+        orgName = "ballerina", packageName = "lang.array", version = ARRAY_VERSION,
+        functionName = "mergeSortedChunks",
+        args = {@Argument(name = "arr", type = TypeKind.ARRAY), @Argument(name = "chunkSize", type = TypeKind.INT),
+                @Argument(name = "func", type = TypeKind.FUNCTION)},
+        returnType = {@ReturnType(type = TypeKind.ARRAY)}
+)
+public class MergeSortedChunks {
+
+    public static ArrayValue mergeSortedChunks(Strand strand, ArrayValue arr, long chunkSize,
+                                               FPValue<Object, Long> func) {
+        int size = arr.size();
+        Object[] src = getValues(arr, 0, size);
+        Object[] dst = new Object[size];
+        SortRange.Comparator comparator = new SortRange.Comparator(strand, func);
+        for (long width = chunkSize; width < size; width *= 2) {
+            int lo = 0;
+            for (; lo + width < size; lo += 2 * width) {
+                int mid = (int) (lo + width);
+                merge(src, dst, lo, mid, (int) Math.min(mid + width, size), comparator);
+            }
+            // The last chunk has no chunk to be merged with in this round.
+            System.arraycopy(src, lo, dst, lo, size - lo);
+            Object[] merged = dst;
+            dst = src;
+            src = merged;
+        }
+        setValues(arr, 0, src);
+        return arr;
+    }
+}
@@ -0,0 +1,189 @@
+/*
+ * Copyright (c) 2019, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.langlib.array;
+
+import org.ballerinalang.jvm.scheduling.Strand;
+import org.ballerinalang.jvm.types.TypeTags;
+import org.ballerinalang.jvm.values.ArrayValue;
+import org.ballerinalang.jvm.values.FPValue;
+import org.ballerinalang.jvm.values.api.BString;
+import org.ballerinalang.model.types.TypeKind;
+import org.ballerinalang.natives.annotations.Argument;
+import org.ballerinalang.natives.annotations.BallerinaFunction;
+import org.ballerinalang.natives.annotations.ReturnType;
+
+import static org.ballerinalang.util.BLangCompilerConstants.ARRAY_VERSION;
+
+/**
+ * Native implementation of lang.array:sortRange((any|error)[], int, int, function), which sorts the members of an
+ * array from `startIndex` up to `endIndex` for lang.array:sort.
+ * <p>
+ * The members are read out of the array once, so that the members of int, float, string, boolean and byte arrays are
+ * boxed only once, and they are sorted with a stable merge sort, which passes them to the comparator through a single
+ * argument array. The sorted members are written back to the array with the setter of its element type.
+ *
+ * @since 2.0.0
+ */
+@BallerinaFunction(
+        orgName = "ballerina", packageName = "lang.array", version = ARRAY_VERSION, functionName = "sortRange",
+        args = {@Argument(name = "arr", type = TypeKind.ARRAY), @Argument(name = "startIndex", type = TypeKind.INT),
+                @Argument(name = "endIndex", type = TypeKind.INT), @Argument(name = "func", type = TypeKind.FUNCTION)},
+        returnType = {@ReturnType(type = TypeKind.ARRAY)}
+)
+public class SortRange {
+
+    public static ArrayValue sortRange(Strand strand, ArrayValue arr, long startIndex, long endIndex,
+                                       FPValue<Object, Long> func) {
+        int lo = (int) startIndex;
+        int hi = (int) endIndex;
+        if (hi - lo < 2) {
+            return arr;
+        }
+
+        Object[] values = getValues(arr, lo, hi);
+        mergesort(values.clone(), values, 0, values.length, new Comparator(strand, func));
+        setValues(arr, lo, values);
+        return arr;
+    }
+
+    static Object[] getValues(ArrayValue arr, int lo, int hi) {
+        Object[] values = new Object[hi - lo];
+        switch (arr.getElementType().getTag()) {
+            case TypeTags.INT_TAG:
+            case TypeTags.SIGNED32_INT_TAG:
+            case TypeTags.SIGNED16_INT_TAG:
+            case TypeTags.SIGNED8_INT_TAG:
+            case TypeTags.UNSIGNED32_INT_TAG:
+            case TypeTags.UNSIGNED16_INT_TAG:
+            case TypeTags.UNSIGNED8_INT_TAG:
+                for (int i = lo; i < hi; i++) {
+                    values[i - lo] = arr.getInt(i);
+                }
+                return values;
+            case TypeTags.FLOAT_TAG:
+                for (int i = lo; i < hi; i++) {
+                    values[i - lo] = arr.getFloat(i);
+                }
+                return values;
+            case TypeTags.STRING_TAG:
+            case TypeTags.CHAR_STRING_TAG:
+                for (int i = lo; i < hi; i++) {
+                    values[i - lo] = arr.getBString(i);
+                }
+                return values;
+            case TypeTags.BOOLEAN_TAG:
+            case TypeTags.BYTE_TAG:
+                for (int i = lo; i < hi; i++) {
+                    values[i - lo] = arr.get(i);
+                }
+                return values;
+            default:
+                System.arraycopy(arr.getValues(), lo, values, 0, hi - lo);
+                return values;
+        }
+    }
+
+    static void setValues(ArrayValue arr, int lo, Object[] values) {
+        switch (arr.getElementType().getTag()) {
+            case TypeTags.INT_TAG:
+            case TypeTags.SIGNED32_INT_TAG:
+            case TypeTags.SIGNED16_INT_TAG:
+            case TypeTags.SIGNED8_INT_TAG:
+            case TypeTags.UNSIGNED32_INT_TAG:
+            case TypeTags.UNSIGNED16_INT_TAG:
+            case TypeTags.UNSIGNED8_INT_TAG:
+                for (int i = 0; i < values.length; i++) {
+                    arr.add(lo + i, (long) values[i]);
+                }
+                return;
+            case TypeTags.FLOAT_TAG:
+                for (int i = 0; i < values.length; i++) {
+                    arr.add(lo + i, (double) values[i]);
+                }
+                return;
+            case TypeTags.STRING_TAG:
+            case TypeTags.CHAR_STRING_TAG:
+                for (int i = 0; i < values.length; i++) {
+                    arr.add(lo + i, (BString) values[i]);
+                }
+                return;
+            default:
+                for (int i = 0; i < values.length; i++) {
+                    arr.add(lo + i, values[i]);
+                }
+        }
+    }
+
+    /**
+     * Sorts `dst[lo, hi)` using `src` as the scratch space, where both hold the same members in the range.
+     * Adapted from https://algs4.cs.princeton.edu/22mergesort/MergeX.java.html
+     */
+    private static void mergesort(Object[] src, Object[] dst, int lo, int hi, Comparator comparator) {
+        if (hi - lo < 2) {
+            return;
+        }
+        int mid = (lo + hi) >>> 1;
+        mergesort(dst, src, lo, mid, comparator);
+        mergesort(dst, src, mid, hi, comparator);
+        merge(src, dst, lo, mid, hi, comparator);
+    }
+
+    /**
+     * Merges the sorted ranges `src[lo, mid)` and `src[mid, hi)` to `dst[lo, hi)`. Members which are ordered equal
+     * are taken from the first range first, so that the sort is stable.
+     */
+    static void merge(Object[] src, Object[] dst, int lo, int mid, int hi, Comparator comparator) {
+        if (comparator.compare(src[mid], src[mid - 1]) >= 0) {
+            // The ranges are already in order.
+            System.arraycopy(src, lo, dst, lo, hi - lo);
+            return;
+        }
+        for (int i = lo, j = mid, k = lo; k < hi; k++) {
+            if (i >= mid) {
+                dst[k] = src[j++];
+            } else if (j >= hi) {
+                dst[k] = src[i++];
+            } else if (comparator.compare(src[j], src[i]) < 0) {
+                dst[k] = src[j++];
+            } else {
+                dst[k] = src[i++];
+            }
+        }
+    }
+
+    /**
+     * Calls the comparator function, reusing the same argument array for each call.
+     */
+    static class Comparator {
+
+        private final FPValue<Object, Long> func;
+        private final Object[] args;
+
+        Comparator(Strand strand, FPValue<Object, Long> func) {
+            this.func = func;
+            this.args = new Object[]{strand, null, true, null, true};
+        }
+
+        long compare(Object a, Object b) {
+            args[1] = a;
+            args[3] = b;
+            return func.call(args);
+        }
+    }
+}
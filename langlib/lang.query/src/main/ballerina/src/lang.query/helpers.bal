@@ -49,6 +49,23 @@ public function createOuterJoinFunction(_StreamPipeline joinedPipeline,
     return new _OuterJoinFunction(joinedPipeline, onCondition);
 }
 
+public function createHashJoinFunction(_StreamPipeline joinedPipeline,
+                                       function(_Frame _frame) returns any|error? lhsKeyFunc,
+                                       function(_Frame _frame) returns any|error? rhsKeyFunc,
+                                       function(_Frame _frame) returns boolean onCondition)
+        returns _StreamFunction {
+    return new _HashJoinFunction(joinedPipeline, lhsKeyFunc, rhsKeyFunc, onCondition);
+}
+
+public function createIndexJoinFunction(_StreamPipeline joinedPipeline,
+                                        function(_Frame _frame) returns any|error? lhsKeyFunc,
+                                        function(_Frame _frame) returns any|error? rhsKeyFunc,
+                                        function(_Frame _frame) returns boolean onCondition,
+                                        table<map<any|error>> joinedTable, string fieldName)
+        returns _StreamFunction {
+    return new _HashJoinFunction(joinedPipeline, lhsKeyFunc, rhsKeyFunc, onCondition, joinedTable, fieldName);
+}
+
 public function createFilterFunction(function(_Frame _frame) returns boolean filterFunc)
         returns _StreamFunction {
     return new _FilterFunction(filterFunc);
@@ -67,6 +84,53 @@ public function createLimitFunction(int lmt) returns _StreamFunction {
     return new _LimitFunction(lmt);
 }
 
+# Validates the limit of a query expression which is evaluated as a loop.
+# + lmt - the limit
+# + return - the limit, if it is not negative
+public function checkLimit(int lmt) returns int {
+    if (lmt < 0) {
+        panic error("Unable to assign limit", message = "limit cannot be < 0.");
+    }
+    return lmt;
+}
+
+# Evaluates a query over the members of `collection` on parallel strands. The members are split into chunks of
+# consecutive members, `chunkFunc` evaluates the query over the members of a chunk, and the results of the chunks
+# are added to `result` in the order of the chunks.
+# + collection - the list the query is evaluated over
+# + chunkFunc - the function which evaluates the query over the members from `startIndex` up to `endIndex`
+# + result - the list the results are added to
+public function evaluateInParallel(Type[] collection,
+        function(Type[] collection, int startIndex, int endIndex) returns Type[] chunkFunc, Type[] result) {
+    int length = collection.length();
+    int chunkCount = getChunkCount(length);
+    if (chunkCount <= 1) {
+        addAll(result, chunkFunc(collection, 0, length));
+        return;
+    }
+    int chunkSize = (length + chunkCount - 1) / chunkCount;
+    future<Type[]>[] chunks = [];
+    int startIndex = 0;
+    while (startIndex < length) {
+        int endIndex = length - startIndex > chunkSize ? startIndex + chunkSize : length;
+        future<Type[]> chunk = start chunkFunc(collection, startIndex, endIndex);
+        chunks.push(chunk);
+        startIndex = endIndex;
+    }
+    foreach future<Type[]> chunk in chunks {
+        Type[] members = wait chunk;
+        addAll(result, members);
+    }
+}
+
+function addAll(Type[] result, Type[] members) {
+    foreach Type member in members {
+        result.push(member);
+    }
+}
+
+function getChunkCount(int length) returns int = external;
+
 public function addStreamFunction(@tainted _StreamPipeline pipeline, @tainted _StreamFunction streamFunction) {
     pipeline.addStreamFunction(streamFunction);
 }
@@ -145,3 +209,9 @@ public function consumeStream(stream<Type, error?> strm) returns error? {
 // TODO: This for debugging purposes, remove once completed.
 public function print(any|error? data) = external;
 
+# Returns the members of a table whose field `fieldName` compares with `value` using `operator`,
+# which is one of `==`, `<`, `<=`, `>` or `>=`, if the table has an index on the field which
+# can be used to find them. Otherwise returns the table itself.
+public function getIndexedRows(table<map<Type>> tbl, string fieldName, string operator, any|error value)
+        returns (Type)[]|table<map<Type>> = external;
+
@@ -73,6 +73,23 @@ public type _StreamPipeline object {
         sf.reset();
     }
 
+    # Resets the pipeline to iterate over the given collection instead of its current collection.
+    #
+    # + collection - the collection to iterate over
+    public function resetWith(
+            (Type)[]|map<Type>|record{}|string|xml|table<map<Type>>|stream<Type, error?>|_Iterable collection) {
+        _StreamFunction sf = self.streamFunction;
+        _StreamFunction? pf = sf.prevFunc;
+        while (pf is _StreamFunction) {
+            sf = pf;
+            pf = sf.prevFunc;
+        }
+        if (sf is _InitFunction) {
+            sf.setCollection(collection);
+        }
+        self.reset();
+    }
+
     public function addStreamFunction(_StreamFunction streamFunction) {
         _StreamFunction existingFunc = self.streamFunction;
         streamFunction.prevFunc = existingFunc;
@@ -137,6 +154,14 @@ public type _InitFunction object {
         }
     }
 
+    # Sets the collection to iterate over from the next reset.
+    #
+    # + collection - the collection to iterate over
+    function setCollection(
+            (Type)[]|map<Type>|record{}|string|xml|table<map<Type>>|stream<Type, error?>|_Iterable collection) {
+        self.collection = collection;
+    }
+
     function _getIterator(
             (Type)[]|map<Type>|record{}|string|xml|table<map<Type>>|stream<Type, error?>|_Iterable collection)
                 returns _Iterator {
@@ -436,6 +461,185 @@ public type _OuterJoinFunction object {
     }
 };
 
+public type _HashJoinFunction object {
+    *_StreamFunction;
+
+    function(_Frame _frame) returns boolean onCondition;
+    function(_Frame _frame) returns any|error? lhsKeyFunc;
+    function(_Frame _frame) returns any|error? rhsKeyFunc;
+    _StreamPipeline pipelineToJoin;
+    table<map<any|error>>? tableToJoin;
+    string fieldName;
+    map<_Frame[]>? hashTable;
+    boolean pipelineConsumed;
+    _Frame|error? currentFrame;
+    _Frame[] matches;
+    int matchIndex;
+
+    public function init(_StreamPipeline pipelineToJoin,
+                         function(_Frame _frame) returns any|error? lhsKeyFunc,
+                         function(_Frame _frame) returns any|error? rhsKeyFunc,
+                         function(_Frame _frame) returns boolean onCondition,
+                         table<map<any|error>>? tableToJoin = (), string fieldName = "") {
+        self.pipelineToJoin = pipelineToJoin;
+        self.lhsKeyFunc = lhsKeyFunc;
+        self.rhsKeyFunc = rhsKeyFunc;
+        self.onCondition = onCondition;
+        self.tableToJoin = tableToJoin;
+        self.fieldName = fieldName;
+        self.prevFunc = ();
+        self.hashTable = ();
+        self.pipelineConsumed = false;
+        self.currentFrame = ();
+        self.matches = [];
+        self.matchIndex = 0;
+    }
+
+    # Desugared function to do;
+    # from var ... in listA join var b in listB on keyA equals keyB
+    # The frames of listB are grouped by keyB once, so each frame of listA is only merged with the frames
+    # which have the same key. If listB is a table with an index on the field used as keyB, the index is
+    # used to find them instead.
+    # + return - merged two frames { ...frameA, ...frameB }
+    public function process() returns _Frame|error? {
+        function(_Frame _frame) returns boolean onCondition = self.onCondition;
+        function(_Frame _frame) returns any|error? lhsKeyFunc = self.lhsKeyFunc;
+        _StreamFunction pf = <_StreamFunction> self.prevFunc;
+        while (true) {
+            _Frame|error? cf = self.currentFrame;
+            if (cf is ()) {
+                cf = pf.process();
+                self.currentFrame = cf;
+                if (cf is _Frame) {
+                    _Frame[]|error matches = self.getMatches(lhsKeyFunc(cf));
+                    if (matches is error) {
+                        return matches;
+                    }
+                    self.matches = matches;
+                    self.matchIndex = 0;
+                }
+            }
+            if (cf is _Frame) {
+                _Frame[] matches = self.matches;
+                int i = self.matchIndex;
+                if (i < matches.length()) {
+                    self.matchIndex = i + 1;
+                    _Frame jf = {...matches[i], ...cf};
+                    if (onCondition(jf)) {
+                        return jf;
+                    }
+                } else {
+                    // Move to next frame
+                    self.currentFrame = ();
+                }
+            } else {
+                return cf;
+            }
+        }
+    }
+
+    public function reset() {
+        // Reset the state of currentFrame, and rebuild the hash table in case the joined collection changed
+        self.currentFrame = ();
+        self.matches = [];
+        self.hashTable = ();
+        _StreamFunction? pf = self.prevFunc;
+        if (pf is _StreamFunction) {
+            pf.reset();
+        }
+    }
+
+    function getMatches(any|error? key) returns _Frame[]|error {
+        table<map<any|error>>? tbl = self.tableToJoin;
+        if (tbl is table<map<any|error>>) {
+            var rows = getIndexedRows(tbl, self.fieldName, "==", key);
+            if (rows is (any|error)[]) {
+                return self.collectFrames(rows);
+            }
+        }
+
+        map<_Frame[]>|error hashTable = self.getHashTable();
+        if (hashTable is error) {
+            return hashTable;
+        }
+        string? hashKey = self.getHashKey(key);
+        if (hashKey is string) {
+            _Frame[]? frames = hashTable[hashKey];
+            if (frames is _Frame[]) {
+                return frames;
+            }
+        }
+        return [];
+    }
+
+    function collectFrames((any|error)[] rows) returns _Frame[]|error {
+        _StreamPipeline j = self.pipelineToJoin;
+        j.resetWith(rows);
+        self.pipelineConsumed = true;
+        _Frame[] frames = [];
+        _Frame|error? f = j.next();
+        while (f is _Frame) {
+            frames.push(f);
+            f = j.next();
+        }
+        if (f is error) {
+            return f;
+        }
+        return frames;
+    }
+
+    function getHashTable() returns map<_Frame[]>|error {
+        map<_Frame[]>? existingHashTable = self.hashTable;
+        if (existingHashTable is map<_Frame[]>) {
+            return existingHashTable;
+        }
+
+        function(_Frame _frame) returns any|error? rhsKeyFunc = self.rhsKeyFunc;
+        _StreamPipeline j = self.pipelineToJoin;
+        table<map<any|error>>? tbl = self.tableToJoin;
+        if (tbl is table<map<any|error>>) {
+            j.resetWith(tbl);
+        } else if (self.pipelineConsumed) {
+            j.reset();
+        }
+        self.pipelineConsumed = true;
+        map<_Frame[]> hashTable = {};
+        _Frame|error? f = j.next();
+        while (f is _Frame) {
+            string? hashKey = self.getHashKey(rhsKeyFunc(f));
+            if (hashKey is string) {
+                _Frame[]? frames = hashTable[hashKey];
+                if (frames is _Frame[]) {
+                    frames.push(f);
+                } else {
+                    hashTable[hashKey] = [f];
+                }
+            }
+            f = j.next();
+        }
+        if (f is error) {
+            return f;
+        }
+        self.hashTable = hashTable;
+        return hashTable;
+    }
+
+    // Join keys are `int`, `string`, `boolean` or `()`, which are equal only if their types and values are the
+    // same, so a key is encoded with a prefix for its type.
+    function getHashKey(any|error? key) returns string? {
+        if (key is int) {
+            return "i" + key.toString();
+        } else if (key is string) {
+            return "s" + key;
+        } else if (key is boolean) {
+            return key ? "t" : "f";
+        } else if (key is ()) {
+            return "n";
+        }
+        return ();
+    }
+};
+
 public type _FilterFunction object {
     *_StreamFunction;
 
@@ -0,0 +1,48 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.ballerinalang.langlib.query;
+
+import org.ballerinalang.jvm.scheduling.Strand;
+import org.ballerinalang.model.types.TypeKind;
+import org.ballerinalang.natives.annotations.Argument;
+import org.ballerinalang.natives.annotations.BallerinaFunction;
+import org.ballerinalang.natives.annotations.ReturnType;
+
+import static org.ballerinalang.util.BLangCompilerConstants.QUERY_VERSION;
+
+/**
+ * Decides the number of chunks a query over a list is split into when it is evaluated on parallel strands. There is
+ * a chunk for each processor, unless the chunks would be too small to be worth running on separate strands.
+ *
+ * @since 2.0.0
+ */
+@BallerinaFunction(
+        orgName = "ballerina", packageName = "lang.query", version = QUERY_VERSION, functionName = "getChunkCount",
+        args = {@Argument(name = "length", type = TypeKind.INT)},
+        returnType = {@ReturnType(type = TypeKind.INT)}
+)
+public class GetChunkCount {
+
+    private static final long MIN_CHUNK_SIZE = 8192;
+
+    public static long getChunkCount(Strand strand, long length) {
+        long chunkCount = (length + MIN_CHUNK_SIZE - 1) / MIN_CHUNK_SIZE;
+        return Math.max(1, Math.min(chunkCount, Runtime.getRuntime().availableProcessors()));
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.langlib.query;
+
+import org.ballerinalang.jvm.scheduling.Strand;
+import org.ballerinalang.jvm.types.BArrayType;
+import org.ballerinalang.jvm.types.BTableType;
+import org.ballerinalang.jvm.values.ArrayValueImpl;
+import org.ballerinalang.jvm.values.TableValueImpl;
+import org.ballerinalang.jvm.values.api.BString;
+import org.ballerinalang.model.types.TypeKind;
+import org.ballerinalang.natives.annotations.Argument;
+import org.ballerinalang.natives.annotations.BallerinaFunction;
+import org.ballerinalang.natives.annotations.ReturnType;
+
+import java.util.List;
+
+import static org.ballerinalang.util.BLangCompilerConstants.QUERY_VERSION;
+
+/**
+ * Finds the members of a table which match a condition on a field, using an index on the field.
+ *
+ * @since 2.0.0
+ */
+@BallerinaFunction(
+        orgName = "ballerina", packageName = "lang.query", version = QUERY_VERSION, functionName = "getIndexedRows",
+        args = {@Argument(name = "tbl", type = TypeKind.TABLE), @Argument(name = "fieldName", type = TypeKind.STRING),
+                @Argument(name = "operator", type = TypeKind.STRING), @Argument(name = "value", type = TypeKind.ANY)},
+        returnType = {@ReturnType(type = TypeKind.UNION)},
+        isPublic = true
+)
+public class GetIndexedRows {
+
+    public static Object getIndexedRows(Strand strand, TableValueImpl<?, ?> tbl, BString fieldName,
+                                        BString operator, Object value) {
+        List<?> rows = null;
+        if (value != null || "==".equals(operator.getValue())) {
+            rows = findRows(tbl, fieldName, operator.getValue(), value);
+        }
+        if (rows == null) {
+            return tbl;
+        }
+        return new ArrayValueImpl(rows.toArray(),
+                new BArrayType(((BTableType) tbl.getType()).getConstrainedType()));
+    }
+
+    private static List<?> findRows(TableValueImpl<?, ?> tbl, BString fieldName, String operator, Object value) {
+        switch (operator) {
+            case "==":
+                return tbl.getRowsWithFieldValue(fieldName, value);
+            case "<":
+                return tbl.getRowsInFieldRange(fieldName, null, false, value, false);
+            case "<=":
+                return tbl.getRowsInFieldRange(fieldName, null, false, value, true);
+            case ">":
+                return tbl.getRowsInFieldRange(fieldName, value, false, null, false);
+            case ">=":
+                return tbl.getRowsInFieldRange(fieldName, value, true, null, false);
+            default:
+                return null;
+        }
+    }
+}
@@ -168,3 +168,16 @@ public function toArray(table<Type> t) returns Type[] = external;
 # XXX should it be 0, if the maximum used key value is < 0?
 # Provides similar functionality to auto-increment
 public function nextKey(table<any|error> key<int> t) returns int = external;
+
+# Adds an index on field `fieldName` of the members of table `t`.
+# The index is used by query expressions over `t` to find the members
+# which match a `where` or `join` condition on the field, instead of
+# iterating over all the members. A sorted index can also be used for
+# conditions which compare the field using `<`, `<=`, `>` or `>=`.
+# It panics if the value of the field can be updated, i.e. the field is
+# not a `readonly` field and the members of `t` are not immutable.
+#
+# + t - the table
+# + fieldName - name of the field to index
+# + sorted - whether the index should also support range conditions
+public function addIndex(table<map<any|error>> t, string fieldName, boolean sorted = false) = external;
@@ -227,6 +227,16 @@ public class LangLibArrayTest {
         }
     }
 
+    @Test
+    public void testParallelSort() {
+        BRunUtil.invoke(compileResult, "testParallelSort");
+    }
+
+    @Test
+    public void testSortLargeArray() {
+        BRunUtil.invoke(compileResult, "testSortLargeArray");
+    }
+
     @Test
     public void testReduce() {
         BValue[] returns = BRunUtil.invoke(compileResult, "testReduce");
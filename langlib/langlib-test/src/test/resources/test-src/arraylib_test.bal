@@ -375,6 +375,62 @@ function testSort2() returns int[] {
     return sorted;
 }
 
+type SortEntry record {|
+    int key;
+    int index;
+|};
+
+@strand {thread: "any"}
+function compareSortEntries(SortEntry x, SortEntry y) returns int {
+    return x.key - y.key;
+}
+
+function testParallelSort() {
+    // The array is large enough to be sorted in chunks on parallel strands, and its keys repeat, so that the order
+    // of the members with equal keys is checked across the chunks.
+    SortEntry[] arr = [];
+    int i = 0;
+    while (i < 100000) {
+        arr[i] = {key: (i * 7919) % 1000, index: i};
+        i += 1;
+    }
+
+    SortEntry[] sorted = arr.sort(compareSortEntries);
+
+    assertTrue(sorted === arr);
+    assertValueEquality(100000, sorted.length());
+    i = 1;
+    while (i < sorted.length()) {
+        SortEntry prev = sorted[i - 1];
+        SortEntry next = sorted[i];
+        assertTrue(prev.key < next.key || (prev.key == next.key && prev.index < next.index));
+        i += 1;
+    }
+}
+
+function testSortLargeArray() {
+    // The comparator is not annotated to run on any thread, so the array is sorted on the strand of the caller.
+    int[] arr = [];
+    int i = 0;
+    while (i < 100000) {
+        arr[i] = (i * 7919) % 100003;
+        i += 1;
+    }
+    int comparisons = 0;
+
+    int[] sorted = arr.sort(function (int x, int y) returns int {
+        comparisons += 1;
+        return x - y;
+    });
+
+    assertTrue(comparisons > 0);
+    i = 1;
+    while (i < sorted.length()) {
+        assertTrue(sorted[i - 1] < sorted[i]);
+        i += 1;
+    }
+}
+
 function testPush() {
     testBooleanPush();
     testBytePush();
@@ -23,11 +23,15 @@ import org.ballerinalang.jvm.observability.metrics.MetricId;
 import org.ballerinalang.jvm.observability.metrics.Snapshot;
 import org.ballerinalang.jvm.observability.metrics.StatisticConfig;
 
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.DoubleAdder;
 import java.util.concurrent.atomic.LongAdder;
 
 /**
  * An implementation of {@link Gauge}.
+ * <p>
+ * The value of the gauge is updated without locking, by compare-and-set on its bits. Each update records the value
+ * it has set to the statistics, so that concurrent updates do not block each other.
  *
  * @since 0.980.0
  */
@@ -38,7 +42,7 @@ public class DefaultGauge extends AbstractMetric implements Gauge {
 
     private final LongAdder count = new LongAdder();
     private final DoubleAdder sum = new DoubleAdder();
-    private final DoubleAdder value = new DoubleAdder();
+    private final AtomicLong valueBits = new AtomicLong(Double.doubleToRawLongBits(0));
     private final RollingHistogram[] rollingHistograms;
 
     private DefaultGauge(MetricId id, Clock clock, StatisticConfig... statisticConfigs) {
@@ -66,36 +70,35 @@ public class DefaultGauge extends AbstractMetric implements Gauge {
         }
     }
 
+    private double add(double amount) {
+        while (true) {
+            long currentBits = valueBits.get();
+            double newValue = Double.longBitsToDouble(currentBits) + amount;
+            if (valueBits.compareAndSet(currentBits, Double.doubleToRawLongBits(newValue))) {
+                return newValue;
+            }
+        }
+    }
+
     @Override
     public void increment(double amount) {
-        synchronized (this) {
-            value.add(amount);
-            updateHistogram(value.sum());
-        }
+        updateHistogram(add(amount));
     }
 
     @Override
     public void decrement(double amount) {
-        synchronized (this) {
-            value.add(-amount);
-            updateHistogram(value.sum());
-        }
+        updateHistogram(add(-amount));
     }
 
     @Override
     public void setValue(double value) {
-        synchronized (this) {
-            this.value.reset();
-            this.value.add(value);
-            updateHistogram(value);
-        }
+        valueBits.set(Double.doubleToRawLongBits(value));
+        updateHistogram(value);
     }
 
     @Override
     public double getValue() {
-        synchronized (this) {
-            return value.sum();
-        }
+        return Double.longBitsToDouble(valueBits.get());
     }
 
     @Override
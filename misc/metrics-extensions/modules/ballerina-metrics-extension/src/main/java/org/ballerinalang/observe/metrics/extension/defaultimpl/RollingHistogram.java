@@ -24,10 +24,15 @@ import org.ballerinalang.jvm.observability.metrics.Snapshot;
 import org.ballerinalang.jvm.observability.metrics.StatisticConfig;
 
 import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 
 /**
  * Using {@link DoubleHistogram} to maintain samples in a ring buffer to decay older samples and give greater weight
  * to recent samples. This implementation allows to get summary statistics for a rolling window over the last X minutes.
+ * <p>
+ * Each bucket of the ring buffer is striped into recorders which are selected by the recording thread, so that threads
+ * recording at the same time do not contend on one recorder. The stripes of a bucket are merged when a snapshot is
+ * taken.
  */
 public class RollingHistogram {
 
@@ -42,9 +47,14 @@ public class RollingHistogram {
     private final StatisticConfig statisticConfig;
 
     /**
-     * Recorder in a ring buffer.
+     * Striped recorder in a ring buffer.
      */
-    private final DoubleRecorder[] ringBuffer;
+    private final StripedRecorder[] ringBuffer;
+
+    /**
+     * Mask of the stripe index of a thread, as the number of stripes is a power of two.
+     */
+    private final int stripeMask;
 
     /**
      * Current bucket index.
@@ -88,12 +98,18 @@ public class RollingHistogram {
     private volatile boolean accumulatedHistogramStale;
 
     public RollingHistogram(Clock clock, StatisticConfig statisticConfig) {
+        this(clock, statisticConfig, Runtime.getRuntime().availableProcessors());
+    }
+
+    RollingHistogram(Clock clock, StatisticConfig statisticConfig, int minStripes) {
         this.clock = clock;
         this.statisticConfig = statisticConfig;
+        int stripes = minStripes > 1 ? Integer.highestOneBit(minStripes - 1) << 1 : 1;
+        this.stripeMask = stripes - 1;
         int ageBuckets = (int) statisticConfig.getBuckets();
-        ringBuffer = new DoubleRecorder[ageBuckets];
+        ringBuffer = new StripedRecorder[ageBuckets];
         for (int i = 0; i < ageBuckets; i++) {
-            ringBuffer[i] = new DoubleRecorder(statisticConfig.getPercentilePrecision());
+            ringBuffer[i] = new StripedRecorder(stripes, statisticConfig.getPercentilePrecision());
         }
         this.currentBucket = 0;
         this.lastRotateTimestampMillis = clock.getCurrentTime();
@@ -104,9 +120,10 @@ public class RollingHistogram {
 
     public void record(double value) {
         rotate();
+        int stripe = (int) Thread.currentThread().getId() & stripeMask;
         try {
-            for (DoubleRecorder recorder : ringBuffer) {
-                recorder.recordValue(value);
+            for (StripedRecorder recorder : ringBuffer) {
+                recorder.recordValue(stripe, value);
             }
         } finally {
             accumulatedHistogramStale = true;
@@ -187,11 +204,59 @@ public class RollingHistogram {
     }
 
     private void accumulate() {
-        currentHistogram().getIntervalHistogramInto(intervalHistogram);
-        accumulatedHistogram.add(intervalHistogram);
+        currentHistogram().addIntervalHistogramsTo(accumulatedHistogram, intervalHistogram);
     }
 
-    private DoubleRecorder currentHistogram() {
+    private StripedRecorder currentHistogram() {
         return ringBuffer[currentBucket];
     }
+
+    /**
+     * Recorders of a bucket, one for each stripe. The recorder of a stripe is created when a value is first recorded
+     * to it, so that only the stripes of the threads which record values take up memory.
+     */
+    private static class StripedRecorder {
+
+        private final AtomicReferenceArray<DoubleRecorder> stripes;
+        private final int numberOfSignificantValueDigits;
+
+        StripedRecorder(int stripes, int numberOfSignificantValueDigits) {
+            this.stripes = new AtomicReferenceArray<>(stripes);
+            this.numberOfSignificantValueDigits = numberOfSignificantValueDigits;
+        }
+
+        void recordValue(int stripe, double value) {
+            DoubleRecorder recorder = stripes.get(stripe);
+            if (recorder == null) {
+                stripes.compareAndSet(stripe, null, new DoubleRecorder(numberOfSignificantValueDigits));
+                recorder = stripes.get(stripe);
+            }
+            recorder.recordValue(value);
+        }
+
+        void reset() {
+            for (int i = 0; i < stripes.length(); i++) {
+                DoubleRecorder recorder = stripes.get(i);
+                if (recorder != null) {
+                    recorder.reset();
+                }
+            }
+        }
+
+        /**
+         * Adds the values recorded to each stripe since the last call to the accumulated histogram.
+         *
+         * @param accumulatedHistogram the histogram to which the values are added
+         * @param intervalHistogram    the histogram which is reused to take the interval histogram of a stripe
+         */
+        void addIntervalHistogramsTo(DoubleHistogram accumulatedHistogram, DoubleHistogram intervalHistogram) {
+            for (int i = 0; i < stripes.length(); i++) {
+                DoubleRecorder recorder = stripes.get(i);
+                if (recorder != null) {
+                    recorder.getIntervalHistogramInto(intervalHistogram);
+                    accumulatedHistogram.add(intervalHistogram);
+                }
+            }
+        }
+    }
 }
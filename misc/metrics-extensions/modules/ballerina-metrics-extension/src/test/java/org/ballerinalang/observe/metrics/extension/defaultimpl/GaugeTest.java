@@ -26,6 +26,10 @@ import org.testng.annotations.Test;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.IntStream;
 
 /**
@@ -72,4 +76,34 @@ public class GaugeTest {
         Assert.assertEquals(4.0, gauge.getSum());
     }
 
+    @Test
+    public void testGaugeContention() throws InterruptedException {
+        Gauge gauge = Gauge.builder("test_gauge_contention").description("Test Gauge")
+                .register(metricRegistry);
+        int threads = 64;
+        int incrementsPerThread = 1000;
+        CountDownLatch startLatch = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        for (int i = 0; i < threads; i++) {
+            executor.execute(() -> {
+                try {
+                    startLatch.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                for (int j = 0; j < incrementsPerThread; j++) {
+                    gauge.increment(1D);
+                }
+            });
+        }
+        startLatch.countDown();
+        executor.shutdown();
+        Assert.assertTrue(executor.awaitTermination(1, TimeUnit.MINUTES));
+        long updates = (long) threads * incrementsPerThread;
+        Assert.assertEquals(gauge.getValue(), (double) updates);
+        Assert.assertEquals(gauge.getCount(), updates);
+        // Each increment records the distinct value it has set, which are 1 to the number of updates.
+        Assert.assertEquals(gauge.getSum(), updates * (updates + 1) / 2D);
+    }
 }
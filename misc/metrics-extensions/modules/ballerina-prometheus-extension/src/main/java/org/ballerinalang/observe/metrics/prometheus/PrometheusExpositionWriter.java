@@ -0,0 +1,312 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+ */
+package org.ballerinalang.observe.metrics.prometheus;
+
+import org.ballerinalang.jvm.observability.metrics.Counter;
+import org.ballerinalang.jvm.observability.metrics.DefaultMetricRegistry;
+import org.ballerinalang.jvm.observability.metrics.Gauge;
+import org.ballerinalang.jvm.observability.metrics.Metric;
+import org.ballerinalang.jvm.observability.metrics.MetricConstants;
+import org.ballerinalang.jvm.observability.metrics.MetricId;
+import org.ballerinalang.jvm.observability.metrics.PercentileValue;
+import org.ballerinalang.jvm.observability.metrics.PolledGauge;
+import org.ballerinalang.jvm.observability.metrics.Snapshot;
+import org.ballerinalang.jvm.observability.metrics.Tag;
+import org.ballerinalang.jvm.values.api.BArray;
+import org.ballerinalang.jvm.values.api.BValueCreator;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * Writes the metrics of the metric registry in the Prometheus text exposition format.
+ * <p>
+ * The metrics are written directly to the output as they are read from the registry, instead of building the payload
+ * as a string. The escaped name and labels of a metric are cached by its {@link MetricId}, and they are discarded
+ * once the metric is removed from the registry.
+ * <p>
+ * Metrics are grouped by name, so that each metric family has one {@code # TYPE} line, which is followed by all of
+ * its samples. The summaries of the gauges of a family follow their values, under one header for all time windows.
+ *
+ * @since 2.0.0
+ */
+public class PrometheusExpositionWriter {
+
+    private static final String METRIC_TYPE_SUMMARY = "summary";
+    private static final String EXPIRY_TAG = "timeWindow";
+    private static final String PERCENTILE_TAG = "quantile";
+    private static final int INITIAL_BUFFER_SIZE = 8192;
+
+    private static final Map<MetricId, EscapedId> escapedIds = Collections.synchronizedMap(new WeakHashMap<>());
+
+    private PrometheusExpositionWriter() {
+    }
+
+    /**
+     * Returns the metrics of the default metric registry in the Prometheus text exposition format, as the payload of
+     * the response to a scrape.
+     *
+     * @return the UTF-8 encoded metrics
+     */
+    public static BArray generatePayload() {
+        ByteArrayOutputStream payload = new ByteArrayOutputStream(INITIAL_BUFFER_SIZE);
+        try (Writer writer = new OutputStreamWriter(payload, StandardCharsets.UTF_8)) {
+            write(DefaultMetricRegistry.getInstance().getAllMetrics(), writer);
+        } catch (IOException e) {
+            // Writing to a byte array does not fail.
+            throw new UncheckedIOException(e);
+        }
+        return BValueCreator.createArrayValue(payload.toByteArray());
+    }
+
+    /**
+     * Writes metrics in the Prometheus text exposition format.
+     *
+     * @param metrics the metrics to be written
+     * @param writer  the writer of the exposition
+     * @throws IOException if the metrics cannot be written
+     */
+    public static void write(Metric[] metrics, Writer writer) throws IOException {
+        // The samples of a metric family have to follow its only # TYPE line, so the metrics are grouped by name. The
+        // escaped ids are looked up once, instead of for each comparison.
+        EscapedMetric[] sortedMetrics = new EscapedMetric[metrics.length];
+        int count = 0;
+        for (Metric metric : metrics) {
+            String type = getValueType(metric);
+            if (type != null) {
+                sortedMetrics[count++] = new EscapedMetric(metric, getEscapedId(metric.getId()), type);
+            }
+        }
+        sortedMetrics = Arrays.copyOf(sortedMetrics, count);
+        Arrays.sort(sortedMetrics, Comparator.<EscapedMetric, String>comparing(metric -> metric.id.name)
+                .thenComparing(metric -> metric.type));
+        int start = 0;
+        while (start < sortedMetrics.length) {
+            String name = sortedMetrics[start].id.name;
+            int end = start + 1;
+            while (end < sortedMetrics.length && sortedMetrics[end].id.name.equals(name)) {
+                end++;
+            }
+            writeFamily(writer, sortedMetrics, start, end);
+            start = end;
+        }
+        writer.flush();
+    }
+
+    private static String getValueType(Metric metric) {
+        if (metric instanceof Counter) {
+            return MetricConstants.COUNTER;
+        } else if (metric instanceof Gauge || metric instanceof PolledGauge) {
+            return MetricConstants.GAUGE;
+        }
+        return null;
+    }
+
+    /**
+     * Writes the metrics in the given range, which have the same name and are sorted by type. Their values are written
+     * first, and then the summaries of the gauges, so each of them has one header. A family has only one type, so the
+     * metrics of any type other than the first, which are the gauges sharing the name of a counter, are not written.
+     */
+    private static void writeFamily(Writer writer, EscapedMetric[] metrics, int start, int end) throws IOException {
+        String valueType = metrics[start].type;
+        writeHeader(writer, metrics[start].id.valueName, metrics[start].metric.getId().getDescription(), valueType);
+        Snapshot[][] snapshots = new Snapshot[end - start][];
+        boolean hasSnapshots = false;
+        for (int i = start; i < end && metrics[i].type.equals(valueType); i++) {
+            Metric metric = metrics[i].metric;
+            EscapedId id = metrics[i].id;
+            if (metric instanceof Counter) {
+                writeSample(writer, id.valueName, id.labels, null);
+                writer.write(' ');
+                writer.write(Long.toString(((Counter) metric).getValue()));
+                writer.write(".0\n");
+            } else if (metric instanceof Gauge) {
+                Gauge gauge = (Gauge) metric;
+                writeValue(writer, id.valueName, id.labels, null, gauge.getValue());
+                snapshots[i - start] = gauge.getSnapshots();
+                hasSnapshots |= snapshots[i - start] != null && snapshots[i - start].length > 0;
+            } else {
+                writeValue(writer, id.valueName, id.labels, null, ((PolledGauge) metric).getValue());
+            }
+        }
+        if (!hasSnapshots) {
+            return;
+        }
+        String name = metrics[start].id.name;
+        writeHeader(writer, name, "A Summary of " + name, METRIC_TYPE_SUMMARY);
+        for (int i = start; i < end; i++) {
+            if (snapshots[i - start] != null) {
+                for (Snapshot snapshot : snapshots[i - start]) {
+                    writeSummary(writer, metrics[i].id, snapshot);
+                }
+            }
+        }
+    }
+
+    private static void writeSummary(Writer writer, EscapedId id, Snapshot snapshot) throws IOException {
+        String windowLabel = EXPIRY_TAG + "=\"" + snapshot.getTimeWindow().toMillis() + "\"";
+        writeValue(writer, id.meanName, id.labels, windowLabel, snapshot.getMean());
+        writeValue(writer, id.maxName, id.labels, windowLabel, snapshot.getMax());
+        writeValue(writer, id.minName, id.labels, windowLabel, snapshot.getMin());
+        writeValue(writer, id.stdDevName, id.labels, windowLabel, snapshot.getStdDev());
+        for (PercentileValue percentileValue : snapshot.getPercentileValues()) {
+            writeValue(writer, id.name, id.labels, windowLabel + "," + PERCENTILE_TAG + "=\"" +
+                    percentileValue.getPercentile() + "\"", percentileValue.getValue());
+        }
+    }
+
+    private static void writeHeader(Writer writer, String name, String description, String type) throws IOException {
+        if (!description.isEmpty()) {
+            writer.write("# HELP ");
+            writer.write(name);
+            writer.write(' ');
+            writer.write(description);
+            writer.write('\n');
+        }
+        writer.write("# TYPE ");
+        writer.write(name);
+        writer.write(' ');
+        writer.write(type);
+        writer.write('\n');
+    }
+
+    private static void writeValue(Writer writer, String name, String labels, String extraLabels, double value)
+            throws IOException {
+        writeSample(writer, name, labels, extraLabels);
+        writer.write(' ');
+        if (Double.isInfinite(value)) {
+            writer.write(value > 0 ? "+Inf" : "-Inf");
+        } else {
+            writer.write(Double.toString(value));
+        }
+        writer.write('\n');
+    }
+
+    private static void writeSample(Writer writer, String name, String labels, String extraLabels)
+            throws IOException {
+        writer.write(name);
+        if (labels.isEmpty() && extraLabels == null) {
+            return;
+        }
+        writer.write('{');
+        writer.write(labels);
+        if (extraLabels != null) {
+            if (!labels.isEmpty()) {
+                writer.write(',');
+            }
+            writer.write(extraLabels);
+        }
+        writer.write('}');
+    }
+
+    private static EscapedId getEscapedId(MetricId metricId) {
+        EscapedId id = escapedIds.get(metricId);
+        if (id == null) {
+            id = new EscapedId(metricId);
+            escapedIds.put(metricId, id);
+        }
+        return id;
+    }
+
+    /**
+     * Only [a-zA-Z0-9:_] are valid in metric names and label names, any other characters are sanitized to an
+     * underscore. ref: <a href="https://prometheus.io/docs/instrumenting/writing_exporters/#naming">Metrics Naming</a>
+     */
+    private static String escapeName(String name) {
+        StringBuilder escaped = new StringBuilder(name.length());
+        for (int i = 0; i < name.length(); i++) {
+            char c = name.charAt(i);
+            escaped.append(isAlphanumeric(c) || c == ':' || c == '_' ? c : '_');
+        }
+        return escaped.toString();
+    }
+
+    /**
+     * Only [a-zA-Z0-9\/.:_* ] are valid in metric label values, any other characters are sanitized to an underscore.
+     */
+    private static String escapeLabelValue(String value) {
+        StringBuilder escaped = new StringBuilder(value.length());
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            boolean valid = isAlphanumeric(c) || c == '\\' || c == '/' || c == '.' || c == ':' || c == '_' ||
+                    c == '*' || c == ' ';
+            escaped.append(valid ? c : '_');
+        }
+        return escaped.toString();
+    }
+
+    private static boolean isAlphanumeric(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9');
+    }
+
+    /**
+     * A metric along with its escaped id and the type of its values.
+     */
+    private static class EscapedMetric {
+        private final Metric metric;
+        private final EscapedId id;
+        private final String type;
+
+        EscapedMetric(Metric metric, EscapedId id, String type) {
+            this.metric = metric;
+            this.id = id;
+            this.type = type;
+        }
+    }
+
+    /**
+     * The escaped names of the samples of a metric, and its labels escaped and joined as written within the braces of
+     * a sample.
+     */
+    private static class EscapedId {
+        private final String name;
+        private final String valueName;
+        private final String meanName;
+        private final String maxName;
+        private final String minName;
+        private final String stdDevName;
+        private final String labels;
+
+        EscapedId(MetricId metricId) {
+            this.name = escapeName(metricId.getName());
+            this.valueName = this.name + "_value";
+            this.meanName = this.name + "_mean";
+            this.maxName = this.name + "_max";
+            this.minName = this.name + "_min";
+            this.stdDevName = this.name + "_stdDev";
+            StringBuilder labels = new StringBuilder();
+            for (Tag tag : metricId.getTags()) {
+                if (labels.length() > 0) {
+                    labels.append(',');
+                }
+                labels.append(escapeName(tag.getKey())).append("=\"").append(escapeLabelValue(tag.getValue()))
+                        .append('"');
+            }
+            this.labels = labels.toString();
+        }
+    }
+}
@@ -0,0 +1,184 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.observe.metrics.prometheus;
+
+import org.ballerinalang.jvm.observability.metrics.Counter;
+import org.ballerinalang.jvm.observability.metrics.Gauge;
+import org.ballerinalang.jvm.observability.metrics.Metric;
+import org.ballerinalang.jvm.observability.metrics.MetricId;
+import org.ballerinalang.jvm.observability.metrics.PercentileValue;
+import org.ballerinalang.jvm.observability.metrics.PolledGauge;
+import org.ballerinalang.jvm.observability.metrics.Snapshot;
+import org.ballerinalang.jvm.observability.metrics.Tag;
+import org.mockito.Mockito;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+
+/**
+ * Tests for {@link PrometheusExpositionWriter}.
+ *
+ * @since 2.0.0
+ */
+public class PrometheusExpositionWriterTest {
+
+    @Test
+    public void testCounter() throws IOException {
+        Counter counter = Mockito.mock(Counter.class);
+        Mockito.when(counter.getId()).thenReturn(createId("requests_total", "Number of requests",
+                Tag.of("method", "GET"), Tag.of("path", "/orders")));
+        Mockito.when(counter.getValue()).thenReturn(5L);
+
+        Assert.assertEquals(write(counter),
+                "# HELP requests_total_value Number of requests\n" +
+                "# TYPE requests_total_value counter\n" +
+                "requests_total_value{method=\"GET\",path=\"/orders\"} 5.0\n");
+    }
+
+    @Test
+    public void testGauge() throws IOException {
+        Gauge gauge = Mockito.mock(Gauge.class);
+        Mockito.when(gauge.getId()).thenReturn(createId("queue_size", ""));
+        Mockito.when(gauge.getValue()).thenReturn(3.5);
+
+        Assert.assertEquals(write(gauge),
+                "# TYPE queue_size_value gauge\n" +
+                "queue_size_value 3.5\n");
+    }
+
+    @Test
+    public void testPolledGauge() throws IOException {
+        PolledGauge gauge = Mockito.mock(PolledGauge.class);
+        Mockito.when(gauge.getId()).thenReturn(createId("open_connections", "Open connections",
+                Tag.of("pool", "main")));
+        Mockito.when(gauge.getValue()).thenReturn(Double.POSITIVE_INFINITY);
+
+        Assert.assertEquals(write(gauge),
+                "# HELP open_connections_value Open connections\n" +
+                "# TYPE open_connections_value gauge\n" +
+                "open_connections_value{pool=\"main\"} +Inf\n");
+    }
+
+    @Test
+    public void testSummary() throws IOException {
+        Gauge gauge = Mockito.mock(Gauge.class);
+        Mockito.when(gauge.getId()).thenReturn(createId("latency", "Latency", Tag.of("service", "orders")));
+        Mockito.when(gauge.getValue()).thenReturn(2.0);
+        Snapshot snapshot = new Snapshot(Duration.ofMinutes(1), 1.0, 2.5, 0.5, 4.0, new PercentileValue[]{
+                new PercentileValue(0.5, 2.0), new PercentileValue(0.99, 3.9)});
+        Mockito.when(gauge.getSnapshots()).thenReturn(new Snapshot[]{snapshot});
+
+        String labels = "{service=\"orders\",timeWindow=\"60000\"";
+        Assert.assertEquals(write(gauge),
+                "# HELP latency_value Latency\n" +
+                "# TYPE latency_value gauge\n" +
+                "latency_value{service=\"orders\"} 2.0\n" +
+                "# HELP latency A Summary of latency\n" +
+                "# TYPE latency summary\n" +
+                "latency_mean" + labels + "} 2.5\n" +
+                "latency_max" + labels + "} 4.0\n" +
+                "latency_min" + labels + "} 1.0\n" +
+                "latency_stdDev" + labels + "} 0.5\n" +
+                "latency" + labels + ",quantile=\"0.5\"} 2.0\n" +
+                "latency" + labels + ",quantile=\"0.99\"} 3.9\n");
+    }
+
+    @Test
+    public void testEscaping() throws IOException {
+        Counter counter = Mockito.mock(Counter.class);
+        Mockito.when(counter.getId()).thenReturn(createId("http-requests.total", "",
+                Tag.of("http.method", "GET"), Tag.of("path", "/orders?id=\"1\"\n"), Tag.of("resource", "a\\b c")));
+        Mockito.when(counter.getValue()).thenReturn(1L);
+
+        Assert.assertEquals(write(counter),
+                "# TYPE http_requests_total_value counter\n" +
+                "http_requests_total_value{http_method=\"GET\",path=\"/orders_id__1__\",resource=\"a\\b c\"} 1.0\n");
+    }
+
+    @Test
+    public void testMetricFamilies() throws IOException {
+        Gauge ordersGauge = Mockito.mock(Gauge.class);
+        Mockito.when(ordersGauge.getId()).thenReturn(createId("response_time", "Response time",
+                Tag.of("service", "orders")));
+        Mockito.when(ordersGauge.getValue()).thenReturn(1.0);
+        Mockito.when(ordersGauge.getSnapshots()).thenReturn(new Snapshot[]{
+                new Snapshot(Duration.ofSeconds(10), 0, 0, 0, 0, new PercentileValue[0]),
+                new Snapshot(Duration.ofMinutes(1), 0, 0, 0, 0, new PercentileValue[0])});
+        Counter counter = Mockito.mock(Counter.class);
+        Mockito.when(counter.getId()).thenReturn(createId("requests", "Requests"));
+        Gauge usersGauge = Mockito.mock(Gauge.class);
+        Mockito.when(usersGauge.getId()).thenReturn(createId("response_time", "Response time",
+                Tag.of("service", "users")));
+        Mockito.when(usersGauge.getValue()).thenReturn(2.0);
+
+        String[] lines = write(ordersGauge, counter, usersGauge).split("\n");
+        // Each metric family is declared once and its samples follow the declaration, with no _created samples.
+        Assert.assertEquals(Arrays.stream(lines).filter(line -> line.startsWith("# TYPE ")).toArray(),
+                new String[]{
+                        "# TYPE requests_value counter",
+                        "# TYPE response_time_value gauge",
+                        "# TYPE response_time summary"});
+        Assert.assertEquals(Arrays.copyOfRange(lines, 3, 8), new String[]{
+                "# HELP response_time_value Response time",
+                "# TYPE response_time_value gauge",
+                "response_time_value{service=\"orders\"} 1.0",
+                "response_time_value{service=\"users\"} 2.0",
+                "# HELP response_time A Summary of response_time"});
+        Assert.assertEquals(Arrays.stream(lines).filter(line -> line.startsWith("response_time_mean")).toArray(),
+                new String[]{
+                        "response_time_mean{service=\"orders\",timeWindow=\"10000\"} 0.0",
+                        "response_time_mean{service=\"orders\",timeWindow=\"60000\"} 0.0"});
+        for (String line : lines) {
+            Assert.assertFalse(line.contains("_created"), line);
+        }
+    }
+
+    @Test
+    public void testMixedTypesWithSameName() throws IOException {
+        Gauge ordersGauge = Mockito.mock(Gauge.class);
+        Mockito.when(ordersGauge.getId()).thenReturn(createId("requests", "Requests", Tag.of("service", "orders")));
+        Mockito.when(ordersGauge.getValue()).thenReturn(1.0);
+        Counter counter = Mockito.mock(Counter.class);
+        Mockito.when(counter.getId()).thenReturn(createId("requests", "Requests", Tag.of("service", "users")));
+        Mockito.when(counter.getValue()).thenReturn(2L);
+        PolledGauge usersGauge = Mockito.mock(PolledGauge.class);
+        Mockito.when(usersGauge.getId()).thenReturn(createId("requests", "Requests", Tag.of("service", "users")));
+        Mockito.when(usersGauge.getValue()).thenReturn(3.0);
+
+        // A family has only one type, so the gauges sharing the name of the counter are not written.
+        Assert.assertEquals(write(ordersGauge, counter, usersGauge),
+                "# HELP requests_value Requests\n" +
+                "# TYPE requests_value counter\n" +
+                "requests_value{service=\"users\"} 2.0\n");
+    }
+
+    private static MetricId createId(String name, String description, Tag... tags) {
+        return new MetricId(name, description, new LinkedHashSet<>(Arrays.asList(tags)));
+    }
+
+    private static String write(Metric... metrics) throws IOException {
+        StringWriter writer = new StringWriter();
+        PrometheusExpositionWriter.write(metrics, writer);
+        return writer.toString();
+    }
+}
@@ -27,12 +27,14 @@ import ballerina/time;
 #                            '-1' means, the entries are valid forever. This will be overwritten by the the
 #                            `maxAgeInSeconds` property set when inserting item to the cache
 # + cleanupIntervalInSeconds - Interval of the timer task, which will clean up the cache
+# + name - The name of the cache, which is used to tag its metrics. A name is generated if it is not provided
 public type CacheConfig record {|
     int capacity = 100;
     AbstractEvictionPolicy evictionPolicy = new LruEvictionPolicy();
     float evictionFactor = 0.25;
     int defaultMaxAgeInSeconds = -1;
     int cleanupIntervalInSeconds?;
+    string name?;
 |};
 
 type CacheEntry record {|
@@ -41,19 +43,10 @@ type CacheEntry record {|
     int expTime;       // exp time since epoch. calculated based on the `maxAge` parameter when inserting to map
 |};
 
-// Cleanup service which cleans the cache entries periodically.
-boolean cleanupInProgress = false;
-
 // Cleanup service which cleans the cache entries periodically.
 service cleanupService = service {
-    //resource function onTrigger(map<Node> entries, LinkedList list, AbstractEvictionPolicy evictionPolicy) {
     resource function onTrigger(Cache cache, LinkedList list, AbstractEvictionPolicy evictionPolicy) {
-        // This check will skip the processes triggered while the clean up in progress.
-        if (!cleanupInProgress) {
-            cleanupInProgress = true;
-            cleanup(cache, list, evictionPolicy);
-            cleanupInProgress = false;
-        }
+        cleanup(cache, list, evictionPolicy);
     }
 };
 
@@ -97,13 +90,13 @@ public type Cache object {
             tail: ()
         };
 
-        externInit(self, self.capacity);
+        externInit(self, self.capacity, cacheConfig?.name);
 
         int? cleanupIntervalInSeconds = cacheConfig?.cleanupIntervalInSeconds;
         if (cleanupIntervalInSeconds is int) {
             task:TimerConfiguration timerConfiguration = {
-                intervalInMillis: cleanupIntervalInSeconds,
-                initialDelayInMillis: cleanupIntervalInSeconds
+                intervalInMillis: cleanupIntervalInSeconds * 1000,
+                initialDelayInMillis: cleanupIntervalInSeconds * 1000
             };
             task:Scheduler cleanupScheduler = new(timerConfiguration);
             task:SchedulerError? result = cleanupScheduler.attach(cleanupService, self, self.list, self.evictionPolicy);
@@ -130,6 +123,9 @@ public type Cache object {
             return prepareError("Unsupported cache value '()' for the key: " + key + ".",
                                 logLevel = LOG_LEVEL_DEBUG);
         }
+        // Expired entries are removed first, so that live entries are not evicted to make room while expired ones
+        // are still in the cache.
+        cleanup(self, self.list, self.evictionPolicy);
         // If the current cache is full (i.e. size = capacity), evict cache.
         if (self.size() == self.capacity) {
             evict(self, self.list, self.evictionPolicy, self.capacity, self.evictionFactor);
@@ -168,20 +164,24 @@ public type Cache object {
     # + return - The cached value associated with the provided key or an `Error` if the provided cache key is not
     #            exisiting in the cache or any error occurred while retrieving the value from the cache.
     public function get(string key) returns any|Error {
-        if (!self.hasKey(key)) {
+        int currentTime = time:nanoTime();
+        Node? node = externLookup(self, key, currentTime);
+        if (node is ()) {
             return prepareError("Cache entry from the given key: " + key + ", is not available.",
                                 logLevel = LOG_LEVEL_DEBUG);
         }
 
-        Node node = externGet(self, key);
         CacheEntry entry = <CacheEntry>node.value;
 
-        // Check whether the cache entry is already expired. Even though the cache cleaning task is configured
-        // and runs in predefined intervals, sometimes the cache entry might not have been removed at this point
-        // even though it is expired. So this check guarantees that the expired cache entries will not be returned.
-        if (entry.expTime != -1 && entry.expTime < time:nanoTime()) {
-            self.evictionPolicy.remove(self.list, node);
-            externRemove(self, key);
+        // Check whether the cache entry is already expired. Expired entries are removed when the cache is updated or
+        // cleaned up, so the entry might not have been removed at this point even though it is expired. So this
+        // check guarantees that the expired cache entries will not be returned. The node is removed from the eviction
+        // policy only if it was not removed from the cache in the meantime, as it is then removed from the policy by
+        // the one that removed it.
+        if (entry.expTime != -1 && entry.expTime < currentTime) {
+            if (externRemoveExpired(self, key, node)) {
+                self.evictionPolicy.remove(self.list, node);
+            }
             return ();
         }
 
@@ -201,8 +201,9 @@ public type Cache object {
         }
 
         Node node = externGet(self, key);
-        self.evictionPolicy.remove(self.list, node);
-        externRemove(self, key);
+        if (externRemove(self, key, node)) {
+            self.evictionPolicy.remove(self.list, node);
+        }
     }
 
     # Discards all the cached values from the cache.
@@ -251,7 +252,7 @@ function evict(Cache cache, LinkedList list, AbstractEvictionPolicy evictionPoli
         Node? node = evictionPolicy.evict(list);
         if (node is Node) {
             CacheEntry entry = <CacheEntry>node.value;
-            externRemove(cache, entry.key);
+            externRemoveEvicted(cache, entry.key, node);
             // The return result (error which occurred due to unavailability of the key or nil) is ignored
             // since no purpose of handling it.
         } else {
@@ -260,25 +261,17 @@ function evict(Cache cache, LinkedList list, AbstractEvictionPolicy evictionPoli
     }
 }
 
+// Removes the expired entries. They are found by the native timer wheel of the cache, which has already removed
+// them from the cache map, so only the eviction policy is updated here.
 function cleanup(Cache cache, LinkedList list, AbstractEvictionPolicy evictionPolicy) {
-    if (externSize(cache) == 0) {
-        return;
-    }
-    //foreach Node node in entries {
-    foreach string key in externKeys(cache) {
-        Node node = externGet(cache, key);
-        CacheEntry entry = <CacheEntry>node.value;
-        if (entry.expTime != -1 && entry.expTime < time:nanoTime()) {
-            evictionPolicy.remove(list, node);
-            externRemove(cache, entry.key);
-            // The return result (error which occurred due to unavailability of the key or nil) is ignored
-            // since no purpose of handling it.
-            return;
-        }
+    Node? node = externPollExpired(cache);
+    while (node is Node) {
+        evictionPolicy.remove(list, node);
+        node = externPollExpired(cache);
     }
 }
 
-function externInit(Cache cache, int capacity) = @java:Method {
+function externInit(Cache cache, int capacity, string? name) = @java:Method {
     class: "org.ballerinalang.stdlib.cache.nativeimpl.Cache"
 } external;
 
@@ -290,7 +283,23 @@ function externGet(Cache cache, string key) returns Node = @java:Method {
     class: "org.ballerinalang.stdlib.cache.nativeimpl.Cache"
 } external;
 
-function externRemove(Cache cache, string key) = @java:Method {
+function externLookup(Cache cache, string key, int currentTime) returns Node? = @java:Method {
+    class: "org.ballerinalang.stdlib.cache.nativeimpl.Cache"
+} external;
+
+function externRemove(Cache cache, string key, Node node) returns boolean = @java:Method {
+    class: "org.ballerinalang.stdlib.cache.nativeimpl.Cache"
+} external;
+
+function externRemoveEvicted(Cache cache, string key, Node node) = @java:Method {
+    class: "org.ballerinalang.stdlib.cache.nativeimpl.Cache"
+} external;
+
+function externRemoveExpired(Cache cache, string key, Node node) returns boolean = @java:Method {
+    class: "org.ballerinalang.stdlib.cache.nativeimpl.Cache"
+} external;
+
+function externPollExpired(Cache cache) returns Node? = @java:Method {
     class: "org.ballerinalang.stdlib.cache.nativeimpl.Cache"
 } external;
 
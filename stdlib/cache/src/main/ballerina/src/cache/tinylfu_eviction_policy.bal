@@ -0,0 +1,116 @@
+// Copyright (c) 2020 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/java;
+
+# The `cache:TinyLfuEvictionPolicy` object evicts cache entries based on both how recently and how frequently they
+# were used, using the W-TinyLFU algorithm. New entries are kept in a small LRU window, and are only admitted to the
+# rest of the cache if they are used more often than the entries they would replace. This keeps the hit rate high
+# when the cache is scanned by entries which are only used once. The entries are tracked natively instead of in the
+# provided linked list, and the accesses of concurrent `get` operations are recorded without contending on it.
+public type TinyLfuEvictionPolicy object {
+
+    *AbstractEvictionPolicy;
+
+    # Called when a new `cache:TinyLfuEvictionPolicy` object is created.
+    public function init() {
+        externTinyLfuInit(self);
+    }
+
+    # Records the access of a node related to the W-TinyLFU eviction algorithm.
+    #
+    # + list - Linked list data structure, which is not used by this eviction policy
+    # + node - Node of the linked list, which is retrieved
+    public function get(LinkedList list, Node node) {
+        externTinyLfuGet(self, node);
+    }
+
+    # Adds a node to the window of the W-TinyLFU eviction algorithm.
+    #
+    # + list - Linked list data structure, which is not used by this eviction policy
+    # + node - Node of the linked list, which is added newly
+    public function put(LinkedList list, Node node) {
+        externTinyLfuPut(self, node);
+    }
+
+    # Stops tracking a node, which is removed from the cache.
+    #
+    # + list - Linked list data structure, which is not used by this eviction policy
+    # + node - Node of the linked list, which is deleted
+    public function remove(LinkedList list, Node node) {
+        externTinyLfuRemove(self, node);
+    }
+
+    # Replaces a node with a new node in the same segment of the W-TinyLFU eviction algorithm.
+    #
+    # + list - Linked list data structure, which is not used by this eviction policy
+    # + newNode - Node of the linked list, which will be replacing the `oldNode`
+    # + oldNode - Node of the linked list, which will be replaced by the `newNode`
+    public function replace(LinkedList list, Node newNode, Node oldNode) {
+        externTinyLfuReplace(self, newNode, oldNode);
+    }
+
+    # Stops tracking all the nodes.
+    #
+    # + list - Linked list data structure, which is not used by this eviction policy
+    public function clear(LinkedList list) {
+        externTinyLfuClear(self);
+    }
+
+    # Chooses the node to be evicted based on the W-TinyLFU eviction algorithm.
+    #
+    # + list - Linked list data structure, which is not used by this eviction policy
+    # + return - The Node, which is evicted or `()` if nothing to be evicted
+    public function evict(LinkedList list) returns Node? {
+        return externTinyLfuEvict(self);
+    }
+
+};
+
+function externTinyLfuInit(TinyLfuEvictionPolicy policy) = @java:Method {
+    class: "org.ballerinalang.stdlib.cache.nativeimpl.TinyLfuEvictionPolicy",
+    name: "externInit"
+} external;
+
+function externTinyLfuGet(TinyLfuEvictionPolicy policy, Node node) = @java:Method {
+    class: "org.ballerinalang.stdlib.cache.nativeimpl.TinyLfuEvictionPolicy",
+    name: "externGet"
+} external;
+
+function externTinyLfuPut(TinyLfuEvictionPolicy policy, Node node) = @java:Method {
+    class: "org.ballerinalang.stdlib.cache.nativeimpl.TinyLfuEvictionPolicy",
+    name: "externPut"
+} external;
+
+function externTinyLfuRemove(TinyLfuEvictionPolicy policy, Node node) = @java:Method {
+    class: "org.ballerinalang.stdlib.cache.nativeimpl.TinyLfuEvictionPolicy",
+    name: "externRemove"
+} external;
+
+function externTinyLfuReplace(TinyLfuEvictionPolicy policy, Node newNode, Node oldNode) = @java:Method {
+    class: "org.ballerinalang.stdlib.cache.nativeimpl.TinyLfuEvictionPolicy",
+    name: "externReplace"
+} external;
+
+function externTinyLfuClear(TinyLfuEvictionPolicy policy) = @java:Method {
+    class: "org.ballerinalang.stdlib.cache.nativeimpl.TinyLfuEvictionPolicy",
+    name: "externClear"
+} external;
+
+function externTinyLfuEvict(TinyLfuEvictionPolicy policy) returns Node? = @java:Method {
+    class: "org.ballerinalang.stdlib.cache.nativeimpl.TinyLfuEvictionPolicy",
+    name: "externEvict"
+} external;
@@ -18,31 +18,72 @@
 
 package org.ballerinalang.stdlib.cache.nativeimpl;
 
+import org.ballerinalang.jvm.StringUtils;
 import org.ballerinalang.jvm.values.ArrayValueImpl;
 import org.ballerinalang.jvm.values.MapValue;
 import org.ballerinalang.jvm.values.ObjectValue;
 import org.ballerinalang.jvm.values.api.BString;
 
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Queue;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
 
 /**
  * Ballerina function to cache with java.util.concurrent.ConcurrentHashMap.
+ * <p>
+ * Nodes which have an expiry time are also scheduled in a {@link TimerWheel}, so that expired nodes can be found
+ * without scanning the cache. They are removed from the map when the wheel advances, and handed over to the
+ * Ballerina code one at a time to be removed from the eviction policy.
+ * <p>
+ * A node is only removed from the eviction policy by the caller which removed it from the map, so a node which is
+ * expired by the wheel and also found expired by a lookup, or evicted, is not removed from the policy twice.
  *
  * @since 2.0.0
  */
 public class Cache {
 
     public static final String CACHE_MAP = "CACHE_MAP";
+    public static final String CACHE_EXPIRY = "CACHE_EXPIRY";
+    public static final String CACHE_STATISTICS = "CACHE_STATISTICS";
 
-    public static void externInit(ObjectValue cache, int capacity) {
+    private static final BString NODE_VALUE = StringUtils.fromString("value");
+    private static final BString CACHE_ENTRY_KEY = StringUtils.fromString("key");
+    private static final BString CACHE_ENTRY_EXP_TIME = StringUtils.fromString("expTime");
+    private static final AtomicInteger cacheCount = new AtomicInteger();
+
+    public static void externInit(ObjectValue cache, int capacity, Object name) {
         ConcurrentHashMap<BString, MapValue<BString, Object>> map = new ConcurrentHashMap<>(capacity);
         cache.addNativeData(CACHE_MAP, map);
+        cache.addNativeData(CACHE_EXPIRY, new Expiry());
+        String cacheName = name == null ? "cache-" + cacheCount.incrementAndGet() : ((BString) name).getValue();
+        CacheStatistics statistics = CacheStatistics.create(cacheName);
+        if (statistics != null) {
+            cache.addNativeData(CACHE_STATISTICS, statistics);
+        }
     }
 
     public static void externPut(ObjectValue cache, BString key, MapValue<BString, Object> value) {
         ConcurrentHashMap<BString, MapValue<BString, Object>> map =
                 (ConcurrentHashMap<BString, MapValue<BString, Object>>) cache.getNativeData(CACHE_MAP);
-        map.put(key, value);
+        Expiry expiry = (Expiry) cache.getNativeData(CACHE_EXPIRY);
+        long expTime = getExpTime(value);
+        expiry.lock.lock();
+        try {
+            MapValue<BString, Object> oldValue = map.put(key, value);
+            if (oldValue != null) {
+                expiry.wheel.deschedule(oldValue);
+            }
+            if (expTime != -1) {
+                expiry.wheel.schedule(value, expTime);
+            }
+        } finally {
+            expiry.lock.unlock();
+        }
     }
 
     public static MapValue<BString, Object> externGet(ObjectValue cache, BString key) {
@@ -51,16 +92,132 @@ public class Cache {
         return map.get(key);
     }
 
-    public static void externRemove(ObjectValue cache, BString key) {
+    public static MapValue<BString, Object> externLookup(ObjectValue cache, BString key, long now) {
+        ConcurrentHashMap<BString, MapValue<BString, Object>> map =
+                (ConcurrentHashMap<BString, MapValue<BString, Object>>) cache.getNativeData(CACHE_MAP);
+        MapValue<BString, Object> value = map.get(key);
+        CacheStatistics statistics = (CacheStatistics) cache.getNativeData(CACHE_STATISTICS);
+        if (statistics != null) {
+            long expTime = value == null ? -1 : getExpTime(value);
+            if (value == null || (expTime != -1 && expTime < now)) {
+                statistics.recordMiss();
+            } else {
+                statistics.recordHit();
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Removes a node from the cache, unless it was replaced or expired since it was looked up.
+     *
+     * @param cache the cache
+     * @param key   the key of the node
+     * @param value the node
+     * @return true if the node is removed, in which case it has to be removed from the eviction policy
+     */
+    public static boolean externRemove(ObjectValue cache, BString key, MapValue<BString, Object> value) {
+        return remove(cache, key, value);
+    }
+
+    /**
+     * Removes a node which is evicted, and so is already removed from the eviction policy. If the node was expired
+     * by the timer wheel in the meantime, it is taken out of the expired nodes, so it is not removed from the
+     * eviction policy again.
+     *
+     * @param cache the cache
+     * @param key   the key of the node
+     * @param value the node
+     */
+    public static void externRemoveEvicted(ObjectValue cache, BString key, MapValue<BString, Object> value) {
+        if (remove(cache, key, value)) {
+            CacheStatistics statistics = (CacheStatistics) cache.getNativeData(CACHE_STATISTICS);
+            if (statistics != null) {
+                statistics.recordEviction();
+            }
+            return;
+        }
+        Expiry expiry = (Expiry) cache.getNativeData(CACHE_EXPIRY);
+        Iterator<MapValue<BString, Object>> expired = expiry.expired.iterator();
+        while (expired.hasNext()) {
+            if (expired.next() == value) {
+                expired.remove();
+                return;
+            }
+        }
+    }
+
+    /**
+     * Removes a node which is found expired by a lookup, unless it was replaced or expired by the timer wheel since
+     * it was looked up.
+     *
+     * @param cache the cache
+     * @param key   the key of the node
+     * @param value the node
+     * @return true if the node is removed, in which case it has to be removed from the eviction policy
+     */
+    public static boolean externRemoveExpired(ObjectValue cache, BString key, MapValue<BString, Object> value) {
+        if (!remove(cache, key, value)) {
+            return false;
+        }
+        CacheStatistics statistics = (CacheStatistics) cache.getNativeData(CACHE_STATISTICS);
+        if (statistics != null) {
+            statistics.recordExpirations(1);
+        }
+        return true;
+    }
+
+    /**
+     * Returns an expired node, which is already removed from the cache. The timer wheel is advanced to the current
+     * time when there are no expired nodes left to return, unless another strand is advancing it.
+     *
+     * @param cache the cache
+     * @return an expired node, or null if there are no expired nodes
+     */
+    public static MapValue<BString, Object> externPollExpired(ObjectValue cache) {
+        Expiry expiry = (Expiry) cache.getNativeData(CACHE_EXPIRY);
+        MapValue<BString, Object> value = expiry.expired.poll();
+        if (value != null || !expiry.lock.tryLock()) {
+            return value;
+        }
+
         ConcurrentHashMap<BString, MapValue<BString, Object>> map =
                 (ConcurrentHashMap<BString, MapValue<BString, Object>>) cache.getNativeData(CACHE_MAP);
-        map.remove(key);
+        int expirations = 0;
+        try {
+            List<Object> expiredValues = new ArrayList<>();
+            expiry.wheel.advance(System.nanoTime(), expiredValues);
+            for (Object expiredValue : expiredValues) {
+                MapValue<BString, Object> node = (MapValue<BString, Object>) expiredValue;
+                BString key = getKey(node);
+                if (map.get(key) == node) {
+                    map.remove(key);
+                    expiry.expired.add(node);
+                    expirations++;
+                }
+            }
+        } finally {
+            expiry.lock.unlock();
+        }
+        CacheStatistics statistics = (CacheStatistics) cache.getNativeData(CACHE_STATISTICS);
+        if (statistics != null && expirations > 0) {
+            statistics.recordExpirations(expirations);
+        }
+        return expiry.expired.poll();
     }
 
     public static void externRemoveAll(ObjectValue cache) {
         ConcurrentHashMap<BString, MapValue<BString, Object>> map =
                 (ConcurrentHashMap<BString, MapValue<BString, Object>>) cache.getNativeData(CACHE_MAP);
-        map.clear();
+        Expiry expiry = (Expiry) cache.getNativeData(CACHE_EXPIRY);
+        expiry.lock.lock();
+        try {
+            map.clear();
+            expiry.wheel.clear();
+            expiry.expired.clear();
+        } finally {
+            expiry.lock.unlock();
+        }
     }
 
     public static boolean externHasKey(ObjectValue cache, BString key) {
@@ -80,4 +237,41 @@ public class Cache {
                 (ConcurrentHashMap<BString, MapValue<BString, Object>>) cache.getNativeData(CACHE_MAP);
         return map.size();
     }
+
+    private static boolean remove(ObjectValue cache, BString key, MapValue<BString, Object> value) {
+        ConcurrentHashMap<BString, MapValue<BString, Object>> map =
+                (ConcurrentHashMap<BString, MapValue<BString, Object>>) cache.getNativeData(CACHE_MAP);
+        Expiry expiry = (Expiry) cache.getNativeData(CACHE_EXPIRY);
+        expiry.lock.lock();
+        try {
+            // Nodes are compared by reference, as a replaced node might have an equal value.
+            if (map.get(key) != value) {
+                return false;
+            }
+            map.remove(key);
+            expiry.wheel.deschedule(value);
+            return true;
+        } finally {
+            expiry.lock.unlock();
+        }
+    }
+
+    private static BString getKey(MapValue<BString, Object> node) {
+        return (BString) ((MapValue<BString, Object>) node.get(NODE_VALUE)).get(CACHE_ENTRY_KEY);
+    }
+
+    private static long getExpTime(MapValue<BString, Object> node) {
+        return (Long) ((MapValue<BString, Object>) node.get(NODE_VALUE)).get(CACHE_ENTRY_EXP_TIME);
+    }
+
+    /**
+     * The expiry state of a cache. The timer wheel is guarded by the lock, and expired nodes are queued until they
+     * are removed from the eviction policy.
+     */
+    private static class Expiry {
+
+        private final ReentrantLock lock = new ReentrantLock();
+        private final TimerWheel wheel = new TimerWheel(System.nanoTime());
+        private final Queue<MapValue<BString, Object>> expired = new ConcurrentLinkedQueue<>();
+    }
 }
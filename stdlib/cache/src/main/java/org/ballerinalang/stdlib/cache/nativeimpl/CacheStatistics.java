@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.stdlib.cache.nativeimpl;
+
+import org.ballerinalang.jvm.observability.ObserveUtils;
+import org.ballerinalang.jvm.observability.metrics.Counter;
+import org.ballerinalang.jvm.observability.metrics.DefaultMetricRegistry;
+import org.ballerinalang.jvm.observability.metrics.MetricId;
+import org.ballerinalang.jvm.observability.metrics.MetricRegistry;
+import org.ballerinalang.jvm.observability.metrics.Tag;
+
+import java.util.Collections;
+import java.util.Set;
+
+/**
+ * Counters of the hits, misses, evictions and expirations of a `cache:Cache`, which are reported to the metrics
+ * registry with the name of the cache as a tag.
+ *
+ * @since 2.0.0
+ */
+class CacheStatistics {
+
+    private static final String[] METRIC_HITS = {"cache_hits", "Number of lookups which found a live entry"};
+    private static final String[] METRIC_MISSES = {"cache_misses", "Number of lookups which found no live entry"};
+    private static final String[] METRIC_EVICTIONS = {"cache_evictions", "Number of entries evicted"};
+    private static final String[] METRIC_EXPIRATIONS = {"cache_expirations", "Number of entries expired"};
+    private static final String TAG_CACHE_NAME = "cache_name";
+
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter evictions;
+    private final Counter expirations;
+
+    private CacheStatistics(MetricRegistry metricRegistry, Set<Tag> tags) {
+        this.hits = counter(metricRegistry, METRIC_HITS, tags);
+        this.misses = counter(metricRegistry, METRIC_MISSES, tags);
+        this.evictions = counter(metricRegistry, METRIC_EVICTIONS, tags);
+        this.expirations = counter(metricRegistry, METRIC_EXPIRATIONS, tags);
+    }
+
+    /**
+     * Creates the statistics of a cache.
+     *
+     * @param cacheName name of the cache
+     * @return the statistics, or null if metrics are not enabled
+     */
+    static CacheStatistics create(String cacheName) {
+        if (!ObserveUtils.isMetricsEnabled()) {
+            return null;
+        }
+        return new CacheStatistics(DefaultMetricRegistry.getInstance(),
+                                   Collections.singleton(Tag.of(TAG_CACHE_NAME, cacheName)));
+    }
+
+    void recordHit() {
+        this.hits.increment();
+    }
+
+    void recordMiss() {
+        this.misses.increment();
+    }
+
+    void recordEviction() {
+        this.evictions.increment();
+    }
+
+    void recordExpirations(int count) {
+        this.expirations.increment(count);
+    }
+
+    private static Counter counter(MetricRegistry metricRegistry, String[] metric, Set<Tag> tags) {
+        return metricRegistry.counter(new MetricId(metric[0], metric[1], tags));
+    }
+}
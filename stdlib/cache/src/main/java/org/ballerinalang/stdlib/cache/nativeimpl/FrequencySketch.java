@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.stdlib.cache.nativeimpl;
+
+/**
+ * A count-min sketch, which estimates how often a key was accessed recently using 4-bit counters.
+ * <p>
+ * Each key is counted in four counters of different rows, and its frequency is the smallest of them. Once the number
+ * of increments reaches ten times the capacity, all the counters are halved, so that the frequency of keys which are
+ * no longer accessed decays over time. This class is not thread safe.
+ *
+ * @since 2.0.0
+ */
+class FrequencySketch {
+
+    private static final long[] SEEDS = {
+            0xc3a5c85c97cb3127L, 0xb492b66fbe98f273L, 0x9ae16a3b2f90404fL, 0xcbf29ce484222325L};
+    private static final long RESET_MASK = 0x7777777777777777L;
+    private static final long ONE_MASK = 0x1111111111111111L;
+    private static final int MAX_FREQUENCY = 15;
+
+    private long[] table = new long[0];
+    private int tableMask;
+    private int sampleSize;
+    private int size;
+
+    /**
+     * Grows the sketch to be able to count the given number of keys accurately. Counts are discarded if it grows.
+     *
+     * @param capacity number of keys
+     */
+    void ensureCapacity(int capacity) {
+        int length = Math.max(8, ceilingPowerOfTwo(capacity));
+        if (this.table.length >= length) {
+            return;
+        }
+        this.table = new long[length];
+        this.tableMask = length - 1;
+        this.sampleSize = capacity > Integer.MAX_VALUE / 10 ? Integer.MAX_VALUE : 10 * Math.max(capacity, 1);
+        this.size = 0;
+    }
+
+    int frequency(int hashCode) {
+        int hash = spread(hashCode);
+        // Each key uses the counters of the same quarter of the four words it maps to.
+        int start = (hash & 3) << 2;
+        int frequency = MAX_FREQUENCY;
+        for (int i = 0; i < 4; i++) {
+            int offset = (start + i) << 2;
+            int count = (int) ((this.table[indexOf(hash, i)] >>> offset) & 0xfL);
+            frequency = Math.min(frequency, count);
+        }
+        return frequency;
+    }
+
+    void increment(int hashCode) {
+        int hash = spread(hashCode);
+        int start = (hash & 3) << 2;
+        boolean added = false;
+        for (int i = 0; i < 4; i++) {
+            added |= incrementAt(indexOf(hash, i), start + i);
+        }
+        if (added && ++this.size >= this.sampleSize) {
+            reset();
+        }
+    }
+
+    private boolean incrementAt(int index, int counter) {
+        int offset = counter << 2;
+        long mask = 0xfL << offset;
+        if ((this.table[index] & mask) == mask) {
+            return false;
+        }
+        this.table[index] += 1L << offset;
+        return true;
+    }
+
+    // Halves all the counters. The odd counters lose their remainder, which is taken off the sample size.
+    private void reset() {
+        int odd = 0;
+        for (int i = 0; i < this.table.length; i++) {
+            odd += Long.bitCount(this.table[i] & ONE_MASK);
+            this.table[i] = (this.table[i] >>> 1) & RESET_MASK;
+        }
+        this.size = (this.size >>> 1) - (odd >>> 2);
+    }
+
+    private int indexOf(int hash, int row) {
+        long h = (hash + SEEDS[row]) * SEEDS[row];
+        h += h >>> 32;
+        return (int) h & this.tableMask;
+    }
+
+    // Mixes the bits of weak hash codes, such as those of small integers.
+    private static int spread(int x) {
+        x = ((x >>> 16) ^ x) * 0x45d9f3b;
+        x = ((x >>> 16) ^ x) * 0x45d9f3b;
+        return (x >>> 16) ^ x;
+    }
+
+    private static int ceilingPowerOfTwo(int x) {
+        return x <= 1 ? 1 : Integer.highestOneBit(Math.min(x, 1 << 30) - 1) << 1;
+    }
+}
@@ -0,0 +1,187 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.stdlib.cache.nativeimpl;
+
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A hierarchical timer wheel, which finds the nodes whose expiry time has passed without scanning all the nodes.
+ * <p>
+ * Each level of the wheel is a ring of buckets, where a bucket holds the nodes expiring within its span of time. The
+ * buckets of the levels span about a second, a minute, an hour, a day and three days. A node is scheduled in the
+ * bucket of the finest level whose ring covers its expiry time, and when the wheel advances past that bucket, the
+ * node either expires or is moved down to a bucket of a finer level. Scheduling and descheduling take constant time,
+ * and each node is moved at most once per level. Times are {@link System#nanoTime()} values, which are counted from
+ * the creation of the wheel so that they do not overflow. This class is not thread safe.
+ *
+ * @since 2.0.0
+ */
+class TimerWheel {
+
+    private static final int[] BUCKETS = {64, 64, 32, 4, 1};
+    private static final long[] SPANS = {
+            1L << 30,   // 1.07s
+            1L << 36,   // 1.14m
+            1L << 42,   // 1.22h
+            1L << 46,   // 0.81d
+            1L << 48,   // 3.26d
+    };
+    private static final int[] SHIFTS = {30, 36, 42, 46, 48};
+
+    private final Timer[][] wheel;
+    private final Map<Object, Timer> timers = new IdentityHashMap<>();
+    private final long origin;
+    private long time;
+
+    TimerWheel(long now) {
+        this.origin = now;
+        this.wheel = new Timer[BUCKETS.length][];
+        for (int i = 0; i < BUCKETS.length; i++) {
+            this.wheel[i] = new Timer[BUCKETS[i]];
+            for (int j = 0; j < BUCKETS[i]; j++) {
+                this.wheel[i][j] = new Timer(null, 0);
+            }
+        }
+    }
+
+    void schedule(Object node, long expiryTime) {
+        Timer timer = new Timer(node, expiryTime - this.origin);
+        Timer previous = this.timers.put(node, timer);
+        if (previous != null) {
+            previous.unlink();
+        }
+        link(timer);
+    }
+
+    void deschedule(Object node) {
+        Timer timer = this.timers.remove(node);
+        if (timer != null) {
+            timer.unlink();
+        }
+    }
+
+    void clear() {
+        for (Timer timer : this.timers.values()) {
+            timer.unlink();
+        }
+        this.timers.clear();
+    }
+
+    int size() {
+        return this.timers.size();
+    }
+
+    /**
+     * Advances the wheel to the given time and stops tracking the nodes which expired by then.
+     *
+     * @param now     the current time
+     * @param expired list to add the expired nodes to
+     */
+    void advance(long now, List<Object> expired) {
+        long previousTime = this.time;
+        now -= this.origin;
+        this.time = now;
+        for (int i = 0; i < SHIFTS.length; i++) {
+            long previousTicks = previousTime >>> SHIFTS[i];
+            long currentTicks = now >>> SHIFTS[i];
+            if (currentTicks - previousTicks <= 0L) {
+                break;
+            }
+            expire(i, previousTicks, currentTicks - previousTicks, now, expired);
+        }
+    }
+
+    // Empties the buckets of a level which the wheel passed. Their nodes are expired, or rescheduled if they expire
+    // after the current time, which moves them to a finer level.
+    private void expire(int level, long previousTicks, long delta, long now, List<Object> expired) {
+        Timer[] buckets = this.wheel[level];
+        int mask = buckets.length - 1;
+        int steps = (int) Math.min(delta + 1, buckets.length);
+        for (int i = 0; i < steps; i++) {
+            Timer sentinel = buckets[(int) ((previousTicks + i) & mask)];
+            Timer timer = sentinel.next;
+            sentinel.prev = sentinel;
+            sentinel.next = sentinel;
+            while (timer != sentinel) {
+                Timer next = timer.next;
+                timer.prev = null;
+                timer.next = null;
+                if (timer.expiryTime - now <= 0L) {
+                    this.timers.remove(timer.node);
+                    expired.add(timer.node);
+                } else {
+                    link(timer);
+                }
+                timer = next;
+            }
+        }
+    }
+
+    private void link(Timer timer) {
+        Timer sentinel = findBucket(timer.expiryTime);
+        timer.next = sentinel;
+        timer.prev = sentinel.prev;
+        sentinel.prev.next = timer;
+        sentinel.prev = timer;
+    }
+
+    // Nodes which already expired are put in the current bucket, so that they expire when the wheel next advances.
+    private Timer findBucket(long expiryTime) {
+        long duration = expiryTime - this.time;
+        int length = this.wheel.length - 1;
+        for (int i = 0; i < length; i++) {
+            if (duration < SPANS[i + 1]) {
+                long ticks = Math.max(expiryTime, this.time) >>> SHIFTS[i];
+                return this.wheel[i][(int) (ticks & (this.wheel[i].length - 1))];
+            }
+        }
+        return this.wheel[length][0];
+    }
+
+    /**
+     * A node scheduled in a bucket, or the sentinel of a bucket when it has no node.
+     */
+    private static class Timer {
+
+        private final Object node;
+        private final long expiryTime;
+        private Timer prev;
+        private Timer next;
+
+        Timer(Object node, long expiryTime) {
+            this.node = node;
+            this.expiryTime = expiryTime;
+            if (node == null) {
+                this.prev = this;
+                this.next = this;
+            }
+        }
+
+        void unlink() {
+            if (this.next != null) {
+                this.prev.next = this.next;
+                this.next.prev = this.prev;
+                this.prev = null;
+                this.next = null;
+            }
+        }
+    }
+}
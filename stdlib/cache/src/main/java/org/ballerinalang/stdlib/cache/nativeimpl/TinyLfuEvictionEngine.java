@@ -0,0 +1,313 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.stdlib.cache.nativeimpl;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Eviction engine based on the W-TinyLFU algorithm.
+ * <p>
+ * New entries are added to a small LRU window. Entries leaving the window are moved to the probation segment of the
+ * main space, and entries accessed while on probation are promoted to its protected segment. When an entry has to be
+ * evicted, the LRU entry of the window competes with the LRU entry on probation, and the one which was accessed less
+ * often according to a {@link FrequencySketch} is evicted. This keeps frequently used entries in the cache when it
+ * is scanned by entries which are only used once.
+ * <p>
+ * Accesses are recorded in a lossy ring buffer and updates are queued, and both are applied in batches by whichever
+ * thread acquires the eviction lock, so concurrent reads do not contend on the segments.
+ *
+ * @since 2.0.0
+ */
+class TinyLfuEvictionEngine {
+
+    private static final int WINDOW = 0;
+    private static final int PROBATION = 1;
+    private static final int PROTECTED = 2;
+
+    private static final int READ_BUFFER_SIZE = 128;
+    private static final int READ_BUFFER_MASK = READ_BUFFER_SIZE - 1;
+    private static final int READ_BUFFER_DRAIN_THRESHOLD = 32;
+
+    private final ReentrantLock evictionLock = new ReentrantLock();
+    private final AtomicReferenceArray<Object> readBuffer = new AtomicReferenceArray<>(READ_BUFFER_SIZE);
+    private final AtomicLong readBufferWriteCount = new AtomicLong();
+    private volatile long readBufferReadCount;
+    private final Queue<Runnable> writeBuffer = new ConcurrentLinkedQueue<>();
+
+    // The state below is guarded by the eviction lock.
+    private final Map<Object, Entry> entries = new IdentityHashMap<>();
+    private final AccessOrderQueue[] queues = {new AccessOrderQueue(), new AccessOrderQueue(), new AccessOrderQueue()};
+    private final FrequencySketch sketch = new FrequencySketch();
+    private int maximumSize;
+    private int windowMaximum;
+    private int protectedMaximum;
+
+    /**
+     * Records an access of a node. Accesses may be dropped when many threads read at the same time.
+     *
+     * @param node the node which is accessed
+     */
+    void recordAccess(Object node) {
+        long readCount = this.readBufferReadCount;
+        long writeCount = this.readBufferWriteCount.get();
+        long pending = writeCount - readCount;
+        if (pending < READ_BUFFER_SIZE && this.readBufferWriteCount.compareAndSet(writeCount, writeCount + 1)) {
+            this.readBuffer.lazySet((int) writeCount & READ_BUFFER_MASK, node);
+            pending++;
+        }
+        if (pending >= READ_BUFFER_DRAIN_THRESHOLD) {
+            tryToDrainBuffers();
+        }
+    }
+
+    void add(Object node, int keyHash) {
+        afterWrite(() -> addEntry(new Entry(node, keyHash, WINDOW)));
+    }
+
+    void remove(Object node) {
+        afterWrite(() -> removeEntry(node));
+    }
+
+    void replace(Object newNode, Object oldNode, int keyHash) {
+        afterWrite(() -> {
+            Entry oldEntry = removeEntry(oldNode);
+            addEntry(new Entry(newNode, keyHash, oldEntry == null ? WINDOW : oldEntry.queue));
+        });
+    }
+
+    void clear() {
+        afterWrite(() -> {
+            this.entries.clear();
+            for (AccessOrderQueue queue : this.queues) {
+                queue.clear();
+            }
+        });
+    }
+
+    /**
+     * Chooses a node to be evicted and stops tracking it.
+     *
+     * @return the evicted node, or null if there are no nodes
+     */
+    Object evict() {
+        this.evictionLock.lock();
+        try {
+            drainBuffers();
+            Entry candidate = this.queues[WINDOW].last();
+            Entry victim = this.queues[PROBATION].last();
+            if (victim == null) {
+                victim = this.queues[PROTECTED].last();
+            }
+
+            Entry evicted;
+            if (candidate == null || victim == null) {
+                evicted = candidate == null ? victim : candidate;
+            } else if (this.sketch.frequency(candidate.keyHash) > this.sketch.frequency(victim.keyHash)) {
+                // The candidate is admitted to the main space in place of the victim.
+                evicted = victim;
+                moveTo(candidate, PROBATION);
+            } else {
+                evicted = candidate;
+            }
+            if (evicted == null) {
+                return null;
+            }
+            removeEntry(evicted.node);
+            return evicted.node;
+        } finally {
+            this.evictionLock.unlock();
+        }
+    }
+
+    private void afterWrite(Runnable task) {
+        this.writeBuffer.add(task);
+        tryToDrainBuffers();
+    }
+
+    private void tryToDrainBuffers() {
+        if (this.evictionLock.tryLock()) {
+            try {
+                drainBuffers();
+            } finally {
+                this.evictionLock.unlock();
+            }
+        }
+    }
+
+    private void drainBuffers() {
+        drainReadBuffer();
+        Runnable task;
+        while ((task = this.writeBuffer.poll()) != null) {
+            task.run();
+        }
+    }
+
+    private void drainReadBuffer() {
+        long readCount = this.readBufferReadCount;
+        long writeCount = this.readBufferWriteCount.get();
+        for (; readCount < writeCount; readCount++) {
+            int index = (int) readCount & READ_BUFFER_MASK;
+            Object node = this.readBuffer.get(index);
+            if (node == null) {
+                // The access is not published yet, so it is drained the next time.
+                break;
+            }
+            this.readBuffer.lazySet(index, null);
+            onAccess(node);
+        }
+        this.readBufferReadCount = readCount;
+    }
+
+    private void onAccess(Object node) {
+        Entry entry = this.entries.get(node);
+        if (entry == null) {
+            return;
+        }
+        this.sketch.increment(entry.keyHash);
+        if (entry.queue == PROBATION) {
+            moveTo(entry, PROTECTED);
+            demoteProtectedEntries();
+        } else {
+            this.queues[entry.queue].moveToFirst(entry);
+        }
+    }
+
+    private void addEntry(Entry entry) {
+        this.entries.put(entry.node, entry);
+        if (this.entries.size() > this.maximumSize) {
+            resize(this.entries.size());
+        }
+        this.sketch.increment(entry.keyHash);
+        this.queues[entry.queue].addFirst(entry);
+        AccessOrderQueue window = this.queues[WINDOW];
+        while (window.size > this.windowMaximum) {
+            moveTo(window.last(), PROBATION);
+        }
+        demoteProtectedEntries();
+    }
+
+    private Entry removeEntry(Object node) {
+        Entry entry = this.entries.remove(node);
+        if (entry != null) {
+            this.queues[entry.queue].remove(entry);
+        }
+        return entry;
+    }
+
+    private void demoteProtectedEntries() {
+        AccessOrderQueue protectedQueue = this.queues[PROTECTED];
+        while (protectedQueue.size > this.protectedMaximum) {
+            moveTo(protectedQueue.last(), PROBATION);
+        }
+    }
+
+    private void moveTo(Entry entry, int queue) {
+        this.queues[entry.queue].remove(entry);
+        entry.queue = queue;
+        this.queues[queue].addFirst(entry);
+    }
+
+    // The segments are sized based on the largest number of entries seen, which is the capacity of the cache once it
+    // is full. The window gets 1% of the entries and the protected segment 80% of the rest.
+    private void resize(int size) {
+        this.maximumSize = size;
+        this.windowMaximum = Math.max(1, size / 100);
+        this.protectedMaximum = (int) ((size - this.windowMaximum) * 80L / 100);
+        this.sketch.ensureCapacity(size);
+    }
+
+    /**
+     * A node tracked by the engine.
+     */
+    private static class Entry {
+
+        private final Object node;
+        private final int keyHash;
+        private int queue;
+        private Entry prev;
+        private Entry next;
+
+        Entry(Object node, int keyHash, int queue) {
+            this.node = node;
+            this.keyHash = keyHash;
+            this.queue = queue;
+        }
+    }
+
+    /**
+     * A doubly linked list of entries, with the most recently used entry first.
+     */
+    private static class AccessOrderQueue {
+
+        private Entry head;
+        private Entry tail;
+        private int size;
+
+        void addFirst(Entry entry) {
+            entry.prev = null;
+            entry.next = this.head;
+            if (this.head == null) {
+                this.tail = entry;
+            } else {
+                this.head.prev = entry;
+            }
+            this.head = entry;
+            this.size++;
+        }
+
+        void remove(Entry entry) {
+            if (entry.prev == null) {
+                this.head = entry.next;
+            } else {
+                entry.prev.next = entry.next;
+            }
+            if (entry.next == null) {
+                this.tail = entry.prev;
+            } else {
+                entry.next.prev = entry.prev;
+            }
+            entry.prev = null;
+            entry.next = null;
+            this.size--;
+        }
+
+        void moveToFirst(Entry entry) {
+            if (entry != this.head) {
+                remove(entry);
+                addFirst(entry);
+            }
+        }
+
+        Entry last() {
+            return this.tail;
+        }
+
+        void clear() {
+            this.head = null;
+            this.tail = null;
+            this.size = 0;
+        }
+    }
+}
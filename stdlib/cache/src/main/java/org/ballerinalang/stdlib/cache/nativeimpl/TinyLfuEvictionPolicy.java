@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.stdlib.cache.nativeimpl;
+
+import org.ballerinalang.jvm.StringUtils;
+import org.ballerinalang.jvm.values.MapValue;
+import org.ballerinalang.jvm.values.ObjectValue;
+import org.ballerinalang.jvm.values.api.BString;
+
+/**
+ * Ballerina functions of the `cache:TinyLfuEvictionPolicy` object, which keep the cache nodes in a
+ * {@link TinyLfuEvictionEngine}.
+ *
+ * @since 2.0.0
+ */
+public class TinyLfuEvictionPolicy {
+
+    public static final String EVICTION_ENGINE = "EVICTION_ENGINE";
+
+    private static final BString NODE_VALUE = StringUtils.fromString("value");
+    private static final BString CACHE_ENTRY_KEY = StringUtils.fromString("key");
+
+    public static void externInit(ObjectValue policy) {
+        policy.addNativeData(EVICTION_ENGINE, new TinyLfuEvictionEngine());
+    }
+
+    public static void externGet(ObjectValue policy, MapValue<BString, Object> node) {
+        getEngine(policy).recordAccess(node);
+    }
+
+    public static void externPut(ObjectValue policy, MapValue<BString, Object> node) {
+        getEngine(policy).add(node, getKeyHash(node));
+    }
+
+    public static void externRemove(ObjectValue policy, MapValue<BString, Object> node) {
+        getEngine(policy).remove(node);
+    }
+
+    public static void externReplace(ObjectValue policy, MapValue<BString, Object> newNode,
+                                     MapValue<BString, Object> oldNode) {
+        getEngine(policy).replace(newNode, oldNode, getKeyHash(newNode));
+    }
+
+    public static void externClear(ObjectValue policy) {
+        getEngine(policy).clear();
+    }
+
+    public static MapValue<BString, Object> externEvict(ObjectValue policy) {
+        return (MapValue<BString, Object>) getEngine(policy).evict();
+    }
+
+    private static TinyLfuEvictionEngine getEngine(ObjectValue policy) {
+        return (TinyLfuEvictionEngine) policy.getNativeData(EVICTION_ENGINE);
+    }
+
+    // Frequencies are counted per cache key, so that they are kept when a key is evicted and put again. The key is
+    // taken from the `cache:CacheEntry` stored in the node, and other values are counted per value.
+    private static int getKeyHash(MapValue<BString, Object> node) {
+        Object value = node.get(NODE_VALUE);
+        if (value instanceof MapValue) {
+            Object key = ((MapValue<BString, Object>) value).get(CACHE_ENTRY_KEY);
+            if (key != null) {
+                return key.hashCode();
+            }
+        }
+        return System.identityHashCode(value);
+    }
+}
@@ -226,6 +226,29 @@ public class CacheTest {
         Assert.assertEquals(((BInteger) returns[1]).intValue(), expected.length);
     }
 
+    @Test
+    public void testCacheEvictionWithTinyLfuPolicy() {
+        BValue[] args = new BValue[0];
+        BValue[] returns = BRunUtil.invoke(compileResult, "testCacheEvictionWithTinyLfuPolicy", args);
+        Assert.assertTrue(returns[0] instanceof BValueArray);
+        Assert.assertTrue(returns[1] instanceof BInteger);
+        List<String> actual = Arrays.asList(removeEmptyValues(((BValueArray) returns[0]).getStringArray()));
+        Assert.assertTrue(actual.containsAll(Arrays.asList("A", "B", "C", "D", "E")), actual.toString());
+        Assert.assertEquals(((BInteger) returns[1]).intValue(), 10);
+    }
+
+    @Test
+    public void testExpiredEntriesRemovedOnPut() {
+        BValue[] args = new BValue[0];
+        BValue[] returns = BRunUtil.invoke(compileResult, "testExpiredEntriesRemovedOnPut", args);
+        Assert.assertTrue(returns[0] instanceof BValueArray);
+        Assert.assertTrue(returns[1] instanceof BInteger);
+        List<String> actual = Arrays.asList(removeEmptyValues(((BValueArray) returns[0]).getStringArray()));
+        Assert.assertEquals(actual.size(), 2, actual.toString());
+        Assert.assertTrue(actual.containsAll(Arrays.asList("C", "D")), actual.toString());
+        Assert.assertEquals(((BInteger) returns[1]).intValue(), 2);
+    }
+
     @Test(enabled = false)
     public void testCacheEvictionWithTimer1() {
         BValue[] args = new BValue[0];
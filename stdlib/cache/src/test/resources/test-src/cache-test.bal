@@ -204,6 +204,44 @@ function testCacheEvictionWithCapacity2() returns [string[], int] {
     return [cache.keys(), cache.size()];
 }
 
+function testCacheEvictionWithTinyLfuPolicy() returns [string[], int] {
+    cache:CacheConfig config = {
+        capacity: 10,
+        evictionPolicy: new cache:TinyLfuEvictionPolicy(),
+        evictionFactor: 0.1
+    };
+    cache:Cache cache = new(config);
+    string[] keys = ["A", "B", "C", "D", "E", "F", "G", "H", "I", "J"];
+    foreach string key in keys {
+        checkpanic cache.put(key, key);
+    }
+    foreach int i in 0 ..< 2 {
+        foreach string key in ["A", "B", "C", "D", "E"] {
+            any|cache:Error x = cache.get(key);
+        }
+    }
+    // Keys which are used only once should not evict the frequently used keys.
+    foreach string key in ["K", "L", "M", "N", "O", "P", "Q", "R", "S", "T"] {
+        checkpanic cache.put(key, key);
+    }
+    return [cache.keys(), cache.size()];
+}
+
+function testExpiredEntriesRemovedOnPut() returns [string[], int] {
+    cache:CacheConfig config = {
+        capacity: 3,
+        evictionFactor: 0.2
+    };
+    cache:Cache cache = new(config);
+    int maxAgeInSeconds = 1;
+    checkpanic cache.put("A", "1", maxAgeInSeconds);
+    checkpanic cache.put("B", "2", maxAgeInSeconds);
+    checkpanic cache.put("C", "3");
+    runtime:sleep(maxAgeInSeconds * 1000 * 2 + 500);
+    checkpanic cache.put("D", "4");
+    return [cache.keys(), cache.size()];
+}
+
 function testCacheEvictionWithTimer1() returns [string[], int] {
     int cleanupIntervalInSeconds = 2;
     cache:CacheConfig config = {
@@ -96,6 +96,24 @@ public type Client client object {
         }
     }
 
+    # Executes the parameterised DDL or DML sql queries of a stream in batches, and returns the summary of the
+    # execution of each batch as a stream.
+    #
+    # + sqlQueries - The stream of DDL or DML queries such as INSERT, DELETE, UPDATE, etc as `ParameterizedQuery`,
+    #                which should all have the same SQL command
+    # + batchSize - The number of queries executed in each batch
+    # + return - Stream of the summaries of the batches as `ExecutionResult[]`, which are returned as each batch
+    #            completes. If one of the commands in a batch fails, the stream returns a `BatchExecuteError`.
+    public remote function batchExecuteStream(@untainted stream<sql:ParameterizedQuery, error> sqlQueries,
+                                              int batchSize = 1000) returns stream<sql:ExecutionResult[], sql:Error> {
+        if (self.clientActive) {
+            return sql:generateBatchExecuteStream(self, sqlQueries, batchSize);
+        } else {
+            return sql:generateApplicationErrorBatchStream("JDBC Client is already closed, "
+                + "hence further operations are not allowed");
+        }
+    }
+
     # Close the JDBC client.
     #
     # + return - Possible error during closing the client
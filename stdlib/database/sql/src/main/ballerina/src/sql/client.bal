@@ -50,6 +50,19 @@ public type Client abstract client object {
     #            can be accessed as `(<sql:BatchExecuteError> result).detail()?.executionResults`.
     public remote function batchExecute(@untainted ParameterizedQuery[] sqlQueries) returns ExecutionResult[]|Error;
 
+    # Executes the parameterised DDL or DML sql queries of a stream in batches, and returns the summary of the
+    # execution of each batch as a stream. The queries are read from the stream while the previous batch is executed,
+    # so that a large number of queries can be executed without reading all of them into memory.
+    #
+    # + sqlQueries - The stream of DDL or DML queries such as INSERT, DELETE, UPDATE, etc as `ParameterizedQuery`,
+    #                which should all have the same SQL command
+    # + batchSize - The number of queries executed in each batch
+    # + return - Stream of the summaries of the batches as `ExecutionResult[]`, which are returned as each batch
+    #            completes. The batches are executed as the stream is iterated, and if one of the commands in a batch
+    #            fails, the stream returns a `BatchExecuteError` and the remaining queries are not executed.
+    public remote function batchExecuteStream(@untainted stream<ParameterizedQuery, error> sqlQueries,
+                                              int batchSize = 1000) returns stream<ExecutionResult[], Error>;
+
     # Close the SQL client.
     #
     # + return - Possible error during closing the client
@@ -67,7 +80,46 @@ public function generateApplicationErrorStream(string message) returns stream<re
     return errorStream;
 }
 
-function nextResult(ResultIterator iterator) returns record {}|Error? = @java:Method {
+# Creates the stream of the results of executing a stream of queries in batches, which is returned by the
+# `batchExecuteStream` remote function of the clients.
+#
+# + sqlClient - The client which executes the queries
+# + sqlQueries - The stream of queries
+# + batchSize - The number of queries executed in each batch
+# + return - Stream of the summaries of the batches
+public function generateBatchExecuteStream(Client sqlClient, stream<ParameterizedQuery, error> sqlQueries,
+                                           int batchSize) returns stream<ExecutionResult[], Error> {
+    BatchExecuteIterator batchExecuteIterator;
+    if (batchSize <= 0) {
+        batchExecuteIterator = new (err = ApplicationError("Parameter 'batchSize' should be greater than 0"));
+    } else {
+        batchExecuteIterator = new (sqlClient, sqlQueries, batchSize);
+    }
+    stream<ExecutionResult[], Error> resultStream = new (batchExecuteIterator);
+    return resultStream;
+}
+
+# Creates a stream of batch execution results, which returns an `ApplicationError` with the given message.
+#
+# + message - The error message
+# + return - Stream which returns the error
+public function generateApplicationErrorBatchStream(string message) returns stream<ExecutionResult[], Error> {
+    ApplicationError applicationErr = ApplicationError(message);
+    BatchExecuteIterator batchExecuteIterator = new (err = applicationErr);
+    stream<ExecutionResult[], Error> errorStream = new (batchExecuteIterator);
+    return errorStream;
+}
+
+function executeNextBatch(BatchExecuteIterator iterator, Client sqlClient, ParameterizedQuery[] batch)
+returns ExecutionResult[]|Error? = @java:Method {
+    class: "org.ballerinalang.sql.utils.ExecuteUtils"
+} external;
+
+function closeBatchExecution(BatchExecuteIterator iterator) returns Error? = @java:Method {
+    class: "org.ballerinalang.sql.utils.ExecuteUtils"
+} external;
+
+function nextBatch(ResultIterator iterator) returns record {}[]|Error = @java:Method {
     class: "org.ballerinalang.sql.utils.RecordItertorUtils"
 } external;
 
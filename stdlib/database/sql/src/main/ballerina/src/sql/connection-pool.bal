@@ -30,11 +30,17 @@ import ballerina/java;
 # + minIdleConnections - The minimum number of idle connections that pool tries to maintain in the pool. Default
 #                        is the same as maxOpenConnections and it can be changed through the configuration
 #                        API with the key `b7a.sql.pool.minIdleConnections`.
+# + statementCacheSize - The maximum number of prepared statements cached for each connection of the pool, so that
+#                        statements which are executed again are not prepared again. The statements are cached
+#                        by the JDBC driver, if the driver supports it. Default value is 0, which disables the
+#                        cache, and it can be changed through the configuration API with the key
+#                        `b7a.sql.pool.statementCacheSize`.
 public type ConnectionPool record {|
     int maxOpenConnections = config:getAsInt("b7a.sql.pool.maxOpenConnections", 15);
     decimal maxConnectionLifeTimeInSeconds = <decimal>config:getAsFloat("b7a.sql.pool.maxConnectionLifeTimeInSeconds",
         1800.0);
     int minIdleConnections = config:getAsInt("b7a.sql.pool.minIdleConnections", 15);
+    int statementCacheSize = config:getAsInt("b7a.sql.pool.statementCacheSize", 0);
 |};
 
 // This is a container object that holds the global pool config and initializes the internal map of connection pools
@@ -348,6 +348,8 @@ public type ExecutionResult record {
 type ResultIterator object {
     private boolean isClosed = false;
     private Error? err;
+    private record {}[] rows = [];
+    private int rowIndex = 0;
 
     public function init(public Error? err = ()) {
         self.err = err;
@@ -361,19 +363,28 @@ type ResultIterator object {
         if (self.err is Error) {
             return self.err;
         } else {
-            record {}|Error? result = nextResult(self);
-            if (result is record {}) {
+            if (self.rowIndex < self.rows.length()) {
                 record {|
                     record {} value;
-                |} streamRecord = {value: result};
+                |} streamRecord = {value: self.rows[self.rowIndex]};
+                self.rowIndex += 1;
                 return streamRecord;
-            } else if (result is Error) {
+            }
+            record {}[]|Error result = nextBatch(self);
+            if (result is Error) {
                 self.err = result;
                 closeErrorIgnored = self.close();
                 return self.err;
-            } else {
+            } else if (result.length() == 0) {
                 closeErrorIgnored = self.close();
-                return result;
+                return;
+            } else {
+                self.rows = result;
+                self.rowIndex = 1;
+                record {|
+                    record {} value;
+                |} streamRecord = {value: result[0]};
+                return streamRecord;
             }
         }
     }
@@ -390,3 +401,78 @@ type ResultIterator object {
         }
     }
 };
+
+# The iterator object that reads the queries of a stream in batches, executes each batch while the next batch is read,
+# and returns the execution results of the batches.
+#
+type BatchExecuteIterator object {
+    private Client? sqlClient;
+    private stream<ParameterizedQuery, error>? sqlQueries;
+    private int batchSize;
+    private boolean isClosed = false;
+    private boolean isInputConsumed = false;
+    private Error? inputErr = ();
+    private Error? err;
+
+    public function init(Client? sqlClient = (), stream<ParameterizedQuery, error>? sqlQueries = (),
+                         int batchSize = 0, Error? err = ()) {
+        self.sqlClient = sqlClient;
+        self.sqlQueries = sqlQueries;
+        self.batchSize = batchSize;
+        self.err = err;
+    }
+
+    public function next() returns record {|ExecutionResult[] value;|}|Error? {
+        if (self.isClosed) {
+            return closedStreamInvocationError();
+        }
+        error? closeErrorIgnored = ();
+        if (self.err is Error) {
+            return self.err;
+        }
+        while (true) {
+            ParameterizedQuery[] batch = self.readBatch();
+            ExecutionResult[]|Error? result = executeNextBatch(self, <Client>self.sqlClient, batch);
+            if (result is ExecutionResult[]) {
+                record {|
+                    ExecutionResult[] value;
+                |} streamRecord = {value: result};
+                return streamRecord;
+            } else if (result is Error) {
+                self.err = result;
+                closeErrorIgnored = self.close();
+                return result;
+            } else if (batch.length() == 0) {
+                // There is no batch being executed, and no query left to be executed.
+                closeErrorIgnored = self.close();
+                self.err = self.inputErr;
+                return self.inputErr;
+            }
+        }
+    }
+
+    private function readBatch() returns ParameterizedQuery[] {
+        ParameterizedQuery[] batch = [];
+        stream<ParameterizedQuery, error> sqlQueries = <stream<ParameterizedQuery, error>>self.sqlQueries;
+        while (!self.isInputConsumed && batch.length() < self.batchSize) {
+            record {|ParameterizedQuery value;|}|error? sqlQuery = sqlQueries.next();
+            if (sqlQuery is record {|ParameterizedQuery value;|}) {
+                batch.push(sqlQuery.value);
+            } else {
+                self.isInputConsumed = true;
+                if (sqlQuery is error) {
+                    self.inputErr = ApplicationError("Error while reading the sql queries to be executed. "
+                        + sqlQuery.message());
+                }
+            }
+        }
+        return batch;
+    }
+
+    public function close() returns Error? {
+        if (!self.isClosed) {
+            self.isClosed = true;
+            return closeBatchExecution(self);
+        }
+    }
+};
@@ -46,8 +46,14 @@ public final class Constants {
     public static final String RESULT_SET_NATIVE_DATA_FIELD = "ResultSet";
     public static final String CONNECTION_NATIVE_DATA_FIELD = "Connection";
     public static final String STATEMENT_NATIVE_DATA_FIELD = "Statement";
+    public static final String BATCH_EXECUTION_NATIVE_DATA_FIELD = "BatchExecution";
     public static final String COLUMN_DEFINITIONS_DATA_FIELD = "ColumnDefinition";
     public static final String RECORD_TYPE_DATA_FIELD = "recordType";
+    public static final String PENDING_ERROR_DATA_FIELD = "PendingError";
+
+    public static final String QUERY_FETCH_SIZE_CONFIG = "b7a.sql.query.fetchSize";
+    public static final String QUERY_BATCH_SIZE_CONFIG = "b7a.sql.query.batchSize";
+    public static final int DEFAULT_QUERY_BATCH_SIZE = 100;
 
     public static final BString TIMEZONE_UTC = StringUtils.fromString("UTC");
 
@@ -69,6 +75,7 @@ public final class Constants {
         public static final BString MAX_CONNECTION_LIFE_TIME_SECONDS = StringUtils.fromString(
                 "maxConnectionLifeTimeInSeconds");
         public static final BString MIN_IDLE_CONNECTIONS = StringUtils.fromString("minIdleConnections");
+        public static final BString STATEMENT_CACHE_SIZE = StringUtils.fromString("statementCacheSize");
     }
 
     /**
@@ -24,6 +24,7 @@ import org.ballerinalang.jvm.values.MapValue;
 import org.ballerinalang.jvm.values.api.BString;
 import org.ballerinalang.sql.Constants;
 import org.ballerinalang.sql.utils.ErrorGenerator;
+import org.ballerinalang.sql.utils.ParameterBinderCache;
 
 import java.sql.Connection;
 import java.sql.SQLException;
@@ -44,15 +45,21 @@ import javax.sql.XADataSource;
  */
 public class SQLDatasource {
 
+    private static final String MYSQL_URL_PREFIX = "jdbc:mysql:";
+    private static final String MARIADB_URL_PREFIX = "jdbc:mariadb:";
+    private static final String POSTGRESQL_URL_PREFIX = "jdbc:postgresql:";
+
     private HikariDataSource hikariDataSource;
     private AtomicInteger clientCounter = new AtomicInteger(0);
     private Lock mutex = new ReentrantLock();
     private boolean poolShutdown = false;
     private boolean xaConn;
     private XADataSource xaDataSource;
+    private ParameterBinderCache parameterBinderCache;
 
     private SQLDatasource(SQLDatasourceParams sqlDatasourceParams) {
         buildDataSource(sqlDatasourceParams);
+        parameterBinderCache = new ParameterBinderCache(getStatementCacheSize(sqlDatasourceParams.connectionPool));
         Connection connection = null;
         try {
             xaConn = hikariDataSource.isWrapperFor(XADataSource.class);
@@ -136,11 +143,23 @@ public class SQLDatasource {
         return xaConn;
     }
 
+    public ParameterBinderCache getParameterBinderCache() {
+        return parameterBinderCache;
+    }
+
     private void closeConnectionPool() {
         hikariDataSource.close();
+        parameterBinderCache.clear();
         poolShutdown = true;
     }
 
+    private static int getStatementCacheSize(MapValue connectionPool) {
+        if (connectionPool == null) {
+            return 0;
+        }
+        return connectionPool.getIntValue(Constants.ConnectionPool.STATEMENT_CACHE_SIZE).intValue();
+    }
+
     private boolean isPoolShutdown() {
         return poolShutdown;
     }
@@ -215,6 +234,8 @@ public class SQLDatasource {
                 if (minIdleConnections > 0) {
                     config.setMinimumIdle(minIdleConnections);
                 }
+                addStatementCacheProperties(config, sqlDatasourceParams.url,
+                                            getStatementCacheSize(sqlDatasourceParams.connectionPool));
             }
             if (sqlDatasourceParams.options != null) {
                 MapValue<BString, Object> optionMap = (MapValue<BString, Object>) sqlDatasourceParams.options;
@@ -243,6 +264,23 @@ public class SQLDatasource {
         }
     }
 
+    /**
+     * Enables the statement cache of the JDBC drivers which have one, so that the statements which are prepared on
+     * the connections of the pool are cached by the driver. The properties can be overridden by the options of the
+     * client.
+     */
+    private static void addStatementCacheProperties(HikariConfig config, String url, int statementCacheSize) {
+        if (statementCacheSize <= 0 || url == null) {
+            return;
+        }
+        if (url.startsWith(MYSQL_URL_PREFIX) || url.startsWith(MARIADB_URL_PREFIX)) {
+            config.addDataSourceProperty("cachePrepStmts", true);
+            config.addDataSourceProperty("prepStmtCacheSize", statementCacheSize);
+        } else if (url.startsWith(POSTGRESQL_URL_PREFIX)) {
+            config.addDataSourceProperty("preparedStatementCacheQueries", statementCacheSize);
+        }
+    }
+
     /**
      * This class encapsulates the parameters required for the initialization of {@code SQLDatasource} class.
      */
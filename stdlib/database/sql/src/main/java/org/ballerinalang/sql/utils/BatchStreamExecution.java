@@ -0,0 +1,209 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.ballerinalang.sql.utils;
+
+import org.ballerinalang.jvm.scheduling.Strand;
+import org.ballerinalang.jvm.values.AbstractObjectValue;
+import org.ballerinalang.jvm.values.ArrayValue;
+import org.ballerinalang.jvm.values.MapValue;
+import org.ballerinalang.jvm.values.ObjectValue;
+import org.ballerinalang.jvm.values.api.BString;
+import org.ballerinalang.sql.Constants;
+import org.ballerinalang.sql.datasource.SQLDatasource;
+import org.ballerinalang.sql.datasource.SQLDatasourceUtils;
+import org.ballerinalang.sql.exception.ApplicationError;
+
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * The execution of a stream of parameterized queries in batches. A batch is executed in the background while the
+ * next batch is read from the stream, and the results of a batch are returned when the next batch is submitted.
+ * <p>
+ * The batches are executed with one statement on one connection, which are held until the execution is closed. The
+ * connection is only used by one thread at a time, as a batch is bound after the previous batch is executed.
+ * <p>
+ * The batches are executed on a bounded pool of threads, as each of them waits on the database. Executions which
+ * do not get a thread are queued until one is released.
+ *
+ * @since 2.0.0
+ */
+class BatchStreamExecution {
+
+    private static final int EXECUTOR_THREADS = Math.max(4, 2 * Runtime.getRuntime().availableProcessors());
+    private static final long EXECUTOR_KEEP_ALIVE_SECONDS = 60;
+    private static final AtomicInteger THREAD_COUNT = new AtomicInteger();
+    private static final ThreadPoolExecutor EXECUTOR = createExecutor();
+
+    private final ParameterBinderCache binderCache;
+    private final Connection connection;
+    private final PreparedStatement statement;
+    private final String sqlQuery;
+    private final boolean returnGeneratedKeys;
+    private ParameterBinder[] binders;
+    private CompletableFuture<List<MapValue<BString, Object>>> pendingBatch;
+
+    private BatchStreamExecution(ParameterBinderCache binderCache, Connection connection, PreparedStatement statement,
+                                 String sqlQuery) {
+        this.binderCache = binderCache;
+        this.connection = connection;
+        this.statement = statement;
+        this.sqlQuery = sqlQuery;
+        this.returnGeneratedKeys = !ExecuteUtils.isDdlStatement(sqlQuery);
+        this.binders = binderCache.get(sqlQuery);
+    }
+
+    static BatchStreamExecution start(Strand strand, ObjectValue client, SQLDatasource sqlDatasource,
+                                      AbstractObjectValue firstQuery) throws SQLException {
+        ParameterBinderCache binderCache = sqlDatasource.getParameterBinderCache();
+        String sqlQuery = Utils.getSqlQuery(firstQuery);
+        Connection connection = SQLDatasourceUtils.getConnection(strand, client, sqlDatasource);
+        PreparedStatement statement;
+        try {
+            statement = connection.prepareStatement(sqlQuery, Statement.RETURN_GENERATED_KEYS);
+        } catch (SQLException e) {
+            Utils.closeResources(strand, null, null, connection);
+            throw e;
+        }
+        return new BatchStreamExecution(binderCache, connection, statement, sqlQuery);
+    }
+
+    String getSqlQuery() {
+        return sqlQuery;
+    }
+
+    /**
+     * Binds a batch to the statement and executes it in the background. The previous batch must be completed.
+     *
+     * @param batch the queries of the batch
+     */
+    void submit(ArrayValue batch) throws SQLException, ApplicationError, IOException {
+        for (int i = 0; i < batch.size(); i++) {
+            AbstractObjectValue parameterizedQuery = (AbstractObjectValue) batch.getRefValue(i);
+            String paramSQLQuery = Utils.getSqlQuery(parameterizedQuery);
+            if (!sqlQuery.equals(paramSQLQuery)) {
+                statement.clearBatch();
+                throw new ApplicationError("Batch Execute cannot contain different SQL commands. These has to be " +
+                        "executed in different function calls");
+            }
+            ParameterBinder[] usedBinders = Utils.setParams(connection, statement, parameterizedQuery, binders);
+            if (usedBinders != binders) {
+                binders = usedBinders;
+                binderCache.put(sqlQuery, usedBinders);
+            }
+            statement.addBatch();
+        }
+        pendingBatch = CompletableFuture.supplyAsync(() -> {
+            try {
+                return executeBatch();
+            } catch (SQLException e) {
+                throw new CompletionException(e);
+            }
+        }, EXECUTOR);
+    }
+
+    boolean hasPendingBatch() {
+        return pendingBatch != null;
+    }
+
+    /**
+     * Runs the given task on the batch execution threads once the batch which is executed in the background is
+     * completed. The batch must be pending.
+     *
+     * @param task the task, which can get the results of the batch without waiting
+     */
+    void whenPendingBatchCompleted(Runnable task) {
+        pendingBatch.whenCompleteAsync((executionResults, error) -> task.run(), EXECUTOR);
+    }
+
+    /**
+     * Waits for the batch which is executed in the background, and returns its results.
+     *
+     * @return the execution results of the batch
+     */
+    List<MapValue<BString, Object>> awaitPendingBatch() throws SQLException, InterruptedException {
+        CompletableFuture<List<MapValue<BString, Object>>> batch = pendingBatch;
+        pendingBatch = null;
+        try {
+            return batch.get();
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof SQLException) {
+                throw (SQLException) cause;
+            }
+            throw new SQLException(cause.getMessage(), cause);
+        }
+    }
+
+    void close(Strand strand) {
+        if (pendingBatch != null) {
+            try {
+                awaitPendingBatch();
+            } catch (SQLException | InterruptedException ignored) {
+            }
+        }
+        Utils.closeResources(strand, null, statement, connection);
+    }
+
+    private List<MapValue<BString, Object>> executeBatch() throws SQLException {
+        int[] counts = statement.executeBatch();
+        List<MapValue<BString, Object>> executionResults = new ArrayList<>(counts.length);
+        if (returnGeneratedKeys) {
+            try (ResultSet resultSet = statement.getGeneratedKeys()) {
+                ExecuteUtils.addExecutionResults(counts, resultSet, executionResults);
+            }
+        } else {
+            ExecuteUtils.addExecutionResults(counts, null, executionResults);
+        }
+        return executionResults;
+    }
+
+    private static ThreadPoolExecutor createExecutor() {
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(EXECUTOR_THREADS, EXECUTOR_THREADS,
+                EXECUTOR_KEEP_ALIVE_SECONDS, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), runnable -> {
+                    Thread thread = new Thread(runnable, "sql-batch-execute-" + THREAD_COUNT.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    /**
+     * Returns the execution of a batch execute iterator.
+     *
+     * @param iterator the batch execute iterator
+     * @return the execution, or null if no batch is executed yet
+     */
+    static BatchStreamExecution get(ObjectValue iterator) {
+        return (BatchStreamExecution) iterator.getNativeData(Constants.BATCH_EXECUTION_NATIVE_DATA_FIELD);
+    }
+}
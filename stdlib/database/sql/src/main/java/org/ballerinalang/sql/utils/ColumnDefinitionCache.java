@@ -0,0 +1,130 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.ballerinalang.sql.utils;
+
+import org.ballerinalang.jvm.types.BStructureType;
+
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * This class caches the column definitions of query results, so that the columns of a query are mapped to the fields
+ * of its record type once, instead of every time the query is executed. Column definitions are cached for the columns
+ * of the result set and the record type, and the least recently used ones are discarded when the cache is full.
+ *
+ * @since 2.0.0
+ */
+class ColumnDefinitionCache {
+
+    private static final int MAX_ENTRIES = 512;
+
+    private static final Map<ResultColumns, Definitions> entries =
+            new LinkedHashMap<ResultColumns, Definitions>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<ResultColumns, Definitions> eldest) {
+                    return size() > MAX_ENTRIES;
+                }
+            };
+
+    private ColumnDefinitionCache() {
+    }
+
+    static synchronized Definitions get(ResultColumns columns) {
+        return entries.get(columns);
+    }
+
+    static synchronized void put(ResultColumns columns, Definitions definitions) {
+        entries.put(columns, definitions);
+    }
+
+    /**
+     * The column definitions of a query result, and the record type of its rows.
+     */
+    static class Definitions {
+        final List<ColumnDefinition> columnDefinitions;
+        final BStructureType streamConstraint;
+
+        Definitions(List<ColumnDefinition> columnDefinitions, BStructureType streamConstraint) {
+            this.columnDefinitions = columnDefinitions;
+            this.streamConstraint = streamConstraint;
+        }
+    }
+
+    /**
+     * The columns of a result set and the record type requested for its rows, which identify the column definitions.
+     */
+    static class ResultColumns {
+        final String[] names;
+        final int[] sqlTypes;
+        final String[] sqlTypeNames;
+        final boolean[] nullable;
+        final BStructureType recordType;
+        private final int hashCode;
+
+        ResultColumns(ResultSetMetaData rsMetaData, BStructureType recordType) throws SQLException {
+            int cols = rsMetaData.getColumnCount();
+            this.names = new String[cols];
+            this.sqlTypes = new int[cols];
+            this.sqlTypeNames = new String[cols];
+            this.nullable = new boolean[cols];
+            this.recordType = recordType;
+            Set<String> columnNames = new HashSet<>();
+            for (int i = 0; i < cols; i++) {
+                String colName = rsMetaData.getColumnLabel(i + 1);
+                if (columnNames.contains(colName)) {
+                    String tableName = rsMetaData.getTableName(i + 1).toUpperCase(Locale.getDefault());
+                    colName = tableName + "." + colName;
+                }
+                columnNames.add(colName);
+                this.names[i] = colName;
+                this.sqlTypes[i] = rsMetaData.getColumnType(i + 1);
+                this.sqlTypeNames[i] = rsMetaData.getColumnTypeName(i + 1);
+                this.nullable[i] = rsMetaData.isNullable(i + 1) != ResultSetMetaData.columnNoNulls;
+            }
+            this.hashCode = Objects.hash(Arrays.hashCode(names), Arrays.hashCode(sqlTypes),
+                                         System.identityHashCode(recordType));
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof ResultColumns)) {
+                return false;
+            }
+            ResultColumns other = (ResultColumns) o;
+            return recordType == other.recordType && Arrays.equals(names, other.names) &&
+                    Arrays.equals(sqlTypes, other.sqlTypes) && Arrays.equals(sqlTypeNames, other.sqlTypeNames) &&
+                    Arrays.equals(nullable, other.nullable);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+}
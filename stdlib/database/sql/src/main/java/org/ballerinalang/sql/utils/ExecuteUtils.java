@@ -17,6 +17,7 @@
  */
 package org.ballerinalang.sql.utils;
 
+import org.ballerinalang.jvm.BRuntime;
 import org.ballerinalang.jvm.BallerinaValues;
 import org.ballerinalang.jvm.scheduling.Scheduler;
 import org.ballerinalang.jvm.scheduling.Strand;
@@ -24,11 +25,14 @@ import org.ballerinalang.jvm.types.BArrayType;
 import org.ballerinalang.jvm.types.BRecordType;
 import org.ballerinalang.jvm.values.AbstractObjectValue;
 import org.ballerinalang.jvm.values.ArrayValue;
+import org.ballerinalang.jvm.values.ErrorValue;
 import org.ballerinalang.jvm.values.MapValue;
 import org.ballerinalang.jvm.values.ObjectValue;
 import org.ballerinalang.jvm.values.StringValue;
+import org.ballerinalang.jvm.values.api.BArray;
 import org.ballerinalang.jvm.values.api.BString;
 import org.ballerinalang.jvm.values.api.BValueCreator;
+import org.ballerinalang.jvm.values.connector.NonBlockingCallback;
 import org.ballerinalang.sql.Constants;
 import org.ballerinalang.sql.datasource.SQLDatasource;
 import org.ballerinalang.sql.datasource.SQLDatasourceUtils;
@@ -49,6 +53,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.function.Supplier;
 
 /**
  * This class holds the utility methods involved with executing the query which does not return rows.
@@ -58,10 +63,15 @@ import java.util.Map;
 public class ExecuteUtils {
 
     public static Object nativeExecute(ObjectValue client, Object paramSQLString) {
-        Object dbClient = client.getNativeData(Constants.DATABASE_CLIENT);
         Strand strand = Scheduler.getStrand();
+        return BRuntime.executeBlocking(() -> execute(strand, client, paramSQLString));
+    }
+
+    private static Object execute(Strand strand, ObjectValue client, Object paramSQLString) {
+        Object dbClient = client.getNativeData(Constants.DATABASE_CLIENT);
         if (dbClient != null) {
             SQLDatasource sqlDatasource = (SQLDatasource) dbClient;
+            ParameterBinderCache binderCache = sqlDatasource.getParameterBinderCache();
             Connection connection = null;
             PreparedStatement statement = null;
             ResultSet resultSet = null;
@@ -75,7 +85,7 @@ public class ExecuteUtils {
                 connection = SQLDatasourceUtils.getConnection(strand, client, sqlDatasource);
                 statement = connection.prepareStatement(sqlQuery, Statement.RETURN_GENERATED_KEYS);
                 if (paramSQLString instanceof AbstractObjectValue) {
-                    Utils.setParams(connection, statement, (AbstractObjectValue) paramSQLString);
+                    Utils.setParams(connection, statement, (AbstractObjectValue) paramSQLString, binderCache, sqlQuery);
                 }
                 int count = statement.executeUpdate();
                 Object lastInsertedId = null;
@@ -106,13 +116,18 @@ public class ExecuteUtils {
     }
 
     public static Object nativeBatchExecute(ObjectValue client, ArrayValue paramSQLStrings) {
+        Strand strand = Scheduler.getStrand();
+        return BRuntime.executeBlocking(() -> batchExecute(strand, client, paramSQLStrings));
+    }
+
+    private static Object batchExecute(Strand strand, ObjectValue client, ArrayValue paramSQLStrings) {
         Object dbClient = client.getNativeData(Constants.DATABASE_CLIENT);
         if (dbClient != null) {
             SQLDatasource sqlDatasource = (SQLDatasource) dbClient;
+            ParameterBinderCache binderCache = sqlDatasource.getParameterBinderCache();
             Connection connection = null;
             PreparedStatement statement = null;
             ResultSet resultSet = null;
-            Strand strand = Scheduler.getStrand();
             String sqlQuery = null;
             List<AbstractObjectValue> parameters = new ArrayList<>();
             List<MapValue<BString, Object>> executionResults = new ArrayList<>();
@@ -134,39 +149,24 @@ public class ExecuteUtils {
                 }
                 connection = SQLDatasourceUtils.getConnection(strand, client, sqlDatasource);
                 statement = connection.prepareStatement(sqlQuery, Statement.RETURN_GENERATED_KEYS);
+                ParameterBinder[] binders = binderCache.get(sqlQuery);
+                ParameterBinder[] usedBinders = binders;
                 for (AbstractObjectValue param : parameters) {
-                    Utils.setParams(connection, statement, param);
+                    usedBinders = Utils.setParams(connection, statement, param, usedBinders);
                     statement.addBatch();
                 }
+                if (usedBinders != binders) {
+                    binderCache.put(sqlQuery, usedBinders);
+                }
                 int[] counts = statement.executeBatch();
 
                 if (!isDdlStatement(sqlQuery)) {
                     resultSet = statement.getGeneratedKeys();
                 }
-                for (int count : counts) {
-                    Map<String, Object> resultField = new HashMap<>();
-                    resultField.put(Constants.AFFECTED_ROW_COUNT_FIELD, count);
-                    Object lastInsertedId = null;
-                    if (resultSet != null && resultSet.next()) {
-                        lastInsertedId = getGeneratedKeys(resultSet);
-                    }
-                    resultField.put(Constants.LAST_INSERTED_ID_FIELD, lastInsertedId);
-                    executionResults.add(BallerinaValues.createRecordValue(Constants.SQL_PACKAGE_ID,
-                            Constants.EXECUTION_RESULT_RECORD, resultField));
-                }
-                return BValueCreator.createArrayValue(executionResults.toArray(), new BArrayType(
-                        new BRecordType(Constants.EXECUTION_RESULT_RECORD, Constants.SQL_PACKAGE_ID, 0, false, 0)));
+                addExecutionResults(counts, resultSet, executionResults);
+                return createExecutionResultArray(executionResults);
             } catch (BatchUpdateException e) {
-                int[] updateCounts = e.getUpdateCounts();
-                for (int count : updateCounts) {
-                    Map<String, Object> resultField = new HashMap<>();
-                    resultField.put(Constants.AFFECTED_ROW_COUNT_FIELD, count);
-                    resultField.put(Constants.LAST_INSERTED_ID_FIELD, null);
-                    executionResults.add(BallerinaValues.createRecordValue(Constants.SQL_PACKAGE_ID,
-                            Constants.EXECUTION_RESULT_RECORD, resultField));
-                }
-                return ErrorGenerator.getSQLBatchExecuteError(e, executionResults,
-                        "Error while executing batch command starting with: '" + sqlQuery + "'.");
+                return getBatchExecuteError(e, sqlQuery);
             } catch (SQLException e) {
                 return ErrorGenerator.getSQLDatabaseError(e, "Error while executing sql batch " +
                         "command starting with : " + sqlQuery + ". ");
@@ -182,6 +182,127 @@ public class ExecuteUtils {
         }
     }
 
+    public static Object executeNextBatch(ObjectValue iterator, ObjectValue client, ArrayValue batch) {
+        Strand strand = Scheduler.getStrand();
+        BatchStreamExecution execution = BatchStreamExecution.get(iterator);
+        if (execution == null || !execution.hasPendingBatch()) {
+            return BRuntime.executeBlocking(() -> executeNextBatch(strand, iterator, client, batch));
+        }
+        // The strand yields until the previous batch is completed, instead of holding a thread to wait for it.
+        NonBlockingCallback callback = new NonBlockingCallback(strand);
+        execution.whenPendingBatchCompleted(
+                () -> completeBatchCall(callback, () -> executeNextBatch(strand, iterator, client, batch)));
+        return null;
+    }
+
+    // Submits the batch, and returns the results of the previous batch, which was executed while this batch was read.
+    private static Object executeNextBatch(Strand strand, ObjectValue iterator, ObjectValue client, ArrayValue batch) {
+        BatchStreamExecution execution = BatchStreamExecution.get(iterator);
+        String sqlQuery = execution == null ? null : execution.getSqlQuery();
+        try {
+            if (execution == null) {
+                if (batch.size() == 0) {
+                    return null;
+                }
+                Object dbClient = client.getNativeData(Constants.DATABASE_CLIENT);
+                if (dbClient == null) {
+                    return ErrorGenerator.getSQLApplicationError("Client is not properly initialized!");
+                }
+                execution = BatchStreamExecution.start(strand, client, (SQLDatasource) dbClient,
+                        (AbstractObjectValue) batch.getRefValue(0));
+                sqlQuery = execution.getSqlQuery();
+                iterator.addNativeData(Constants.BATCH_EXECUTION_NATIVE_DATA_FIELD, execution);
+            }
+            List<MapValue<BString, Object>> executionResults = null;
+            if (execution.hasPendingBatch()) {
+                executionResults = execution.awaitPendingBatch();
+            }
+            if (batch.size() > 0) {
+                execution.submit(batch);
+            }
+            return executionResults == null ? null : createExecutionResultArray(executionResults);
+        } catch (BatchUpdateException e) {
+            return getBatchExecuteError(e, sqlQuery);
+        } catch (SQLException e) {
+            return ErrorGenerator.getSQLDatabaseError(e, "Error while executing sql batch " +
+                    "command starting with : " + sqlQuery + ". ");
+        } catch (ApplicationError | IOException e) {
+            return ErrorGenerator.getSQLApplicationError("Error while executing sql query: "
+                    + e.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return ErrorGenerator.getSQLApplicationError("Interrupted while executing sql batch command starting " +
+                    "with : " + sqlQuery + ".");
+        }
+    }
+
+    public static Object closeBatchExecution(ObjectValue iterator) {
+        Strand strand = Scheduler.getStrand();
+        BatchStreamExecution execution = BatchStreamExecution.get(iterator);
+        if (execution == null) {
+            return null;
+        }
+        iterator.addNativeData(Constants.BATCH_EXECUTION_NATIVE_DATA_FIELD, null);
+        if (!execution.hasPendingBatch()) {
+            return BRuntime.executeBlocking(() -> {
+                execution.close(strand);
+                return null;
+            });
+        }
+        NonBlockingCallback callback = new NonBlockingCallback(strand);
+        execution.whenPendingBatchCompleted(() -> completeBatchCall(callback, () -> {
+            execution.close(strand);
+            return null;
+        }));
+        return null;
+    }
+
+    private static void completeBatchCall(NonBlockingCallback callback, Supplier<Object> call) {
+        try {
+            callback.setReturnValues(call.get());
+            callback.notifySuccess();
+        } catch (ErrorValue e) {
+            callback.notifyFailure(e);
+        } catch (RuntimeException e) {
+            callback.notifyFailure(ErrorGenerator.getSQLApplicationError("Error while executing sql batch command: "
+                    + e.getMessage()));
+        }
+    }
+
+    static void addExecutionResults(int[] counts, ResultSet resultSet,
+                                    List<MapValue<BString, Object>> executionResults) throws SQLException {
+        for (int count : counts) {
+            Map<String, Object> resultField = new HashMap<>();
+            resultField.put(Constants.AFFECTED_ROW_COUNT_FIELD, count);
+            Object lastInsertedId = null;
+            if (resultSet != null && resultSet.next()) {
+                lastInsertedId = getGeneratedKeys(resultSet);
+            }
+            resultField.put(Constants.LAST_INSERTED_ID_FIELD, lastInsertedId);
+            executionResults.add(BallerinaValues.createRecordValue(Constants.SQL_PACKAGE_ID,
+                    Constants.EXECUTION_RESULT_RECORD, resultField));
+        }
+    }
+
+    private static BArray createExecutionResultArray(List<MapValue<BString, Object>> executionResults) {
+        return BValueCreator.createArrayValue(executionResults.toArray(), new BArrayType(
+                new BRecordType(Constants.EXECUTION_RESULT_RECORD, Constants.SQL_PACKAGE_ID, 0, false, 0)));
+    }
+
+    private static ErrorValue getBatchExecuteError(BatchUpdateException e, String sqlQuery) {
+        List<MapValue<BString, Object>> executionResults = new ArrayList<>();
+        int[] updateCounts = e.getUpdateCounts();
+        for (int count : updateCounts) {
+            Map<String, Object> resultField = new HashMap<>();
+            resultField.put(Constants.AFFECTED_ROW_COUNT_FIELD, count);
+            resultField.put(Constants.LAST_INSERTED_ID_FIELD, null);
+            executionResults.add(BallerinaValues.createRecordValue(Constants.SQL_PACKAGE_ID,
+                    Constants.EXECUTION_RESULT_RECORD, resultField));
+        }
+        return ErrorGenerator.getSQLBatchExecuteError(e, executionResults,
+                "Error while executing batch command starting with: '" + sqlQuery + "'.");
+    }
+
     private static Object getGeneratedKeys(ResultSet rs) throws SQLException {
         ResultSetMetaData metaData = rs.getMetaData();
         int columnCount = metaData.getColumnCount();
@@ -202,7 +323,7 @@ public class ExecuteUtils {
         return null;
     }
 
-    private static boolean isDdlStatement(String query) {
+    static boolean isDdlStatement(String query) {
         String upperCaseQuery = query.trim().toUpperCase(Locale.ENGLISH);
         return Arrays.stream(DdlKeyword.values()).anyMatch(ddlKeyword -> upperCaseQuery.startsWith(ddlKeyword.name()));
     }
@@ -0,0 +1,167 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.ballerinalang.sql.utils;
+
+import org.ballerinalang.jvm.types.TypeTags;
+import org.ballerinalang.jvm.values.ArrayValue;
+import org.ballerinalang.jvm.values.DecimalValue;
+import org.ballerinalang.jvm.values.ObjectValue;
+import org.ballerinalang.jvm.values.XMLValue;
+import org.ballerinalang.jvm.values.api.BString;
+import org.ballerinalang.sql.exception.ApplicationError;
+
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Types;
+
+/**
+ * The binders which set the values of the insertions of a `ParameterizedQuery` as the parameters of a statement. The
+ * binder of a parameter is chosen by the type of its value, and it is reused while the type of the value does not
+ * change.
+ *
+ * @since 2.0.0
+ */
+enum ParameterBinder {
+
+    NULL {
+        @Override
+        boolean accepts(Object value) {
+            return value == null;
+        }
+
+        @Override
+        void bind(Connection connection, PreparedStatement statement, int index, Object value) throws SQLException {
+            statement.setNull(index, Types.NULL);
+        }
+    },
+    STRING {
+        @Override
+        boolean accepts(Object value) {
+            return value instanceof BString;
+        }
+
+        @Override
+        void bind(Connection connection, PreparedStatement statement, int index, Object value) throws SQLException {
+            statement.setString(index, value.toString());
+        }
+    },
+    INT {
+        @Override
+        boolean accepts(Object value) {
+            return value instanceof Long;
+        }
+
+        @Override
+        void bind(Connection connection, PreparedStatement statement, int index, Object value) throws SQLException {
+            statement.setLong(index, (Long) value);
+        }
+    },
+    FLOAT {
+        @Override
+        boolean accepts(Object value) {
+            return value instanceof Double;
+        }
+
+        @Override
+        void bind(Connection connection, PreparedStatement statement, int index, Object value) throws SQLException {
+            statement.setDouble(index, (Double) value);
+        }
+    },
+    DECIMAL {
+        @Override
+        boolean accepts(Object value) {
+            return value instanceof DecimalValue;
+        }
+
+        @Override
+        void bind(Connection connection, PreparedStatement statement, int index, Object value) throws SQLException {
+            statement.setBigDecimal(index, ((DecimalValue) value).decimalValue());
+        }
+    },
+    BOOLEAN {
+        @Override
+        boolean accepts(Object value) {
+            return value instanceof Boolean;
+        }
+
+        @Override
+        void bind(Connection connection, PreparedStatement statement, int index, Object value) throws SQLException {
+            statement.setBoolean(index, (Boolean) value);
+        }
+    },
+    BYTE_ARRAY {
+        @Override
+        boolean accepts(Object value) {
+            return value instanceof ArrayValue &&
+                    ((ArrayValue) value).getElementType().getTag() == TypeTags.BYTE_TAG;
+        }
+
+        @Override
+        void bind(Connection connection, PreparedStatement statement, int index, Object value) throws SQLException {
+            statement.setBytes(index, ((ArrayValue) value).getBytes());
+        }
+    },
+    TYPED_VALUE {
+        @Override
+        boolean accepts(Object value) {
+            return value instanceof ObjectValue && ((ObjectValue) value).getType().getTag() == TypeTags.OBJECT_TYPE_TAG;
+        }
+
+        @Override
+        void bind(Connection connection, PreparedStatement statement, int index, Object value)
+                throws SQLException, ApplicationError, IOException {
+            Utils.setSqlTypedParam(connection, statement, index, (ObjectValue) value);
+        }
+    },
+    XML {
+        @Override
+        boolean accepts(Object value) {
+            return value instanceof XMLValue;
+        }
+
+        @Override
+        void bind(Connection connection, PreparedStatement statement, int index, Object value) throws SQLException {
+            statement.setObject(index, ((XMLValue) value).getTextValue(), Types.SQLXML);
+        }
+    };
+
+    private static final ParameterBinder[] BINDERS = values();
+
+    abstract boolean accepts(Object value);
+
+    abstract void bind(Connection connection, PreparedStatement statement, int index, Object value)
+            throws SQLException, ApplicationError, IOException;
+
+    static ParameterBinder of(Object value, int index) throws ApplicationError {
+        for (ParameterBinder binder : BINDERS) {
+            if (binder.accepts(value)) {
+                return binder;
+            }
+        }
+        if (value instanceof ArrayValue) {
+            throw new ApplicationError("Only byte[] is supported can be set directly into " +
+                    "ParameterizedQuery, any other array types should be wrapped as sql:Value");
+        } else if (value instanceof ObjectValue) {
+            throw new ApplicationError("Unsupported type:" +
+                    ((ObjectValue) value).getType().getQualifiedName() + " in column index: " + index);
+        }
+        throw new ApplicationError("Unsupported type passed in column index: " + index);
+    }
+}
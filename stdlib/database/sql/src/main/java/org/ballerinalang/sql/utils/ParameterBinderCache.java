@@ -0,0 +1,76 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.ballerinalang.sql.utils;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * This class caches the parameter binders of the statements of a datasource, so that the binders of parameters
+ * whose type has not changed are reused instead of being chosen by the type of the value again.
+ * <p>
+ * The cache is shared by the queries of the datasource, so it does not lock, and the cached binders of a statement
+ * are never modified. When the type of a parameter changes, the binders of the statement are replaced by a copy.
+ * Binders are kept for up to the statement cache size of the pool number of statements, and are not kept if the
+ * size is zero. The statements themselves are cached by the JDBC driver, to which the size is passed when the
+ * datasource is created.
+ *
+ * @since 2.0.0
+ */
+public class ParameterBinderCache {
+
+    private final int maxStatements;
+    private final Map<String, ParameterBinder[]> parameterBinders = new ConcurrentHashMap<>();
+
+    public ParameterBinderCache(int maxStatements) {
+        this.maxStatements = maxStatements;
+    }
+
+    /**
+     * Returns the parameter binders of the last execution of a statement.
+     *
+     * @param sql the SQL statement
+     * @return the binders, which must not be modified, or null if the statement has no binders
+     */
+    ParameterBinder[] get(String sql) {
+        if (maxStatements <= 0) {
+            return null;
+        }
+        return parameterBinders.get(sql);
+    }
+
+    /**
+     * Caches the parameter binders of a statement, unless the cache is full.
+     *
+     * @param sql     the SQL statement
+     * @param binders the binders, which must not be modified once they are cached
+     */
+    void put(String sql, ParameterBinder[] binders) {
+        if (maxStatements <= 0 || (parameterBinders.size() >= maxStatements && !parameterBinders.containsKey(sql))) {
+            return;
+        }
+        parameterBinders.put(sql, binders);
+    }
+
+    /**
+     * Clears the cache when the connection pool is closed.
+     */
+    public void clear() {
+        parameterBinders.clear();
+    }
+}
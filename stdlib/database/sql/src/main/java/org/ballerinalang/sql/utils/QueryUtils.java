@@ -17,6 +17,7 @@
  */
 package org.ballerinalang.sql.utils;
 
+import org.ballerinalang.jvm.BRuntime;
 import org.ballerinalang.jvm.BallerinaValues;
 import org.ballerinalang.jvm.scheduling.Scheduler;
 import org.ballerinalang.jvm.scheduling.Strand;
@@ -44,17 +45,14 @@ import org.ballerinalang.sql.exception.ApplicationError;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
-import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.sql.Types;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.List;
-import java.util.Locale;
 import java.util.Map;
-import java.util.Set;
 
 /**
  * This class provides the util implementation which executes sql queries.
@@ -63,12 +61,19 @@ import java.util.Set;
  */
 public class QueryUtils {
 
+    private static final int FETCH_SIZE = Utils.getConfigAsInt(Constants.QUERY_FETCH_SIZE_CONFIG, 0, 0);
+
     public static StreamValue nativeQuery(ObjectValue client, Object paramSQLString,
                                           Object recordType) {
-        Object dbClient = client.getNativeData(Constants.DATABASE_CLIENT);
         Strand strand = Scheduler.getStrand();
+        return (StreamValue) BRuntime.executeBlocking(() -> query(strand, client, paramSQLString, recordType));
+    }
+
+    private static StreamValue query(Strand strand, ObjectValue client, Object paramSQLString, Object recordType) {
+        Object dbClient = client.getNativeData(Constants.DATABASE_CLIENT);
         if (dbClient != null) {
             SQLDatasource sqlDatasource = (SQLDatasource) dbClient;
+            ParameterBinderCache binderCache = sqlDatasource.getParameterBinderCache();
             Connection connection = null;
             PreparedStatement statement = null;
             ResultSet resultSet = null;
@@ -81,34 +86,19 @@ public class QueryUtils {
                 }
                 connection = SQLDatasourceUtils.getConnection(strand, client, sqlDatasource);
                 statement = connection.prepareStatement(sqlQuery);
+                if (FETCH_SIZE > 0) {
+                    statement.setFetchSize(FETCH_SIZE);
+                }
                 if (paramSQLString instanceof AbstractObjectValue) {
-                    Utils.setParams(connection, statement, (AbstractObjectValue) paramSQLString);
+                    Utils.setParams(connection, statement, (AbstractObjectValue) paramSQLString, binderCache, sqlQuery);
                 }
                 resultSet = statement.executeQuery();
-                List<ColumnDefinition> columnDefinitions;
-                BStructureType streamConstraint;
-                if (recordType == null) {
-                    columnDefinitions = getColumnDefinitions(resultSet, null);
-                    BRecordType defaultRecord = getDefaultStreamConstraint();
-                    Map<String, BField> fieldMap = new HashMap<>();
-                    for (ColumnDefinition column : columnDefinitions) {
-                        int flags = Flags.PUBLIC;
-                        if (column.isNullable()) {
-                            flags += Flags.OPTIONAL;
-                        } else {
-                            flags += Flags.REQUIRED;
-                        }
-                        fieldMap.put(column.getColumnName(), new BField(column.getBallerinaType(),
-                                column.getColumnName(), flags));
-                    }
-                    defaultRecord.setFields(fieldMap);
-                    streamConstraint = defaultRecord;
-                } else {
-                    streamConstraint = (BStructureType) ((TypedescValue) recordType).getDescribingType();
-                    columnDefinitions = getColumnDefinitions(resultSet, streamConstraint);
-                }
-                return new StreamValue(new BStreamType(streamConstraint), createRecordIterator(resultSet,
-                        statement, connection, columnDefinitions, streamConstraint));
+                BStructureType recordConstraint = recordType == null ? null :
+                        (BStructureType) ((TypedescValue) recordType).getDescribingType();
+                ColumnDefinitionCache.Definitions definitions = getColumnDefinitions(resultSet, recordConstraint);
+                return new StreamValue(new BStreamType(definitions.streamConstraint), createRecordIterator(resultSet,
+                        statement, connection, definitions.columnDefinitions,
+                        definitions.streamConstraint));
             } catch (SQLException e) {
                 Utils.closeResources(strand, resultSet, statement, connection);
                 ErrorValue errorValue = ErrorGenerator.getSQLDatabaseError(e,
@@ -152,28 +142,42 @@ public class QueryUtils {
         return defaultRecord;
     }
 
-    private static List<ColumnDefinition> getColumnDefinitions(ResultSet resultSet, BStructureType streamConstraint)
+    private static ColumnDefinitionCache.Definitions getColumnDefinitions(ResultSet resultSet,
+                                                                   BStructureType recordConstraint)
             throws SQLException, ApplicationError {
+        ColumnDefinitionCache.ResultColumns columns = new ColumnDefinitionCache.ResultColumns(resultSet.getMetaData(),
+                                                                                              recordConstraint);
+        ColumnDefinitionCache.Definitions definitions = ColumnDefinitionCache.get(columns);
+        if (definitions != null) {
+            return definitions;
+        }
+
         List<ColumnDefinition> columnDefs = new ArrayList<>();
-        Set<String> columnNames = new HashSet<>();
-        ResultSetMetaData rsMetaData = resultSet.getMetaData();
-        int cols = rsMetaData.getColumnCount();
-        for (int i = 1; i <= cols; i++) {
-            String colName = rsMetaData.getColumnLabel(i);
-            if (columnNames.contains(colName)) {
-                String tableName = rsMetaData.getTableName(i).toUpperCase(Locale.getDefault());
-                colName = tableName + "." + colName;
-            }
-            int sqlType = rsMetaData.getColumnType(i);
-            String sqlTypeName = rsMetaData.getColumnTypeName(i);
-            boolean isNullable = true;
-            if (rsMetaData.isNullable(i) == ResultSetMetaData.columnNoNulls) {
-                isNullable = false;
+        for (int i = 0; i < columns.names.length; i++) {
+            columnDefs.add(generateColumnDefinition(columns.names[i], columns.sqlTypes[i], columns.sqlTypeNames[i],
+                                                    recordConstraint, columns.nullable[i]));
+        }
+        BStructureType streamConstraint = recordConstraint;
+        if (recordConstraint == null) {
+            BRecordType defaultRecord = getDefaultStreamConstraint();
+            Map<String, BField> fieldMap = new HashMap<>();
+            for (ColumnDefinition column : columnDefs) {
+                int flags = Flags.PUBLIC;
+                if (column.isNullable()) {
+                    flags += Flags.OPTIONAL;
+                } else {
+                    flags += Flags.REQUIRED;
+                }
+                fieldMap.put(column.getColumnName(), new BField(column.getBallerinaType(),
+                        column.getColumnName(), flags));
             }
-            columnDefs.add(generateColumnDefinition(colName, sqlType, sqlTypeName, streamConstraint, isNullable));
-            columnNames.add(colName);
+            defaultRecord.setFields(fieldMap);
+            streamConstraint = defaultRecord;
         }
-        return columnDefs;
+        definitions = new ColumnDefinitionCache.Definitions(Collections.unmodifiableList(columnDefs),
+                                                            streamConstraint);
+        ColumnDefinitionCache.put(columns, definitions);
+        return definitions;
     }
 
     private static ColumnDefinition generateColumnDefinition(String columnName, int sqlType, String sqlTypeName,
@@ -206,8 +210,8 @@ public class QueryUtils {
     }
 
     private static ObjectValue createRecordIterator(ResultSet resultSet,
-                                                    Statement statement,
-                                                    Connection connection, List<ColumnDefinition> columnDefinitions,
+                                                    Statement statement, Connection connection,
+                                                    List<ColumnDefinition> columnDefinitions,
                                                     BStructureType streamConstraint) {
         ObjectValue resultIterator = BallerinaValues.createObjectValue(Constants.SQL_PACKAGE_ID,
                 Constants.RESULT_ITERATOR_OBJECT, new Object[1]);
@@ -19,12 +19,14 @@ package org.ballerinalang.sql.utils;
 
 
 import org.ballerinalang.jvm.JSONParser;
-import org.ballerinalang.jvm.StringUtils;
 import org.ballerinalang.jvm.types.BArrayType;
 import org.ballerinalang.jvm.types.BStructureType;
 import org.ballerinalang.jvm.types.BType;
 import org.ballerinalang.jvm.types.TypeTags;
 import org.ballerinalang.jvm.util.exceptions.BallerinaException;
+import org.ballerinalang.jvm.values.ArrayValue;
+import org.ballerinalang.jvm.values.ArrayValueImpl;
+import org.ballerinalang.jvm.values.ErrorValue;
 import org.ballerinalang.jvm.values.MapValue;
 import org.ballerinalang.jvm.values.MapValueImpl;
 import org.ballerinalang.jvm.values.ObjectValue;
@@ -58,35 +60,65 @@ import java.util.TimeZone;
  * @since 1.2.0
  */
 public class RecordItertorUtils {
+    private static final int BATCH_SIZE = Utils.getConfigAsInt(Constants.QUERY_BATCH_SIZE_CONFIG,
+                                                               Constants.DEFAULT_QUERY_BATCH_SIZE, 1);
     private static Calendar calendar = Calendar.getInstance(TimeZone.getTimeZone(Constants.TIMEZONE_UTC.getValue()));
 
-    public static Object nextResult(ObjectValue recordIterator) {
+    /**
+     * Reads the next batch of rows of the result set, so that the rows are read from the driver in a tight loop
+     * rather than one call from the stream for each row. If reading a row fails after some rows are read, the rows
+     * are returned and the error is returned by the next call.
+     *
+     * @param recordIterator the result iterator
+     * @return the rows of the batch, which are none at the end of the result set, or an error
+     */
+    public static Object nextBatch(ObjectValue recordIterator) {
+        Object pendingError = recordIterator.getNativeData(Constants.PENDING_ERROR_DATA_FIELD);
+        if (pendingError != null) {
+            recordIterator.addNativeData(Constants.PENDING_ERROR_DATA_FIELD, null);
+            return pendingError;
+        }
         ResultSet resultSet = (ResultSet) recordIterator.getNativeData(Constants.RESULT_SET_NATIVE_DATA_FIELD);
+        BStructureType streamConstraint = (BStructureType) recordIterator
+                .getNativeData(Constants.RECORD_TYPE_DATA_FIELD);
+        List<ColumnDefinition> columnDefinitions = (List<ColumnDefinition>) recordIterator
+                .getNativeData(Constants.COLUMN_DEFINITIONS_DATA_FIELD);
+        ArrayValue rows = new ArrayValueImpl(new BArrayType(streamConstraint));
         try {
-            if (resultSet.next()) {
-                BStructureType streamConstraint = (BStructureType) recordIterator.
-                        getNativeData(Constants.RECORD_TYPE_DATA_FIELD);
-                MapValue<BString, Object> bStruct = new MapValueImpl<>(streamConstraint);
-                List<ColumnDefinition> columnDefinitions = (List<ColumnDefinition>) recordIterator
-                        .getNativeData(Constants.COLUMN_DEFINITIONS_DATA_FIELD);
-                for (int i = 0; i < columnDefinitions.size(); i++) {
-                    ColumnDefinition columnDefinition = columnDefinitions.get(i);
-                    bStruct.put(StringUtils.fromString(columnDefinition.getBallerinaFieldName()),
-                                getResult(resultSet, i + 1, columnDefinition));
-                }
-                return bStruct;
-            } else {
-                return null;
+            while (rows.size() < BATCH_SIZE && resultSet.next()) {
+                rows.append(getRecord(resultSet, streamConstraint, columnDefinitions));
             }
-        } catch (SQLException e) {
-            return ErrorGenerator.getSQLDatabaseError(e, "Error when iterating the SQL result");
-        } catch (IOException | ApplicationError e) {
-            return ErrorGenerator.getSQLApplicationError("Error when iterating the SQL result. "
-                    + e.getMessage());
+            return rows;
         } catch (Throwable throwable) {
-            return ErrorGenerator.getSQLApplicationError("Error when iterating through the " +
-                    "SQL result. " + throwable.getMessage());
+            ErrorValue error = getIterationError(throwable);
+            if (rows.size() == 0) {
+                return error;
+            }
+            recordIterator.addNativeData(Constants.PENDING_ERROR_DATA_FIELD, error);
+            return rows;
+        }
+    }
+
+    private static MapValue<BString, Object> getRecord(ResultSet resultSet, BStructureType streamConstraint,
+                                                       List<ColumnDefinition> columnDefinitions)
+            throws SQLException, ApplicationError, IOException {
+        MapValue<BString, Object> bStruct = new MapValueImpl<>(streamConstraint);
+        for (int i = 0; i < columnDefinitions.size(); i++) {
+            ColumnDefinition columnDefinition = columnDefinitions.get(i);
+            bStruct.put(columnDefinition.getBallerinaFieldKey(), getResult(resultSet, i + 1, columnDefinition));
+        }
+        return bStruct;
+    }
+
+    private static ErrorValue getIterationError(Throwable throwable) {
+        if (throwable instanceof SQLException) {
+            return ErrorGenerator.getSQLDatabaseError((SQLException) throwable, "Error when iterating the SQL result");
+        } else if (throwable instanceof IOException || throwable instanceof ApplicationError) {
+            return ErrorGenerator.getSQLApplicationError("Error when iterating the SQL result. "
+                    + throwable.getMessage());
         }
+        return ErrorGenerator.getSQLApplicationError("Error when iterating through the " +
+                "SQL result. " + throwable.getMessage());
     }
 
     private static Object getResult(ResultSet resultSet, int columnIndex, ColumnDefinition columnDefinition)
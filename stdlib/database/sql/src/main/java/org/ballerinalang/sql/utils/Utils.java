@@ -18,6 +18,7 @@
 
 package org.ballerinalang.sql.utils;
 
+import org.ballerinalang.config.ConfigRegistry;
 import org.ballerinalang.jvm.StringUtils;
 import org.ballerinalang.jvm.TypeChecker;
 import org.ballerinalang.jvm.XMLFactory;
@@ -37,7 +38,6 @@ import org.ballerinalang.jvm.values.DecimalValue;
 import org.ballerinalang.jvm.values.MapValue;
 import org.ballerinalang.jvm.values.MapValueImpl;
 import org.ballerinalang.jvm.values.ObjectValue;
-import org.ballerinalang.jvm.values.XMLValue;
 import org.ballerinalang.jvm.values.api.BString;
 import org.ballerinalang.jvm.values.api.BValue;
 import org.ballerinalang.jvm.values.api.BValueCreator;
@@ -48,6 +48,8 @@ import org.ballerinalang.stdlib.io.channels.base.CharacterChannel;
 import org.ballerinalang.stdlib.io.readers.CharacterChannelReader;
 import org.ballerinalang.stdlib.io.utils.IOConstants;
 import org.ballerinalang.stdlib.time.util.TimeUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import java.io.BufferedReader;
 import java.io.IOException;
@@ -91,6 +93,7 @@ class Utils {
     private static final BArrayType intArrayType = new BArrayType(BTypes.typeInt);
     private static final BArrayType floatArrayType = new BArrayType(BTypes.typeFloat);
     private static final BArrayType decimalArrayType = new BArrayType(BTypes.typeDecimal);
+    private static final Logger log = LoggerFactory.getLogger(Utils.class);
 
     static void closeResources(Strand strand, ResultSet resultSet, Statement statement, Connection connection) {
         if (resultSet != null) {
@@ -115,6 +118,33 @@ class Utils {
         }
     }
 
+    static int getConfigAsInt(String key, int defaultValue) {
+        ConfigRegistry configRegistry = ConfigRegistry.getInstance();
+        if (!configRegistry.contains(key)) {
+            return defaultValue;
+        }
+        return Math.toIntExact(configRegistry.getAsInt(key));
+    }
+
+    /**
+     * Returns an int config value, which falls back to the default value with a warning if it is less than the
+     * minimum value.
+     *
+     * @param key          the config key
+     * @param defaultValue the value used if the key is not configured or the configured value is invalid
+     * @param minValue     the minimum valid value
+     * @return the config value
+     */
+    static int getConfigAsInt(String key, int defaultValue, int minValue) {
+        int value = getConfigAsInt(key, defaultValue);
+        if (value < minValue) {
+            log.warn("Invalid value {} for {}, which has to be at least {}. Using the default value {} instead.",
+                     value, key, minValue, defaultValue);
+            return defaultValue;
+        }
+        return value;
+    }
+
     static String getSqlQuery(AbstractObjectValue paramString) {
         ArrayValue stringsArray = paramString.getArrayValue(Constants.ParameterizedQueryFields.STRINGS);
         StringBuilder sqlQuery = new StringBuilder();
@@ -127,49 +157,46 @@ class Utils {
         return sqlQuery.toString();
     }
 
-    static void setParams(Connection connection, PreparedStatement preparedStatement, AbstractObjectValue paramString)
-        throws SQLException, ApplicationError, IOException {
+    static void setParams(Connection connection, PreparedStatement preparedStatement, AbstractObjectValue paramString,
+                          ParameterBinderCache binderCache, String sqlQuery)
+            throws SQLException, ApplicationError, IOException {
+        ParameterBinder[] binders = binderCache.get(sqlQuery);
+        ParameterBinder[] usedBinders = setParams(connection, preparedStatement, paramString, binders);
+        if (usedBinders != binders) {
+            binderCache.put(sqlQuery, usedBinders);
+        }
+    }
+
+    /**
+     * Sets the parameters of a statement, reusing the given binders for the parameters whose type has not changed.
+     *
+     * @param binders the binders of the previous parameters, which are not modified, or null if there are none
+     * @return the binders of the parameters, which are the given binders if none of them changed
+     */
+    static ParameterBinder[] setParams(Connection connection, PreparedStatement preparedStatement,
+                                       AbstractObjectValue paramString, ParameterBinder[] binders)
+            throws SQLException, ApplicationError, IOException {
         ArrayValue arrayValue = paramString.getArrayValue(Constants.ParameterizedQueryFields.INSERTIONS);
-        for (int i = 0; i < arrayValue.size(); i++) {
+        int size = arrayValue.size();
+        ParameterBinder[] usedBinders = binders != null && binders.length == size ? binders :
+                new ParameterBinder[size];
+        for (int i = 0; i < size; i++) {
             Object object = arrayValue.get(i);
             int index = i + 1;
-            if (object == null) {
-                preparedStatement.setNull(index, Types.NULL);
-            } else if (object instanceof BString) {
-                preparedStatement.setString(index, object.toString());
-            } else if (object instanceof Long) {
-                preparedStatement.setLong(index, (Long) object);
-            } else if (object instanceof Double) {
-                preparedStatement.setDouble(index, (Double) object);
-            } else if (object instanceof DecimalValue) {
-                preparedStatement.setBigDecimal(index, ((DecimalValue) object).decimalValue());
-            } else if (object instanceof Boolean) {
-                preparedStatement.setBoolean(index, (Boolean) object);
-            } else if (object instanceof ArrayValue) {
-                ArrayValue objectArray = (ArrayValue) object;
-                if (objectArray.getElementType().getTag() == org.wso2.ballerinalang.compiler.util.TypeTags.BYTE) {
-                    preparedStatement.setBytes(index, objectArray.getBytes());
-                } else {
-                    throw new ApplicationError("Only byte[] is supported can be set directly into " +
-                            "ParameterizedQuery, any other array types should be wrapped as sql:Value");
+            ParameterBinder binder = usedBinders[i];
+            if (binder == null || !binder.accepts(object)) {
+                binder = ParameterBinder.of(object, index);
+                if (usedBinders == binders) {
+                    usedBinders = binders.clone();
                 }
-            } else if (object instanceof ObjectValue) {
-                ObjectValue objectValue = (ObjectValue) object;
-                if ((objectValue.getType().getTag() == TypeTags.OBJECT_TYPE_TAG)) {
-                    setSqlTypedParam(connection, preparedStatement, index, objectValue);
-                } else {
-                    throw new ApplicationError("Unsupported type:" +
-                            objectValue.getType().getQualifiedName() + " in column index: " + index);
-                }
-            } else if (object instanceof XMLValue) {
-                preparedStatement.setObject(index, ((XMLValue) object).getTextValue(), Types.SQLXML);
-            } else {
-                throw new ApplicationError("Unsupported type passed in column index: " + index);
+                usedBinders[i] = binder;
             }
+            binder.bind(connection, preparedStatement, index, object);
         }
+        return usedBinders;
     }
 
-    private static void setSqlTypedParam(Connection connection, PreparedStatement preparedStatement, int index,
+    static void setSqlTypedParam(Connection connection, PreparedStatement preparedStatement, int index,
                                          ObjectValue typedValue)
             throws SQLException, ApplicationError, IOException {
         String sqlType = typedValue.getType().getName();
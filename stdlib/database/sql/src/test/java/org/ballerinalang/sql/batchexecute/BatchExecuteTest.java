@@ -18,6 +18,7 @@
 package org.ballerinalang.sql.batchexecute;
 
 import org.ballerinalang.model.values.BError;
+import org.ballerinalang.model.values.BInteger;
 import org.ballerinalang.model.values.BMap;
 import org.ballerinalang.model.values.BString;
 import org.ballerinalang.model.values.BValue;
@@ -80,6 +81,34 @@ public class BatchExecuteTest {
         Assert.assertEquals(result.get(Constants.AFFECTED_ROW_COUNT_FIELD).intValue(), 1);
     }
 
+    @Test
+    public void testInsertIntoStreamDataTable() {
+        BValue[] returns = BRunUtil.invokeFunction(result, "insertIntoStreamDataTable", args);
+        SQLDBUtils.assertNotError(returns[0]);
+        BValueArray batchResult = (BValueArray) returns[0];
+        Assert.assertEquals(((BInteger) batchResult.getRefValue(0)).intValue(), 3);
+        BValueArray executionResults = (BValueArray) batchResult.getRefValue(1);
+        Assert.assertEquals(executionResults.size(), 25);
+        long firstId = ((BMap<String, BValueType>) executionResults.getRefValue(0))
+                .get(Constants.LAST_INSERTED_ID_FIELD).intValue();
+        for (int i = 0; i < 25; i++) {
+            BMap<String, BValueType> result = (BMap<String, BValueType>) executionResults.getRefValue(i);
+            Assert.assertEquals(result.get(Constants.AFFECTED_ROW_COUNT_FIELD).intValue(), 1);
+            Assert.assertEquals(result.get(Constants.LAST_INSERTED_ID_FIELD).intValue(), firstId + i);
+        }
+    }
+
+    @Test
+    public void testInsertIntoStreamDataTableFailure() {
+        BValue[] returns = BRunUtil.invokeFunction(result, "insertIntoStreamDataTableFailure", args);
+        SQLDBUtils.assertNotError(returns[0]);
+        BValueArray batchResult = (BValueArray) returns[0];
+        Assert.assertEquals(((BInteger) batchResult.getRefValue(0)).intValue(), 10);
+        Assert.assertTrue(batchResult.getRefValue(1) instanceof BError);
+        Assert.assertTrue(((BError) batchResult.getRefValue(1)).getMessage()
+                .contains("Error while executing batch command starting with"));
+    }
+
     private void validateResult(BValue[] returns, int[] rowCount, int[] lastId) {
         SQLDBUtils.assertNotError(returns[0]);
         Assert.assertTrue(returns[0] instanceof BValueArray);
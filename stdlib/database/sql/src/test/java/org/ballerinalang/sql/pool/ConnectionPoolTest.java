@@ -273,4 +273,18 @@ public class ConnectionPoolTest {
         Assert.assertTrue(connections1.equalsIgnoreCase(connections2), "Connections are not equal. Connections1: "
                 + connections1 + " , connections2: " + connections2);
     }
+
+    @Test
+    public void testParameterBinderCache() {
+        BValue[] args = {new BString(URL1)};
+        BValue[] returns = BRunUtil.invokeFunction(result, "testParameterBinderCache", args);
+        SQLDBUtils.assertNotError(returns[0]);
+        Assert.assertTrue(returns[0] instanceof BValueArray);
+        BValueArray returnArray = (BValueArray) returns[0];
+        long[] expectedCounts = {1, 1, 2, 0, 2, 2, 1, 1, 2, 2, 0, 2};
+        Assert.assertEquals(returnArray.size(), expectedCounts.length);
+        for (int i = 0; i < expectedCounts.length; i++) {
+            Assert.assertEquals(returnArray.getInt(i), expectedCounts[i], "count " + i);
+        }
+    }
 }
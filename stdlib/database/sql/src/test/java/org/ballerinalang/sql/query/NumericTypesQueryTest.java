@@ -199,4 +199,16 @@ public class NumericTypesQueryTest {
         Assert.assertNull(result.get("REAL_TYPE"));
     }
 
+    @Test(description = "Test querying more rows than a batch of the result iterator")
+    public void testQueryInBatches() {
+        BValue[] returnVal = BRunUtil.invokeFunction(result, "testQueryInBatches", args);
+        Assert.assertTrue(returnVal[0] instanceof BValueArray);
+        BValueArray results = (BValueArray) returnVal[0];
+        Assert.assertEquals(results.size(), 6);
+        for (int i = 0; i < 2; i++) {
+            Assert.assertEquals(results.getInt(i * 3), 250);
+            Assert.assertEquals(results.getInt(i * 3 + 1), 62750);
+            Assert.assertEquals(results.getInt(i * 3 + 2), 250);
+        }
+    }
 }
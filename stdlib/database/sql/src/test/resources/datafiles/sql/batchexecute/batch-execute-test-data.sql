@@ -13,3 +13,10 @@ INSERT INTO DataTable (int_type, long_type, float_type)
 INSERT INTO DataTable (int_type, long_type, float_type)
   VALUES(2, 9372036854774807, 124.34);
 /
+
+CREATE TABLE IF NOT EXISTS StreamDataTable(
+  id INT IDENTITY,
+  int_type     INTEGER UNIQUE,
+  PRIMARY KEY (id)
+);
+/
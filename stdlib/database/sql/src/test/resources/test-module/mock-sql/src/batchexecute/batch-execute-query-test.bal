@@ -54,3 +54,45 @@ returns sql:ExecutionResult[]|sql:Error? {
     check dbClient.close();
     return result;
 }
+
+function insertIntoStreamDataTable(string url, string user, string password)
+returns @tainted [int, sql:ExecutionResult[]]|error {
+    int[] intValues = [];
+    foreach int i in 1 ... 25 {
+        intValues.push(i);
+    }
+    stream<sql:ParameterizedQuery> sqlQueries = stream from var intVal in intValues
+        select `INSERT INTO StreamDataTable (int_type) VALUES (${intVal})`;
+    mockclient:Client dbClient = check new (url = url, user = user, password = password);
+    stream<sql:ExecutionResult[], sql:Error> resultStream = dbClient->batchExecuteStream(sqlQueries, 10);
+    int batchCount = 0;
+    sql:ExecutionResult[] executionResults = [];
+    error? e = resultStream.forEach(function(sql:ExecutionResult[] batchResults) {
+        batchCount += 1;
+        foreach var result in batchResults {
+            executionResults.push(result);
+        }
+    });
+    check dbClient.close();
+    check e;
+    return [batchCount, executionResults];
+}
+
+function insertIntoStreamDataTableFailure(string url, string user, string password)
+returns @tainted [int, error?]|error {
+    int[] intValues = [];
+    foreach int i in 101 ... 112 {
+        intValues.push(i);
+    }
+    intValues.push(101);
+    stream<sql:ParameterizedQuery> sqlQueries = stream from var intVal in intValues
+        select `INSERT INTO StreamDataTable (int_type) VALUES (${intVal})`;
+    mockclient:Client dbClient = check new (url = url, user = user, password = password);
+    stream<sql:ExecutionResult[], sql:Error> resultStream = dbClient->batchExecuteStream(sqlQueries, 10);
+    int resultCount = 0;
+    error? e = resultStream.forEach(function(sql:ExecutionResult[] batchResults) {
+        resultCount += batchResults.length();
+    });
+    check dbClient.close();
+    return [resultCount, e];
+}
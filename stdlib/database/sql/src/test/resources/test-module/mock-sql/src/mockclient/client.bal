@@ -50,6 +50,16 @@ public type Client client object {
         }
     }
 
+    public remote function batchExecuteStream(@untainted stream<sql:ParameterizedQuery, error> sqlQueries,
+                                              int batchSize = 1000) returns stream<sql:ExecutionResult[], sql:Error> {
+        if (self.clientActive) {
+            return sql:generateBatchExecuteStream(self, sqlQueries, batchSize);
+        } else {
+            return sql:generateApplicationErrorBatchStream("SQL Client is already closed, "
+                + "hence further operations are not allowed");
+        }
+    }
+
     public function close() returns sql:Error? {
         self.clientActive = false;
         return close(self);
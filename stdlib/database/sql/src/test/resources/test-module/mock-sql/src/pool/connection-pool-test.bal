@@ -418,6 +418,29 @@ public type Variable record {
     string variable_name;
 };
 
+function testParameterBinderCache(string url) returns @tainted int[]|error {
+    // The parameter binders are cached for two statements, so the binders of the third statement are not cached.
+    sql:ConnectionPool pool = {maxOpenConnections: 2, statementCacheSize: 2};
+    mockclient:Client dbClient = check new (url = url, user = user, password = password, connectionPool = pool,
+        connectionPoolOptions = connectionPoolOptions);
+    int[] returnArray = [];
+    foreach int i in 1 ... 3 {
+        int id = i;
+        sql:IntegerValue typedId = new (i);
+        // The type of the parameter of the same statement changes, which replaces its cached binder each time.
+        returnArray.push(check getReturnValue(dbClient->query(
+            `select count(*) as val from Customers where registrationID <= ${id}`, Result)));
+        returnArray.push(check getReturnValue(dbClient->query(
+            `select count(*) as val from Customers where registrationID <= ${typedId}`, Result)));
+        returnArray.push(check getReturnValue(dbClient->query(
+            `select count(*) as val from Customers where registrationID >= ${id}`, Result)));
+        returnArray.push(check getReturnValue(dbClient->query(
+            `select count(*) as val from Customers where registrationID < ${id}`, Result)));
+    }
+    check dbClient.close();
+    return returnArray;
+}
+
 function getOpenConnectionCount(string url) returns @tainted (int|error) {
     mockclient:Client dbClient = check new (url = url, user = user, password = password, connectionPool = {maxOpenConnections: 1}, connectionPoolOptions = connectionPoolOptions);
     var dt = dbClient->query("show status where `variable_name` = 'Threads_connected'", Variable);
@@ -189,3 +189,41 @@ function testQueryFromNullTable(string url, string user, string password) return
     check dbClient.close();
     return returnData;
 }
+
+type NumericBatchType record {
+    int id;
+    int int_type;
+};
+
+function testQueryInBatches(string url, string user, string password) returns @tainted int[]|error {
+    mockclient:Client dbClient = check new (url = url, user = user, password = password);
+    _ = check dbClient->execute("CREATE TABLE NumericBatchTypes (id INTEGER NOT NULL, int_type INTEGER)");
+    foreach int i in 1 ... 250 {
+        _ = check dbClient->execute(<@untainted> ("INSERT INTO NumericBatchTypes (id, int_type) VALUES (" +
+            i.toString() + ", " + (i * 2).toString() + ")"));
+    }
+    int[] results = [];
+    foreach int i in 1 ... 2 {
+        stream<record{}, sql:Error> streamData = dbClient->query("SELECT * FROM NumericBatchTypes ORDER BY id");
+        int count = 0;
+        int sum = 0;
+        error? e = streamData.forEach(function(record {} data) {
+            count += 1;
+            sum += <int>data["INT_TYPE"];
+        });
+        check e;
+        results.push(count, sum);
+
+        stream<record{}, error> streamResult = dbClient->query("SELECT * FROM NumericBatchTypes ORDER BY id",
+            NumericBatchType);
+        stream<NumericBatchType, sql:Error> typedStream = <stream<NumericBatchType, sql:Error>>streamResult;
+        int lastId = 0;
+        e = typedStream.forEach(function(NumericBatchType data) {
+            lastId = data.id;
+        });
+        check e;
+        results.push(lastId);
+    }
+    check dbClient.close();
+    return results;
+}
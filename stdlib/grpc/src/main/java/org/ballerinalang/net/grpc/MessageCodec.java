@@ -0,0 +1,1032 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.ballerinalang.net.grpc;
+
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.CodedOutputStream;
+import com.google.protobuf.Descriptors;
+import com.google.protobuf.WireFormat;
+import org.ballerinalang.jvm.StringUtils;
+import org.ballerinalang.jvm.types.BArrayType;
+import org.ballerinalang.jvm.types.BRecordType;
+import org.ballerinalang.jvm.types.BType;
+import org.ballerinalang.jvm.types.BTypes;
+import org.ballerinalang.jvm.types.BUnionType;
+import org.ballerinalang.jvm.types.TypeTags;
+import org.ballerinalang.jvm.values.ArrayValue;
+import org.ballerinalang.jvm.values.MapValue;
+import org.ballerinalang.jvm.values.api.BMap;
+import org.ballerinalang.jvm.values.api.BString;
+import org.ballerinalang.jvm.values.api.BValueCreator;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Encodes and decodes the Ballerina values of a proto3 message type.
+ * <p>
+ * A codec is compiled once from the descriptor of a message type. The field names are created as Ballerina strings,
+ * and the tags, types and enum values of the fields are resolved once, so that messages are read from and written to
+ * the coded streams without looking them up in the descriptor again. Codecs are cached in the {@link MessageRegistry}
+ * by descriptor, and the codecs of the message fields are looked up there once they are first used.
+ *
+ * @since 2.0.0
+ */
+final class MessageCodec {
+
+    private static final String GOOGLE_PROTOBUF_ANY_TYPE_URL = "google.protobuf.Any.type_url";
+    private static final int MAX_INDEXED_TAG = 1 << 11;
+
+    private static final BArrayType stringArrayType = new BArrayType(BTypes.typeString);
+    private static final BArrayType booleanArrayType = new BArrayType(BTypes.typeBoolean);
+    private static final BArrayType intArrayType = new BArrayType(BTypes.typeInt);
+    private static final BArrayType floatArrayType = new BArrayType(BTypes.typeFloat);
+
+    private final Descriptors.Descriptor descriptor;
+    private final FieldCodec[] fields;
+    private final FieldCodec[] fieldsByTag;
+    private final Map<Integer, FieldCodec> fieldsByLargeTag = new HashMap<>();
+
+    MessageCodec(Descriptors.Descriptor descriptor) {
+        this.descriptor = descriptor;
+        List<Descriptors.FieldDescriptor> fieldDescriptors = descriptor.getFields();
+        this.fields = new FieldCodec[fieldDescriptors.size()];
+        int maxTag = 0;
+        for (int i = 0; i < fields.length; i++) {
+            fields[i] = new FieldCodec(fieldDescriptors.get(i));
+            // Repeated scalar fields are read whether they are packed or not, so they are found by both tags.
+            for (int tag : new int[]{fields[i].tag, fields[i].packedTag}) {
+                if (tag < 0) {
+                    continue;
+                } else if (tag < MAX_INDEXED_TAG) {
+                    maxTag = Math.max(maxTag, tag);
+                } else {
+                    fieldsByLargeTag.put(tag, fields[i]);
+                }
+            }
+        }
+        this.fieldsByTag = new FieldCodec[maxTag + 1];
+        for (FieldCodec field : fields) {
+            if (field.tag < MAX_INDEXED_TAG) {
+                fieldsByTag[field.tag] = field;
+            }
+            if (field.packedTag >= 0 && field.packedTag < MAX_INDEXED_TAG) {
+                fieldsByTag[field.packedTag] = field;
+            }
+        }
+    }
+
+    Descriptors.Descriptor getDescriptor() {
+        return descriptor;
+    }
+
+    /**
+     * Reads a message as a value of the given type. Fields with unknown tags are skipped, and enum fields which are
+     * not in the message have their default value.
+     *
+     * @param bType the type of the message value, which is a record type for messages with more than one field
+     * @param input the input stream, or null to create the default value of the message
+     * @return the message value
+     * @throws IOException if the message cannot be read from the stream
+     */
+    Object decode(BType bType, CodedInputStream input) throws IOException {
+        if (bType instanceof BUnionType && ((BUnionType) bType).isNullable()) {
+            List<BType> memberTypes = ((BUnionType) bType).getMemberTypes();
+            if (memberTypes.size() != 2) {
+                throw Status.Code.INTERNAL.toStatus().withDescription("Error while decoding request " +
+                        "message. Field type is not a valid optional field type : " +
+                        bType.getName()).asRuntimeException();
+            }
+            for (BType memberType : memberTypes) {
+                if (memberType.getTag() != TypeTags.NULL_TAG) {
+                    bType = memberType;
+                    break;
+                }
+            }
+        }
+
+        BMap<BString, Object> bMapValue = null;
+        if (bType.getTag() == TypeTags.RECORD_TYPE_TAG) {
+            bMapValue = BValueCreator.createRecordValue(bType.getPackage(), bType.getName());
+        }
+        if (input == null) {
+            return getDefaultValue(bMapValue);
+        }
+
+        Object bMessage = bMapValue;
+        int tag;
+        while ((tag = input.readTag()) != 0) {
+            FieldCodec field = findField(tag);
+            if (field == null) {
+                input.skipField(tag);
+            } else if (bMapValue == null) {
+                if (tag == field.tag) {
+                    bMessage = field.readValue(bType, input, bMessage);
+                } else {
+                    input.skipField(tag);
+                }
+            } else if (tag == field.tag) {
+                field.readField(bMapValue, bType, input);
+            } else {
+                field.readPackedField(bMapValue, bType, input);
+            }
+        }
+        if (bMapValue != null) {
+            // Default values may not be written, so an enum field which is not in the message has its first value.
+            for (FieldCodec field : fields) {
+                if (field.type == Descriptors.FieldDescriptor.Type.ENUM && !field.repeated &&
+                        !bMapValue.containsKey(field.name)) {
+                    bMapValue.put(field.name, field.getEnumName(0));
+                }
+            }
+        }
+        return bMessage;
+    }
+
+    /**
+     * Writes the fields of a message value.
+     *
+     * @param bMessage the message value
+     * @param output the output stream
+     * @throws IOException if the message cannot be written to the stream
+     */
+    @SuppressWarnings("unchecked")
+    void writeTo(Object bMessage, CodedOutputStream output) throws IOException {
+        if (bMessage == null) {
+            return;
+        }
+        if (bMessage instanceof MapValue) {
+            MapValue<BString, Object> bMapValue = (MapValue<BString, Object>) bMessage;
+            for (FieldCodec field : fields) {
+                Object bValue = bMapValue.get(field.name);
+                if (bValue != null || bMapValue.containsKey(field.name)) {
+                    field.writeField(bValue, output);
+                } else {
+                    field.checkSupported("Error while writing output stream. ");
+                }
+            }
+        } else {
+            for (FieldCodec field : fields) {
+                field.writeValue(bMessage, output);
+            }
+        }
+    }
+
+    /**
+     * Computes the size of the fields of a message value.
+     *
+     * @param bMessage the message value
+     * @return the size of the message in bytes
+     */
+    @SuppressWarnings("unchecked")
+    int computeSize(Object bMessage) {
+        if (bMessage == null) {
+            return 0;
+        }
+        int size = 0;
+        if (bMessage instanceof MapValue) {
+            MapValue<BString, Object> bMapValue = (MapValue<BString, Object>) bMessage;
+            for (FieldCodec field : fields) {
+                Object bValue = bMapValue.get(field.name);
+                if (bValue != null || bMapValue.containsKey(field.name)) {
+                    size += field.computeFieldSize(bValue);
+                } else {
+                    field.checkSupported("Error while calculating the serialized type. ");
+                }
+            }
+        } else {
+            for (FieldCodec field : fields) {
+                size += field.computeValueSize(bMessage);
+            }
+        }
+        return size;
+    }
+
+    private FieldCodec findField(int tag) {
+        if (tag >= 0 && tag < fieldsByTag.length) {
+            return fieldsByTag[tag];
+        }
+        return tag < MAX_INDEXED_TAG ? null : fieldsByLargeTag.get(tag);
+    }
+
+    private Object getDefaultValue(BMap<BString, Object> bMapValue) {
+        if (bMapValue != null) {
+            for (FieldCodec field : fields) {
+                if (field.type == Descriptors.FieldDescriptor.Type.MESSAGE && !field.repeated) {
+                    bMapValue.put(field.name, null);
+                } else if (field.type == Descriptors.FieldDescriptor.Type.ENUM) {
+                    bMapValue.put(field.name, field.getEnumName(0));
+                }
+            }
+            return bMapValue;
+        }
+        // Here the message should have only one field. Because the value can assign to one scalar field.
+        Object bMessage = null;
+        for (FieldCodec field : fields) {
+            switch (field.type) {
+                case DOUBLE:
+                case FLOAT:
+                    bMessage = (double) 0;
+                    break;
+                case INT64:
+                case UINT64:
+                case INT32:
+                case FIXED64:
+                case FIXED32:
+                    bMessage = (long) 0;
+                    break;
+                case STRING:
+                    bMessage = StringUtils.fromString("");
+                    break;
+                case BOOL:
+                    bMessage = Boolean.FALSE;
+                    break;
+                default:
+                    throw Status.Code.INTERNAL.toStatus().withDescription("Error while decoding request " +
+                            "message. Field type is not supported : " + field.type).asRuntimeException();
+            }
+        }
+        return bMessage;
+    }
+
+    private static ArrayValue getArrayField(BMap<BString, Object> bMapValue, BString name, BArrayType arrayType) {
+        ArrayValue array = (ArrayValue) bMapValue.get(name);
+        if (array == null) {
+            array = (ArrayValue) BValueCreator.createArrayValue(arrayType);
+            bMapValue.put(name, array);
+        }
+        return array;
+    }
+
+    private static double toDouble(float value) {
+        return Double.parseDouble(String.valueOf(value));
+    }
+
+    private static float toFloat(Object value) {
+        return Float.parseFloat(String.valueOf(value));
+    }
+
+    private static int getIntValue(Object value) {
+        if (value instanceof Long) {
+            return ((Long) value).intValue();
+        }
+        return (int) value;
+    }
+
+    /**
+     * Reads and writes a field of a message.
+     */
+    private static class FieldCodec {
+
+        private final Descriptors.FieldDescriptor fieldDescriptor;
+        private final Descriptors.FieldDescriptor.Type type;
+        private final BString name;
+        private final int number;
+        private final int tag;
+        private final int packedTag;
+        private final boolean repeated;
+        private final boolean packed;
+        private final boolean anyTypeUrl;
+        private final Map<Integer, BString> enumNames;
+        private final Map<String, Integer> enumNumbers;
+        private MessageCodec messageCodec;
+
+        FieldCodec(Descriptors.FieldDescriptor fieldDescriptor) {
+            this.fieldDescriptor = fieldDescriptor;
+            this.type = fieldDescriptor.getType();
+            this.name = StringUtils.fromString(fieldDescriptor.getName());
+            this.number = fieldDescriptor.getNumber();
+            this.tag = (number << 3) + MessageUtils.getFieldWireType(type);
+            this.repeated = fieldDescriptor.isRepeated();
+            boolean packable = repeated && fieldDescriptor.isPackable();
+            this.packedTag = packable ? (number << 3) + WireFormat.WIRETYPE_LENGTH_DELIMITED : -1;
+            this.packed = packable && fieldDescriptor.isPacked();
+            this.anyTypeUrl = fieldDescriptor.getFullName().equals(GOOGLE_PROTOBUF_ANY_TYPE_URL);
+            this.enumNames = new HashMap<>();
+            this.enumNumbers = new HashMap<>();
+            if (type == Descriptors.FieldDescriptor.Type.ENUM) {
+                for (Descriptors.EnumValueDescriptor enumValue : fieldDescriptor.getEnumType().getValues()) {
+                    enumNames.putIfAbsent(enumValue.getNumber(), StringUtils.fromString(enumValue.toString()));
+                    enumNumbers.putIfAbsent(enumValue.getName(), enumValue.getNumber());
+                }
+            }
+        }
+
+        /**
+         * Reads the field into a record value.
+         */
+        void readField(BMap<BString, Object> bMapValue, BType bType, CodedInputStream input) throws IOException {
+            switch (type) {
+                case DOUBLE:
+                    if (repeated) {
+                        ArrayValue array = getArrayField(bMapValue, name, floatArrayType);
+                        array.add(array.size(), input.readDouble());
+                    } else {
+                        bMapValue.put(name, input.readDouble());
+                    }
+                    break;
+                case FLOAT:
+                    if (repeated) {
+                        ArrayValue array = getArrayField(bMapValue, name, floatArrayType);
+                        array.add(array.size(), toDouble(input.readFloat()));
+                    } else {
+                        bMapValue.put(name, toDouble(input.readFloat()));
+                    }
+                    break;
+                case INT64:
+                    if (repeated) {
+                        ArrayValue array = getArrayField(bMapValue, name, intArrayType);
+                        array.add(array.size(), input.readInt64());
+                    } else {
+                        bMapValue.put(name, input.readInt64());
+                    }
+                    break;
+                case UINT64:
+                    if (repeated) {
+                        ArrayValue array = getArrayField(bMapValue, name, intArrayType);
+                        array.add(array.size(), input.readUInt64());
+                    } else {
+                        bMapValue.put(name, input.readUInt64());
+                    }
+                    break;
+                case INT32:
+                    if (repeated) {
+                        ArrayValue array = getArrayField(bMapValue, name, intArrayType);
+                        array.add(array.size(), input.readInt32());
+                    } else {
+                        bMapValue.put(name, (long) input.readInt32());
+                    }
+                    break;
+                case FIXED64:
+                    if (repeated) {
+                        ArrayValue array = getArrayField(bMapValue, name, intArrayType);
+                        array.add(array.size(), input.readFixed64());
+                    } else {
+                        bMapValue.put(name, input.readFixed64());
+                    }
+                    break;
+                case FIXED32:
+                    if (repeated) {
+                        ArrayValue array = getArrayField(bMapValue, name, intArrayType);
+                        array.add(array.size(), input.readFixed32());
+                    } else {
+                        bMapValue.put(name, (long) input.readFixed32());
+                    }
+                    break;
+                case BOOL:
+                    if (repeated) {
+                        ArrayValue array = getArrayField(bMapValue, name, booleanArrayType);
+                        array.add(array.size(), input.readBool());
+                    } else {
+                        bMapValue.put(name, input.readBool());
+                    }
+                    break;
+                case STRING:
+                    if (repeated) {
+                        ArrayValue array = getArrayField(bMapValue, name, stringArrayType);
+                        array.add(array.size(), StringUtils.fromString(input.readStringRequireUtf8()));
+                    } else {
+                        bMapValue.put(name, StringUtils.fromString(input.readStringRequireUtf8()));
+                    }
+                    break;
+                case ENUM:
+                    if (repeated) {
+                        ArrayValue array = getArrayField(bMapValue, name, stringArrayType);
+                        array.add(array.size(), getEnumName(input.readEnum()));
+                    } else {
+                        bMapValue.put(name, getEnumName(input.readEnum()));
+                    }
+                    break;
+                case BYTES:
+                    bMapValue.put(name, BValueCreator.createArrayValue(input.readByteArray()));
+                    break;
+                case MESSAGE:
+                    BType fieldType = getRecordType(bType).getFields().get(name.getValue()).getFieldType();
+                    if (repeated) {
+                        ArrayValue structArray = (ArrayValue) bMapValue.get(name);
+                        if (structArray == null || structArray.size() == 0) {
+                            structArray = (ArrayValue) BValueCreator.createArrayValue((BArrayType) fieldType);
+                            bMapValue.put(name, structArray);
+                        }
+                        structArray.add(structArray.size(),
+                                        readMessage(((BArrayType) fieldType).getElementType(), input));
+                    } else {
+                        bMapValue.put(name, readMessage(fieldType, input));
+                    }
+                    break;
+                default:
+                    throw Status.Code.INTERNAL.toStatus().withDescription("Error while decoding request message. " +
+                            "Field type is not supported : " + type).asRuntimeException();
+            }
+        }
+
+        /**
+         * Reads the packed values of a repeated field into a record value.
+         */
+        void readPackedField(BMap<BString, Object> bMapValue, BType bType, CodedInputStream input)
+                throws IOException {
+            int length = input.readRawVarint32();
+            int oldLimit = input.pushLimit(length);
+            while (input.getBytesUntilLimit() > 0) {
+                readField(bMapValue, bType, input);
+            }
+            input.popLimit(oldLimit);
+        }
+
+        /**
+         * Reads the field as the value of a message which is not a record.
+         */
+        Object readValue(BType bType, CodedInputStream input, Object bMessage) throws IOException {
+            switch (type) {
+                case DOUBLE:
+                    return input.readDouble();
+                case FLOAT:
+                    return toDouble(input.readFloat());
+                case INT64:
+                    return input.readInt64();
+                case UINT64:
+                    return input.readUInt64();
+                case INT32:
+                    return (long) input.readInt32();
+                case FIXED64:
+                    return input.readFixed64();
+                case FIXED32:
+                    return (long) input.readFixed32();
+                case BOOL:
+                    return input.readBool();
+                case STRING:
+                    if (anyTypeUrl) {
+                        // The value of a google.protobuf.Any message is its bytes, without the type url.
+                        input.skipRawBytes(input.readRawVarint32());
+                        return bMessage;
+                    }
+                    return StringUtils.fromString(input.readStringRequireUtf8());
+                case ENUM:
+                    return getEnumName(input.readEnum());
+                case BYTES:
+                    return BValueCreator.createArrayValue(input.readByteArray());
+                case MESSAGE:
+                    BType fieldType = getRecordType(bType).getFields().get(name.getValue()).getFieldType();
+                    return readMessage(fieldType, input);
+                default:
+                    throw Status.Code.INTERNAL.toStatus().withDescription("Error while decoding request message. " +
+                            "Field type is not supported : " + type).asRuntimeException();
+            }
+        }
+
+        /**
+         * Writes the value of the field of a record.
+         */
+        void writeField(Object bValue, CodedOutputStream output) throws IOException {
+            if (packed && bValue instanceof ArrayValue) {
+                writePackedField((ArrayValue) bValue, output);
+                return;
+            }
+            switch (type) {
+                case DOUBLE:
+                    if (bValue instanceof ArrayValue) {
+                        ArrayValue valueArray = (ArrayValue) bValue;
+                        for (int i = 0; i < valueArray.size(); i++) {
+                            output.writeDouble(number, valueArray.getFloat(i));
+                        }
+                    } else {
+                        output.writeDouble(number, (Double) bValue);
+                    }
+                    break;
+                case FLOAT:
+                    if (bValue instanceof ArrayValue) {
+                        ArrayValue valueArray = (ArrayValue) bValue;
+                        for (int i = 0; i < valueArray.size(); i++) {
+                            output.writeFloat(number, toFloat(valueArray.getFloat(i)));
+                        }
+                    } else {
+                        output.writeFloat(number, toFloat(bValue));
+                    }
+                    break;
+                case INT64:
+                    if (bValue instanceof ArrayValue) {
+                        ArrayValue valueArray = (ArrayValue) bValue;
+                        for (int i = 0; i < valueArray.size(); i++) {
+                            output.writeInt64(number, valueArray.getInt(i));
+                        }
+                    } else {
+                        output.writeInt64(number, (long) bValue);
+                    }
+                    break;
+                case UINT64:
+                    if (bValue instanceof ArrayValue) {
+                        ArrayValue valueArray = (ArrayValue) bValue;
+                        for (int i = 0; i < valueArray.size(); i++) {
+                            output.writeUInt64(number, valueArray.getInt(i));
+                        }
+                    } else {
+                        output.writeUInt64(number, (long) bValue);
+                    }
+                    break;
+                case INT32:
+                    if (bValue instanceof ArrayValue) {
+                        ArrayValue valueArray = (ArrayValue) bValue;
+                        for (int i = 0; i < valueArray.size(); i++) {
+                            output.writeInt32(number, getIntValue(valueArray.getInt(i)));
+                        }
+                    } else {
+                        output.writeInt32(number, getIntValue(bValue));
+                    }
+                    break;
+                case FIXED64:
+                    if (bValue instanceof ArrayValue) {
+                        ArrayValue valueArray = (ArrayValue) bValue;
+                        for (int i = 0; i < valueArray.size(); i++) {
+                            output.writeFixed64(number, valueArray.getInt(i));
+                        }
+                    } else {
+                        output.writeFixed64(number, (long) bValue);
+                    }
+                    break;
+                case FIXED32:
+                    if (bValue instanceof ArrayValue) {
+                        ArrayValue valueArray = (ArrayValue) bValue;
+                        for (int i = 0; i < valueArray.size(); i++) {
+                            output.writeFixed32(number, getIntValue(valueArray.getInt(i)));
+                        }
+                    } else {
+                        output.writeFixed32(number, getIntValue(bValue));
+                    }
+                    break;
+                case BOOL:
+                    if (bValue instanceof ArrayValue) {
+                        ArrayValue valueArray = (ArrayValue) bValue;
+                        for (int i = 0; i < valueArray.size(); i++) {
+                            output.writeBool(number, valueArray.getBoolean(i));
+                        }
+                    } else {
+                        output.writeBool(number, (boolean) bValue);
+                    }
+                    break;
+                case STRING:
+                    if (bValue instanceof ArrayValue) {
+                        ArrayValue valueArray = (ArrayValue) bValue;
+                        for (int i = 0; i < valueArray.size(); i++) {
+                            output.writeString(number, valueArray.getBString(i).getValue());
+                        }
+                    } else {
+                        output.writeString(number, ((BString) bValue).getValue());
+                    }
+                    break;
+                case MESSAGE:
+                    // The value of a google.protobuf.Any field is a byte array, which is not a repeated field.
+                    if (repeated) {
+                        ArrayValue valueArray = (ArrayValue) bValue;
+                        for (int i = 0; i < valueArray.size(); i++) {
+                            writeMessage(valueArray.getRefValue(i), output);
+                        }
+                    } else {
+                        writeMessage(bValue, output);
+                    }
+                    break;
+                case ENUM:
+                    if (bValue instanceof ArrayValue) {
+                        ArrayValue valueArray = (ArrayValue) bValue;
+                        for (int i = 0; i < valueArray.size(); i++) {
+                            output.writeEnum(number, getEnumNumber(valueArray.getBString(i)));
+                        }
+                    } else {
+                        output.writeEnum(number, getEnumNumber((BString) bValue));
+                    }
+                    break;
+                case BYTES:
+                    if (bValue instanceof ArrayValue) {
+                        output.writeByteArray(number, ((ArrayValue) bValue).getBytes());
+                    }
+                    break;
+                default:
+                    throw Status.Code.INTERNAL.toStatus().withDescription("Error while writing output stream. " +
+                            "Field type is not supported : " + type).asRuntimeException();
+            }
+        }
+
+        /**
+         * Writes the value of a message which is not a record, if it is a value of the field.
+         */
+        void writeValue(Object bMessage, CodedOutputStream output) throws IOException {
+            switch (type) {
+                case DOUBLE:
+                    if (bMessage instanceof Double) {
+                        output.writeDouble(number, (Double) bMessage);
+                    }
+                    break;
+                case FLOAT:
+                    if (bMessage instanceof Double) {
+                        output.writeFloat(number, toFloat(bMessage));
+                    }
+                    break;
+                case INT64:
+                    if (bMessage instanceof Long) {
+                        output.writeInt64(number, (long) bMessage);
+                    }
+                    break;
+                case UINT64:
+                    if (bMessage instanceof Long) {
+                        output.writeUInt64(number, (long) bMessage);
+                    }
+                    break;
+                case INT32:
+                    if (bMessage instanceof Long) {
+                        output.writeInt32(number, getIntValue(bMessage));
+                    }
+                    break;
+                case FIXED64:
+                    if (bMessage instanceof Long) {
+                        output.writeFixed64(number, (long) bMessage);
+                    }
+                    break;
+                case FIXED32:
+                    if (bMessage instanceof Long) {
+                        output.writeFixed32(number, getIntValue(bMessage));
+                    }
+                    break;
+                case BOOL:
+                    if (bMessage instanceof Boolean) {
+                        output.writeBool(number, (boolean) bMessage);
+                    }
+                    break;
+                case STRING:
+                    if (bMessage instanceof BString && !anyTypeUrl) {
+                        output.writeString(number, ((BString) bMessage).getValue());
+                    }
+                    break;
+                case BYTES:
+                    if (bMessage instanceof ArrayValue) {
+                        output.writeByteArray(number, ((ArrayValue) bMessage).getBytes());
+                    }
+                    break;
+                case MESSAGE:
+                case ENUM:
+                    break;
+                default:
+                    throw Status.Code.INTERNAL.toStatus().withDescription("Error while writing output stream. " +
+                            "Field type is not supported : " + type).asRuntimeException();
+            }
+        }
+
+        /**
+         * Computes the size of the value of the field of a record.
+         */
+        int computeFieldSize(Object bValue) {
+            if (packed && bValue instanceof ArrayValue) {
+                int dataSize = computePackedDataSize((ArrayValue) bValue);
+                return dataSize == 0 ? 0 : CodedOutputStream.computeTagSize(number) +
+                        CodedOutputStream.computeUInt32SizeNoTag(dataSize) + dataSize;
+            }
+            int size = 0;
+            switch (type) {
+                case DOUBLE:
+                    if (bValue instanceof ArrayValue) {
+                        ArrayValue valueArray = (ArrayValue) bValue;
+                        for (int i = 0; i < valueArray.size(); i++) {
+                            size += CodedOutputStream.computeDoubleSize(number, valueArray.getFloat(i));
+                        }
+                    } else {
+                        size += CodedOutputStream.computeDoubleSize(number, (double) bValue);
+                    }
+                    break;
+                case FLOAT:
+                    if (bValue instanceof ArrayValue) {
+                        ArrayValue valueArray = (ArrayValue) bValue;
+                        for (int i = 0; i < valueArray.size(); i++) {
+                            size += CodedOutputStream.computeFloatSize(number, toFloat(valueArray.getFloat(i)));
+                        }
+                    } else {
+                        size += CodedOutputStream.computeFloatSize(number, toFloat(bValue));
+                    }
+                    break;
+                case INT64:
+                    if (bValue instanceof ArrayValue) {
+                        ArrayValue valueArray = (ArrayValue) bValue;
+                        for (int i = 0; i < valueArray.size(); i++) {
+                            size += CodedOutputStream.computeInt64Size(number, valueArray.getInt(i));
+                        }
+                    } else {
+                        size += CodedOutputStream.computeInt64Size(number, (long) bValue);
+                    }
+                    break;
+                case UINT64:
+                    if (bValue instanceof ArrayValue) {
+                        ArrayValue valueArray = (ArrayValue) bValue;
+                        for (int i = 0; i < valueArray.size(); i++) {
+                            size += CodedOutputStream.computeUInt64Size(number, valueArray.getInt(i));
+                        }
+                    } else {
+                        size += CodedOutputStream.computeUInt64Size(number, (long) bValue);
+                    }
+                    break;
+                case INT32:
+                    if (bValue instanceof ArrayValue) {
+                        ArrayValue valueArray = (ArrayValue) bValue;
+                        for (int i = 0; i < valueArray.size(); i++) {
+                            size += CodedOutputStream.computeInt32Size(number, getIntValue(valueArray.getInt(i)));
+                        }
+                    } else {
+                        size += CodedOutputStream.computeInt32Size(number, getIntValue(bValue));
+                    }
+                    break;
+                case FIXED64:
+                    if (bValue instanceof ArrayValue) {
+                        ArrayValue valueArray = (ArrayValue) bValue;
+                        for (int i = 0; i < valueArray.size(); i++) {
+                            size += CodedOutputStream.computeFixed64Size(number, valueArray.getInt(i));
+                        }
+                    } else {
+                        size += CodedOutputStream.computeFixed64Size(number, (long) bValue);
+                    }
+                    break;
+                case FIXED32:
+                    if (bValue instanceof ArrayValue) {
+                        ArrayValue valueArray = (ArrayValue) bValue;
+                        for (int i = 0; i < valueArray.size(); i++) {
+                            size += CodedOutputStream.computeFixed32Size(number, getIntValue(valueArray.getInt(i)));
+                        }
+                    } else {
+                        size += CodedOutputStream.computeFixed32Size(number, getIntValue(bValue));
+                    }
+                    break;
+                case BOOL:
+                    if (bValue instanceof ArrayValue) {
+                        ArrayValue valueArray = (ArrayValue) bValue;
+                        for (int i = 0; i < valueArray.size(); i++) {
+                            size += CodedOutputStream.computeBoolSize(number, valueArray.getBoolean(i));
+                        }
+                    } else {
+                        size += CodedOutputStream.computeBoolSize(number, (boolean) bValue);
+                    }
+                    break;
+                case STRING:
+                    if (bValue instanceof ArrayValue) {
+                        ArrayValue valueArray = (ArrayValue) bValue;
+                        for (int i = 0; i < valueArray.size(); i++) {
+                            size += CodedOutputStream.computeStringSize(number, valueArray.getBString(i).getValue());
+                        }
+                    } else {
+                        size += CodedOutputStream.computeStringSize(number, ((BString) bValue).getValue());
+                    }
+                    break;
+                case MESSAGE:
+                    if (repeated) {
+                        ArrayValue valueArray = (ArrayValue) bValue;
+                        for (int i = 0; i < valueArray.size(); i++) {
+                            size += computeMessageSize(valueArray.getRefValue(i));
+                        }
+                    } else {
+                        size += computeMessageSize(bValue);
+                    }
+                    break;
+                case ENUM:
+                    if (bValue instanceof ArrayValue) {
+                        ArrayValue valueArray = (ArrayValue) bValue;
+                        for (int i = 0; i < valueArray.size(); i++) {
+                            size += CodedOutputStream.computeEnumSize(number, getEnumNumber(valueArray.getBString(i)));
+                        }
+                    } else {
+                        size += CodedOutputStream.computeEnumSize(number, getEnumNumber((BString) bValue));
+                    }
+                    break;
+                case BYTES:
+                    if (bValue instanceof ArrayValue) {
+                        size += CodedOutputStream.computeByteArraySize(number, ((ArrayValue) bValue).getBytes());
+                    }
+                    break;
+                default:
+                    throw Status.Code.INTERNAL.toStatus().withDescription(
+                            "Error while calculating the serialized type. Field type is not supported : "
+                                    + type).asRuntimeException();
+            }
+            return size;
+        }
+
+        /**
+         * Writes the values of a packed repeated field, which are written as one length delimited value.
+         */
+        private void writePackedField(ArrayValue valueArray, CodedOutputStream output) throws IOException {
+            int dataSize = computePackedDataSize(valueArray);
+            if (dataSize == 0) {
+                return;
+            }
+            output.writeTag(number, WireFormat.WIRETYPE_LENGTH_DELIMITED);
+            output.writeUInt32NoTag(dataSize);
+            for (int i = 0; i < valueArray.size(); i++) {
+                switch (type) {
+                    case DOUBLE:
+                        output.writeDoubleNoTag(valueArray.getFloat(i));
+                        break;
+                    case FLOAT:
+                        output.writeFloatNoTag(toFloat(valueArray.getFloat(i)));
+                        break;
+                    case INT64:
+                        output.writeInt64NoTag(valueArray.getInt(i));
+                        break;
+                    case UINT64:
+                        output.writeUInt64NoTag(valueArray.getInt(i));
+                        break;
+                    case INT32:
+                        output.writeInt32NoTag(getIntValue(valueArray.getInt(i)));
+                        break;
+                    case FIXED64:
+                        output.writeFixed64NoTag(valueArray.getInt(i));
+                        break;
+                    case FIXED32:
+                        output.writeFixed32NoTag(getIntValue(valueArray.getInt(i)));
+                        break;
+                    case BOOL:
+                        output.writeBoolNoTag(valueArray.getBoolean(i));
+                        break;
+                    case ENUM:
+                        output.writeEnumNoTag(getEnumNumber(valueArray.getBString(i)));
+                        break;
+                    default:
+                        throw Status.Code.INTERNAL.toStatus().withDescription("Error while writing output stream. " +
+                                "Field type cannot be packed : " + type).asRuntimeException();
+                }
+            }
+        }
+
+        /**
+         * Computes the size of the values of a packed repeated field, without its tag and length.
+         */
+        private int computePackedDataSize(ArrayValue valueArray) {
+            int size = 0;
+            for (int i = 0; i < valueArray.size(); i++) {
+                switch (type) {
+                    case DOUBLE:
+                        size += CodedOutputStream.computeDoubleSizeNoTag(valueArray.getFloat(i));
+                        break;
+                    case FLOAT:
+                        size += CodedOutputStream.computeFloatSizeNoTag(toFloat(valueArray.getFloat(i)));
+                        break;
+                    case INT64:
+                        size += CodedOutputStream.computeInt64SizeNoTag(valueArray.getInt(i));
+                        break;
+                    case UINT64:
+                        size += CodedOutputStream.computeUInt64SizeNoTag(valueArray.getInt(i));
+                        break;
+                    case INT32:
+                        size += CodedOutputStream.computeInt32SizeNoTag(getIntValue(valueArray.getInt(i)));
+                        break;
+                    case FIXED64:
+                        size += CodedOutputStream.computeFixed64SizeNoTag(valueArray.getInt(i));
+                        break;
+                    case FIXED32:
+                        size += CodedOutputStream.computeFixed32SizeNoTag(getIntValue(valueArray.getInt(i)));
+                        break;
+                    case BOOL:
+                        size += CodedOutputStream.computeBoolSizeNoTag(valueArray.getBoolean(i));
+                        break;
+                    case ENUM:
+                        size += CodedOutputStream.computeEnumSizeNoTag(getEnumNumber(valueArray.getBString(i)));
+                        break;
+                    default:
+                        throw Status.Code.INTERNAL.toStatus().withDescription(
+                                "Error while calculating the serialized type. Field type cannot be packed : "
+                                        + type).asRuntimeException();
+                }
+            }
+            return size;
+        }
+
+        /**
+         * Computes the size of the value of a message which is not a record, if it is a value of the field.
+         */
+        int computeValueSize(Object bMessage) {
+            switch (type) {
+                case DOUBLE:
+                    return bMessage instanceof Double ? CodedOutputStream.computeDoubleSize(number, (double) bMessage)
+                            : 0;
+                case FLOAT:
+                    return bMessage instanceof Double ? CodedOutputStream.computeFloatSize(number, toFloat(bMessage))
+                            : 0;
+                case INT64:
+                    return bMessage instanceof Long ? CodedOutputStream.computeInt64Size(number, (long) bMessage) : 0;
+                case UINT64:
+                    return bMessage instanceof Long ? CodedOutputStream.computeUInt64Size(number, (long) bMessage) : 0;
+                case INT32:
+                    return bMessage instanceof Long ?
+                            CodedOutputStream.computeInt32Size(number, getIntValue(bMessage)) : 0;
+                case FIXED64:
+                    return bMessage instanceof Long ? CodedOutputStream.computeFixed64Size(number, (long) bMessage) : 0;
+                case FIXED32:
+                    return bMessage instanceof Long ?
+                            CodedOutputStream.computeFixed32Size(number, getIntValue(bMessage)) : 0;
+                case BOOL:
+                    return bMessage instanceof Boolean ?
+                            CodedOutputStream.computeBoolSize(number, (boolean) bMessage) : 0;
+                case STRING:
+                    return bMessage instanceof BString ?
+                            CodedOutputStream.computeStringSize(number, ((BString) bMessage).getValue()) : 0;
+                case BYTES:
+                    return bMessage instanceof ArrayValue ?
+                            CodedOutputStream.computeByteArraySize(number, ((ArrayValue) bMessage).getBytes()) : 0;
+                case MESSAGE:
+                case ENUM:
+                    return 0;
+                default:
+                    throw Status.Code.INTERNAL.toStatus().withDescription(
+                            "Error while calculating the serialized type. Field type is not supported : "
+                                    + type).asRuntimeException();
+            }
+        }
+
+        /**
+         * Fails for fields of unsupported types, which cannot be written even if the record does not have them.
+         */
+        void checkSupported(String errorPrefix) {
+            switch (type) {
+                case DOUBLE:
+                case FLOAT:
+                case INT64:
+                case UINT64:
+                case INT32:
+                case FIXED64:
+                case FIXED32:
+                case BOOL:
+                case STRING:
+                case MESSAGE:
+                case ENUM:
+                case BYTES:
+                    return;
+                default:
+                    throw Status.Code.INTERNAL.toStatus().withDescription(errorPrefix +
+                            "Field type is not supported : " + type).asRuntimeException();
+            }
+        }
+
+        private BRecordType getRecordType(BType bType) {
+            if (bType instanceof BRecordType) {
+                return (BRecordType) bType;
+            }
+            throw Status.Code.INTERNAL.toStatus().withDescription("Error while decoding request " +
+                    "message. record type is not supported : " + type).asRuntimeException();
+        }
+
+        private Object readMessage(BType bType, CodedInputStream input) throws IOException {
+            int length = input.readRawVarint32();
+            int oldLimit = input.pushLimit(length);
+            Object bMessage = getMessageCodec().decode(bType, input);
+            input.popLimit(oldLimit);
+            return bMessage;
+        }
+
+        private void writeMessage(Object bMessage, CodedOutputStream output) throws IOException {
+            MessageCodec codec = getMessageCodec();
+            output.writeTag(number, WireFormat.WIRETYPE_LENGTH_DELIMITED);
+            output.writeUInt32NoTag(codec.computeSize(bMessage));
+            codec.writeTo(bMessage, output);
+        }
+
+        private int computeMessageSize(Object bMessage) {
+            int messageSize = getMessageCodec().computeSize(bMessage);
+            return CodedOutputStream.computeTagSize(number) + CodedOutputStream.computeUInt32SizeNoTag(messageSize) +
+                    messageSize;
+        }
+
+        private MessageCodec getMessageCodec() {
+            // Created on first use, as message types may refer to themselves.
+            MessageCodec codec = messageCodec;
+            if (codec == null) {
+                codec = MessageRegistry.getInstance().getMessageCodec(fieldDescriptor.getMessageType());
+                messageCodec = codec;
+            }
+            return codec;
+        }
+
+        private BString getEnumName(int enumNumber) {
+            BString enumName = enumNames.get(enumNumber);
+            if (enumName == null) {
+                return StringUtils.fromString(
+                        fieldDescriptor.getEnumType().findValueByNumber(enumNumber).toString());
+            }
+            return enumName;
+        }
+
+        private int getEnumNumber(BString enumName) {
+            Integer enumNumber = enumNumbers.get(enumName.getValue());
+            if (enumNumber == null) {
+                return fieldDescriptor.getEnumType().findValueByName(enumName.getValue()).getNumber();
+            }
+            return enumNumber;
+        }
+    }
+}
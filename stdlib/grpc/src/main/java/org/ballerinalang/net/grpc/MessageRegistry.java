@@ -20,6 +20,7 @@ import com.google.protobuf.Descriptors;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Proto Message Registry.
@@ -30,6 +31,9 @@ import java.util.Map;
 public class MessageRegistry {
 
     private Map<String, Descriptors.Descriptor> messageDescriptors = new HashMap<>();
+    // Descriptors do not override equals, so the codecs are cached by the identity of their descriptor, which also
+    // separates descriptors of the same message name.
+    private Map<Descriptors.Descriptor, MessageCodec> messageCodecs = new ConcurrentHashMap<>();
 
     private static volatile MessageRegistry messageRegistry = new MessageRegistry();
 
@@ -47,6 +51,35 @@ public class MessageRegistry {
         return messageDescriptors.get(messageName);
     }
 
+    /**
+     * Returns the codec of a message, which is compiled once from the current descriptor of the message.
+     *
+     * @param messageName name of the message
+     * @return the codec, or null if there is no descriptor for the message
+     */
+    MessageCodec getMessageCodec(String messageName) {
+        Descriptors.Descriptor messageDescriptor = messageDescriptors.get(messageName);
+        if (messageDescriptor == null) {
+            return null;
+        }
+        return getMessageCodec(messageDescriptor);
+    }
+
+    /**
+     * Returns the codec of a message descriptor, which is compiled once for each descriptor.
+     *
+     * @param messageDescriptor descriptor of the message
+     * @return the codec
+     */
+    MessageCodec getMessageCodec(Descriptors.Descriptor messageDescriptor) {
+        MessageCodec codec = messageCodecs.get(messageDescriptor);
+        if (codec == null) {
+            // Compiling a codec does not look up other codecs, so it can be done within the map.
+            codec = messageCodecs.computeIfAbsent(messageDescriptor, MessageCodec::new);
+        }
+        return codec;
+    }
+
     public Map<String, Descriptors.Descriptor> getMessageDescriptorMap() {
         return Collections.unmodifiableMap(messageDescriptors);
     }
@@ -0,0 +1,482 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.ballerinalang.net.grpc;
+
+import com.google.protobuf.AnyProto;
+import com.google.protobuf.ByteString;
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.CodedOutputStream;
+import com.google.protobuf.DescriptorProtos;
+import com.google.protobuf.Descriptors;
+import com.google.protobuf.DynamicMessage;
+import com.google.protobuf.WrappersProto;
+import org.ballerinalang.jvm.StringUtils;
+import org.ballerinalang.jvm.scheduling.Scheduler;
+import org.ballerinalang.jvm.scheduling.Strand;
+import org.ballerinalang.jvm.types.BArrayType;
+import org.ballerinalang.jvm.types.BField;
+import org.ballerinalang.jvm.types.BPackage;
+import org.ballerinalang.jvm.types.BRecordType;
+import org.ballerinalang.jvm.types.BType;
+import org.ballerinalang.jvm.types.BTypes;
+import org.ballerinalang.jvm.types.BUnionType;
+import org.ballerinalang.jvm.values.ArrayValue;
+import org.ballerinalang.jvm.values.MapValue;
+import org.ballerinalang.jvm.values.MapValueImpl;
+import org.ballerinalang.jvm.values.ObjectValue;
+import org.ballerinalang.jvm.values.ValueCreator;
+import org.ballerinalang.jvm.values.api.BString;
+import org.testng.Assert;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static com.google.protobuf.DescriptorProtos.FieldDescriptorProto.Type.TYPE_BOOL;
+import static com.google.protobuf.DescriptorProtos.FieldDescriptorProto.Type.TYPE_BYTES;
+import static com.google.protobuf.DescriptorProtos.FieldDescriptorProto.Type.TYPE_DOUBLE;
+import static com.google.protobuf.DescriptorProtos.FieldDescriptorProto.Type.TYPE_ENUM;
+import static com.google.protobuf.DescriptorProtos.FieldDescriptorProto.Type.TYPE_FIXED32;
+import static com.google.protobuf.DescriptorProtos.FieldDescriptorProto.Type.TYPE_FIXED64;
+import static com.google.protobuf.DescriptorProtos.FieldDescriptorProto.Type.TYPE_FLOAT;
+import static com.google.protobuf.DescriptorProtos.FieldDescriptorProto.Type.TYPE_INT32;
+import static com.google.protobuf.DescriptorProtos.FieldDescriptorProto.Type.TYPE_INT64;
+import static com.google.protobuf.DescriptorProtos.FieldDescriptorProto.Type.TYPE_MESSAGE;
+import static com.google.protobuf.DescriptorProtos.FieldDescriptorProto.Type.TYPE_STRING;
+import static com.google.protobuf.DescriptorProtos.FieldDescriptorProto.Type.TYPE_UINT64;
+
+/**
+ * Tests for {@link MessageCodec}, which compare the messages it reads and writes with the messages of protobuf.
+ *
+ * @since 2.0.0
+ */
+public class MessageCodecTest {
+
+    private static final BPackage TEST_PACKAGE = new BPackage("grpc", "codec_test");
+
+    private final Map<String, BRecordType> recordTypes = new HashMap<>();
+    private Descriptors.FileDescriptor fileDescriptor;
+
+    @BeforeClass
+    public void setup() throws Descriptors.DescriptorValidationException {
+        DescriptorProtos.FileDescriptorProto fileProto = DescriptorProtos.FileDescriptorProto.newBuilder()
+                .setName("codec_test.proto")
+                .setPackage("codec_test")
+                .setSyntax("proto3")
+                .addDependency("google/protobuf/any.proto")
+                .addDependency("google/protobuf/wrappers.proto")
+                .addEnumType(DescriptorProtos.EnumDescriptorProto.newBuilder().setName("Status")
+                        .addValue(enumValue("UNKNOWN", 0))
+                        .addValue(enumValue("ACTIVE", 1))
+                        .addValue(enumValue("CLOSED", 2)))
+                .addMessageType(DescriptorProtos.DescriptorProto.newBuilder().setName("Scalars")
+                        .addField(field("d", 1, TYPE_DOUBLE))
+                        .addField(field("f", 2, TYPE_FLOAT))
+                        .addField(field("i64", 3, TYPE_INT64))
+                        .addField(field("u64", 4, TYPE_UINT64))
+                        .addField(field("i32", 5, TYPE_INT32))
+                        .addField(field("f64", 6, TYPE_FIXED64))
+                        .addField(field("f32", 7, TYPE_FIXED32))
+                        .addField(field("b", 8, TYPE_BOOL))
+                        .addField(field("s", 9, TYPE_STRING))
+                        .addField(field("bytes", 10, TYPE_BYTES))
+                        .addField(field("status", 11, TYPE_ENUM, ".codec_test.Status")))
+                .addMessageType(DescriptorProtos.DescriptorProto.newBuilder().setName("Repeated")
+                        .addField(repeated(field("packed_ints", 1, TYPE_INT64)))
+                        .addField(repeated(field("unpacked_ints", 2, TYPE_INT64)).toBuilder()
+                                .setOptions(DescriptorProtos.FieldOptions.newBuilder().setPacked(false)))
+                        .addField(repeated(field("doubles", 3, TYPE_DOUBLE)))
+                        .addField(repeated(field("fixed", 4, TYPE_FIXED32)))
+                        .addField(repeated(field("flags", 5, TYPE_BOOL)))
+                        .addField(repeated(field("names", 6, TYPE_STRING)))
+                        .addField(repeated(field("statuses", 7, TYPE_ENUM, ".codec_test.Status"))))
+                .addMessageType(DescriptorProtos.DescriptorProto.newBuilder().setName("Item")
+                        .addField(field("name", 1, TYPE_STRING))
+                        .addField(field("quantity", 2, TYPE_INT64)))
+                .addMessageType(DescriptorProtos.DescriptorProto.newBuilder().setName("Order")
+                        .addField(field("id", 1, TYPE_STRING))
+                        .addField(field("item", 2, TYPE_MESSAGE, ".codec_test.Item"))
+                        .addField(repeated(field("items", 3, TYPE_MESSAGE, ".codec_test.Item"))))
+                .addMessageType(DescriptorProtos.DescriptorProto.newBuilder().setName("Node")
+                        .addField(field("value", 1, TYPE_INT64))
+                        .addField(field("next", 2, TYPE_MESSAGE, ".codec_test.Node"))
+                        .addField(repeated(field("children", 3, TYPE_MESSAGE, ".codec_test.Node"))))
+                .addMessageType(DescriptorProtos.DescriptorProto.newBuilder().setName("Envelope")
+                        .addField(field("payload", 1, TYPE_MESSAGE, ".google.protobuf.Any"))
+                        .addField(field("note", 2, TYPE_MESSAGE, ".google.protobuf.StringValue"))
+                        .addField(field("count", 3, TYPE_MESSAGE, ".google.protobuf.Int64Value")))
+                .build();
+        fileDescriptor = Descriptors.FileDescriptor.buildFrom(fileProto, new Descriptors.FileDescriptor[]{
+                AnyProto.getDescriptor(), WrappersProto.getDescriptor()});
+
+        BArrayType intArrayType = new BArrayType(BTypes.typeInt);
+        BArrayType stringArrayType = new BArrayType(BTypes.typeString);
+        addRecordType("Scalars", "d", BTypes.typeFloat, "f", BTypes.typeFloat, "i64", BTypes.typeInt,
+                "u64", BTypes.typeInt, "i32", BTypes.typeInt, "f64", BTypes.typeInt, "f32", BTypes.typeInt,
+                "b", BTypes.typeBoolean, "s", BTypes.typeString, "bytes", new BArrayType(BTypes.typeByte),
+                "status", BTypes.typeString);
+        addRecordType("Repeated", "packed_ints", intArrayType, "unpacked_ints", intArrayType,
+                "doubles", new BArrayType(BTypes.typeFloat), "fixed", intArrayType,
+                "flags", new BArrayType(BTypes.typeBoolean), "names", stringArrayType, "statuses", stringArrayType);
+        BRecordType itemType = addRecordType("Item", "name", BTypes.typeString, "quantity", BTypes.typeInt);
+        addRecordType("Order", "id", BTypes.typeString, "item", nullable(itemType),
+                "items", new BArrayType(itemType));
+        BRecordType nodeType = addRecordType("Node");
+        nodeType.setFields(createFields("value", BTypes.typeInt, "next", nullable(nodeType),
+                "children", new BArrayType(nodeType)));
+        addRecordType("Envelope", "payload", new BArrayType(BTypes.typeByte), "note", nullable(BTypes.typeString),
+                "count", nullable(BTypes.typeInt));
+        ValueCreator.addValueCreator(TEST_PACKAGE.getOrg(), TEST_PACKAGE.getName(), TEST_PACKAGE.getVersion(),
+                new ValueCreator() {
+                    @Override
+                    public MapValue<BString, Object> createRecordValue(String recordTypeName) {
+                        return new MapValueImpl<>(recordTypes.get(recordTypeName));
+                    }
+
+                    @Override
+                    public ObjectValue createObjectValue(String objectTypeName, Scheduler scheduler, Strand parent,
+                                                         Map<String, Object> properties, Object[] args) {
+                        throw new UnsupportedOperationException();
+                    }
+                });
+    }
+
+    @Test(description = "Test reading and writing the scalar fields of a message")
+    public void testScalarFields() throws IOException {
+        Descriptors.Descriptor descriptor = getDescriptor("Scalars");
+        DynamicMessage message = DynamicMessage.newBuilder(descriptor)
+                .setField(descriptor.findFieldByName("d"), -2.25)
+                .setField(descriptor.findFieldByName("f"), 1.5f)
+                .setField(descriptor.findFieldByName("i64"), Long.MIN_VALUE)
+                .setField(descriptor.findFieldByName("u64"), -1L)
+                .setField(descriptor.findFieldByName("i32"), -7)
+                .setField(descriptor.findFieldByName("f64"), 1L << 40)
+                .setField(descriptor.findFieldByName("f32"), 65536)
+                .setField(descriptor.findFieldByName("b"), true)
+                .setField(descriptor.findFieldByName("s"), "héllo")
+                .setField(descriptor.findFieldByName("bytes"), ByteString.copyFrom(new byte[]{0, -1, 2}))
+                .setField(descriptor.findFieldByName("status"), getEnumValue("CLOSED"))
+                .build();
+
+        MapValue<BString, Object> bMessage = getRecord(assertRoundTrip(message, recordTypes.get("Scalars")));
+        Assert.assertEquals(get(bMessage, "d"), -2.25);
+        Assert.assertEquals(get(bMessage, "f"), 1.5);
+        Assert.assertEquals(get(bMessage, "i64"), Long.MIN_VALUE);
+        Assert.assertEquals(get(bMessage, "u64"), -1L);
+        Assert.assertEquals(get(bMessage, "i32"), -7L);
+        Assert.assertEquals(get(bMessage, "f64"), 1L << 40);
+        Assert.assertEquals(get(bMessage, "f32"), 65536L);
+        Assert.assertEquals(get(bMessage, "b"), true);
+        Assert.assertEquals(get(bMessage, "s").toString(), "héllo");
+        Assert.assertEquals(((ArrayValue) get(bMessage, "bytes")).getBytes(), new byte[]{0, -1, 2});
+        Assert.assertEquals(get(bMessage, "status").toString(), "CLOSED");
+    }
+
+    @Test(description = "Test reading and writing packed and unpacked repeated fields")
+    public void testRepeatedFields() throws IOException {
+        Descriptors.Descriptor descriptor = getDescriptor("Repeated");
+        Assert.assertTrue(descriptor.findFieldByName("packed_ints").isPacked());
+        Assert.assertFalse(descriptor.findFieldByName("unpacked_ints").isPacked());
+        DynamicMessage.Builder builder = DynamicMessage.newBuilder(descriptor);
+        for (long value : new long[]{1, -1, 300}) {
+            builder.addRepeatedField(descriptor.findFieldByName("packed_ints"), value);
+            builder.addRepeatedField(descriptor.findFieldByName("unpacked_ints"), value * 2);
+            builder.addRepeatedField(descriptor.findFieldByName("doubles"), value / 4.0);
+            builder.addRepeatedField(descriptor.findFieldByName("fixed"), (int) value + 1);
+            builder.addRepeatedField(descriptor.findFieldByName("flags"), value > 0);
+            builder.addRepeatedField(descriptor.findFieldByName("names"), "name" + value);
+        }
+        builder.addRepeatedField(descriptor.findFieldByName("statuses"), getEnumValue("ACTIVE"));
+        builder.addRepeatedField(descriptor.findFieldByName("statuses"), getEnumValue("UNKNOWN"));
+        DynamicMessage message = builder.build();
+
+        MapValue<BString, Object> bMessage = getRecord(assertRoundTrip(message, recordTypes.get("Repeated")));
+        Assert.assertEquals(((ArrayValue) get(bMessage, "packed_ints")).getIntArray(), new long[]{1, -1, 300});
+        Assert.assertEquals(((ArrayValue) get(bMessage, "unpacked_ints")).getIntArray(), new long[]{2, -2, 600});
+        ArrayValue doubles = (ArrayValue) get(bMessage, "doubles");
+        Assert.assertEquals(doubles.getFloat(1), -0.25);
+        Assert.assertEquals(doubles.getFloat(2), 75.0);
+        Assert.assertEquals(((ArrayValue) get(bMessage, "fixed")).getIntArray(), new long[]{2, 0, 301});
+        ArrayValue flags = (ArrayValue) get(bMessage, "flags");
+        Assert.assertTrue(flags.getBoolean(0));
+        Assert.assertFalse(flags.getBoolean(1));
+        Assert.assertEquals(((ArrayValue) get(bMessage, "names")).getStringArray(),
+                new String[]{"name1", "name-1", "name300"});
+        Assert.assertEquals(((ArrayValue) get(bMessage, "statuses")).getStringArray(),
+                new String[]{"ACTIVE", "UNKNOWN"});
+    }
+
+    @Test(description = "Test reading repeated fields in the encoding other than the one of their descriptor")
+    public void testMismatchedPackingOfRepeatedFields() throws IOException {
+        Descriptors.Descriptor descriptor = getDescriptor("Repeated");
+        byte[] bytes = new byte[64];
+        CodedOutputStream output = CodedOutputStream.newInstance(bytes);
+        // The packed field is written unpacked, and the unpacked field is written packed.
+        output.writeInt64(1, 5);
+        output.writeInt64(1, 6);
+        output.writeTag(2, 2);
+        output.writeUInt32NoTag(CodedOutputStream.computeInt64SizeNoTag(7) * 2);
+        output.writeInt64NoTag(7);
+        output.writeInt64NoTag(7);
+        // A field which is not in the descriptor is skipped.
+        output.writeString(99, "unknown");
+        output.writeInt64(1, 8);
+
+        MessageCodec codec = MessageRegistry.getInstance().getMessageCodec(descriptor);
+        MapValue<BString, Object> bMessage = getRecord(codec.decode(recordTypes.get("Repeated"),
+                CodedInputStream.newInstance(bytes, 0, output.getTotalBytesWritten())));
+        Assert.assertEquals(((ArrayValue) get(bMessage, "packed_ints")).getIntArray(), new long[]{5, 6, 8});
+        Assert.assertEquals(((ArrayValue) get(bMessage, "unpacked_ints")).getIntArray(), new long[]{7, 7});
+    }
+
+    @Test(description = "Test reading the default value of an enum field, which protobuf does not write")
+    public void testDefaultEnumValue() throws IOException {
+        Descriptors.Descriptor descriptor = getDescriptor("Scalars");
+        DynamicMessage message = DynamicMessage.newBuilder(descriptor)
+                .setField(descriptor.findFieldByName("s"), "text")
+                .setField(descriptor.findFieldByName("status"), getEnumValue("UNKNOWN"))
+                .build();
+        MessageCodec codec = MessageRegistry.getInstance().getMessageCodec(descriptor);
+
+        MapValue<BString, Object> bMessage = getRecord(codec.decode(recordTypes.get("Scalars"),
+                CodedInputStream.newInstance(message.toByteArray())));
+        Assert.assertEquals(get(bMessage, "status").toString(), "UNKNOWN");
+        // The codec writes the default value, which is read as the same message.
+        Assert.assertEquals(DynamicMessage.parseFrom(descriptor, encode(codec, bMessage)), message);
+    }
+
+    @Test(description = "Test reading and writing nested messages")
+    public void testNestedMessages() throws IOException {
+        Descriptors.Descriptor descriptor = getDescriptor("Order");
+        DynamicMessage message = DynamicMessage.newBuilder(descriptor)
+                .setField(descriptor.findFieldByName("id"), "order-1")
+                .setField(descriptor.findFieldByName("item"), createItem("pen", 2))
+                .addRepeatedField(descriptor.findFieldByName("items"), createItem("ink", 3))
+                .addRepeatedField(descriptor.findFieldByName("items"), createItem("paper", 500))
+                .build();
+
+        MapValue<BString, Object> bMessage = getRecord(assertRoundTrip(message, recordTypes.get("Order")));
+        Assert.assertEquals(get(getRecord(get(bMessage, "item")), "name").toString(), "pen");
+        ArrayValue items = (ArrayValue) get(bMessage, "items");
+        Assert.assertEquals(items.size(), 2);
+        Assert.assertEquals(get(getRecord(items.getRefValue(1)), "quantity"), 500L);
+    }
+
+    @Test(description = "Test reading and writing messages of a type which refers to itself")
+    public void testRecursiveMessages() throws IOException {
+        Descriptors.Descriptor descriptor = getDescriptor("Node");
+        DynamicMessage leaf = DynamicMessage.newBuilder(descriptor)
+                .setField(descriptor.findFieldByName("value"), 3L)
+                .build();
+        DynamicMessage child = DynamicMessage.newBuilder(descriptor)
+                .setField(descriptor.findFieldByName("value"), 2L)
+                .setField(descriptor.findFieldByName("next"), leaf)
+                .build();
+        DynamicMessage message = DynamicMessage.newBuilder(descriptor)
+                .setField(descriptor.findFieldByName("value"), 1L)
+                .setField(descriptor.findFieldByName("next"), child)
+                .addRepeatedField(descriptor.findFieldByName("children"), child)
+                .addRepeatedField(descriptor.findFieldByName("children"), leaf)
+                .build();
+
+        MapValue<BString, Object> bMessage = getRecord(assertRoundTrip(message, recordTypes.get("Node")));
+        MapValue<BString, Object> next = getRecord(get(getRecord(get(bMessage, "next")), "next"));
+        Assert.assertEquals(get(next, "value"), 3L);
+        ArrayValue children = (ArrayValue) get(bMessage, "children");
+        Assert.assertEquals(get(getRecord(get(getRecord(children.getRefValue(0)), "next")), "value"), 3L);
+    }
+
+    @Test(description = "Test reading and writing google.protobuf.Any and wrapper fields")
+    public void testAnyAndWrapperFields() throws IOException {
+        Descriptors.Descriptor descriptor = getDescriptor("Envelope");
+        DynamicMessage item = createItem("pen", 2);
+        DynamicMessage payload = DynamicMessage.newBuilder(AnyProto.getDescriptor().findMessageTypeByName("Any"))
+                .setField(AnyProto.getDescriptor().findMessageTypeByName("Any").findFieldByName("value"),
+                        item.toByteString())
+                .build();
+        DynamicMessage message = DynamicMessage.newBuilder(descriptor)
+                .setField(descriptor.findFieldByName("payload"), payload)
+                .setField(descriptor.findFieldByName("note"), createWrapper("StringValue", "gift"))
+                .setField(descriptor.findFieldByName("count"), createWrapper("Int64Value", 3L))
+                .build();
+
+        MapValue<BString, Object> bMessage = getRecord(assertRoundTrip(message, recordTypes.get("Envelope")));
+        Assert.assertEquals(((ArrayValue) get(bMessage, "payload")).getBytes(), item.toByteArray());
+        Assert.assertEquals(get(bMessage, "note").toString(), "gift");
+        Assert.assertEquals(get(bMessage, "count"), 3L);
+    }
+
+    @Test(description = "Test reading google.protobuf.Any fields, whose value is read without the type url")
+    public void testAnyFieldWithTypeUrl() throws IOException {
+        Descriptors.Descriptor descriptor = getDescriptor("Envelope");
+        DynamicMessage item = createItem("pen", 2);
+        Descriptors.Descriptor anyDescriptor = AnyProto.getDescriptor().findMessageTypeByName("Any");
+        DynamicMessage message = DynamicMessage.newBuilder(descriptor)
+                .setField(descriptor.findFieldByName("payload"), DynamicMessage.newBuilder(anyDescriptor)
+                        .setField(anyDescriptor.findFieldByName("type_url"), "type.googleapis.com/codec_test.Item")
+                        .setField(anyDescriptor.findFieldByName("value"), item.toByteString())
+                        .build())
+                .build();
+        MessageCodec codec = MessageRegistry.getInstance().getMessageCodec(descriptor);
+
+        MapValue<BString, Object> bMessage = getRecord(codec.decode(recordTypes.get("Envelope"),
+                CodedInputStream.newInstance(message.toByteArray())));
+        Assert.assertEquals(((ArrayValue) get(bMessage, "payload")).getBytes(), item.toByteArray());
+        DynamicMessage written = DynamicMessage.parseFrom(descriptor, encode(codec, bMessage));
+        DynamicMessage writtenPayload = (DynamicMessage) written.getField(descriptor.findFieldByName("payload"));
+        Assert.assertEquals(writtenPayload.getField(anyDescriptor.findFieldByName("value")), item.toByteString());
+    }
+
+    @Test(description = "Test reading and writing messages which are not records, as they have only one field")
+    public void testNonRecordMessages() throws IOException {
+        Assert.assertEquals(assertRoundTrip(createWrapper("StringValue", "text"), BTypes.typeString).toString(),
+                "text");
+        Assert.assertEquals(assertRoundTrip(createWrapper("Int64Value", -5L), BTypes.typeInt), -5L);
+        Assert.assertEquals(assertRoundTrip(createWrapper("Int32Value", 7), BTypes.typeInt), 7L);
+        Assert.assertEquals(assertRoundTrip(createWrapper("DoubleValue", 0.5), BTypes.typeFloat), 0.5);
+        Assert.assertEquals(assertRoundTrip(createWrapper("BoolValue", true), BTypes.typeBoolean), true);
+        Assert.assertEquals(((ArrayValue) assertRoundTrip(createWrapper("BytesValue", ByteString.copyFrom(
+                new byte[]{1, 2})), new BArrayType(BTypes.typeByte))).getBytes(), new byte[]{1, 2});
+    }
+
+    @Test(description = "Test the default values of messages, which are read from no input")
+    public void testDefaultInstances() throws IOException {
+        MessageCodec scalarsCodec = MessageRegistry.getInstance().getMessageCodec(getDescriptor("Scalars"));
+        MapValue<BString, Object> scalars = getRecord(scalarsCodec.decode(recordTypes.get("Scalars"), null));
+        Assert.assertEquals(get(scalars, "status").toString(), "UNKNOWN");
+
+        MessageCodec orderCodec = MessageRegistry.getInstance().getMessageCodec(getDescriptor("Order"));
+        MapValue<BString, Object> order = getRecord(orderCodec.decode(recordTypes.get("Order"), null));
+        Assert.assertTrue(order.containsKey(StringUtils.fromString("item")));
+        Assert.assertNull(get(order, "item"));
+
+        Assert.assertEquals(getWrapperCodec("StringValue").decode(BTypes.typeString, null).toString(), "");
+        Assert.assertEquals(getWrapperCodec("Int64Value").decode(BTypes.typeInt, null), 0L);
+        Assert.assertEquals(getWrapperCodec("DoubleValue").decode(BTypes.typeFloat, null), 0.0);
+        Assert.assertEquals(getWrapperCodec("BoolValue").decode(BTypes.typeBoolean, null), false);
+
+        // The default instance of a message is written as no bytes, as protobuf writes it.
+        Assert.assertEquals(encode(orderCodec, null),
+                DynamicMessage.getDefaultInstance(getDescriptor("Order")).toByteArray());
+    }
+
+    @Test(description = "Test codecs are compiled once for each descriptor")
+    public void testCodecCache() {
+        Descriptors.Descriptor descriptor = getDescriptor("Order");
+        MessageCodec codec = MessageRegistry.getInstance().getMessageCodec(descriptor);
+        Assert.assertSame(MessageRegistry.getInstance().getMessageCodec(descriptor), codec);
+        Assert.assertSame(codec.getDescriptor(), descriptor);
+    }
+
+    /**
+     * Reads the bytes of a message written by protobuf, and asserts the codec writes the value as the same bytes.
+     */
+    private Object assertRoundTrip(DynamicMessage message, BType bType) throws IOException {
+        byte[] expected = message.toByteArray();
+        MessageCodec codec = MessageRegistry.getInstance().getMessageCodec(message.getDescriptorForType());
+        Object bMessage = codec.decode(bType, CodedInputStream.newInstance(expected));
+        Assert.assertEquals(encode(codec, bMessage), expected);
+        return bMessage;
+    }
+
+    private static byte[] encode(MessageCodec codec, Object bMessage) throws IOException {
+        byte[] bytes = new byte[codec.computeSize(bMessage)];
+        CodedOutputStream output = CodedOutputStream.newInstance(bytes);
+        codec.writeTo(bMessage, output);
+        output.checkNoSpaceLeft();
+        return bytes;
+    }
+
+    private Descriptors.Descriptor getDescriptor(String messageName) {
+        return fileDescriptor.findMessageTypeByName(messageName);
+    }
+
+    private Descriptors.EnumValueDescriptor getEnumValue(String name) {
+        return fileDescriptor.findEnumTypeByName("Status").findValueByName(name);
+    }
+
+    private DynamicMessage createItem(String name, long quantity) {
+        Descriptors.Descriptor descriptor = getDescriptor("Item");
+        return DynamicMessage.newBuilder(descriptor)
+                .setField(descriptor.findFieldByName("name"), name)
+                .setField(descriptor.findFieldByName("quantity"), quantity)
+                .build();
+    }
+
+    private static DynamicMessage createWrapper(String wrapperName, Object value) {
+        Descriptors.Descriptor descriptor = WrappersProto.getDescriptor().findMessageTypeByName(wrapperName);
+        return DynamicMessage.newBuilder(descriptor).setField(descriptor.findFieldByName("value"), value).build();
+    }
+
+    private static MessageCodec getWrapperCodec(String wrapperName) {
+        return MessageRegistry.getInstance().getMessageCodec(
+                WrappersProto.getDescriptor().findMessageTypeByName(wrapperName));
+    }
+
+    private BRecordType addRecordType(String name, Object... fields) {
+        BRecordType recordType = new BRecordType(name, TEST_PACKAGE, 0, true, 0);
+        recordType.setFields(createFields(fields));
+        recordTypes.put(name, recordType);
+        return recordType;
+    }
+
+    private static Map<String, BField> createFields(Object... fields) {
+        Map<String, BField> fieldMap = new LinkedHashMap<>();
+        for (int i = 0; i < fields.length; i += 2) {
+            fieldMap.put((String) fields[i], new BField((BType) fields[i + 1], (String) fields[i], 0));
+        }
+        return fieldMap;
+    }
+
+    private static BUnionType nullable(BType type) {
+        return new BUnionType(Arrays.asList(type, BTypes.typeNull));
+    }
+
+    private static DescriptorProtos.FieldDescriptorProto field(String name, int number,
+                                                               DescriptorProtos.FieldDescriptorProto.Type type) {
+        return DescriptorProtos.FieldDescriptorProto.newBuilder().setName(name).setNumber(number).setType(type)
+                .setLabel(DescriptorProtos.FieldDescriptorProto.Label.LABEL_OPTIONAL).build();
+    }
+
+    private static DescriptorProtos.FieldDescriptorProto field(String name, int number,
+                                                               DescriptorProtos.FieldDescriptorProto.Type type,
+                                                               String typeName) {
+        return field(name, number, type).toBuilder().setTypeName(typeName).build();
+    }
+
+    private static DescriptorProtos.FieldDescriptorProto repeated(DescriptorProtos.FieldDescriptorProto field) {
+        return field.toBuilder().setLabel(DescriptorProtos.FieldDescriptorProto.Label.LABEL_REPEATED).build();
+    }
+
+    private static DescriptorProtos.EnumValueDescriptorProto enumValue(String name, int number) {
+        return DescriptorProtos.EnumValueDescriptorProto.newBuilder().setName(name).setNumber(number).build();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static MapValue<BString, Object> getRecord(Object value) {
+        return (MapValue<BString, Object>) value;
+    }
+
+    private static Object get(MapValue<BString, Object> record, String fieldName) {
+        return record.get(StringUtils.fromString(fieldName));
+    }
+}
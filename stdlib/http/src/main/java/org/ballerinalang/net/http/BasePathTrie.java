@@ -0,0 +1,179 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ *
+ */
+
+package org.ballerinalang.net.http;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+/**
+ * An immutable radix tree of the base paths of the services of a host, which finds the base path of a request path
+ * by walking down the tree along the path, instead of comparing the path with every base path.
+ * <p>
+ * A request path matches a base path if it is equal to the base path ignoring case, or if it starts with the base path
+ * followed by a '/'. The longest matching base path is chosen, and the default base path matches all the paths which
+ * do not match another base path. The path is compared in place, so no substrings or lowercase copies are created.
+ *
+ * @since 2.0.0
+ */
+public class BasePathTrie {
+
+    private static final Node[] NO_CHILDREN = new Node[0];
+
+    private final Node root;
+
+    /**
+     * Builds a trie of the given base paths.
+     *
+     * @param basePaths base paths of the services
+     */
+    public BasePathTrie(Collection<String> basePaths) {
+        this.root = new Node("");
+        for (String basePath : basePaths) {
+            insert(this.root, basePath, 0);
+        }
+    }
+
+    /**
+     * Finds the most specific base path matching the given request path.
+     *
+     * @param path raw path of the request
+     * @return the matching base path, or null if there is none
+     */
+    public String find(String path) {
+        // An exact match is the longest possible match.
+        String basePath = findExact(this.root, path, 0);
+        if (basePath != null) {
+            return basePath;
+        }
+
+        String match = null;
+        Node node = this.root;
+        int index = 0;
+        while (node != null) {
+            if (node.basePath != null && index < path.length() && path.charAt(index) == '/') {
+                match = node.basePath;
+            }
+            if (index == path.length()) {
+                break;
+            }
+            Node child = node.child(path.charAt(index));
+            if (child == null || !path.startsWith(child.label, index)) {
+                break;
+            }
+            index += child.label.length();
+            node = child;
+        }
+        if (match == null) {
+            Node defaultNode = this.root.child('/');
+            if (defaultNode != null && defaultNode.label.length() == 1) {
+                match = defaultNode.basePath;
+            }
+        }
+        return match;
+    }
+
+    // Case-sensitive matches are preferred, and the other children are only tried if they differ in case.
+    private static String findExact(Node node, String path, int index) {
+        if (index == path.length()) {
+            return node.basePath;
+        }
+        Node child = node.child(path.charAt(index));
+        boolean childMatches = child != null && path.startsWith(child.label, index);
+        if (childMatches) {
+            String basePath = findExact(child, path, index + child.label.length());
+            if (basePath != null) {
+                return basePath;
+            }
+        }
+        for (Node other : node.children) {
+            if ((other != child || !childMatches) &&
+                    path.regionMatches(true, index, other.label, 0, other.label.length())) {
+                String basePath = findExact(other, path, index + other.label.length());
+                if (basePath != null) {
+                    return basePath;
+                }
+            }
+        }
+        return null;
+    }
+
+    private static void insert(Node node, String basePath, int index) {
+        if (index == basePath.length()) {
+            node.basePath = basePath;
+            return;
+        }
+        Node child = node.child(basePath.charAt(index));
+        if (child == null) {
+            Node leaf = new Node(basePath.substring(index));
+            leaf.basePath = basePath;
+            node.addChild(leaf);
+            return;
+        }
+
+        int common = commonPrefixLength(child.label, basePath, index);
+        if (common < child.label.length()) {
+            // The edge to the child is split at the end of the common prefix.
+            Node middle = new Node(child.label.substring(0, common));
+            node.children[Arrays.asList(node.children).indexOf(child)] = middle;
+            child.label = child.label.substring(common);
+            middle.addChild(child);
+            child = middle;
+        }
+        insert(child, basePath, index + common);
+    }
+
+    private static int commonPrefixLength(String label, String basePath, int index) {
+        int length = Math.min(label.length(), basePath.length() - index);
+        int i = 0;
+        while (i < length && label.charAt(i) == basePath.charAt(index + i)) {
+            i++;
+        }
+        return i;
+    }
+
+    /**
+     * A node of the trie, which is reached from its parent by the characters of its label.
+     */
+    private static class Node {
+
+        private String label;
+        private String basePath;
+        private Node[] children = NO_CHILDREN;
+
+        Node(String label) {
+            this.label = label;
+        }
+
+        // Children start with distinct characters, and there are few of them, so they are searched linearly.
+        Node child(char c) {
+            for (Node child : this.children) {
+                if (child.label.charAt(0) == c) {
+                    return child;
+                }
+            }
+            return null;
+        }
+
+        void addChild(Node child) {
+            this.children = Arrays.copyOf(this.children, this.children.length + 1);
+            this.children[this.children.length - 1] = child;
+        }
+    }
+}
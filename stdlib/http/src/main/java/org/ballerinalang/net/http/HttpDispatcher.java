@@ -39,7 +39,6 @@ import java.io.UnsupportedEncodingException;
 import java.net.URI;
 import java.net.URLDecoder;
 import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
 
 import static org.ballerinalang.net.http.HttpConstants.DEFAULT_HOST;
@@ -52,18 +51,22 @@ import static org.ballerinalang.net.http.compiler.ResourceSignatureValidator.COM
  */
 public class HttpDispatcher {
 
+    private static final int NOT_SIMPLE_URI = -2;
+    // Unreserved and path punctuation characters of RFC 2396, which java.net.URI accepts in paths and queries.
+    private static final String SIMPLE_URI_PUNCTUATION = "-_.!~*'();:@&=+$,/";
+
     public static HttpService findService(HTTPServicesRegistry servicesRegistry, HttpCarbonMessage inboundReqMsg) {
         try {
             Map<String, HttpService> servicesOnInterface;
-            List<String> sortedServiceURIs;
+            BasePathTrie basePathTrie;
             String hostName = inboundReqMsg.getHeader(HttpHeaderNames.HOST.toString());
 
             if (hostName != null && servicesRegistry.getServicesMapHolder(hostName) != null) {
                 servicesOnInterface = servicesRegistry.getServicesByHost(hostName);
-                sortedServiceURIs = servicesRegistry.getSortedServiceURIsByHost(hostName);
+                basePathTrie = servicesRegistry.getBasePathTrieByHost(hostName);
             } else if (servicesRegistry.getServicesMapHolder(DEFAULT_HOST) != null) {
                 servicesOnInterface = servicesRegistry.getServicesByHost(DEFAULT_HOST);
-                sortedServiceURIs = servicesRegistry.getSortedServiceURIsByHost(DEFAULT_HOST);
+                basePathTrie = servicesRegistry.getBasePathTrieByHost(DEFAULT_HOST);
             } else {
                 inboundReqMsg.setHttpStatusCode(404);
                 String localAddress = inboundReqMsg.getProperty(HttpConstants.LOCAL_ADDRESS).toString();
@@ -78,32 +81,87 @@ public class HttpDispatcher {
             inboundReqMsg.setProperty(HttpConstants.TO, uriWithoutMatrixParams);
             inboundReqMsg.setProperty(HttpConstants.MATRIX_PARAMS, matrixParams);
 
-            URI validatedUri = getValidatedURI(uriWithoutMatrixParams);
+            String rawPath;
+            String query;
+            String rawQuery;
+            int queryIndex = findQueryIndex(uriWithoutMatrixParams);
+            if (queryIndex == NOT_SIMPLE_URI) {
+                URI validatedUri = getValidatedURI(uriWithoutMatrixParams);
+                rawPath = validatedUri.getRawPath();
+                query = validatedUri.getQuery();
+                rawQuery = validatedUri.getRawQuery();
+            } else if (queryIndex == -1) {
+                rawPath = uriWithoutMatrixParams;
+                query = null;
+                rawQuery = null;
+            } else {
+                rawPath = uriWithoutMatrixParams.substring(0, queryIndex);
+                query = uriWithoutMatrixParams.substring(queryIndex + 1);
+                rawQuery = query;
+            }
 
-            String basePath = servicesRegistry.findTheMostSpecificBasePath(validatedUri.getRawPath(),
-                    servicesOnInterface, sortedServiceURIs);
+            String basePath = servicesRegistry.findTheMostSpecificBasePath(rawPath, basePathTrie);
 
             if (basePath == null) {
                 inboundReqMsg.setHttpStatusCode(404);
-                throw new BallerinaConnectorException("no matching service found for path : " +
-                        validatedUri.getRawPath());
+                throw new BallerinaConnectorException("no matching service found for path : " + rawPath);
             }
 
             HttpService service = servicesOnInterface.get(basePath);
-            setInboundReqProperties(inboundReqMsg, validatedUri, basePath);
+            setInboundReqProperties(inboundReqMsg, rawPath, query, rawQuery, basePath);
             return service;
         } catch (Exception e) {
             throw new BallerinaConnectorException(e.getMessage());
         }
     }
 
-    private static void setInboundReqProperties(HttpCarbonMessage inboundReqMsg, URI requestUri, String basePath) {
-        String subPath = URIUtil.getSubPath(requestUri.getRawPath(), basePath);
+    private static void setInboundReqProperties(HttpCarbonMessage inboundReqMsg, String rawPath, String query,
+                                                String rawQuery, String basePath) {
+        String subPath = URIUtil.getSubPath(rawPath, basePath);
         inboundReqMsg.setProperty(HttpConstants.BASE_PATH, basePath);
         inboundReqMsg.setProperty(HttpConstants.SUB_PATH, subPath);
-        inboundReqMsg.setProperty(HttpConstants.QUERY_STR, requestUri.getQuery());
+        inboundReqMsg.setProperty(HttpConstants.QUERY_STR, query);
         //store query params comes with request as it is
-        inboundReqMsg.setProperty(HttpConstants.RAW_QUERY_STR, requestUri.getRawQuery());
+        inboundReqMsg.setProperty(HttpConstants.RAW_QUERY_STR, rawQuery);
+    }
+
+    /**
+     * Finds the start of the query of a request URI, if the URI is a path which {@link URI} would accept and whose
+     * query needs no decoding. Such URIs are split in place instead of being parsed with {@link URI#create}.
+     *
+     * @param uri request URI
+     * @return the index of the '?' which starts the query, -1 if there is no query, or {@code NOT_SIMPLE_URI} if the
+     * URI has to be parsed
+     */
+    private static int findQueryIndex(String uri) {
+        // A URI starting with "//" has an authority, which has to be parsed.
+        if (uri.isEmpty() || uri.charAt(0) != '/' || uri.startsWith("//")) {
+            return NOT_SIMPLE_URI;
+        }
+        int queryIndex = -1;
+        int length = uri.length();
+        for (int i = 0; i < length; i++) {
+            char c = uri.charAt(i);
+            if (c == '?' && queryIndex == -1) {
+                queryIndex = i;
+            } else if (c == '%' && queryIndex == -1 && i + 2 < length && isHexDigit(uri.charAt(i + 1)) &&
+                    isHexDigit(uri.charAt(i + 2))) {
+                // Escaped octets are kept as they are in the raw path.
+                i += 2;
+            } else if (!isSimpleUriChar(c) && !(queryIndex != -1 && (c == '?' || c == '[' || c == ']'))) {
+                return NOT_SIMPLE_URI;
+            }
+        }
+        return queryIndex;
+    }
+
+    private static boolean isSimpleUriChar(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9') ||
+                SIMPLE_URI_PUNCTUATION.indexOf(c) != -1;
+    }
+
+    private static boolean isHexDigit(char c) {
+        return (c >= '0' && c <= '9') || (c >= 'a' && c <= 'f') || (c >= 'A' && c <= 'F');
     }
 
     public static URI getValidatedURI(String uriStr) {
@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.stdlib.services.dispatching;
+
+import org.ballerinalang.net.http.BasePathTrie;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Test cases for matching request paths with the service base paths.
+ */
+public class BasePathTrieTest {
+
+    @Test(description = "Test matching the most specific base path")
+    public void testMostSpecificBasePath() {
+        BasePathTrie trie = new BasePathTrie(Arrays.asList("/hello", "/hello/world", "/hello/worlds", "/echo"));
+        Assert.assertEquals(trie.find("/hello"), "/hello");
+        Assert.assertEquals(trie.find("/hello/"), "/hello");
+        Assert.assertEquals(trie.find("/hello/sayHello"), "/hello");
+        Assert.assertEquals(trie.find("/hello/world"), "/hello/world");
+        Assert.assertEquals(trie.find("/hello/world/foo"), "/hello/world");
+        Assert.assertEquals(trie.find("/hello/worlds/foo"), "/hello/worlds");
+        Assert.assertEquals(trie.find("/hello/worldwide"), "/hello");
+        Assert.assertNull(trie.find("/hellos"));
+        Assert.assertNull(trie.find("/"));
+    }
+
+    @Test(description = "Test matching the default base path")
+    public void testDefaultBasePath() {
+        BasePathTrie trie = new BasePathTrie(Arrays.asList("/", "/hello"));
+        Assert.assertEquals(trie.find("/"), "/");
+        Assert.assertEquals(trie.find("/hello/foo"), "/hello");
+        Assert.assertEquals(trie.find("/hellos"), "/");
+        Assert.assertEquals(trie.find("/foo/bar"), "/");
+        Assert.assertNull(new BasePathTrie(Collections.emptyList()).find("/foo"));
+    }
+
+    @Test(description = "Test that only a request path equal to the base path is matched ignoring case")
+    public void testBasePathCase() {
+        BasePathTrie trie = new BasePathTrie(Arrays.asList("/Hello", "/hello/World"));
+        Assert.assertEquals(trie.find("/HELLO"), "/Hello");
+        Assert.assertEquals(trie.find("/HELLO/WORLD"), "/hello/World");
+        Assert.assertEquals(trie.find("/Hello/foo"), "/Hello");
+        Assert.assertNull(trie.find("/HELLO/foo"));
+    }
+
+    @Test(description = "Test matching base paths of many services")
+    public void testManyBasePaths() {
+        List<String> basePaths = new ArrayList<>();
+        for (int i = 0; i < 600; i++) {
+            basePaths.add("/service" + i + "/v" + (i % 3));
+        }
+        BasePathTrie trie = new BasePathTrie(basePaths);
+        for (String basePath : basePaths) {
+            Assert.assertEquals(trie.find(basePath), basePath);
+            Assert.assertEquals(trie.find(basePath + "/resource/1"), basePath);
+            Assert.assertEquals(trie.find(basePath.toUpperCase()), basePath);
+        }
+        Assert.assertNull(trie.find("/service600/v0/resource"));
+        Assert.assertNull(trie.find("/service1/v2/resource"));
+    }
+}
@@ -62,6 +62,10 @@ import ballerina/java;
 # + pollingTimeoutInMillis - Timeout interval for polling
 # + pollingIntervalInMillis - Polling interval for the consumer
 # + concurrentConsumers - Number of concurrent consumers
+# + maxInFlightRecords - Maximum number of records which are dispatched to the service and not processed yet, when
+#                        processing is decoupled. The partitions of the consumer are paused once this is reached,
+#                        and resumed once half of those records are processed. Defaults to 10000, and a value of 0
+#                        does not limit the records in flight
 # + defaultApiTimeoutInMillis - Default API timeout value for APIs with duration
 # + autoCommit - Enables auto committing offsets
 # + checkCRCS - Check the CRC32 of the records consumed. This ensures that no on-the-wire or on-disk corruption to
@@ -69,6 +73,11 @@ import ballerina/java;
 #               performance is required
 # + excludeInternalTopics - Whether records from internal topics should be exposed to the consumer
 # + decoupleProcessing - Decouples processing
+# + concurrentPartitionProcessing - Processes the records of each partition of a poll concurrently when `autoCommit` is
+#                                   `false`, while the records of a partition are processed in order. The offset of
+#                                   a partition is committed once its records are processed. The consumer is used by
+#                                   the polling thread of the listener, so the functions of such a consumer panic and
+#                                   the listener subscribes it to the `topics`
 # + secureSocket - Configurations related to SSL/TLS encryption
 # + authenticationConfiguration - Authentication-related configurations for the Kafka consumer
 public type ConsumerConfiguration record {|
@@ -113,12 +122,14 @@ public type ConsumerConfiguration record {|
     int pollingTimeoutInMillis?;
     int pollingIntervalInMillis?;
     int concurrentConsumers?;
+    int maxInFlightRecords?;
     int defaultApiTimeoutInMillis?;
 
     boolean autoCommit = true;
     boolean checkCRCS = true;
     boolean excludeInternalTopics = true;
     boolean decoupleProcessing = false;
+    boolean concurrentPartitionProcessing = false;
 
     SecureSocket secureSocket?;
     AuthenticationConfiguration authenticationConfiguration?;
@@ -208,7 +219,7 @@ public type Consumer client object {
         checkpanic self->connect();
 
         string[]? topics = config?.topics;
-        if (topics is string[]){
+        if (topics is string[] && !isConcurrentPartitionProcessing(config)){
             checkpanic self->subscribe(topics);
         }
     }
@@ -499,6 +510,11 @@ public type Consumer client object {
     }
 };
 
+// This is the same as `KafkaUtils.isConcurrentPartitionProcessing`, which makes the consumer unusable when it connects.
+function isConcurrentPartitionProcessing(ConsumerConfiguration config) returns boolean {
+    return config.concurrentPartitionProcessing && !config.autoCommit && !config.decoupleProcessing;
+}
+
 function consumerClose(Consumer consumer, int duration) returns ConsumerError? =
 @java:Method {
     name: "close",
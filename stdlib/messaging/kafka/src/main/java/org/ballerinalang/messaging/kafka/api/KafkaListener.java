@@ -20,7 +20,7 @@ package org.ballerinalang.messaging.kafka.api;
 
 import org.apache.kafka.clients.consumer.ConsumerRecords;
 import org.apache.kafka.clients.consumer.KafkaConsumer;
-import org.ballerinalang.messaging.kafka.impl.KafkaPollCycleFutureListener;
+import org.ballerinalang.jvm.values.connector.CallableUnitCallback;
 
 /**
  * This interface defines listener which can be registered, to retrieve Kafka records returned from single poll cycle.
@@ -41,13 +41,37 @@ public interface KafkaListener {
      *
      * @param records       Kafka records
      * @param kafkaConsumer consumer on which poll is called upon
-     * @param listener      which control the flow of poll cycle
+     * @param listener      which is notified once the records are processed, to control the flow of poll cycle
      * @param groupID       ID of the consumer group in which the consumer belongs
      */
     void onRecordsReceived(ConsumerRecords records,
                            KafkaConsumer kafkaConsumer,
                            String groupID,
-                           KafkaPollCycleFutureListener listener);
+                           CallableUnitCallback listener);
+
+    /**
+     * For each partition of a poll cycle, it will trigger invocation to this method dispatching the polled kafka
+     * records of the partition, which are processed concurrently with the records of the other partitions. The
+     * consumer is used by the polling thread, so the consumer object was marked as unusable when it was connected.
+     *
+     * @param records       Kafka records of the partition
+     * @param kafkaConsumer consumer on which poll is called upon
+     * @param groupID       ID of the consumer group in which the consumer belongs
+     * @param listener      which is notified once the records of the partition are processed
+     */
+    void onPartitionRecordsReceived(ConsumerRecords records,
+                                    KafkaConsumer kafkaConsumer,
+                                    String groupID,
+                                    CallableUnitCallback listener);
+
+    /**
+     * For each poll cycle in which the records in flight or the partitions paused because of them have changed, it
+     * will trigger invocation to this method.
+     *
+     * @param inFlightRecordsDelta  change in the number of records dispatched and not processed yet
+     * @param pausedPartitionsDelta change in the number of partitions paused as too many records are in flight
+     */
+    void onFlowControlChanged(int inFlightRecordsDelta, int pausedPartitionsDelta);
 
     /**
      * If there are errors, Kafka connector will trigger this method.
@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.messaging.kafka.impl;
+
+import org.ballerinalang.jvm.values.ErrorValue;
+import org.ballerinalang.jvm.values.connector.CallableUnitCallback;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * {@code KafkaInFlightRecordsFutureListener} listener gets notified when the records of a poll cycle which are
+ * dispatched with decoupled processing are processed by the Ballerina side, so that they are no longer accounted as
+ * records in flight.
+ */
+public class KafkaInFlightRecordsFutureListener implements CallableUnitCallback {
+
+    private static final Logger logger = LoggerFactory.getLogger(KafkaInFlightRecordsFutureListener.class);
+
+    private final AtomicInteger inFlightRecords;
+    private final int recordCount;
+    private final String serviceId;
+
+    /**
+     * Future will get notified from the Ballerina engine when the resource invocation is over or when an error
+     * occurred.
+     *
+     * @param inFlightRecords number of records in flight of the consumer
+     * @param recordCount     number of records dispatched to the resource
+     * @param serviceId       Service ID of the service handling the resource
+     */
+    public KafkaInFlightRecordsFutureListener(AtomicInteger inFlightRecords, int recordCount, String serviceId) {
+        this.inFlightRecords = inFlightRecords;
+        this.recordCount = recordCount;
+        this.serviceId = serviceId;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void notifySuccess() {
+        inFlightRecords.addAndGet(-recordCount);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void notifyFailure(ErrorValue error) {
+        inFlightRecords.addAndGet(-recordCount);
+        if (logger.isDebugEnabled()) {
+            logger.debug("Ballerina engine has completed resource invocation with exception for service " +
+                                 serviceId + ": " + error.stringValue());
+        }
+    }
+}
@@ -77,12 +77,30 @@ public class KafkaListenerImpl implements KafkaListener {
      */
     @Override
     public void onRecordsReceived(ConsumerRecords records, KafkaConsumer kafkaConsumer, String groupId,
-                                  KafkaPollCycleFutureListener consumer) {
+                                  CallableUnitCallback consumer) {
         listener.addNativeData(NATIVE_CONSUMER, kafkaConsumer);
         executeResource(listener, consumer, records, groupId);
         KafkaMetricsUtil.reportConsume(listener, records);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void onPartitionRecordsReceived(ConsumerRecords records, KafkaConsumer kafkaConsumer, String groupId,
+                                           CallableUnitCallback consumer) {
+        onRecordsReceived(records, kafkaConsumer, groupId, consumer);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void onFlowControlChanged(int inFlightRecordsDelta, int pausedPartitionsDelta) {
+        KafkaMetricsUtil.reportInFlightRecords(listener, inFlightRecordsDelta);
+        KafkaMetricsUtil.reportPausedPartitions(listener, pausedPartitionsDelta);
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -103,7 +121,7 @@ public class KafkaListenerImpl implements KafkaListener {
         }
     }
 
-    private void executeResource(ObjectValue listener, KafkaPollCycleFutureListener consumer, ConsumerRecords records,
+    private void executeResource(ObjectValue listener, CallableUnitCallback consumer, ConsumerRecords records,
                                  String groupId) {
         if (ObserveUtils.isTracingEnabled()) {
             Map<String, Object> properties = getNewObserverContextInProperties(listener);
@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.messaging.kafka.impl;
+
+import org.apache.kafka.common.TopicPartition;
+import org.ballerinalang.jvm.values.ErrorValue;
+import org.ballerinalang.jvm.values.connector.CallableUnitCallback;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * {@code KafkaPartitionFutureListener} listener gets notified when the records of a single partition of a poll cycle
+ * are processed by the Ballerina side, and hands the partition back to the polling thread to commit its offset, or
+ * to seek back to the first record of the partition if the records are not processed.
+ */
+public class KafkaPartitionFutureListener implements CallableUnitCallback {
+
+    private static final Logger logger = LoggerFactory.getLogger(KafkaPartitionFutureListener.class);
+
+    private final BlockingQueue<KafkaPartitionFutureListener> completedPartitions;
+    private final String serviceId;
+    private final TopicPartition partition;
+    private final long firstOffset;
+    private final long lastOffset;
+    private volatile boolean successful;
+
+    /**
+     * Future will get notified from the Ballerina engine when the resource invocation for the records of a partition
+     * is over or when an error occurred.
+     *
+     * @param completedPartitions queue to which the listener is added once the partition is processed
+     * @param serviceId           Service ID of the service handling the resource
+     * @param partition           partition of the records
+     * @param firstOffset         offset of the first record of the partition
+     * @param lastOffset          offset of the last record of the partition
+     */
+    public KafkaPartitionFutureListener(BlockingQueue<KafkaPartitionFutureListener> completedPartitions,
+                                        String serviceId, TopicPartition partition, long firstOffset,
+                                        long lastOffset) {
+        this.completedPartitions = completedPartitions;
+        this.serviceId = serviceId;
+        this.partition = partition;
+        this.firstOffset = firstOffset;
+        this.lastOffset = lastOffset;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void notifySuccess() {
+        successful = true;
+        completedPartitions.add(this);
+        if (logger.isDebugEnabled()) {
+            logger.debug("Ballerina engine has completed resource invocation successfully for service " + serviceId +
+                                 " and partition " + partition + ".");
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void notifyFailure(ErrorValue error) {
+        completedPartitions.add(this);
+        logger.error("Ballerina engine has completed resource invocation with exception for service " + serviceId +
+                             " and partition " + partition + ". The records of the partition are received again.",
+                     error.stringValue());
+    }
+
+    public TopicPartition getPartition() {
+        return partition;
+    }
+
+    public long getFirstOffset() {
+        return firstOffset;
+    }
+
+    public long getLastOffset() {
+        return lastOffset;
+    }
+
+    public boolean isSuccessful() {
+        return successful;
+    }
+}
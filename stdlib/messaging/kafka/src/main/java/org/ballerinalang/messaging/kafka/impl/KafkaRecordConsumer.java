@@ -19,26 +19,36 @@
 package org.ballerinalang.messaging.kafka.impl;
 
 import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.apache.kafka.clients.consumer.ConsumerRecords;
 import org.apache.kafka.clients.consumer.KafkaConsumer;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
 import org.apache.kafka.common.KafkaException;
+import org.apache.kafka.common.TopicPartition;
 import org.apache.kafka.common.errors.WakeupException;
 import org.ballerinalang.messaging.kafka.api.KafkaListener;
 import org.ballerinalang.messaging.kafka.utils.KafkaConstants;
+import org.ballerinalang.messaging.kafka.utils.KafkaUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
 import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * {@code KafkaRecordConsumer} This class represents Runnable flow which periodically poll the remote broker and fetch
@@ -49,11 +59,20 @@ public class KafkaRecordConsumer {
     private final AtomicBoolean closed = new AtomicBoolean(false);
 
     private static final Logger logger = LoggerFactory.getLogger(KafkaRecordConsumer.class);
+    private static final int DEFAULT_MAX_IN_FLIGHT_RECORDS = 10000;
 
     private KafkaConsumer kafkaConsumer;
     private Duration pollingTimeout = Duration.ofMillis(1000);
     private int pollingInterval = 1000;
     private boolean decoupleProcessing = true;
+    private boolean concurrentPartitionProcessing = false;
+    private boolean autoCommit = true;
+    private int maxInFlightRecords = DEFAULT_MAX_IN_FLIGHT_RECORDS;
+    private final AtomicInteger inFlightRecords = new AtomicInteger(0);
+    // Partitions paused by the consumer because of the records in flight, which are resumed by it.
+    private final Set<TopicPartition> flowControlPausedPartitions = new HashSet<>();
+    private int reportedInFlightRecords = 0;
+    private int reportedPausedPartitions = 0;
     private String groupId;
     private KafkaListener kafkaListener;
     private String serviceId;
@@ -82,12 +101,17 @@ public class KafkaRecordConsumer {
             this.pollingInterval = (Integer) configParams.get(KafkaConstants.ALIAS_POLLING_INTERVAL.getValue());
         }
         if (configParams.get(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG) != null) {
-            this.decoupleProcessing = (Boolean) configParams.get(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG);
+            this.autoCommit = (Boolean) configParams.get(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG);
+            this.decoupleProcessing = this.autoCommit;
         }
         // This is to override default decouple processing setting if required.
         if (configParams.get(KafkaConstants.ALIAS_DECOUPLE_PROCESSING.getValue()) != null) {
             this.decoupleProcessing = (Boolean) configParams.get(KafkaConstants.ALIAS_DECOUPLE_PROCESSING);
         }
+        this.concurrentPartitionProcessing = KafkaUtils.isConcurrentPartitionProcessing(configParams);
+        if (configParams.get(KafkaConstants.ALIAS_MAX_IN_FLIGHT_RECORDS.getValue()) != null) {
+            this.maxInFlightRecords = (Integer) configParams.get(KafkaConstants.ALIAS_MAX_IN_FLIGHT_RECORDS.getValue());
+        }
         this.groupId = (String) configParams.get(ConsumerConfig.GROUP_ID_CONFIG);
     }
 
@@ -97,6 +121,9 @@ public class KafkaRecordConsumer {
             try {
                 // Make thread-safe as kafka does not support multiple thread access
                 if (!closed.get()) {
+                    if (this.decoupleProcessing && this.maxInFlightRecords > 0) {
+                        controlFlow();
+                    }
                     recordsRetrieved = this.kafkaConsumer.poll(this.pollingTimeout);
                 }
             } catch (WakeupException e) {
@@ -122,9 +149,19 @@ public class KafkaRecordConsumer {
         if (Objects.nonNull(consumerRecords) && !consumerRecords.isEmpty()) {
             // When decoupleProcessing == 'true' Kafka records set will be dispatched and processed in
             // Parallel threads.
+            // When concurrentPartitionProcessing == 'true' the records of each partition will be processed in
+            // parallel, while the records of a partition are processed in order.
             // Otherwise dispatching and processing will have single threaded semantics.
-            if (this.decoupleProcessing) {
+            if (this.decoupleProcessing && this.maxInFlightRecords > 0) {
+                int recordCount = consumerRecords.count();
+                this.inFlightRecords.addAndGet(recordCount);
+                KafkaInFlightRecordsFutureListener inFlightRecordsListener =
+                        new KafkaInFlightRecordsFutureListener(this.inFlightRecords, recordCount, serviceId);
+                this.kafkaListener.onRecordsReceived(consumerRecords, kafkaConsumer, groupId, inFlightRecordsListener);
+            } else if (this.decoupleProcessing) {
                 this.kafkaListener.onRecordsReceived(consumerRecords, kafkaConsumer, groupId);
+            } else if (this.concurrentPartitionProcessing) {
+                processPartitionsConcurrently(consumerRecords);
             } else {
                 Semaphore sem = new Semaphore(0);
                 KafkaPollCycleFutureListener pollCycleListener = new KafkaPollCycleFutureListener(sem, serviceId);
@@ -142,6 +179,95 @@ public class KafkaRecordConsumer {
         }
     }
 
+    // Pauses the assigned partitions when the records dispatched with decoupled processing reach the maximum records
+    // in flight, and resumes them once half of those records are processed. Partitions paused from the Ballerina
+    // side are left as they are.
+    private void controlFlow() {
+        int inFlight = this.inFlightRecords.get();
+        Set<TopicPartition> assignedPartitions = this.kafkaConsumer.assignment();
+        this.flowControlPausedPartitions.retainAll(assignedPartitions);
+        if (inFlight >= this.maxInFlightRecords) {
+            Set<TopicPartition> partitions = new HashSet<>(assignedPartitions);
+            partitions.removeAll(this.kafkaConsumer.paused());
+            if (!partitions.isEmpty()) {
+                this.kafkaConsumer.pause(partitions);
+                this.flowControlPausedPartitions.addAll(partitions);
+            }
+        } else if (!this.flowControlPausedPartitions.isEmpty() && inFlight <= this.maxInFlightRecords / 2) {
+            this.kafkaConsumer.resume(this.flowControlPausedPartitions);
+            this.flowControlPausedPartitions.clear();
+        }
+        reportFlowControl(inFlight, this.flowControlPausedPartitions.size());
+    }
+
+    private synchronized void reportFlowControl(int inFlight, int pausedPartitions) {
+        if (inFlight != this.reportedInFlightRecords || pausedPartitions != this.reportedPausedPartitions) {
+            this.kafkaListener.onFlowControlChanged(inFlight - this.reportedInFlightRecords,
+                                                    pausedPartitions - this.reportedPausedPartitions);
+            this.reportedInFlightRecords = inFlight;
+            this.reportedPausedPartitions = pausedPartitions;
+        }
+    }
+
+    private void processPartitionsConcurrently(ConsumerRecords consumerRecords) {
+        Set<TopicPartition> partitions = consumerRecords.partitions();
+        BlockingQueue<KafkaPartitionFutureListener> completedPartitions = new LinkedBlockingQueue<>();
+        for (TopicPartition partition : partitions) {
+            List<ConsumerRecord> records = consumerRecords.records(partition);
+            long firstOffset = records.get(0).offset();
+            long lastOffset = records.get(records.size() - 1).offset();
+            KafkaPartitionFutureListener partitionListener = new KafkaPartitionFutureListener(
+                    completedPartitions, serviceId, partition, firstOffset, lastOffset);
+            this.kafkaListener.onPartitionRecordsReceived(
+                    new ConsumerRecords(Collections.singletonMap(partition, records)), kafkaConsumer, groupId,
+                    partitionListener);
+        }
+        // The next poll cycle starts once all the partitions are processed, so that the records of a partition
+        // are processed in order. The offsets are committed in the polling thread as each partition completes,
+        // as kafka does not support multiple thread access, which is also why the resources cannot use the consumer.
+        // The position of the consumer has moved past the records of a failed partition, so it seeks back to them,
+        // as otherwise the next poll would skip them and the next commit of the partition would commit them.
+        try {
+            for (int i = 0; i < partitions.size(); i++) {
+                KafkaPartitionFutureListener completedPartition = completedPartitions.take();
+                if (!completedPartition.isSuccessful()) {
+                    seekPartition(completedPartition.getPartition(), completedPartition.getFirstOffset());
+                } else if (!this.autoCommit) {
+                    commitPartition(completedPartition.getPartition(), completedPartition.getLastOffset());
+                }
+            }
+        } catch (InterruptedException e) {
+            this.kafkaListener.onError(e);
+            this.pollTaskFuture.cancel(false);
+        }
+    }
+
+    private void commitPartition(TopicPartition partition, long lastOffset) {
+        try {
+            this.kafkaConsumer.commitSync(Collections.singletonMap(partition, new OffsetAndMetadata(lastOffset + 1)));
+        } catch (WakeupException e) {
+            // Ignore exception if connection is closing.
+            if (!closed.get()) {
+                throw e;
+            }
+        } catch (KafkaException e) {
+            // The records of the partition will be received again if the partition is reassigned.
+            this.kafkaListener.onError(e);
+        }
+    }
+
+    private void seekPartition(TopicPartition partition, long firstOffset) {
+        try {
+            this.kafkaConsumer.seek(partition, firstOffset);
+        } catch (IllegalStateException e) {
+            // The partition is no longer assigned, and its records will be received again if it is reassigned.
+            if (logger.isDebugEnabled()) {
+                logger.debug("Kafka service " + this.serviceId + " could not seek the revoked partition " +
+                                     partition + ".");
+            }
+        }
+    }
+
     /**
      * Starts Kafka consumer polling cycles, schedules thread pool for given polling cycle.
      */
@@ -169,5 +295,6 @@ public class KafkaRecordConsumer {
         this.kafkaConsumer.wakeup();
         this.kafkaConsumer.close();
         this.executorService.shutdown();
+        reportFlowControl(0, 0);
     }
 }
@@ -41,6 +41,7 @@ import java.util.Properties;
 
 import static org.ballerinalang.messaging.kafka.utils.KafkaConstants.ALIAS_DURATION;
 import static org.ballerinalang.messaging.kafka.utils.KafkaConstants.BOOTSTRAP_SERVERS;
+import static org.ballerinalang.messaging.kafka.utils.KafkaConstants.CONCURRENT_PARTITION_PROCESSING;
 import static org.ballerinalang.messaging.kafka.utils.KafkaConstants.CONSUMER_BOOTSTRAP_SERVERS_CONFIG;
 import static org.ballerinalang.messaging.kafka.utils.KafkaConstants.CONSUMER_CONFIG_FIELD_NAME;
 import static org.ballerinalang.messaging.kafka.utils.KafkaConstants.CONSUMER_ERROR;
@@ -53,7 +54,9 @@ import static org.ballerinalang.messaging.kafka.utils.KafkaUtils.createKafkaErro
 import static org.ballerinalang.messaging.kafka.utils.KafkaUtils.getClientIdFromProperties;
 import static org.ballerinalang.messaging.kafka.utils.KafkaUtils.getDefaultApiTimeout;
 import static org.ballerinalang.messaging.kafka.utils.KafkaUtils.getIntFromLong;
+import static org.ballerinalang.messaging.kafka.utils.KafkaUtils.getKafkaConsumer;
 import static org.ballerinalang.messaging.kafka.utils.KafkaUtils.getTopicPartitionList;
+import static org.ballerinalang.messaging.kafka.utils.KafkaUtils.isConcurrentPartitionProcessing;
 import static org.ballerinalang.messaging.kafka.utils.KafkaUtils.processKafkaConsumerConfig;
 
 /**
@@ -73,7 +76,7 @@ public class BrokerConnection {
      */
     public static Object close(ObjectValue consumerObject, long duration) {
         KafkaTracingUtil.traceResourceInvocation(Scheduler.getStrand(), consumerObject);
-        KafkaConsumer kafkaConsumer = (KafkaConsumer) consumerObject.getNativeData(NATIVE_CONSUMER);
+        KafkaConsumer kafkaConsumer = getKafkaConsumer(consumerObject);
         Properties consumerProperties = (Properties) consumerObject.getNativeData(NATIVE_CONSUMER_CONFIG);
         int defaultApiTimeout = getDefaultApiTimeout(consumerProperties);
         int apiTimeout = getIntFromLong(duration, logger, ALIAS_DURATION);
@@ -118,6 +121,11 @@ public class BrokerConnection {
             consumerObject.addNativeData(NATIVE_CONSUMER_CONFIG, consumerProperties);
             consumerObject.addNativeData(BOOTSTRAP_SERVERS, consumerProperties.getProperty(BOOTSTRAP_SERVERS));
             consumerObject.addNativeData(KafkaConstants.CLIENT_ID, getClientIdFromProperties(consumerProperties));
+            // The flag is set before the consumer is attached to a service, so that the consumer natives behave the
+            // same way before and after the first records are dispatched.
+            if (isConcurrentPartitionProcessing(consumerProperties)) {
+                consumerObject.addNativeData(CONCURRENT_PARTITION_PROCESSING, true);
+            }
             KafkaMetricsUtil.reportNewConsumer(consumerObject);
         } catch (KafkaException e) {
             KafkaMetricsUtil.reportConsumerError(consumerObject, KafkaObservabilityConstants.ERROR_TYPE_CONNECTION);
@@ -136,7 +144,7 @@ public class BrokerConnection {
      */
     public static Object pause(ObjectValue consumerObject, BArray topicPartitions) {
         KafkaTracingUtil.traceResourceInvocation(Scheduler.getStrand(), consumerObject);
-        KafkaConsumer kafkaConsumer = (KafkaConsumer) consumerObject.getNativeData(NATIVE_CONSUMER);
+        KafkaConsumer kafkaConsumer = getKafkaConsumer(consumerObject);
         ArrayList<TopicPartition> partitionList = getTopicPartitionList(topicPartitions, logger);
 
         try {
@@ -158,7 +166,7 @@ public class BrokerConnection {
      */
     public static Object resume(ObjectValue consumerObject, BArray topicPartitions) {
         KafkaTracingUtil.traceResourceInvocation(Scheduler.getStrand(), consumerObject);
-        KafkaConsumer kafkaConsumer = (KafkaConsumer) consumerObject.getNativeData(NATIVE_CONSUMER);
+        KafkaConsumer kafkaConsumer = getKafkaConsumer(consumerObject);
         ArrayList<TopicPartition> partitionList = getTopicPartitionList(topicPartitions, logger);
 
         try {
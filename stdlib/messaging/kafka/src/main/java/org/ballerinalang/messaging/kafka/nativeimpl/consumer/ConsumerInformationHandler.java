@@ -47,12 +47,12 @@ import java.util.Set;
 import static org.ballerinalang.messaging.kafka.utils.KafkaConstants.ALIAS_DURATION;
 import static org.ballerinalang.messaging.kafka.utils.KafkaConstants.CONSUMER_ERROR;
 import static org.ballerinalang.messaging.kafka.utils.KafkaConstants.DURATION_UNDEFINED_VALUE;
-import static org.ballerinalang.messaging.kafka.utils.KafkaConstants.NATIVE_CONSUMER;
 import static org.ballerinalang.messaging.kafka.utils.KafkaConstants.NATIVE_CONSUMER_CONFIG;
 import static org.ballerinalang.messaging.kafka.utils.KafkaConstants.UNCHECKED;
 import static org.ballerinalang.messaging.kafka.utils.KafkaUtils.createKafkaError;
 import static org.ballerinalang.messaging.kafka.utils.KafkaUtils.getDefaultApiTimeout;
 import static org.ballerinalang.messaging.kafka.utils.KafkaUtils.getIntFromLong;
+import static org.ballerinalang.messaging.kafka.utils.KafkaUtils.getKafkaConsumer;
 import static org.ballerinalang.messaging.kafka.utils.KafkaUtils.getTopicPartitionList;
 import static org.ballerinalang.messaging.kafka.utils.KafkaUtils.getTopicPartitionRecord;
 import static org.ballerinalang.messaging.kafka.utils.KafkaUtils.populateTopicPartitionRecord;
@@ -74,7 +74,7 @@ public class ConsumerInformationHandler {
      */
     public static Object assign(ObjectValue consumerObject, BArray topicPartitions) {
         KafkaTracingUtil.traceResourceInvocation(Scheduler.getStrand(), consumerObject);
-        KafkaConsumer kafkaConsumer = (KafkaConsumer) consumerObject.getNativeData(NATIVE_CONSUMER);
+        KafkaConsumer kafkaConsumer = getKafkaConsumer(consumerObject);
         List<TopicPartition> partitions = getTopicPartitionList(topicPartitions, logger);
         try {
             kafkaConsumer.assign(partitions);
@@ -93,7 +93,7 @@ public class ConsumerInformationHandler {
      */
     public static Object getAssignment(ObjectValue consumerObject) {
         KafkaTracingUtil.traceResourceInvocation(Scheduler.getStrand(), consumerObject);
-        KafkaConsumer kafkaConsumer = (KafkaConsumer) consumerObject.getNativeData(NATIVE_CONSUMER);
+        KafkaConsumer kafkaConsumer = getKafkaConsumer(consumerObject);
         BArray topicPartitionArray =
                 BValueCreator.createArrayValue(new BArrayType(getTopicPartitionRecord().getType()));
         try {
@@ -119,7 +119,7 @@ public class ConsumerInformationHandler {
      */
     public static Object getAvailableTopics(ObjectValue consumerObject, long duration) {
         KafkaTracingUtil.traceResourceInvocation(Scheduler.getStrand(), consumerObject);
-        KafkaConsumer kafkaConsumer = (KafkaConsumer) consumerObject.getNativeData(NATIVE_CONSUMER);
+        KafkaConsumer kafkaConsumer = getKafkaConsumer(consumerObject);
         Properties consumerProperties = (Properties) consumerObject.getNativeData(NATIVE_CONSUMER_CONFIG);
         int defaultApiTimeout = getDefaultApiTimeout(consumerProperties);
         int apiTimeout = getIntFromLong(duration, logger, ALIAS_DURATION);
@@ -147,7 +147,7 @@ public class ConsumerInformationHandler {
      */
     public static Object getPausedPartitions(ObjectValue consumerObject) {
         KafkaTracingUtil.traceResourceInvocation(Scheduler.getStrand(), consumerObject);
-        KafkaConsumer kafkaConsumer = (KafkaConsumer) consumerObject.getNativeData(NATIVE_CONSUMER);
+        KafkaConsumer kafkaConsumer = getKafkaConsumer(consumerObject);
         BArray topicPartitionArray =
                 BValueCreator.createArrayValue(new BArrayType(getTopicPartitionRecord().getType()));
         try {
@@ -174,7 +174,7 @@ public class ConsumerInformationHandler {
      */
     public static Object getTopicPartitions(ObjectValue consumerObject, BString topic, long duration) {
         KafkaTracingUtil.traceResourceInvocation(Scheduler.getStrand(), consumerObject);
-        KafkaConsumer kafkaConsumer = (KafkaConsumer) consumerObject.getNativeData(NATIVE_CONSUMER);
+        KafkaConsumer kafkaConsumer = getKafkaConsumer(consumerObject);
         Properties consumerProperties = (Properties) consumerObject.getNativeData(NATIVE_CONSUMER_CONFIG);
 
         int defaultApiTimeout = getDefaultApiTimeout(consumerProperties);
@@ -212,7 +212,7 @@ public class ConsumerInformationHandler {
      */
     public static Object getSubscription(ObjectValue consumerObject) {
         KafkaTracingUtil.traceResourceInvocation(Scheduler.getStrand(), consumerObject);
-        KafkaConsumer<byte[], byte[]> kafkaConsumer = (KafkaConsumer) consumerObject.getNativeData(NATIVE_CONSUMER);
+        KafkaConsumer<byte[], byte[]> kafkaConsumer = getKafkaConsumer(consumerObject);
 
         try {
             Set<String> subscriptions = kafkaConsumer.subscription();
@@ -44,8 +44,8 @@ import java.util.Set;
 import java.util.regex.Pattern;
 
 import static org.ballerinalang.messaging.kafka.utils.KafkaConstants.CONSUMER_ERROR;
-import static org.ballerinalang.messaging.kafka.utils.KafkaConstants.NATIVE_CONSUMER;
 import static org.ballerinalang.messaging.kafka.utils.KafkaUtils.createKafkaError;
+import static org.ballerinalang.messaging.kafka.utils.KafkaUtils.getKafkaConsumer;
 import static org.ballerinalang.messaging.kafka.utils.KafkaUtils.getStringListFromStringBArray;
 import static org.ballerinalang.messaging.kafka.utils.KafkaUtils.getTopicNamesString;
 import static org.ballerinalang.messaging.kafka.utils.KafkaUtils.getTopicPartitionRecord;
@@ -66,7 +66,7 @@ public class SubscriptionHandler {
      */
     public static Object subscribe(ObjectValue consumerObject, BArray topics) {
         KafkaTracingUtil.traceResourceInvocation(Scheduler.getStrand(), consumerObject);
-        KafkaConsumer kafkaConsumer = (KafkaConsumer) consumerObject.getNativeData(NATIVE_CONSUMER);
+        KafkaConsumer kafkaConsumer = getKafkaConsumer(consumerObject);
         List<String> topicsList = getStringListFromStringBArray(topics);
         try {
             kafkaConsumer.subscribe(topicsList);
@@ -89,7 +89,7 @@ public class SubscriptionHandler {
      */
     public static Object subscribeToPattern(ObjectValue consumerObject, BString topicRegex) {
         KafkaTracingUtil.traceResourceInvocation(Scheduler.getStrand(), consumerObject);
-        KafkaConsumer kafkaConsumer = (KafkaConsumer) consumerObject.getNativeData(NATIVE_CONSUMER);
+        KafkaConsumer kafkaConsumer = getKafkaConsumer(consumerObject);
         try {
             kafkaConsumer.subscribe(Pattern.compile(topicRegex.getValue()));
             Set<String> topicsList = kafkaConsumer.subscription();
@@ -116,7 +116,7 @@ public class SubscriptionHandler {
         Strand strand = Scheduler.getStrand();
         KafkaTracingUtil.traceResourceInvocation(strand, consumerObject);
         NonBlockingCallback callback = new NonBlockingCallback(strand);
-        KafkaConsumer kafkaConsumer = (KafkaConsumer) consumerObject.getNativeData(NATIVE_CONSUMER);
+        KafkaConsumer kafkaConsumer = getKafkaConsumer(consumerObject);
         List<String> topicsList = getStringListFromStringBArray(topics);
         ConsumerRebalanceListener consumer = new SubscriptionHandler.KafkaRebalanceListener(strand, strand.scheduler,
                                                                                             onPartitionsRevoked,
@@ -144,7 +144,7 @@ public class SubscriptionHandler {
      */
     public static Object unsubscribe(ObjectValue consumerObject) {
         KafkaTracingUtil.traceResourceInvocation(Scheduler.getStrand(), consumerObject);
-        KafkaConsumer kafkaConsumer = (KafkaConsumer) consumerObject.getNativeData(NATIVE_CONSUMER);
+        KafkaConsumer kafkaConsumer = getKafkaConsumer(consumerObject);
         try {
             Set<String> topics = kafkaConsumer.subscription();
             kafkaConsumer.unsubscribe();
@@ -250,6 +250,41 @@ public class KafkaMetricsUtil {
         }
     }
 
+    /**
+     * Reports a change in the number of records of a consumer which are dispatched to the service and not processed
+     * yet.
+     *
+     * @param consumerObject Consumer object.
+     * @param delta          Change in the number of records in flight.
+     */
+    public static void reportInFlightRecords(ObjectValue consumerObject, int delta) {
+        if (!ObserveUtils.isMetricsEnabled()) {
+            return;
+        }
+        KafkaObserverContext observerContext = new KafkaObserverContext(KafkaObservabilityConstants.CONTEXT_CONSUMER,
+                                                                        KafkaUtils.getClientId(consumerObject),
+                                                                        KafkaUtils.getBootstrapServers(consumerObject));
+        changeGauge(observerContext, KafkaObservabilityConstants.METRIC_IN_FLIGHT_RECORDS[0],
+                    KafkaObservabilityConstants.METRIC_IN_FLIGHT_RECORDS[1], delta);
+    }
+
+    /**
+     * Reports a change in the number of partitions of a consumer which are paused as too many records are in flight.
+     *
+     * @param consumerObject Consumer object.
+     * @param delta          Change in the number of paused partitions.
+     */
+    public static void reportPausedPartitions(ObjectValue consumerObject, int delta) {
+        if (!ObserveUtils.isMetricsEnabled()) {
+            return;
+        }
+        KafkaObserverContext observerContext = new KafkaObserverContext(KafkaObservabilityConstants.CONTEXT_CONSUMER,
+                                                                        KafkaUtils.getClientId(consumerObject),
+                                                                        KafkaUtils.getBootstrapServers(consumerObject));
+        changeGauge(observerContext, KafkaObservabilityConstants.METRIC_PAUSED_PARTITIONS[0],
+                    KafkaObservabilityConstants.METRIC_PAUSED_PARTITIONS[1], delta);
+    }
+
     /**
      * Reports an error generated by a producer. This method is called when the URL/subject of the current producer is
      * unknown. e.g. when a Kafka connection doesn't exist for a producer.
@@ -376,6 +411,15 @@ public class KafkaMetricsUtil {
                 .decrement();
     }
 
+    private static void changeGauge(KafkaObserverContext observerContext, String name, String desc, int amount) {
+        if (metricRegistry == null) {
+            return;
+        }
+        metricRegistry.gauge(new MetricId(
+                KafkaObservabilityConstants.CONNECTOR_NAME + "_" + name, desc, observerContext.getAllTags()))
+                .increment(amount);
+    }
+
     private static void setGauge(KafkaObserverContext observerContext, String name, String desc, int value) {
         if (metricRegistry == null) {
             return;
@@ -40,6 +40,10 @@ public class KafkaObservabilityConstants {
     static final String[] METRIC_DELIVERED = {"delivered", "Number of messages successfully received by consumer"};
     static final String[] METRIC_CONSUMED_SIZE = {"consumed_size", "Total size in bytes of messages consumed"};
     static final String[] METRIC_ACK = {"acknowledgements", "Total number of acknowledgements received"};
+    static final String[] METRIC_IN_FLIGHT_RECORDS = {"in_flight_records",
+            "Number of records dispatched to the service which are not processed yet"};
+    static final String[] METRIC_PAUSED_PARTITIONS = {"paused_partitions",
+            "Number of partitions paused as too many records are in flight"};
 
     static final String TAG_URL = "url";
     static final String TAG_TOPIC = "topic";
@@ -54,6 +54,7 @@ public class KafkaConstants {
     public static final String NATIVE_CONSUMER = "KafkaConsumer";
     public static final String NATIVE_PRODUCER = "KafkaProducer";
     public static final String NATIVE_CONSUMER_CONFIG = "KafkaConsumerConfig";
+    public static final String CONCURRENT_PARTITION_PROCESSING = "ConcurrentPartitionProcessing";
     public static final String NATIVE_PRODUCER_CONFIG = "KafkaProducerConfig";
     public static final BString CONNECTOR_ID = StringUtils.fromString("connectorId");
 
@@ -93,6 +94,9 @@ public class KafkaConstants {
     public static final BString ALIAS_POLLING_TIMEOUT = StringUtils.fromString("pollingTimeoutInMillis");
     public static final BString ALIAS_POLLING_INTERVAL = StringUtils.fromString("pollingIntervalInMillis");
     public static final BString ALIAS_DECOUPLE_PROCESSING = StringUtils.fromString("decoupleProcessing");
+    public static final BString ALIAS_CONCURRENT_PARTITION_PROCESSING =
+            StringUtils.fromString("concurrentPartitionProcessing");
+    public static final BString ALIAS_MAX_IN_FLIGHT_RECORDS = StringUtils.fromString("maxInFlightRecords");
     public static final BString ALIAS_TOPIC = StringUtils.fromString("topic");
     public static final BString ALIAS_PARTITION = StringUtils.fromString("partition");
     public static final BString ALIAS_OFFSET = StringUtils.fromString("offset");
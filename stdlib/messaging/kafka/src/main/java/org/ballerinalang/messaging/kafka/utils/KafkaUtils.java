@@ -22,6 +22,7 @@ import org.apache.kafka.clients.CommonClientConfigs;
 import org.apache.kafka.clients.consumer.ConsumerConfig;
 import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.clients.consumer.KafkaConsumer;
 import org.apache.kafka.clients.consumer.OffsetAndMetadata;
 import org.apache.kafka.clients.producer.KafkaProducer;
 import org.apache.kafka.clients.producer.ProducerConfig;
@@ -56,7 +57,9 @@ import static org.ballerinalang.jvm.BallerinaValues.createRecord;
 import static org.ballerinalang.messaging.kafka.utils.AvroUtils.handleAvroConsumer;
 import static org.ballerinalang.messaging.kafka.utils.KafkaConstants.ADDITIONAL_PROPERTIES_MAP_FIELD;
 import static org.ballerinalang.messaging.kafka.utils.KafkaConstants.ALIAS_CONCURRENT_CONSUMERS;
+import static org.ballerinalang.messaging.kafka.utils.KafkaConstants.ALIAS_CONCURRENT_PARTITION_PROCESSING;
 import static org.ballerinalang.messaging.kafka.utils.KafkaConstants.ALIAS_DECOUPLE_PROCESSING;
+import static org.ballerinalang.messaging.kafka.utils.KafkaConstants.ALIAS_MAX_IN_FLIGHT_RECORDS;
 import static org.ballerinalang.messaging.kafka.utils.KafkaConstants.ALIAS_OFFSET;
 import static org.ballerinalang.messaging.kafka.utils.KafkaConstants.ALIAS_PARTITION;
 import static org.ballerinalang.messaging.kafka.utils.KafkaConstants.ALIAS_POLLING_INTERVAL;
@@ -66,6 +69,7 @@ import static org.ballerinalang.messaging.kafka.utils.KafkaConstants.ALIAS_TOPIC
 import static org.ballerinalang.messaging.kafka.utils.KafkaConstants.AUTHENTICATION_CONFIGURATION;
 import static org.ballerinalang.messaging.kafka.utils.KafkaConstants.AUTHENTICATION_MECHANISM;
 import static org.ballerinalang.messaging.kafka.utils.KafkaConstants.BALLERINA_STRAND;
+import static org.ballerinalang.messaging.kafka.utils.KafkaConstants.CONCURRENT_PARTITION_PROCESSING;
 import static org.ballerinalang.messaging.kafka.utils.KafkaConstants.CONSUMER_CONFIG_FIELD_NAME;
 import static org.ballerinalang.messaging.kafka.utils.KafkaConstants.CONSUMER_ERROR;
 import static org.ballerinalang.messaging.kafka.utils.KafkaConstants.CONSUMER_KEY_DESERIALIZER_CONFIG;
@@ -73,6 +77,7 @@ import static org.ballerinalang.messaging.kafka.utils.KafkaConstants.CONSUMER_KE
 import static org.ballerinalang.messaging.kafka.utils.KafkaConstants.CONSUMER_VALUE_DESERIALIZER_CONFIG;
 import static org.ballerinalang.messaging.kafka.utils.KafkaConstants.CONSUMER_VALUE_DESERIALIZER_TYPE_CONFIG;
 import static org.ballerinalang.messaging.kafka.utils.KafkaConstants.KEYSTORE_CONFIG;
+import static org.ballerinalang.messaging.kafka.utils.KafkaConstants.NATIVE_CONSUMER;
 import static org.ballerinalang.messaging.kafka.utils.KafkaConstants.PASSWORD;
 import static org.ballerinalang.messaging.kafka.utils.KafkaConstants.PRODUCER_KEY_SERIALIZER_CONFIG;
 import static org.ballerinalang.messaging.kafka.utils.KafkaConstants.PRODUCER_KEY_SERIALIZER_TYPE_CONFIG;
@@ -210,6 +215,8 @@ public class KafkaUtils {
         addIntParamIfPresent(ALIAS_POLLING_INTERVAL.getValue(), configurations, properties, ALIAS_POLLING_INTERVAL);
         addIntParamIfPresent(ALIAS_CONCURRENT_CONSUMERS.getValue(), configurations, properties,
                              ALIAS_CONCURRENT_CONSUMERS);
+        addIntParamIfPresent(ALIAS_MAX_IN_FLIGHT_RECORDS.getValue(), configurations, properties,
+                             ALIAS_MAX_IN_FLIGHT_RECORDS);
 
         addBooleanParamIfPresent(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, configurations, properties,
                                  KafkaConstants.CONSUMER_ENABLE_AUTO_COMMIT_CONFIG, true);
@@ -220,6 +227,8 @@ public class KafkaUtils {
 
         addBooleanParamIfPresent(ALIAS_DECOUPLE_PROCESSING.getValue(), configurations, properties,
                                  ALIAS_DECOUPLE_PROCESSING, false);
+        addBooleanParamIfPresent(ALIAS_CONCURRENT_PARTITION_PROCESSING.getValue(), configurations, properties,
+                                 ALIAS_CONCURRENT_PARTITION_PROCESSING, false);
         if (Objects.nonNull(configurations.get(SECURE_SOCKET))) {
             processSslProperties(configurations, properties);
         }
@@ -763,6 +772,35 @@ public class KafkaUtils {
         return listenerConfigurations.get(KafkaConstants.CONSUMER_BOOTSTRAP_SERVERS_CONFIG).toString();
     }
 
+    /**
+     * Returns whether the partitions of the polls of a consumer are processed concurrently, which is the case when
+     * concurrent partition processing is enabled while neither auto committing nor decoupled processing is.
+     *
+     * @param consumerProperties Native consumer properties object
+     * @return true if the partitions are processed concurrently, false otherwise
+     */
+    public static boolean isConcurrentPartitionProcessing(Properties consumerProperties) {
+        return Boolean.TRUE.equals(consumerProperties.get(ALIAS_CONCURRENT_PARTITION_PROCESSING.getValue())) &&
+                Boolean.FALSE.equals(consumerProperties.get(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG)) &&
+                !Boolean.TRUE.equals(consumerProperties.get(ALIAS_DECOUPLE_PROCESSING.getValue()));
+    }
+
+    /**
+     * Returns the native consumer of a consumer object. The consumer cannot be used when the partitions of its polls
+     * are processed concurrently, as it is used by the polling thread and kafka does not support multiple thread
+     * access.
+     *
+     * @param consumerObject Kafka consumer object from ballerina
+     * @return the native consumer
+     */
+    public static KafkaConsumer getKafkaConsumer(ObjectValue consumerObject) {
+        if (Objects.nonNull(consumerObject.getNativeData(CONCURRENT_PARTITION_PROCESSING))) {
+            throw createKafkaError("The consumer cannot be used as the partitions of its polls are processed " +
+                                           "concurrently", CONSUMER_ERROR);
+        }
+        return (KafkaConsumer) consumerObject.getNativeData(NATIVE_CONSUMER);
+    }
+
     public static String getTopicNamesString(List<String> topicsList) {
         return String.join(", ", topicsList);
     }
@@ -87,6 +87,58 @@ public class ServiceTest {
         }
     }
 
+    @Test(description = "Test processing the partitions of a poll concurrently")
+    public void testPartitionConcurrentService() throws ExecutionException, InterruptedException {
+        String balFile = "partition_service.bal";
+        compileResult = BCompileUtil.compileOffline(true, getResourcePath(Paths.get(TEST_SRC, TEST_SERVICES, balFile)));
+        BValue[] rejectedBValues = BRunUtil.invoke(compileResult, "testIsListenerRejectedBeforeRecords");
+        Assert.assertTrue(((BBoolean) rejectedBValues[0]).booleanValue());
+        String topic = "partition-service-test";
+        String message = "test_string";
+        kafkaCluster.createTopic(topic, 3, 1);
+        for (int i = 0; i < 30; i++) {
+            kafkaCluster.sendMessage(topic, message);
+        }
+
+        try {
+            await().atMost(40000, TimeUnit.MILLISECONDS).until(() -> {
+                BValue[] returnBValues = BRunUtil.invoke(compileResult, "testGetResult");
+                Assert.assertEquals(returnBValues.length, 1);
+                Assert.assertTrue(returnBValues[0] instanceof BInteger);
+                return (((BInteger) returnBValues[0]).intValue() == 30);
+            });
+        } catch (Throwable e) {
+            Assert.fail(e.getMessage());
+        }
+        BValue[] returnBValues = BRunUtil.invoke(compileResult, "testIsInOrder");
+        Assert.assertTrue(((BBoolean) returnBValues[0]).booleanValue());
+        returnBValues = BRunUtil.invoke(compileResult, "testIsConsumerRejected");
+        Assert.assertTrue(((BBoolean) returnBValues[0]).booleanValue());
+    }
+
+    @Test(description = "Test pausing and resuming a decoupled service when the records in flight are bounded")
+    public void testFlowControlService() throws ExecutionException, InterruptedException {
+        String balFile = "flow_control_service.bal";
+        compileResult = BCompileUtil.compileOffline(true, getResourcePath(Paths.get(TEST_SRC, TEST_SERVICES, balFile)));
+        String topic = "flow-control-service-test";
+        String message = "test_string";
+        kafkaCluster.createTopic(topic, 3, 1);
+        for (int i = 0; i < 50; i++) {
+            kafkaCluster.sendMessage(topic, message);
+        }
+
+        try {
+            await().atMost(40000, TimeUnit.MILLISECONDS).until(() -> {
+                BValue[] returnBValues = BRunUtil.invoke(compileResult, "testGetResult");
+                Assert.assertEquals(returnBValues.length, 1);
+                Assert.assertTrue(returnBValues[0] instanceof BInteger);
+                return (((BInteger) returnBValues[0]).intValue() == 50);
+            });
+        } catch (Throwable e) {
+            Assert.fail(e.getMessage());
+        }
+    }
+
     @Test(description = "Test endpoint bind to a service")
     public void testAdvancedService() {
         String balFile = "advanced_service.bal";
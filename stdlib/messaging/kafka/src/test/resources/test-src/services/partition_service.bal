@@ -0,0 +1,75 @@
+// Copyright (c) 2019 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied. See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/kafka;
+
+string topic = "partition-service-test";
+
+kafka:ConsumerConfiguration consumerConfigs = {
+    bootstrapServers: "localhost:14141",
+    groupId: "partition-service-test-group",
+    clientId: "partition-service-consumer",
+    offsetReset: "earliest",
+    topics: [topic],
+    autoCommit: false,
+    concurrentPartitionProcessing: true
+};
+
+listener kafka:Consumer kafkaConsumer = new (consumerConfigs);
+
+int count = 0;
+boolean inOrder = true;
+boolean consumerRejected = true;
+map<int> lastOffsets = {};
+
+service kafkaTestService on kafkaConsumer {
+    resource function onMessage(kafka:Consumer consumer, kafka:ConsumerRecord[] records) {
+        lock {
+            foreach var kafkaRecord in records {
+                string partition = kafkaRecord.partition.toString();
+                int? lastOffset = lastOffsets[partition];
+                if (lastOffset is int && lastOffset >= kafkaRecord.offset) {
+                    inOrder = false;
+                }
+                lastOffsets[partition] = kafkaRecord.offset;
+                count += 1;
+            }
+        }
+        // The consumer is used by the polling thread while the partitions are processed.
+        error? result = trap consumer->commit();
+        if (result is ()) {
+            consumerRejected = false;
+        }
+    }
+}
+
+public function testGetResult() returns int {
+    return count;
+}
+
+public function testIsInOrder() returns boolean {
+    return inOrder;
+}
+
+public function testIsConsumerRejected() returns boolean {
+    return consumerRejected;
+}
+
+public function testIsListenerRejectedBeforeRecords() returns boolean {
+    // The consumer is unusable from the time it is connected, and not only once records are dispatched from it.
+    string[]|error subscription = trap kafkaConsumer->getSubscription();
+    return subscription is error;
+}
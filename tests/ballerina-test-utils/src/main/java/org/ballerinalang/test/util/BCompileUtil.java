@@ -65,9 +65,11 @@ import static org.ballerinalang.compiler.CompilerOptionName.EXPERIMENTAL_FEATURE
 import static org.ballerinalang.compiler.CompilerOptionName.LOCK_ENABLED;
 import static org.ballerinalang.compiler.CompilerOptionName.NEW_PARSER_ENABLED;
 import static org.ballerinalang.compiler.CompilerOptionName.OFFLINE;
+import static org.ballerinalang.compiler.CompilerOptionName.PARALLEL_QUERIES;
 import static org.ballerinalang.compiler.CompilerOptionName.PRESERVE_WHITESPACE;
 import static org.ballerinalang.compiler.CompilerOptionName.PROJECT_DIR;
 import static org.ballerinalang.compiler.CompilerOptionName.SKIP_MODULE_DEPENDENCIES;
+import static org.ballerinalang.compiler.CompilerOptionName.SKIP_QUERY_FUSION;
 import static org.ballerinalang.compiler.CompilerOptionName.SKIP_TESTS;
 import static org.ballerinalang.compiler.CompilerOptionName.TEST_ENABLED;
 import static org.ballerinalang.test.util.TestConstant.ENABLE_JBALLERINA_TESTS;
@@ -125,6 +127,36 @@ public class BCompileUtil {
         return compileOnJBallerina(context, sourceFilePath, false, true);
     }
 
+    /**
+     * Compile with parallel queries enabled and return the semantic errors.
+     *
+     * @param sourceFilePath Path to source module/file
+     * @return Semantic errors
+     */
+    public static CompileResult compileWithParallelQueries(String sourceFilePath) {
+
+        CompilerContext context = new CompilerContext();
+        CompilerOptions options = CompilerOptions.getInstance(context);
+        options.put(PARALLEL_QUERIES, "true");
+        context.put(CompilerOptions.class, options);
+        return compileOnJBallerina(context, sourceFilePath, false, true);
+    }
+
+    /**
+     * Compile with query expressions evaluated as stream pipelines instead of loops and return the semantic errors.
+     *
+     * @param sourceFilePath Path to source module/file
+     * @return Semantic errors
+     */
+    public static CompileResult compileWithoutQueryFusion(String sourceFilePath) {
+
+        CompilerContext context = new CompilerContext();
+        CompilerOptions options = CompilerOptions.getInstance(context);
+        options.put(SKIP_QUERY_FUSION, "true");
+        context.put(CompilerOptions.class, options);
+        return compileOnJBallerina(context, sourceFilePath, false, true);
+    }
+
     /**
      * Compile on a separated process.
      *
@@ -0,0 +1,129 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.ballerinalang.test.bir;
+
+import org.ballerinalang.model.values.BBoolean;
+import org.ballerinalang.model.values.BInteger;
+import org.ballerinalang.model.values.BValue;
+import org.ballerinalang.model.values.BValueArray;
+import org.ballerinalang.test.util.BCompileUtil;
+import org.ballerinalang.test.util.BRunUtil;
+import org.ballerinalang.test.util.CompileResult;
+import org.testng.Assert;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode;
+import org.wso2.ballerinalang.compiler.bir.model.BIRTerminator;
+import org.wso2.ballerinalang.compiler.bir.model.InstructionKind;
+import org.wso2.ballerinalang.compiler.tree.BLangPackage;
+
+/**
+ * Test inlining the calls to small functions of a module in the BIR optimizer.
+ *
+ * @since 2.0.0
+ */
+public class BIRFunctionInlinerTest {
+
+    private CompileResult result;
+
+    @BeforeClass
+    public void setup() {
+        result = BCompileUtil.compile("test-src/bir/function-inlining.bal");
+        Assert.assertEquals(result.getErrorCount(), 0);
+    }
+
+    @Test(description = "Test substituting the arguments for the parameters which are not assigned in the callee")
+    public void testUnassignedParameters() {
+        assertInlined("testUnassignedParameters", "add");
+        assertInts(invoke("testUnassignedParameters"), 10, 7);
+    }
+
+    @Test(description = "Test copying the arguments of the parameters which are assigned in the callee")
+    public void testAssignedParameter() {
+        assertInlined("testAssignedParameter", "clampToZero");
+        assertInts(invoke("testAssignedParameter"), -5, 0);
+    }
+
+    @Test(description = "Test copying a module level variable passed as an argument, which the callee assigns")
+    public void testGlobalArgument() {
+        assertInlined("testGlobalArgument", "addToCounter");
+        assertInts(invoke("testGlobalArgument"), 1, 2);
+    }
+
+    @Test(description = "Test inlining a callee with more than one return statement")
+    public void testMultipleReturns() {
+        assertInlined("testMultipleReturns", "sign");
+        assertInts(invoke("testMultipleReturns"), -1, 0, 1);
+    }
+
+    @Test(description = "Test inlining a call whose result is assigned to the variable passed as its argument")
+    public void testAssignCallToArgument() {
+        assertInlined("testAssignCallToArgument", "step");
+        BValue[] returns = BRunUtil.invoke(result, "testAssignCallToArgument");
+        Assert.assertEquals(((BInteger) returns[0]).intValue(), 42);
+    }
+
+    @Test(description = "Test not inlining calls into a function which traps errors")
+    public void testCallerWithTrap() {
+        Assert.assertTrue(calls("testCallerWithTrap", "add"));
+        Assert.assertTrue(calls("testCallerWithTrap", "divide"));
+        BValueArray returns = invoke("testCallerWithTrap");
+        Assert.assertEquals(((BInteger) returns.getRefValue(0)).intValue(), 3);
+        Assert.assertTrue(((BBoolean) returns.getRefValue(1)).booleanValue());
+    }
+
+    @Test(description = "Test inlining wrapper functions which become leaf functions in the earlier rounds")
+    public void testWrappers() {
+        assertInlined("level2", "level3");
+        assertInlined("level1", "level2");
+        assertInlined("testWrappers", "level1");
+        BValue[] returns = BRunUtil.invoke(result, "testWrappers");
+        Assert.assertEquals(((BInteger) returns[0]).intValue(), 7);
+    }
+
+    private BValueArray invoke(String functionName) {
+        return (BValueArray) BRunUtil.invoke(result, functionName)[0];
+    }
+
+    private void assertInts(BValueArray values, long... expected) {
+        Assert.assertEquals(values.size(), expected.length);
+        for (int i = 0; i < expected.length; i++) {
+            Assert.assertEquals(((BInteger) values.getRefValue(i)).intValue(), expected[i]);
+        }
+    }
+
+    private void assertInlined(String callerName, String calleeName) {
+        Assert.assertFalse(calls(callerName, calleeName), calleeName + " is not inlined into " + callerName);
+    }
+
+    private boolean calls(String callerName, String calleeName) {
+        BIRNode.BIRPackage birPackage = ((BLangPackage) result.getAST()).symbol.bir;
+        for (BIRNode.BIRFunction function : birPackage.functions) {
+            if (!function.name.value.equals(callerName)) {
+                continue;
+            }
+            for (BIRNode.BIRBasicBlock bb : function.basicBlocks) {
+                if (bb.terminator != null && bb.terminator.kind == InstructionKind.CALL &&
+                        ((BIRTerminator.Call) bb.terminator).name.value.equals(calleeName)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+        throw new AssertionError("no function: " + callerName);
+    }
+}
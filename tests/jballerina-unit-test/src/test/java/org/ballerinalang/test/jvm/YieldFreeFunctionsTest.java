@@ -0,0 +1,127 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.ballerinalang.test.jvm;
+
+import org.ballerinalang.model.values.BInteger;
+import org.ballerinalang.model.values.BValue;
+import org.ballerinalang.test.util.BCompileUtil;
+import org.ballerinalang.test.util.BRunUtil;
+import org.ballerinalang.test.util.CompileResult;
+import org.testng.Assert;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+/**
+ * Tests for functions which cannot yield their strand, whose methods are generated without saving and restoring
+ * their frames. Only the functions which may yield have frame classes.
+ *
+ * @since 2.0.0
+ */
+public class YieldFreeFunctionsTest {
+
+    private CompileResult compileResult;
+
+    @BeforeClass
+    public void setup() {
+        compileResult = BCompileUtil.compile("test-src/jvm/yield-free-functions.bal");
+        Assert.assertEquals(compileResult.getErrorCount(), 0);
+    }
+
+    @Test(description = "Test yield-free calls before and after the strand of the caller is suspended on a wait")
+    public void testYieldFreeCallsAroundSuspension() {
+        Assert.assertTrue(isYieldFree("fib"));
+        Assert.assertFalse(isYieldFree("sleepAndDouble"));
+        Assert.assertFalse(isYieldFree("testYieldFreeCallsAroundSuspension"));
+        BValue[] result = BRunUtil.invoke(compileResult, "testYieldFreeCallsAroundSuspension");
+        Assert.assertEquals(result[0].stringValue(), "[610, 1220, 987, 144]");
+    }
+
+    @Test(description = "Test yield-free calls around a call which yields")
+    public void testYieldingCallBetweenYieldFreeCalls() {
+        Assert.assertFalse(isYieldFree("sumAroundSleep"));
+        BValue[] result = BRunUtil.invoke(compileResult, "testYieldingCallBetweenYieldFreeCalls");
+        Assert.assertEquals(result[0].stringValue(), "[55, 144, 89]");
+    }
+
+    @Test(description = "Test mutually recursive functions which cannot yield")
+    public void testMutualRecursion() {
+        Assert.assertTrue(isYieldFree("isEven"));
+        Assert.assertTrue(isYieldFree("isOdd"));
+        Assert.assertTrue(isYieldFree("testMutualRecursion"));
+        BValue[] result = BRunUtil.invoke(compileResult, "testMutualRecursion");
+        Assert.assertEquals(result[0].stringValue(), "[true, false, false, true]");
+    }
+
+    @Test(description = "Test mutually recursive functions, one of which yields")
+    public void testYieldingMutualRecursion() {
+        Assert.assertFalse(isYieldFree("countDown"));
+        Assert.assertFalse(isYieldFree("countDownOnce"));
+        assertInt(BRunUtil.invoke(compileResult, "testYieldingMutualRecursion"), 10);
+    }
+
+    @Test(description = "Test a function with a lock statement yields")
+    public void testLock() {
+        Assert.assertFalse(isYieldFree("addWithLock"));
+        assertInt(BRunUtil.invoke(compileResult, "testLock"), 21);
+    }
+
+    @Test(description = "Test a function with workers yields")
+    public void testWorker() {
+        Assert.assertFalse(isYieldFree("sumWithWorker"));
+        assertInt(BRunUtil.invoke(compileResult, "testWorker"), 144);
+    }
+
+    @Test(description = "Test a function calling an extern function yields")
+    public void testExternCall() {
+        Assert.assertFalse(isYieldFree("callExtern"));
+        assertInt(BRunUtil.invoke(compileResult, "testExternCall"), 85);
+    }
+
+    @Test(description = "Test a function calling a function pointer yields")
+    public void testFunctionPointerCall() {
+        Assert.assertFalse(isYieldFree("applyTwice"));
+        assertInt(BRunUtil.invoke(compileResult, "testFunctionPointerCall"), 21);
+    }
+
+    @Test(description = "Test a function calling a function of another module yields")
+    public void testCrossModuleCall() {
+        Assert.assertFalse(isYieldFree("nameLength"));
+        assertInt(BRunUtil.invoke(compileResult, "testCrossModuleCall"), 11);
+    }
+
+    @Test(description = "Test a function calling an observable function yields, as its call is observed")
+    public void testObservedCall() {
+        Assert.assertFalse(isYieldFree("callObservedFunction"));
+        assertInt(BRunUtil.invoke(compileResult, "testObservedCall"), 145);
+    }
+
+    private void assertInt(BValue[] result, long expected) {
+        Assert.assertEquals(result.length, 1);
+        Assert.assertEquals(((BInteger) result[0]).intValue(), expected);
+    }
+
+    private boolean isYieldFree(String functionName) {
+        // The frames of yield-free functions are never saved, so their frame classes are not generated.
+        try {
+            Class.forName(functionName + "Frame", false, compileResult.getClassLoader());
+            return false;
+        } catch (ClassNotFoundException e) {
+            return true;
+        }
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.ballerinalang.test.lock;
+
+import org.ballerinalang.test.util.BCompileUtil;
+import org.ballerinalang.test.util.CompileResult;
+import org.testng.Assert;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode;
+import org.wso2.ballerinalang.compiler.bir.model.BIRTerminator;
+import org.wso2.ballerinalang.compiler.bir.model.InstructionKind;
+import org.wso2.ballerinalang.compiler.tree.BLangPackage;
+
+/**
+ * Test identifying the lock statements which only read shared state, and so acquire the lock in shared mode.
+ *
+ * @since 2.0.0
+ */
+public class LockModeTest {
+
+    private BIRNode.BIRPackage birPackage;
+
+    @BeforeClass
+    public void setup() {
+        CompileResult result = BCompileUtil.compileAndGetBIR("test-src/lock/lock-mode.bal");
+        Assert.assertEquals(result.getErrorCount(), 0);
+        birPackage = ((BLangPackage) result.getAST()).symbol.bir;
+    }
+
+    @DataProvider(name = "lockModes")
+    public Object[][] lockModes() {
+        return new Object[][]{
+                {"readCounter", true},
+                {"readCounts", true},
+                {"constructInLock", true},
+                {"writeCounter", false},
+                {"storeInCounts", false},
+                {"pushInLock", false},
+                {"mergeJsonInLock", false},
+                {"callbackInLock", false}
+        };
+    }
+
+    @Test(dataProvider = "lockModes")
+    public void testLockMode(String functionName, boolean readOnly) {
+        Assert.assertEquals(getLock(functionName).readOnly, readOnly);
+    }
+
+    private BIRTerminator.Lock getLock(String functionName) {
+        for (BIRNode.BIRFunction function : birPackage.functions) {
+            if (!function.name.value.equals(functionName)) {
+                continue;
+            }
+            for (BIRNode.BIRBasicBlock bb : function.basicBlocks) {
+                if (bb.terminator != null && bb.terminator.kind == InstructionKind.LOCK) {
+                    return (BIRTerminator.Lock) bb.terminator;
+                }
+            }
+        }
+        throw new AssertionError("no lock statement in function: " + functionName);
+    }
+}
@@ -124,6 +124,24 @@ public class JoinClauseTest {
         Assert.assertEquals(deptPerson2.get("dept").stringValue(), "Operations");
     }
 
+    @Test(description = "Test join clause with keys matching multiple frames on both sides")
+    public void testJoinClauseWithDuplicateKeys() {
+        BValue[] values = BRunUtil.invoke(result, "testJoinClauseWithDuplicateKeys");
+        Assert.assertTrue(((BBoolean) values[0]).booleanValue());
+    }
+
+    @Test(description = "Test join clause with a key and other conditions in the on clause")
+    public void testJoinClauseWithKeyAndCondition() {
+        BValue[] values = BRunUtil.invoke(result, "testJoinClauseWithKeyAndCondition");
+        Assert.assertTrue(((BBoolean) values[0]).booleanValue());
+    }
+
+    @Test(description = "Test join clause with optional keys")
+    public void testJoinClauseWithNilKeys() {
+        BValue[] values = BRunUtil.invoke(result, "testJoinClauseWithNilKeys");
+        Assert.assertTrue(((BBoolean) values[0]).booleanValue());
+    }
+
     @Test(description = "Test outer join clause with record variable definition type 1")
     public void testOuterJoinClauseWithRecordVariable() {
         BValue[] values = BRunUtil.invoke(result, "testOuterJoinClauseWithRecordVariable");
@@ -0,0 +1,97 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.ballerinalang.test.query;
+
+import org.ballerinalang.model.values.BBoolean;
+import org.ballerinalang.model.values.BValue;
+import org.ballerinalang.model.values.BValueArray;
+import org.ballerinalang.test.util.BCompileUtil;
+import org.ballerinalang.test.util.BRunUtil;
+import org.ballerinalang.test.util.CompileResult;
+import org.testng.Assert;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode;
+import org.wso2.ballerinalang.compiler.bir.model.BIRTerminator;
+import org.wso2.ballerinalang.compiler.bir.model.InstructionKind;
+import org.wso2.ballerinalang.compiler.tree.BLangPackage;
+
+/**
+ * This contains methods to test query expressions evaluated over chunks of their arrays on parallel strands.
+ *
+ * @since 2.0.0
+ */
+public class ParallelQueryTest {
+
+    private CompileResult result;
+
+    @BeforeClass
+    public void setup() {
+        result = BCompileUtil.compileWithParallelQueries("test-src/query/parallel-query.bal");
+        Assert.assertEquals(result.getErrorCount(), 0);
+    }
+
+    @Test(description = "Test the result of a parallel query is the result of the loop, in the order of the array")
+    public void testParallelQueryOrder() {
+        Assert.assertTrue(isParallel("testParallelQueryOrder"));
+        assertTrue(BRunUtil.invoke(result, "testParallelQueryOrder"));
+    }
+
+    @Test(description = "Test a parallel query with a let clause")
+    public void testParallelQueryWithLetClause() {
+        Assert.assertTrue(isParallel("testParallelQueryWithLetClause"));
+        assertTrue(BRunUtil.invoke(result, "testParallelQueryWithLetClause"));
+    }
+
+    @Test(description = "Test a parallel query which refers to the local variables of the enclosing function")
+    public void testParallelQueryWithCapturedVariables() {
+        Assert.assertTrue(isParallel("testParallelQueryWithCapturedVariables"));
+        assertTrue(BRunUtil.invoke(result, "testParallelQueryWithCapturedVariables"));
+    }
+
+    @Test(description = "Test a panic in a chunk of a parallel query is the panic of the loop")
+    public void testPanicInParallelQuery() {
+        Assert.assertTrue(isParallel("divideByMembers"));
+        BValueArray returns = (BValueArray) BRunUtil.invoke(result, "testPanicInParallelQuery")[0];
+        String message = returns.getRefValue(0).stringValue();
+        Assert.assertTrue(message.contains("/ by zero"), message);
+        Assert.assertEquals(message, returns.getRefValue(1).stringValue());
+    }
+
+    private void assertTrue(BValue[] returns) {
+        Assert.assertEquals(returns.length, 1);
+        Assert.assertTrue(((BBoolean) returns[0]).booleanValue());
+    }
+
+    private boolean isParallel(String functionName) {
+        BIRNode.BIRPackage birPackage = ((BLangPackage) result.getAST()).symbol.bir;
+        for (BIRNode.BIRFunction function : birPackage.functions) {
+            if (!function.name.value.equals(functionName)) {
+                continue;
+            }
+            for (BIRNode.BIRBasicBlock bb : function.basicBlocks) {
+                if (bb.terminator != null && bb.terminator.kind == InstructionKind.CALL &&
+                        ((BIRTerminator.Call) bb.terminator).name.value.equals("evaluateInParallel")) {
+                    return true;
+                }
+            }
+            return false;
+        }
+        throw new AssertionError("no function: " + functionName);
+    }
+}
@@ -0,0 +1,171 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.ballerinalang.test.query;
+
+import org.ballerinalang.model.values.BInteger;
+import org.ballerinalang.model.values.BValue;
+import org.ballerinalang.model.values.BValueArray;
+import org.ballerinalang.test.util.BCompileUtil;
+import org.ballerinalang.test.util.BRunUtil;
+import org.ballerinalang.test.util.CompileResult;
+import org.testng.Assert;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode;
+import org.wso2.ballerinalang.compiler.bir.model.BIRTerminator;
+import org.wso2.ballerinalang.compiler.bir.model.InstructionKind;
+import org.wso2.ballerinalang.compiler.tree.BLangPackage;
+
+/**
+ * This contains methods to test query expressions evaluated as loops give the same results as the stream pipelines,
+ * which evaluate them when query fusion is skipped.
+ *
+ * @since 2.0.0
+ */
+public class QueryFusionTest {
+
+    private CompileResult fusedResult;
+    private CompileResult pipelineResult;
+
+    @BeforeClass
+    public void setup() {
+        fusedResult = BCompileUtil.compile("test-src/query/query-fusion.bal");
+        Assert.assertEquals(fusedResult.getErrorCount(), 0);
+        pipelineResult = BCompileUtil.compileWithoutQueryFusion("test-src/query/query-fusion.bal");
+        Assert.assertEquals(pipelineResult.getErrorCount(), 0);
+    }
+
+    @Test(description = "Test a query with where and select clauses")
+    public void testWhereAndSelect() {
+        assertInts(invokeQuery("testWhereAndSelect", "testWhereAndSelect"), 80, 120, 100, 20);
+    }
+
+    @Test(description = "Test a query with let clauses before and after a where clause")
+    public void testLetClauses() {
+        assertStrings(invokeQuery("testLetClauses", "testLetClauses"), "n8=40", "n12=60", "n7=35", "n10=50", "n9=45");
+    }
+
+    @Test(description = "Test a query with a where clause between its from clauses")
+    public void testNestedFromClauses() {
+        assertInts(invokeQuery("testNestedFromClauses", "testNestedFromClauses"), 30, 60, 10, 40);
+        assertInts(invokeBoth("getVisited"), 30, 60, 10, 20, 20, 40);
+    }
+
+    @Test(description = "Test a query stops iterating its array once its limit is reached")
+    public void testLimit() {
+        assertInts(invokeQuery("testLimit", "testLimit"), 8, 12, 7);
+        assertInts(invokeBoth("getVisited"), 3, 8, 1, 12, 7);
+        assertInt(invokeBoth("getLimitCalls"), 1);
+    }
+
+    @Test(description = "Test a query with a limit and no where clause")
+    public void testLimitWithoutWhere() {
+        assertInts(invokeQuery("testLimitWithoutWhere", "testLimitWithoutWhere"), 3, 8);
+        assertInts(invokeBoth("getVisited"), 3, 8);
+    }
+
+    @Test(description = "Test a query with a zero limit does not iterate its array")
+    public void testZeroLimit() {
+        assertInts(invokeQuery("testZeroLimit", "testZeroLimit"));
+        assertInts(invokeBoth("getVisited"));
+        assertInt(invokeBoth("getLimitCalls"), 1);
+    }
+
+    @Test(description = "Test a query with a limit which is larger than its result iterates its whole array")
+    public void testLimitLargerThanResult() {
+        assertInts(invokeQuery("testLimitLargerThanResult", "testLimitLargerThanResult"), 12, 9);
+        assertInts(invokeBoth("getVisited"), 3, 8, 1, 12, 7, 5, 10, 2, 9);
+        assertInt(invokeBoth("getLimitCalls"), 1);
+    }
+
+    @Test(description = "Test a negative limit panics before the array is iterated")
+    public void testNegativeLimit() {
+        BValue result = invokeQuery("selectWithLimit", "testNegativeLimit");
+        Assert.assertEquals(result.stringValue(), "Unable to assign limit");
+        assertInts(invokeBoth("getVisited"));
+    }
+
+    @Test(description = "Test a query over a map with a limit")
+    public void testMapWithLimit() {
+        assertInts(invokeQuery("testMapWithLimit", "testMapWithLimit"), 8, 18);
+        assertInts(invokeBoth("getVisited"), 4, 0, 9);
+    }
+
+    @Test(description = "Test a query over a table")
+    public void testTable() {
+        assertStrings(invokeQuery("testTable", "testTable"), "apples:3", "plums:5");
+    }
+
+    /**
+     * Invokes a test function which evaluates the query of the given function, once with the query evaluated as a
+     * loop and once with the query evaluated as a stream pipeline, and returns the result if both are the same.
+     */
+    private BValue invokeQuery(String queryFunctionName, String testFunctionName) {
+        Assert.assertTrue(isFused(fusedResult, queryFunctionName));
+        Assert.assertFalse(isFused(pipelineResult, queryFunctionName));
+        BRunUtil.invoke(fusedResult, "reset");
+        BRunUtil.invoke(pipelineResult, "reset");
+        return invokeBoth(testFunctionName);
+    }
+
+    private BValue invokeBoth(String functionName) {
+        BValue[] fusedReturns = BRunUtil.invoke(fusedResult, functionName);
+        BValue[] pipelineReturns = BRunUtil.invoke(pipelineResult, functionName);
+        Assert.assertEquals(fusedReturns.length, 1);
+        Assert.assertEquals(pipelineReturns.length, 1);
+        Assert.assertEquals(fusedReturns[0].stringValue(), pipelineReturns[0].stringValue());
+        return fusedReturns[0];
+    }
+
+    private void assertInts(BValue value, long... expected) {
+        BValueArray array = (BValueArray) value;
+        Assert.assertEquals(array.size(), expected.length);
+        for (int i = 0; i < expected.length; i++) {
+            Assert.assertEquals(array.getInt(i), expected[i]);
+        }
+    }
+
+    private void assertStrings(BValue value, String... expected) {
+        BValueArray array = (BValueArray) value;
+        Assert.assertEquals(array.size(), expected.length);
+        for (int i = 0; i < expected.length; i++) {
+            Assert.assertEquals(array.getString(i), expected[i]);
+        }
+    }
+
+    private void assertInt(BValue value, long expected) {
+        Assert.assertEquals(((BInteger) value).intValue(), expected);
+    }
+
+    private boolean isFused(CompileResult result, String functionName) {
+        BIRNode.BIRPackage birPackage = ((BLangPackage) result.getAST()).symbol.bir;
+        for (BIRNode.BIRFunction function : birPackage.functions) {
+            if (!function.name.value.equals(functionName)) {
+                continue;
+            }
+            for (BIRNode.BIRBasicBlock bb : function.basicBlocks) {
+                if (bb.terminator != null && bb.terminator.kind == InstructionKind.CALL &&
+                        ((BIRTerminator.Call) bb.terminator).name.value.equals("createPipeline")) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        throw new AssertionError("no function: " + functionName);
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.ballerinalang.test.query;
+
+import org.ballerinalang.model.values.BBoolean;
+import org.ballerinalang.model.values.BError;
+import org.ballerinalang.model.values.BValue;
+import org.ballerinalang.test.util.BCompileUtil;
+import org.ballerinalang.test.util.BRunUtil;
+import org.ballerinalang.test.util.CompileResult;
+import org.testng.Assert;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+/**
+ * This contains methods to test query expressions over tables with indexes.
+ *
+ * @since 2.0.0
+ */
+public class TableIndexQueryTest {
+    private CompileResult result;
+
+    @BeforeClass
+    public void setup() {
+        result = BCompileUtil.compile("test-src/query/table-index-query.bal");
+    }
+
+    @Test(description = "Test where clause matching a field with a hash index")
+    public void testWhereWithHashIndex() {
+        BValue[] values = BRunUtil.invoke(result, "testWhereWithHashIndex");
+        Assert.assertTrue(((BBoolean) values[0]).booleanValue());
+    }
+
+    @Test(description = "Test where clause comparing a field with a sorted index")
+    public void testWhereWithSortedIndex() {
+        BValue[] values = BRunUtil.invoke(result, "testWhereWithSortedIndex");
+        Assert.assertTrue(((BBoolean) values[0]).booleanValue());
+    }
+
+    @Test(description = "Test where clause on a field without an index")
+    public void testWhereWithoutIndex() {
+        BValue[] values = BRunUtil.invoke(result, "testWhereWithoutIndex");
+        Assert.assertTrue(((BBoolean) values[0]).booleanValue());
+    }
+
+    @Test(description = "Test where clause with conditions which have side effects")
+    public void testWhereWithSideEffects() {
+        BValue[] values = BRunUtil.invoke(result, "testWhereWithSideEffects");
+        Assert.assertTrue(((BBoolean) values[0]).booleanValue());
+    }
+
+    @Test(description = "Test join clause matching a field with an index")
+    public void testJoinWithIndex() {
+        BValue[] values = BRunUtil.invoke(result, "testJoinWithIndex");
+        Assert.assertTrue(((BBoolean) values[0]).booleanValue());
+    }
+
+    @Test(description = "Test join clause matching a field without an index")
+    public void testJoinWithoutIndex() {
+        BValue[] values = BRunUtil.invoke(result, "testJoinWithoutIndex");
+        Assert.assertTrue(((BBoolean) values[0]).booleanValue());
+    }
+
+    @Test(description = "Test adding an index on a field which can be updated")
+    public void testIndexOnMutableField() {
+        BValue[] values = BRunUtil.invoke(result, "testIndexOnMutableField");
+        Assert.assertTrue(values[0] instanceof BError);
+        Assert.assertTrue(values[0].stringValue().contains("cannot add an index on field 'salary'"));
+    }
+}
@@ -0,0 +1,104 @@
+// Copyright (c) 2020 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+int counter = 1;
+
+function add(int a, int b) returns int {
+    return a + b;
+}
+
+function clampToZero(int a) returns int {
+    if (a < 0) {
+        a = 0;
+    }
+    return a;
+}
+
+function sign(int a) returns int {
+    if (a > 0) {
+        return 1;
+    } else if (a < 0) {
+        return -1;
+    }
+    return 0;
+}
+
+function step(int a) returns int {
+    int b = a + 1;
+    return b * a;
+}
+
+function divide(int a, int b) returns int {
+    return a / b;
+}
+
+function addToCounter(int a) returns int {
+    counter = counter + a;
+    return a;
+}
+
+function level3(int a) returns int {
+    return a + 1;
+}
+
+function level2(int a) returns int {
+    return level3(a) * 2;
+}
+
+function level1(int a) returns int {
+    return level2(a) + 3;
+}
+
+function testUnassignedParameters() returns [int, int] {
+    int x = 3;
+    int y = add(x, 4);
+    x = 10;
+    return [x, y];
+}
+
+function testAssignedParameter() returns [int, int] {
+    int x = -5;
+    int y = clampToZero(x);
+    return [x, y];
+}
+
+function testGlobalArgument() returns [int, int] {
+    counter = 1;
+    int x = addToCounter(counter);
+    return [x, counter];
+}
+
+function testMultipleReturns() returns [int, int, int] {
+    return [sign(-3), sign(0), sign(5)];
+}
+
+function testAssignCallToArgument() returns int {
+    int x = 1;
+    x = step(x);
+    x = step(x);
+    x = step(x);
+    return x;
+}
+
+function testCallerWithTrap() returns [int, boolean] {
+    int x = add(1, 2);
+    int|error result = trap divide(x, 0);
+    return [x, result is error];
+}
+
+function testWrappers() returns int {
+    return level1(1);
+}
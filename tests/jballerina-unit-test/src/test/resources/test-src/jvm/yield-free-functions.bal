@@ -0,0 +1,140 @@
+import ballerina/java;
+import ballerina/observe;
+import ballerina/runtime;
+
+int counter = 0;
+
+function fib(int n) returns int {
+    if (n < 2) {
+        return n;
+    }
+    return fib(n - 1) + fib(n - 2);
+}
+
+function isEven(int n) returns boolean {
+    if (n == 0) {
+        return true;
+    }
+    return isOdd(n - 1);
+}
+
+function isOdd(int n) returns boolean {
+    if (n == 0) {
+        return false;
+    }
+    return isEven(n - 1);
+}
+
+function sleepAndDouble(int value) returns int {
+    runtime:sleep(20);
+    return value * 2;
+}
+
+function testYieldFreeCallsAroundSuspension() returns int[] {
+    int before = fib(15);
+    future<int> doubled = start sleepAndDouble(before);
+    // The strand is suspended until the started function returns, after the yield-free call.
+    int result = wait doubled;
+    int after = fib(16);
+    return [before, result, after, fib(before % 13)];
+}
+
+function sumAroundSleep(int n) returns int {
+    int before = fib(n);
+    runtime:sleep(10);
+    return before + fib(n + 1);
+}
+
+function testYieldingCallBetweenYieldFreeCalls() returns int[] {
+    int first = fib(10);
+    int sum = sumAroundSleep(10);
+    return [first, sum, fib(11)];
+}
+
+function testMutualRecursion() returns boolean[] {
+    return [isEven(10), isOdd(10), isEven(7), isOdd(7)];
+}
+
+function countDown(int n) returns int {
+    if (n == 0) {
+        runtime:sleep(5);
+        return 0;
+    }
+    return countDownOnce(n - 1) + 1;
+}
+
+function countDownOnce(int n) returns int {
+    return countDown(n);
+}
+
+function testYieldingMutualRecursion() returns int {
+    return countDown(5) + fib(5);
+}
+
+function addWithLock(int n) returns int {
+    lock {
+        counter += fib(n);
+    }
+    return counter;
+}
+
+function testLock() returns int {
+    counter = 0;
+    _ = addWithLock(6);
+    return addWithLock(7);
+}
+
+function sumWithWorker(int n) returns int {
+    worker w1 returns int {
+        return fib(n);
+    }
+    int fromDefault = fib(n + 1);
+    int fromWorker = wait w1;
+    return fromDefault + fromWorker;
+}
+
+function testWorker() returns int {
+    return sumWithWorker(10);
+}
+
+function addThrice(int a, int b) returns int = @java:Method {
+    name: "usingParamValues",
+    class: "org/ballerinalang/nativeimpl/jvm/tests/StaticMethods"
+} external;
+
+function callExtern(int n) returns int {
+    return addThrice(fib(n), n);
+}
+
+function testExternCall() returns int {
+    return callExtern(10);
+}
+
+function applyTwice(function (int) returns int func, int n) returns int {
+    return func(func(n));
+}
+
+function testFunctionPointerCall() returns int {
+    return applyTwice(fib, 6);
+}
+
+function nameLength(string name) returns int {
+    return name.length() + fib(3);
+}
+
+function testCrossModuleCall() returns int {
+    return nameLength("ballerina");
+}
+
+@observe:Observable
+function observedFib(int n) returns int {
+    return fib(n);
+}
+
+function callObservedFunction(int n) returns int {
+    return observedFib(n) + 1;
+}
+
+function testObservedCall() returns int {
+    return callObservedFunction(12);
+}
@@ -0,0 +1,74 @@
+// Copyright (c) 2020 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+int counter = 0;
+map<int> counts = {};
+int[] values = [];
+json config = {name: "lock-mode"};
+json defaults = {name: "default", size: 10};
+
+function readCounter() returns int {
+    lock {
+        return counter;
+    }
+}
+
+function readCounts() returns int {
+    lock {
+        int? count = counts["a"];
+        return counts.length() + (count is int ? count : 0) + values.indexOf(1).toString().length();
+    }
+}
+
+function constructInLock() returns int[] {
+    lock {
+        int[] copy = [];
+        copy[0] = counter;
+        return copy;
+    }
+}
+
+function writeCounter() {
+    lock {
+        counter += 1;
+    }
+}
+
+function storeInCounts() {
+    lock {
+        counts["a"] = counter;
+    }
+}
+
+function pushInLock() {
+    lock {
+        values.push(counter);
+    }
+}
+
+function mergeJsonInLock() returns json|error {
+    lock {
+        return config.mergeJson(defaults);
+    }
+}
+
+function callbackInLock() returns int[] {
+    lock {
+        return values.filter(function (int value) returns boolean {
+            return value > 0;
+        });
+    }
+}
@@ -377,3 +377,113 @@ function testOuterJoinWithOnClauseWithFunction() returns boolean {
     testPassed = testPassed && dp.fname == "Ranjan" && dp.lname == "Fonseka" && dp.dept is ();
     return testPassed;
 }
+
+function testJoinClauseWithDuplicateKeys() returns boolean {
+    Person p1 = {id: 1, fname: "Alex", lname: "George"};
+    Person p2 = {id: 2, fname: "Ranjan", lname: "Fonseka"};
+    Person p3 = {id: 1, fname: "John", lname: "David"};
+    Person p4 = {id: 3, fname: "Mike", lname: "Smith"};
+
+    Department d1 = {id: 1, name:"HR"};
+    Department d2 = {id: 2, name:"Operations"};
+    Department d3 = {id: 1, name:"Admin"};
+
+    Person[] personList = [p1, p2, p3, p4];
+    Department[] deptList = [d1, d2, d3];
+
+    DeptPerson[] deptPersonList =
+       from var person in personList
+       join Department dept in deptList
+       on person.id equals dept.id
+       select {
+           fname : person.fname,
+           lname : person.lname,
+           dept : dept.name
+       };
+
+    boolean testPassed = deptPersonList.length() == 5;
+    DeptPerson dp = deptPersonList[0];
+    testPassed = testPassed && dp.fname == "Alex" && dp.dept == "HR";
+    dp = deptPersonList[1];
+    testPassed = testPassed && dp.fname == "Alex" && dp.dept == "Admin";
+    dp = deptPersonList[2];
+    testPassed = testPassed && dp.fname == "Ranjan" && dp.dept == "Operations";
+    dp = deptPersonList[3];
+    testPassed = testPassed && dp.fname == "John" && dp.dept == "HR";
+    dp = deptPersonList[4];
+    testPassed = testPassed && dp.fname == "John" && dp.dept == "Admin";
+    return testPassed;
+}
+
+function testJoinClauseWithKeyAndCondition() returns boolean {
+    Person p1 = {id: 1, fname: "Alex", lname: "George"};
+    Person p2 = {id: 2, fname: "Ranjan", lname: "Fonseka"};
+    Person p3 = {id: 1, fname: "John", lname: "David"};
+
+    Department d1 = {id: 1, name:"HR"};
+    Department d2 = {id: 2, name:"Operations"};
+
+    Person[] personList = [p1, p2, p3];
+    Department[] deptList = [d1, d2];
+
+    DeptPerson[] deptPersonList =
+       from var person in personList
+       join var {id, name} in deptList
+       on condition(person.fname) || name == "Operations" && id equals person.id
+       select {
+           fname : person.fname,
+           lname : person.lname,
+           dept : name
+       };
+
+    boolean testPassed = deptPersonList.length() == 3;
+    DeptPerson dp = deptPersonList[0];
+    testPassed = testPassed && dp.fname == "Alex" && dp.dept == "HR";
+    dp = deptPersonList[1];
+    testPassed = testPassed && dp.fname == "Alex" && dp.dept == "Operations";
+    dp = deptPersonList[2];
+    testPassed = testPassed && dp.fname == "Ranjan" && dp.dept == "Operations";
+
+    deptPersonList =
+       from var person in personList
+       join var {id, name} in deptList
+       on person.fname != "Alex" && id equals person.id
+       select {
+           fname : person.fname,
+           lname : person.lname,
+           dept : name
+       };
+
+    testPassed = testPassed && deptPersonList.length() == 2;
+    dp = deptPersonList[0];
+    testPassed = testPassed && dp.fname == "Ranjan" && dp.dept == "Operations";
+    dp = deptPersonList[1];
+    testPassed = testPassed && dp.fname == "John" && dp.dept == "HR";
+    return testPassed;
+}
+
+type Employee record {|
+   string name;
+   string? deptName;
+|};
+
+function testJoinClauseWithNilKeys() returns boolean {
+    Employee[] employees = [{name: "Alex", deptName: "HR"}, {name: "Ranjan", deptName: ()},
+                            {name: "John", deptName: "Sales"}];
+    Department[] deptList = [{id: 1, name: "HR"}, {id: 2, name: "Operations"}];
+    string?[] deptNames = ["HR", (), "Operations"];
+
+    string[] names =
+       from var e in employees
+       join var deptName in deptNames
+       on e.deptName equals deptName
+       select e.name;
+
+    string[] deptsWithEmployees =
+       from var dept in deptList
+       join var e in employees
+       on dept.name equals e.deptName
+       select dept.name;
+
+    return names == ["Alex", "Ranjan"] && deptsWithEmployees == ["HR"];
+}
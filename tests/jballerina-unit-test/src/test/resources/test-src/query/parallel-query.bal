@@ -0,0 +1,101 @@
+type Point record {|
+    int x;
+    int y;
+|};
+
+function getValues(int length) returns int[] {
+    int[] values = [];
+    int i = 0;
+    while (i < length) {
+        values.push((i * 7919) % 10007);
+        i += 1;
+    }
+    return values;
+}
+
+function testParallelQueryOrder() returns boolean {
+    int[] values = getValues(50000);
+
+    int[] outputValues =
+            from var value in values
+            where value % 3 != 0
+            select value * 2;
+
+    int[] expectedValues = [];
+    foreach var value in values {
+        if (value % 3 != 0) {
+            expectedValues.push(value * 2);
+        }
+    }
+    return outputValues.length() > 8192 && outputValues == expectedValues;
+}
+
+function testParallelQueryWithLetClause() returns boolean {
+    int[] values = getValues(50000);
+
+    Point[] outputPoints =
+            from var value in values
+            let int y = value % 100
+            where y < 50
+            select {x: value, y: y};
+
+    Point[] expectedPoints = [];
+    foreach var value in values {
+        int y = value % 100;
+        if (y < 50) {
+            expectedPoints.push({x: value, y: y});
+        }
+    }
+    return outputPoints == expectedPoints;
+}
+
+function testParallelQueryWithCapturedVariables() returns boolean {
+    int[] values = getValues(50000);
+    int factor = 3;
+    int offset = -11;
+    int minValue = 5000;
+
+    Point[] outputPoints =
+            from var value in values
+            where value > minValue
+            select {x: value * factor + offset, y: minValue};
+
+    Point[] expectedPoints = [];
+    foreach var value in values {
+        if (value > minValue) {
+            expectedPoints.push({x: value * factor + offset, y: minValue});
+        }
+    }
+    return outputPoints == expectedPoints;
+}
+
+function testPanicInParallelQuery() returns [string, string] {
+    int[] values = [];
+    int i = 0;
+    while (i < 50000) {
+        values.push(i + 1);
+        i += 1;
+    }
+    // Only a member in the middle of the list is zero, which is in a chunk other than the first.
+    values[30000] = 0;
+
+    int[]|error outputValues = trap divideByMembers(values);
+    int[]|error expectedValues = trap divideByMembersInLoop(values);
+    if (outputValues is error && expectedValues is error) {
+        return [outputValues.message(), expectedValues.message()];
+    }
+    return ["", ""];
+}
+
+function divideByMembers(int[] values) returns int[] {
+    return from var value in values
+           select 100000 / value;
+}
+
+function divideByMembersInLoop(int[] values) returns int[] {
+    int[] result = [];
+    foreach var value in values {
+        result.push(100000 / value);
+    }
+    return result;
+}
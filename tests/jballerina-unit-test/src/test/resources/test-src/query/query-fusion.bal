@@ -0,0 +1,138 @@
+// Copyright (c) 2020 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+type Order record {|
+    readonly int id;
+    string item;
+    int quantity;
+|};
+
+int[] numbers = [3, 8, 1, 12, 7, 5, 10, 2, 9];
+int[] factors = [10, 20];
+map<int> stock = {apples: 4, pears: 0, plums: 9, figs: 2};
+table<Order> key(id) orders = table key(id) [
+    {id: 1, item: "apples", quantity: 3},
+    {id: 2, item: "pears", quantity: 1},
+    {id: 3, item: "plums", quantity: 5}
+];
+
+int[] visited = [];
+int limitCalls = 0;
+
+function visit(int value) returns int {
+    visited.push(value);
+    return value;
+}
+
+function getLimit(int lmt) returns int {
+    limitCalls += 1;
+    return lmt;
+}
+
+function getVisited() returns int[] {
+    return visited;
+}
+
+function getLimitCalls() returns int {
+    return limitCalls;
+}
+
+function reset() {
+    visited = [];
+    limitCalls = 0;
+}
+
+function testWhereAndSelect() returns int[] {
+    return from var n in numbers
+           where n % 2 == 0
+           select n * 10;
+}
+
+function testLetClauses() returns string[] {
+    return from var n in numbers
+           let int doubled = n * 2
+           where doubled > 10
+           let string label = "n" + n.toString(), int tripled = n * 3
+           select label + "=" + (doubled + tripled).toString();
+}
+
+function testNestedFromClauses() returns int[] {
+    return from var n in numbers
+           where n < 5
+           from var factor in factors
+           let int product = visit(n * factor)
+           where product != 20
+           select product;
+}
+
+function testLimit() returns int[] {
+    return from var n in numbers
+           let int value = visit(n)
+           where value > 4
+           select value
+           limit getLimit(3);
+}
+
+function testLimitWithoutWhere() returns int[] {
+    return from var n in numbers
+           let int value = visit(n)
+           select value
+           limit 2;
+}
+
+function testZeroLimit() returns int[] {
+    return from var n in numbers
+           let int value = visit(n)
+           select value
+           limit getLimit(0);
+}
+
+function testLimitLargerThanResult() returns int[] {
+    return from var n in numbers
+           let int value = visit(n)
+           where value > 8
+           select value
+           limit getLimit(100);
+}
+
+function selectWithLimit(int lmt) returns int[] {
+    return from var n in numbers
+           let int value = visit(n)
+           select value
+           limit lmt;
+}
+
+function testNegativeLimit() returns string {
+    int[]|error result = trap selectWithLimit(-1);
+    if (result is error) {
+        return result.message();
+    }
+    return "no error";
+}
+
+function testMapWithLimit() returns int[] {
+    return from var quantity in stock
+           let int value = visit(quantity)
+           where value > 0
+           select value * 2
+           limit 2;
+}
+
+function testTable() returns string[] {
+    return from var o in orders
+           where o.quantity > 1
+           select o.item + ":" + o.quantity.toString();
+}
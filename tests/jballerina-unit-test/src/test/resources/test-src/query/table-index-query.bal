@@ -0,0 +1,166 @@
+// Copyright (c) 2020 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+type Employee record {|
+    readonly int id;
+    readonly string name;
+    readonly int deptId;
+    readonly int age;
+    float salary;
+|};
+
+type Department record {|
+    readonly int id;
+    string name;
+|};
+
+type EmployeeDept record {|
+    string name;
+    string dept;
+|};
+
+function createEmployees() returns table<Employee> key(id) {
+    table<Employee> key(id) employees = table key(id) [
+        {id: 1, name: "Alex", deptId: 1, age: 25, salary: 1000.0},
+        {id: 2, name: "Ranjan", deptId: 2, age: 40, salary: 2000.0},
+        {id: 3, name: "John", deptId: 1, age: 35, salary: 3000.0},
+        {id: 4, name: "Mary", deptId: 3, age: 50, salary: 4000.0}
+    ];
+    return employees;
+}
+
+function getNamesInDept(table<Employee> key(id) employees, int deptId) returns string[] {
+    return from var e in employees
+           where e.deptId == deptId
+           select e.name;
+}
+
+function testWhereWithHashIndex() returns boolean {
+    table<Employee> key(id) employees = createEmployees();
+    employees.addIndex("deptId");
+    string[] names = getNamesInDept(employees, 1);
+
+    employees.add({id: 5, name: "Anne", deptId: 1, age: 30, salary: 500.0});
+    string[] namesAfterAdd = from var e in employees
+                             where 1 == e.deptId
+                             select e.name;
+
+    _ = employees.remove(1);
+    string[] namesAfterRemove = from var e in employees
+                                where e.deptId == 1 && e.salary > 1000.0
+                                select e.name;
+
+    return names == ["Alex", "John"] && namesAfterAdd == ["Alex", "John", "Anne"] &&
+        namesAfterRemove == ["John"] && getNamesInDept(employees, 4).length() == 0;
+}
+
+function testWhereWithSortedIndex() returns boolean {
+    table<Employee> key(id) employees = createEmployees();
+    employees.addIndex("age", true);
+    int minAge = 35;
+    string[] names = from var e in employees
+                     where e.age >= minAge && e.age < 50
+                     select e.name;
+    string[] youngerNames = from var e in employees
+                            where 40 > e.age
+                            select e.name;
+    return names == ["Ranjan", "John"] && youngerNames == ["Alex", "John"];
+}
+
+function testWhereWithoutIndex() returns boolean {
+    table<Employee> key(id) employees = createEmployees();
+    string[] names = getNamesInDept(employees, 1);
+    string[] olderNames = from var e in employees
+                          where e.age > 35
+                          select e.name;
+    return names == ["Alex", "John"] && olderNames == ["Ranjan", "Mary"];
+}
+
+int checkedEmployees = 0;
+
+function isChecked(Employee e) returns boolean {
+    checkedEmployees += 1;
+    return true;
+}
+
+function testWhereWithSideEffects() returns boolean {
+    table<Employee> key(id) employees = createEmployees();
+    employees.addIndex("deptId");
+
+    // The function is called for each member, including the ones which are not in the department.
+    checkedEmployees = 0;
+    string[] names = from var e in employees
+                     where isChecked(e) && e.deptId == 1
+                     select e.name;
+    int checkedInWhere = checkedEmployees;
+
+    checkedEmployees = 0;
+    string[] namesWithLet = from var e in employees
+                            let boolean checked = isChecked(e)
+                            where e.deptId == 1 && checked
+                            select e.name;
+    int checkedInLet = checkedEmployees;
+
+    // The function is only called for the members in the department, with or without the index.
+    checkedEmployees = 0;
+    string[] namesCheckedLater = from var e in employees
+                                 where e.deptId == 1 && isChecked(e)
+                                 select e.name;
+
+    return names == ["Alex", "John"] && checkedInWhere == 4 && namesWithLet == ["Alex", "John"] &&
+        checkedInLet == 4 && namesCheckedLater == ["Alex", "John"] && checkedEmployees == 2;
+}
+
+function testJoinWithIndex() returns boolean {
+    table<Employee> key(id) employees = createEmployees();
+    employees.addIndex("deptId");
+    Department[] departments = [{id: 1, name: "HR"}, {id: 2, name: "Operations"}, {id: 4, name: "Finance"}];
+
+    EmployeeDept[] employeeDepts = from var dept in departments
+                                   join var e in employees
+                                   on dept.id equals e.deptId
+                                   select {
+                                       name: e.name,
+                                       dept: dept.name
+                                   };
+
+    return employeeDepts == [{name: "Alex", dept: "HR"}, {name: "John", dept: "HR"},
+        {name: "Ranjan", dept: "Operations"}];
+}
+
+function testJoinWithoutIndex() returns boolean {
+    table<Employee> key(id) employees = createEmployees();
+    Department[] departments = [{id: 1, name: "HR"}, {id: 3, name: "Sales"}];
+
+    EmployeeDept[] employeeDepts = from var dept in departments
+                                   join var e in employees
+                                   on e.deptId equals dept.id
+                                   select {
+                                       name: e.name,
+                                       dept: dept.name
+                                   };
+
+    return employeeDepts == [{name: "Alex", dept: "HR"}, {name: "John", dept: "HR"},
+        {name: "Mary", dept: "Sales"}];
+}
+
+function testIndexOnMutableField() returns error? {
+    table<Employee> key(id) employees = createEmployees();
+    var result = trap employees.addIndex("salary");
+    if (result is error) {
+        return result;
+    }
+}